@@ -10,5 +10,10 @@ public interface AlertaRepositorioAplicacao {
 	AlertaTotais obterTotais();
 
 	double calcularPercentualAbaixoRop(int saldoAtual, int rop);
+
+	/**
+	 * Versão atual dos alertas; muda sempre que algum alerta é criado, alterado ou resolvido.
+	 */
+	String obterVersao();
 }
 
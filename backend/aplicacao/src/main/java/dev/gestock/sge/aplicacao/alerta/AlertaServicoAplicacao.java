@@ -25,5 +25,9 @@ public class AlertaServicoAplicacao {
 	public AlertaTotais obterTotais() {
 		return repositorio.obterTotais();
 	}
+
+	public String obterVersao() {
+		return repositorio.obterVersao();
+	}
 }
 
@@ -1,6 +1,7 @@
 package dev.gestock.sge.aplicacao.cotacao;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CotacaoRepositorioAplicacao {
 	List<CotacaoPorProdutoResumo> pesquisarPorProduto();
@@ -9,6 +10,10 @@ public interface CotacaoRepositorioAplicacao {
 
 	CotacaoResumo obterResumo(int id);
 
-	int sincronizarCotacoes();
+	/**
+	 * Cria ou atualiza as cotações dos pares produto-fornecedor a partir do custo e do lead time
+	 * do fornecedor, informando o andamento a cada lote gravado.
+	 */
+	CotacaoSincronizacao sincronizarCotacoes(Consumer<CotacaoSincronizacao> progresso);
 }
 
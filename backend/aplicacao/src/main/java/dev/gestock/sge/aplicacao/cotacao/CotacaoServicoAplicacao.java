@@ -2,11 +2,13 @@ package dev.gestock.sge.aplicacao.cotacao;
 
 import static org.apache.commons.lang3.Validate.*;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import dev.gestock.sge.dominio.cotacao.CotacaoServico;
 
 public class CotacaoServicoAplicacao {
 	private CotacaoRepositorioAplicacao repositorio;
 	private CotacaoServico cotacaoServico;
+	private final AtomicReference<CotacaoSincronizacao> ultimaSincronizacao = new AtomicReference<>();
 
 	public CotacaoServicoAplicacao(CotacaoRepositorioAplicacao repositorio, CotacaoServico cotacaoServico) {
 		notNull(repositorio, "O repositório não pode ser nulo");
@@ -28,8 +30,15 @@ public class CotacaoServicoAplicacao {
 		return repositorio.obterResumo(id);
 	}
 	
-	public int sincronizarCotacoes() {
-		return repositorio.sincronizarCotacoes();
+	public CotacaoSincronizacao sincronizarCotacoes() {
+		return repositorio.sincronizarCotacoes(ultimaSincronizacao::set);
+	}
+
+	/**
+	 * Andamento da sincronização em curso ou da última concluída; null se nenhuma foi executada.
+	 */
+	public CotacaoSincronizacao obterProgressoSincronizacao() {
+		return ultimaSincronizacao.get();
 	}
 }
 
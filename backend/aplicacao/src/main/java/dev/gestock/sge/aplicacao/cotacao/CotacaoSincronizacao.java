@@ -0,0 +1,50 @@
+package dev.gestock.sge.aplicacao.cotacao;
+
+/**
+ * Andamento de uma sincronização de cotações com os fornecedores dos produtos.
+ * Os contadores são acumulados desde o início da sincronização.
+ */
+public class CotacaoSincronizacao {
+	private final int paresDivergentes;
+	private final int cotacoesCriadas;
+	private final int cotacoesAtualizadas;
+	private final long duracaoMilissegundos;
+	private final boolean concluida;
+
+	public CotacaoSincronizacao(int paresDivergentes, int cotacoesCriadas, int cotacoesAtualizadas,
+			long duracaoMilissegundos, boolean concluida) {
+		this.paresDivergentes = paresDivergentes;
+		this.cotacoesCriadas = cotacoesCriadas;
+		this.cotacoesAtualizadas = cotacoesAtualizadas;
+		this.duracaoMilissegundos = duracaoMilissegundos;
+		this.concluida = concluida;
+	}
+
+	/**
+	 * Pares produto-fornecedor sem cotação ou com preço/lead time diferentes do fornecedor,
+	 * contados no início da sincronização.
+	 */
+	public int getParesDivergentes() {
+		return paresDivergentes;
+	}
+
+	public int getCotacoesCriadas() {
+		return cotacoesCriadas;
+	}
+
+	public int getCotacoesAtualizadas() {
+		return cotacoesAtualizadas;
+	}
+
+	public int getParesProcessados() {
+		return cotacoesCriadas + cotacoesAtualizadas;
+	}
+
+	public long getDuracaoMilissegundos() {
+		return duracaoMilissegundos;
+	}
+
+	public boolean isConcluida() {
+		return concluida;
+	}
+}
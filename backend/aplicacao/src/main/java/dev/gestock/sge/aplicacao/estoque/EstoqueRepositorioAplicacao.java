@@ -8,10 +8,21 @@ public interface EstoqueRepositorioAplicacao {
 
 	List<EstoqueResumo> pesquisarPorNomeOuEndereco(String termo);
 
+	/**
+	 * Busca aproximada, ordenada por relevância e paginada a partir da página 0.
+	 */
+	List<EstoqueResumo> buscar(String termo, int pagina, int tamanho);
+
 	List<EstoqueResumo> pesquisarPorStatus(String status);
 
 	EstoqueResumo obterResumo(int id);
 
 	List<ProdutoResumo> pesquisarProdutos(int estoqueId);
+
+	/**
+	 * Confere a ocupação mantida de cada estoque contra os saldos e corrige as divergências.
+	 * @return quantidade de estoques corrigidos
+	 */
+	int reconciliarOcupacao();
 }
 
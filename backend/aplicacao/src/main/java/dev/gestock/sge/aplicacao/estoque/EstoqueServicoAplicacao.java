@@ -5,6 +5,8 @@ import java.util.List;
 import dev.gestock.sge.aplicacao.produto.ProdutoResumo;
 
 public class EstoqueServicoAplicacao {
+	public static final int TAMANHO_BUSCA_MAXIMO = 100;
+
 	private EstoqueRepositorioAplicacao repositorio;
 
 	public EstoqueServicoAplicacao(EstoqueRepositorioAplicacao repositorio) {
@@ -23,6 +25,15 @@ public class EstoqueServicoAplicacao {
 		return repositorio.pesquisarPorNomeOuEndereco(termo);
 	}
 
+	public List<EstoqueResumo> buscar(String termo, int pagina, int tamanho) {
+		isTrue(pagina >= 0, "A página não pode ser negativa");
+		isTrue(tamanho > 0 && tamanho <= TAMANHO_BUSCA_MAXIMO, "O tamanho da página deve estar entre 1 e %d", TAMANHO_BUSCA_MAXIMO);
+		if (termo == null || termo.isBlank()) {
+			return List.of();
+		}
+		return repositorio.buscar(termo, pagina, tamanho);
+	}
+
 	public List<EstoqueResumo> pesquisarPorStatus(String status) {
 		if (status == null || status.isBlank() || status.equalsIgnoreCase("todos")) {
 			return pesquisarResumos();
@@ -37,5 +48,9 @@ public class EstoqueServicoAplicacao {
 	public List<ProdutoResumo> pesquisarProdutos(int estoqueId) {
 		return repositorio.pesquisarProdutos(estoqueId);
 	}
+
+	public int reconciliarOcupacao() {
+		return repositorio.reconciliarOcupacao();
+	}
 }
 
@@ -7,6 +7,11 @@ public interface FornecedorRepositorioAplicacao {
 
 	List<FornecedorResumo> pesquisarPorNomeOuCnpj(String termo);
 
+	/**
+	 * Busca aproximada, ordenada por relevância e paginada a partir da página 0.
+	 */
+	List<FornecedorResumo> buscar(String termo, int pagina, int tamanho);
+
 	List<FornecedorResumo> pesquisarPorStatus(String status);
 
 	FornecedorResumo obterResumo(int id);
@@ -4,6 +4,8 @@ import static org.apache.commons.lang3.Validate.*;
 import java.util.List;
 
 public class FornecedorServicoAplicacao {
+	public static final int TAMANHO_BUSCA_MAXIMO = 100;
+
 	private FornecedorRepositorioAplicacao repositorio;
 
 	public FornecedorServicoAplicacao(FornecedorRepositorioAplicacao repositorio) {
@@ -22,6 +24,15 @@ public class FornecedorServicoAplicacao {
 		return repositorio.pesquisarPorNomeOuCnpj(termo);
 	}
 
+	public List<FornecedorResumo> buscar(String termo, int pagina, int tamanho) {
+		isTrue(pagina >= 0, "A página não pode ser negativa");
+		isTrue(tamanho > 0 && tamanho <= TAMANHO_BUSCA_MAXIMO, "O tamanho da página deve estar entre 1 e %d", TAMANHO_BUSCA_MAXIMO);
+		if (termo == null || termo.isBlank()) {
+			return List.of();
+		}
+		return repositorio.buscar(termo, pagina, tamanho);
+	}
+
 	public List<FornecedorResumo> pesquisarPorStatus(String status) {
 		if (status == null || status.isBlank() || status.equalsIgnoreCase("todos")) {
 			return pesquisarResumos();
@@ -0,0 +1,45 @@
+package dev.gestock.sge.aplicacao.movimentacao;
+
+import static org.apache.commons.lang3.Validate.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Posição na listagem de movimentações, ordenada por (dataHora, id) decrescente.
+ * Trafega para o cliente como um texto opaco.
+ */
+public class MovimentacaoCursor {
+	private final LocalDateTime dataHora;
+	private final int id;
+
+	public MovimentacaoCursor(LocalDateTime dataHora, int id) {
+		notNull(dataHora, "A data/hora do cursor não pode ser nula");
+		this.dataHora = dataHora;
+		this.id = id;
+	}
+
+	public LocalDateTime getDataHora() {
+		return dataHora;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public String codificar() {
+		var texto = dataHora + "_" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static MovimentacaoCursor decodificar(String cursor) {
+		try {
+			var texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			var separador = texto.lastIndexOf('_');
+			return new MovimentacaoCursor(LocalDateTime.parse(texto.substring(0, separador)),
+				Integer.parseInt(texto.substring(separador + 1)));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Cursor inválido");
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package dev.gestock.sge.aplicacao.movimentacao;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros opcionais da pesquisa de movimentações; campos nulos não filtram.
+ */
+public class MovimentacaoFiltro {
+	private final String tipo;
+	private final Integer estoqueId;
+	private final Integer produtoId;
+	private final LocalDate dataInicio;
+	private final LocalDate dataFim;
+
+	public MovimentacaoFiltro(String tipo, Integer estoqueId, Integer produtoId, LocalDate dataInicio, LocalDate dataFim) {
+		this.tipo = tipo != null && !tipo.isBlank() ? tipo.toUpperCase() : null;
+		this.estoqueId = estoqueId;
+		this.produtoId = produtoId;
+		this.dataInicio = dataInicio;
+		this.dataFim = dataFim;
+	}
+
+	public String getTipo() {
+		return tipo;
+	}
+
+	public Integer getEstoqueId() {
+		return estoqueId;
+	}
+
+	public Integer getProdutoId() {
+		return produtoId;
+	}
+
+	public LocalDate getDataInicio() {
+		return dataInicio;
+	}
+
+	public LocalDate getDataFim() {
+		return dataFim;
+	}
+}
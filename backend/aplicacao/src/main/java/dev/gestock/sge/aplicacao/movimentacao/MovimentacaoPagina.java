@@ -0,0 +1,12 @@
+package dev.gestock.sge.aplicacao.movimentacao;
+
+import java.util.List;
+
+public interface MovimentacaoPagina {
+	List<MovimentacaoResumo> getItens();
+
+	/**
+	 * Cursor para a próxima página, ou null quando não há mais movimentações.
+	 */
+	String getProximoCursor();
+}
@@ -2,6 +2,7 @@ package dev.gestock.sge.aplicacao.movimentacao;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MovimentacaoRepositorioAplicacao {
 	List<MovimentacaoResumo> pesquisarResumos();
@@ -15,5 +16,17 @@ public interface MovimentacaoRepositorioAplicacao {
 	MovimentacaoTotais obterTotais();
 
 	MovimentacaoTotais obterTotaisPorPeriodo(LocalDate inicio, LocalDate fim);
+
+	/**
+	 * Até {@code limite} movimentações posteriores ao cursor (null para a primeira página),
+	 * da mais recente para a mais antiga.
+	 */
+	List<MovimentacaoResumo> pesquisarPagina(MovimentacaoFiltro filtro, MovimentacaoCursor cursor, int limite);
+
+	/**
+	 * Entrega cada movimentação filtrada ao consumidor à medida que é lida do banco,
+	 * sem acumular o resultado em memória.
+	 */
+	void percorrer(MovimentacaoFiltro filtro, Consumer<MovimentacaoResumo> consumidor);
 }
 
@@ -3,8 +3,11 @@ package dev.gestock.sge.aplicacao.movimentacao;
 import static org.apache.commons.lang3.Validate.*;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class MovimentacaoServicoAplicacao {
+	public static final int LIMITE_PAGINA_MAXIMO = 500;
+
 	private MovimentacaoRepositorioAplicacao repositorio;
 
 	public MovimentacaoServicoAplicacao(MovimentacaoRepositorioAplicacao repositorio) {
@@ -38,5 +41,37 @@ public class MovimentacaoServicoAplicacao {
 	public MovimentacaoTotais obterTotaisPorPeriodo(LocalDate inicio, LocalDate fim) {
 		return repositorio.obterTotaisPorPeriodo(inicio, fim);
 	}
+
+	public MovimentacaoPagina pesquisarPagina(MovimentacaoFiltro filtro, String cursor, int limite) {
+		notNull(filtro, "O filtro não pode ser nulo");
+		inclusiveBetween(1, LIMITE_PAGINA_MAXIMO, limite, "O limite deve estar entre 1 e " + LIMITE_PAGINA_MAXIMO);
+
+		var posicao = cursor != null && !cursor.isBlank() ? MovimentacaoCursor.decodificar(cursor) : null;
+		// Busca um item a mais apenas para saber se existe próxima página
+		var itens = repositorio.pesquisarPagina(filtro, posicao, limite + 1);
+		var haMais = itens.size() > limite;
+		var pagina = haMais ? itens.subList(0, limite) : itens;
+		var proximoCursor = haMais
+			? new MovimentacaoCursor(pagina.get(limite - 1).getDataHora(), pagina.get(limite - 1).getId()).codificar()
+			: null;
+
+		return new MovimentacaoPagina() {
+			@Override
+			public List<MovimentacaoResumo> getItens() {
+				return pagina;
+			}
+
+			@Override
+			public String getProximoCursor() {
+				return proximoCursor;
+			}
+		};
+	}
+
+	public void percorrer(MovimentacaoFiltro filtro, Consumer<MovimentacaoResumo> consumidor) {
+		notNull(filtro, "O filtro não pode ser nulo");
+		notNull(consumidor, "O consumidor não pode ser nulo");
+		repositorio.percorrer(filtro, consumidor);
+	}
 }
 
@@ -31,5 +31,12 @@ public interface PontoRessuprimentoRepositorioAplicacao {
 	 * @return Número de registros criados/atualizados
 	 */
 	int sincronizarPontosRessuprimento();
+
+	/**
+	 * Reconstrói a consolidação diária de consumo usada no cálculo do ROP
+	 * a partir de todo o histórico de movimentações, em lotes.
+	 * @return Número de linhas diárias consolidadas
+	 */
+	int reconstruirConsumoDiario();
 }
 
@@ -40,5 +40,9 @@ public class PontoRessuprimentoServicoAplicacao {
 	public int sincronizarPontosRessuprimento() {
 		return repositorio.sincronizarPontosRessuprimento();
 	}
+
+	public int reconstruirConsumoDiario() {
+		return repositorio.reconstruirConsumoDiario();
+	}
 }
 
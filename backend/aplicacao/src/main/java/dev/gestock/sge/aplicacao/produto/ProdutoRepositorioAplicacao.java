@@ -7,6 +7,11 @@ public interface ProdutoRepositorioAplicacao {
 
 	List<ProdutoResumo> pesquisarPorNomeOuCodigo(String termo);
 
+	/**
+	 * Busca aproximada, ordenada por relevância e paginada a partir da página 0.
+	 */
+	List<ProdutoResumo> buscar(String termo, int pagina, int tamanho);
+
 	List<ProdutoResumo> pesquisarPorStatus(String status);
 
 	ProdutoResumo obterResumo(int id);
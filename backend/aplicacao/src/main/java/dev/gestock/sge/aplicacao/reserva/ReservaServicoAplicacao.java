@@ -24,9 +24,9 @@ public class ReservaServicoAplicacao {
 		this.reservaServico = reservaServico;
 
 		// Registrar observadores de eventos
-		barramento.adicionar(this::tratarPedidoCriado);
-		barramento.adicionar(this::tratarPedidoCancelado);
-		barramento.adicionar(this::tratarPedidoRecebido);
+		barramento.adicionar(PedidoCriadoEvento.class, this::tratarPedidoCriado);
+		barramento.adicionar(PedidoCanceladoEvento.class, this::tratarPedidoCancelado);
+		barramento.adicionar(PedidoRecebidoEvento.class, this::tratarPedidoRecebido);
 	}
 
 	private void tratarPedidoCriado(PedidoCriadoEvento evento) {
@@ -5,6 +5,11 @@ import java.util.List;
 public interface TransferenciaRepositorioAplicacao {
 	List<TransferenciaResumo> pesquisarResumos(String busca);
 
+	/**
+	 * Obtém o resumo da transferência da movimentação de saída, ou null se não existe.
+	 */
+	TransferenciaResumo obterResumoPorMovimentacaoSaida(int movimentacaoSaidaId);
+
 	TransferenciaTotais obterTotais();
 
 	/**
@@ -4,6 +4,7 @@ import static org.apache.commons.lang3.Validate.*;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import dev.gestock.sge.dominio.estoque.EstoqueId;
 import dev.gestock.sge.dominio.evento.EventoBarramento;
 import dev.gestock.sge.dominio.movimentacao.Movimentacao;
@@ -19,6 +20,8 @@ import dev.gestock.sge.dominio.produto.Quantidade;
 import dev.gestock.sge.dominio.transferencia.TransferenciaServico;
 
 public class TransferenciaServicoAplicacao {
+	private static final Duration JANELA_CORRESPONDENCIA = Duration.ofHours(1);
+
 	private final TransferenciaRepositorioAplicacao repositorioAplicacao;
 	private final TransferenciaServico transferenciaServico;
 	private final MovimentacaoRepositorio movimentacaoRepositorio;
@@ -55,8 +58,11 @@ public class TransferenciaServicoAplicacao {
 			return;
 		}
 
-		// Buscar movimentação de SAÍDA correspondente recente
-		var movimentacaoSaida = buscarMovimentacaoSaidaCorrespondente(movimentacao);
+		// Buscar movimentação de SAÍDA correspondente: pela correlação, quando a entrada tem uma,
+		// ou pelos critérios de correspondência para movimentações registradas sem correlação
+		var movimentacaoSaida = movimentacao.getCorrelacao() != null
+			? movimentacaoRepositorio.obterPorCorrelacao(movimentacao.getCorrelacao(), TipoMovimentacao.SAIDA)
+			: buscarMovimentacaoSaidaCorrespondente(movimentacao);
 		if (movimentacaoSaida != null) {
 			// Criar transferência
 			transferenciaServico.criarTransferencia(movimentacaoSaida, movimentacao);
@@ -72,51 +78,11 @@ public class TransferenciaServicoAplicacao {
 	 * - Mesmo motivo
 	 * - Data/hora próxima (dentro de 1 hora)
 	 * - Estoque diferente
+	 * - Ainda não usada em outra transferência
 	 */
 	private Movimentacao buscarMovimentacaoSaidaCorrespondente(Movimentacao movimentacaoEntrada) {
-		// Buscar movimentações de SAÍDA do mesmo produto, quantidade, responsável e motivo
-		// que ocorreram nas últimas 1 hora
-		var dataHoraLimite = movimentacaoEntrada.getDataHora().minusHours(1);
-		var dataInicio = dataHoraLimite.toLocalDate();
-		var dataFim = movimentacaoEntrada.getDataHora().toLocalDate().plusDays(1);
-		var todasMovimentacoes = movimentacaoRepositorio.obterPorPeriodo(dataInicio, dataFim);
-
-		// Filtrar movimentações de SAÍDA correspondentes
-		for (var movimentacao : todasMovimentacoes) {
-			if (movimentacao.getTipo() != TipoMovimentacao.SAIDA) {
-				continue;
-			}
-
-			// Verificar correspondência
-			if (!movimentacao.getProdutoId().equals(movimentacaoEntrada.getProdutoId())) {
-				continue;
-			}
-			if (movimentacao.getQuantidade().getValor() != movimentacaoEntrada.getQuantidade().getValor()) {
-				continue;
-			}
-			if (!movimentacao.getResponsavel().equals(movimentacaoEntrada.getResponsavel())) {
-				continue;
-			}
-			if (!movimentacao.getMotivo().equals(movimentacaoEntrada.getMotivo())) {
-				continue;
-			}
-			if (movimentacao.getEstoqueId().equals(movimentacaoEntrada.getEstoqueId())) {
-				continue; // Estoque deve ser diferente
-			}
-
-			// Verificar se está dentro do intervalo de 1 hora
-			var diferenca = Duration.between(movimentacao.getDataHora(), movimentacaoEntrada.getDataHora());
-			if (diferenca.toHours() > 1 || diferenca.isNegative()) {
-				continue;
-			}
-
-			// Verificar se já não foi usada em outra transferência
-			// (isso será verificado na implementação do repositório se necessário)
-
-			return movimentacao;
-		}
-
-		return null;
+		var dataHoraLimite = movimentacaoEntrada.getDataHora().minus(JANELA_CORRESPONDENCIA);
+		return movimentacaoRepositorio.obterSaidaCorrespondente(movimentacaoEntrada, dataHoraLimite);
 	}
 
 	public List<TransferenciaResumo> pesquisarResumos(String busca) {
@@ -136,7 +102,7 @@ public class TransferenciaServicoAplicacao {
 	 * @param quantidade Quantidade a ser transferida
 	 * @param responsavel Responsável pela transferência
 	 * @param motivo Motivo da transferência
-	 * @return TransferenciaResumo com os dados da transferência criada
+	 * @return TransferenciaResumo com os dados da transferência criada a partir das duas movimentações
 	 */
 	public TransferenciaResumo registrar(int produtoId, int estoqueOrigemId, int estoqueDestinoId,
 			int quantidade, String responsavel, String motivo) {
@@ -172,6 +138,8 @@ public class TransferenciaServicoAplicacao {
 		var responsavelTransferencia = new Responsavel(responsavel);
 		var produtoIdObj = new ProdutoId(produtoId);
 		var quantidadeObj = new Quantidade(quantidade);
+		// Liga a saída à entrada sem depender dos critérios de correspondência
+		var correlacao = UUID.randomUUID().toString();
 		
 		var movimentacaoSaida = new Movimentacao(
 			new MovimentacaoId(0),
@@ -181,7 +149,8 @@ public class TransferenciaServicoAplicacao {
 			quantidadeObj,
 			TipoMovimentacao.SAIDA,
 			motivoTransferencia,
-			responsavelTransferencia
+			responsavelTransferencia,
+			correlacao
 		);
 		
 		var movSaidaSalva = movimentacaoServico.registrar(movimentacaoSaida);
@@ -195,19 +164,16 @@ public class TransferenciaServicoAplicacao {
 			quantidadeObj,
 			TipoMovimentacao.ENTRADA,
 			motivoTransferencia,
-			responsavelTransferencia
+			responsavelTransferencia,
+			correlacao
 		);
 		
-		movimentacaoServico.registrar(movimentacaoEntrada);
-		
-		// A transferência será criada automaticamente pelo evento de movimentação
-		// Retornar o resumo mais recente
-		var resumos = pesquisarResumos("");
-		if (!resumos.isEmpty()) {
-			return resumos.get(0);
-		}
-		
-		return null;
+		var movEntradaSalva = movimentacaoServico.registrar(movimentacaoEntrada);
+
+		// Com a fila de saída, o evento da entrada só é entregue depois do commit: a transferência é
+		// criada aqui, e o observador encontra a saída já usada quando o evento chegar
+		transferenciaServico.criarTransferencia(movSaidaSalva, movEntradaSalva);
+		return repositorioAplicacao.obterResumoPorMovimentacaoSaida(movSaidaSalva.getId().getId());
 	}
 }
 
@@ -4,8 +4,12 @@ import static org.springframework.boot.SpringApplication.run;
 
 import java.io.IOException;
 
+import org.springframework.aop.framework.autoproxy.BeanNameAutoProxyCreator;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
 
 // Imports comentados - módulos antigos removidos
 // import dev.sauloaraujo.dominio.analise.emprestimo.EmprestimoRegistroRepositorio;
@@ -55,7 +59,11 @@ import dev.gestock.sge.dominio.pontoresuprimento.PontoRessuprimentoRepositorio;
 import dev.gestock.sge.dominio.pontoresuprimento.PontoRessuprimentoServico;
 import dev.gestock.sge.aplicacao.alerta.AlertaRepositorioAplicacao;
 import dev.gestock.sge.aplicacao.alerta.AlertaServicoAplicacao;
+import dev.gestock.sge.dominio.alerta.AlertaCorreio;
+import dev.gestock.sge.dominio.alerta.AlertaDespacho;
+import dev.gestock.sge.dominio.alerta.AlertaObserverEmail;
 import dev.gestock.sge.dominio.alerta.AlertaServico;
+import dev.gestock.sge.dominio.alerta.AlertaServicoObservable;
 import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoRepositorioAplicacao;
 import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoServicoAplicacao;
 import dev.gestock.sge.dominio.movimentacao.MovimentacaoRepositorio;
@@ -82,6 +90,24 @@ import dev.gestock.sge.dominio.movimentacao.MovimentacaoRepositorio;
 @SpringBootApplication
 public class BackendAplicacao {
 
+	/**
+	 * Executa cada operação dos serviços de domínio que postam eventos em uma transação, para que
+	 * o agregado e o registro do evento na fila de saída (EVENTO_SAIDA) sejam gravados juntos. O
+	 * registro de transferências grava a saída, a entrada e a transferência em uma mesma transação.
+	 */
+	@Bean
+	public TransactionInterceptor transacaoServicosDominio(TransactionManager transactionManager) {
+		return new TransactionInterceptor(transactionManager, new MatchAlwaysTransactionAttributeSource());
+	}
+
+	@Bean
+	public static BeanNameAutoProxyCreator servicosDominioTransacionais() {
+		var criador = new BeanNameAutoProxyCreator();
+		criador.setBeanNames("pedidoServico", "movimentacaoServico", "transferenciaServicoAplicacao");
+		criador.setInterceptorNames("transacaoServicosDominio");
+		return criador;
+	}
+
 	@Bean
 	public ClienteServico clienteServico(ClienteRepositorio repositorio) {
 		return new ClienteServico(repositorio);
@@ -184,6 +210,17 @@ public class BackendAplicacao {
 		return new AlertaServico();
 	}
 
+	/**
+	 * Recebe os alertas avaliados após as movimentações e os entrega pelo despacho assíncrono.
+	 */
+	@Bean
+	public AlertaServicoObservable alertaServicoObservable(AlertaServico servico, AlertaDespacho despacho,
+			AlertaCorreio correio) {
+		var observable = new AlertaServicoObservable(servico, despacho);
+		observable.adicionarObservador(new AlertaObserverEmail(correio));
+		return observable;
+	}
+
 	@Bean
 	public AlertaServicoAplicacao alertaServicoAplicacao(AlertaRepositorioAplicacao repositorio) {
 		return new AlertaServicoAplicacao(repositorio);
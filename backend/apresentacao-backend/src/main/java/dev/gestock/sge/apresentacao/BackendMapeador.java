@@ -41,6 +41,7 @@ import dev.gestock.sge.dominio.pedido.DataPrevista;
 import dev.gestock.sge.dominio.pedido.StatusPedido;
 import dev.gestock.sge.apresentacao.pedido.PedidoFormulario.PedidoDto;
 import dev.gestock.sge.apresentacao.pedido.PedidoFormulario.ItemPedidoDto;
+import dev.gestock.sge.infraestrutura.medicao.Medicao;
 import java.time.LocalDate;
 import java.util.ArrayList;
 
@@ -354,8 +355,29 @@ public class BackendMapeador extends ModelMapper {
 		});
 	}
 
+	/**
+	 * O tempo gasto entra na medição da requisição (X-Tempo-Mapeamento).
+	 */
 	@Override
 	public <D> D map(Object source, Class<D> destinationType) {
-		return source != null ? super.map(source, destinationType) : null;
+		if (source == null) {
+			return null;
+		}
+		var inicio = System.nanoTime();
+		try {
+			return super.map(source, destinationType);
+		} finally {
+			Medicao.registrarMapeamento(System.nanoTime() - inicio);
+		}
+	}
+
+	@Override
+	public void map(Object source, Object destination) {
+		var inicio = System.nanoTime();
+		try {
+			super.map(source, destination);
+		} finally {
+			Medicao.registrarMapeamento(System.nanoTime() - inicio);
+		}
 	}
 }
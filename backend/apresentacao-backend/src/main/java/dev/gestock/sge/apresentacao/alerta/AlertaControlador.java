@@ -4,18 +4,27 @@ import static org.springframework.web.bind.annotation.RequestMethod.*;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import dev.gestock.sge.aplicacao.alerta.AlertaResumo;
 import dev.gestock.sge.aplicacao.alerta.AlertaServicoAplicacao;
 import dev.gestock.sge.aplicacao.alerta.AlertaTotais;
+import dev.gestock.sge.infraestrutura.alerta.AlertaDespachoAssincrono;
+import dev.gestock.sge.infraestrutura.alerta.AlertaDespachoMetricas;
 
 @RestController
 @RequestMapping("backend/alerta")
 class AlertaControlador {
 
 	private @Autowired AlertaServicoAplicacao alertaServicoAplicacao;
+	private @Autowired AlertaDespachoAssincrono alertaDespacho;
 
 	@RequestMapping(method = GET, path = "pesquisa")
-	List<AlertaResumo> pesquisar(@RequestParam(required = false) String nivel) {
+	List<AlertaResumo> pesquisar(@RequestParam(required = false) String nivel, WebRequest requisicao) {
+		// Responde 304 quando o cliente já tem a versão atual (If-None-Match)
+		if (requisicao.checkNotModified(alertaServicoAplicacao.obterVersao())) {
+			return null;
+		}
+
 		if (nivel != null && !nivel.isBlank()) {
 			return alertaServicoAplicacao.pesquisarPorNivel(nivel);
 		}
@@ -24,8 +33,21 @@ class AlertaControlador {
 	}
 
 	@RequestMapping(method = GET, path = "totais")
-	AlertaTotais obterTotais() {
+	AlertaTotais obterTotais(WebRequest requisicao) {
+		if (requisicao.checkNotModified(alertaServicoAplicacao.obterVersao())) {
+			return null;
+		}
 		return alertaServicoAplicacao.obterTotais();
 	}
+
+	@RequestMapping(method = GET, path = "versao")
+	java.util.Map<String, Object> obterVersao() {
+		return java.util.Map.of("versao", alertaServicoAplicacao.obterVersao());
+	}
+
+	@RequestMapping(method = GET, path = "notificacao/metricas")
+	AlertaDespachoMetricas obterMetricasNotificacao() {
+		return alertaDespacho.obterMetricas();
+	}
 }
 
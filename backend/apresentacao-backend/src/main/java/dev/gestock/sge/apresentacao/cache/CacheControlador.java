@@ -0,0 +1,20 @@
+package dev.gestock.sge.apresentacao.cache;
+
+import static org.springframework.web.bind.annotation.RequestMethod.*;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.ReferenciaCache;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.ReferenciaCacheMetricas;
+
+@RestController
+@RequestMapping("backend/cache")
+class CacheControlador {
+
+	private @Autowired ReferenciaCache referenciaCache;
+
+	@RequestMapping(method = GET, path = "metricas")
+	List<ReferenciaCacheMetricas> obterMetricas() {
+		return referenciaCache.obterMetricas();
+	}
+}
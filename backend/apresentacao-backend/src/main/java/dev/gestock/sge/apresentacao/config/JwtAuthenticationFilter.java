@@ -15,22 +15,21 @@ import java.util.Collections;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtVerificador jwtVerificador;
+	private final StreamIngresso streamIngresso;
 
-	public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-		this.jwtTokenProvider = jwtTokenProvider;
+	public JwtAuthenticationFilter(JwtVerificador jwtVerificador, StreamIngresso streamIngresso) {
+		this.jwtVerificador = jwtVerificador;
+		this.streamIngresso = streamIngresso;
 	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
 		
-		String token = obterTokenDoRequest(request);
+		Integer clienteId = obterClienteDoRequest(request);
 		
-		if (token != null && jwtTokenProvider.validarToken(token)) {
-			int clienteId = jwtTokenProvider.obterClienteIdDoToken(token);
-			String email = jwtTokenProvider.obterEmailDoToken(token);
-			
+		if (clienteId != null) {
 			UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
 					clienteId, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_CLIENTE")));
 			authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -41,6 +40,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * Pelo token do cabeçalho Authorization ou, na conexão do stream, pelo ingresso na URL, já que o
+	 * EventSource não envia cabeçalhos.
+	 */
+	private Integer obterClienteDoRequest(HttpServletRequest request) {
+		String token = obterTokenDoRequest(request);
+		if (token != null) {
+			TokenVerificado verificado = jwtVerificador.verificar(token);
+			return verificado != null ? verificado.getClienteId() : null;
+		}
+		String ingresso = request.getParameter(StreamIngresso.PARAMETRO);
+		if (ingresso != null && "GET".equals(request.getMethod()) && StreamIngresso.CAMINHO.equals(request.getServletPath())) {
+			return streamIngresso.consumir(ingresso);
+		}
+		return null;
+	}
+
 	private String obterTokenDoRequest(HttpServletRequest request) {
 		String bearerToken = request.getHeader("Authorization");
 		if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -1,7 +1,10 @@
 package dev.gestock.sge.apresentacao.config;
 
+import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Configuration
 public class JwtConfig {
@@ -12,6 +15,13 @@ public class JwtConfig {
 	@Value("${jwt.expiration:86400000}")
 	private long expiration; // 24 horas em milissegundos
 
+	private SecretKey chave;
+
+	@PostConstruct
+	void derivarChave() {
+		chave = Keys.hmacShaKeyFor(secret.getBytes());
+	}
+
 	public String getSecret() {
 		return secret;
 	}
@@ -19,5 +29,12 @@ public class JwtConfig {
 	public long getExpiration() {
 		return expiration;
 	}
+
+	/**
+	 * Chave HMAC derivada do segredo uma única vez, na inicialização.
+	 */
+	public SecretKey getChave() {
+		return chave;
+	}
 }
 
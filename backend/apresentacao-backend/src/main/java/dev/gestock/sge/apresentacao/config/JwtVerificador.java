@@ -0,0 +1,106 @@
+package dev.gestock.sge.apresentacao.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Verifica tokens JWT com um parser criado uma única vez e guarda os tokens já verificados.
+ *
+ * O cache é indexado pelo SHA-256 do token, não pelo token em si, e é lido sem bloqueio. Quando
+ * passa de {@code jwt.cache.tamanho} entradas, uma única thread remove as expiradas e, se ainda
+ * preciso, entradas quaisquer até voltar ao limite (remoção aproximada, sem ordem de uso). Uma
+ * entrada vale até a expiração do token; depois disso o token é verificado de novo e recusado.
+ * Tokens sem expiração são aceitos, mas não entram no cache.
+ */
+@Component
+public class JwtVerificador {
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	@Autowired
+	private JwtConfig jwtConfig;
+
+	@Value("${jwt.cache.tamanho:10000}")
+	private int tamanhoCache;
+
+	private JwtParser parser;
+	private final ConcurrentHashMap<String, TokenVerificado> cache = new ConcurrentHashMap<>();
+	private final AtomicBoolean removendo = new AtomicBoolean();
+
+	@PostConstruct
+	void iniciar() {
+		parser = Jwts.parser().verifyWith(jwtConfig.getChave()).build();
+	}
+
+	/**
+	 * @return os dados do token, ou null se a assinatura não confere ou o token expirou
+	 */
+	public TokenVerificado verificar(String token) {
+		var chave = resumir(token);
+		var agora = System.currentTimeMillis();
+		var emCache = cache.get(chave);
+		if (emCache != null) {
+			if (!emCache.expiradoEm(agora)) {
+				return emCache;
+			}
+			cache.remove(chave, emCache);
+		}
+
+		TokenVerificado verificado;
+		try {
+			var claims = parser.parseSignedClaims(token).getPayload();
+			var expiracao = claims.getExpiration();
+			verificado = new TokenVerificado(Integer.parseInt(claims.getSubject()), claims.get("email", String.class),
+				expiracao != null ? expiracao.getTime() : Long.MAX_VALUE);
+			if (expiracao == null) {
+				return verificado;
+			}
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
+		cache.put(chave, verificado);
+		if (cache.size() > tamanhoCache) {
+			reduzir(agora);
+		}
+		return verificado;
+	}
+
+	private void reduzir(long agora) {
+		if (!removendo.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			cache.values().removeIf(verificado -> verificado.expiradoEm(agora));
+			var excesso = cache.size() - tamanhoCache;
+			var chaves = cache.keySet().iterator();
+			while (excesso-- > 0 && chaves.hasNext()) {
+				chaves.next();
+				chaves.remove();
+			}
+		} finally {
+			removendo.set(false);
+		}
+	}
+
+	private static String resumir(String token) {
+		var digest = SHA256.get();
+		digest.reset();
+		return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,66 @@
+package dev.gestock.sge.apresentacao.config;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ingressos de uso único para abrir o stream dos painéis.
+ *
+ * O EventSource do navegador não envia o cabeçalho Authorization, e o JWT na URL ficaria nos logs
+ * de acesso. O painel troca o token por um ingresso aleatório, válido por
+ * {@code sge.stream.ingresso.validade} segundos, e o envia no parâmetro {@code ingresso} da conexão;
+ * o ingresso é consumido na primeira verificação e só vale para o stream.
+ */
+@Component
+public class StreamIngresso {
+	static final String CAMINHO = "/backend/stream";
+	static final String PARAMETRO = "ingresso";
+
+	private static final SecureRandom ALEATORIO = new SecureRandom();
+
+	@Value("${sge.stream.ingresso.validade:30}")
+	private long validadeSegundos;
+
+	private final ConcurrentHashMap<String, Emitido> emitidos = new ConcurrentHashMap<>();
+
+	public String emitir(int clienteId) {
+		var agora = System.nanoTime();
+		// Ingressos não usados expiram logo; a limpeza acompanha a emissão
+		emitidos.values().removeIf(emitido -> emitido.expiradoEm(agora));
+
+		var bytes = new byte[32];
+		ALEATORIO.nextBytes(bytes);
+		var ingresso = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+		emitidos.put(ingresso, new Emitido(clienteId, agora + TimeUnit.SECONDS.toNanos(validadeSegundos)));
+		return ingresso;
+	}
+
+	/**
+	 * @return o cliente do ingresso, ou null se não existe, já foi usado ou expirou
+	 */
+	Integer consumir(String ingresso) {
+		var emitido = emitidos.remove(ingresso);
+		if (emitido == null || emitido.expiradoEm(System.nanoTime())) {
+			return null;
+		}
+		return emitido.clienteId;
+	}
+
+	private static class Emitido {
+		final int clienteId;
+		final long expiraEm;
+
+		Emitido(int clienteId, long expiraEm) {
+			this.clienteId = clienteId;
+			this.expiraEm = expiraEm;
+		}
+
+		boolean expiradoEm(long agora) {
+			return agora - expiraEm >= 0;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package dev.gestock.sge.apresentacao.config;
+
+/**
+ * Dados de um token JWT cuja assinatura e expiração já foram verificadas.
+ */
+public class TokenVerificado {
+	private final int clienteId;
+	private final String email;
+	private final long expiracaoMilissegundos;
+
+	TokenVerificado(int clienteId, String email, long expiracaoMilissegundos) {
+		this.clienteId = clienteId;
+		this.email = email;
+		this.expiracaoMilissegundos = expiracaoMilissegundos;
+	}
+
+	public int getClienteId() {
+		return clienteId;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	boolean expiradoEm(long agoraMilissegundos) {
+		return agoraMilissegundos >= expiracaoMilissegundos;
+	}
+}
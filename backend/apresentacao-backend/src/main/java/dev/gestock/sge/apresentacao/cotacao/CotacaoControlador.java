@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 import dev.gestock.sge.aplicacao.cotacao.CotacaoPorProdutoResumo;
 import dev.gestock.sge.aplicacao.cotacao.CotacaoResumo;
 import dev.gestock.sge.aplicacao.cotacao.CotacaoServicoAplicacao;
+import dev.gestock.sge.aplicacao.cotacao.CotacaoSincronizacao;
 import dev.gestock.sge.dominio.cotacao.*;
 import dev.gestock.sge.dominio.fornecedor.Custo;
 import dev.gestock.sge.dominio.fornecedor.FornecedorId;
@@ -76,13 +77,20 @@ class CotacaoControlador {
 
 	@RequestMapping(method = POST, path = "sincronizar")
 	java.util.Map<String, Object> sincronizar() {
-		int cotacoesCriadas = cotacaoServicoAplicacao.sincronizarCotacoes();
+		var sincronizacao = cotacaoServicoAplicacao.sincronizarCotacoes();
 		return java.util.Map.of(
-			"cotacoesCriadas", cotacoesCriadas,
-			"mensagem", cotacoesCriadas > 0 
+			"cotacoesCriadas", sincronizacao.getCotacoesCriadas(),
+			"cotacoesAtualizadas", sincronizacao.getCotacoesAtualizadas(),
+			"duracaoMilissegundos", sincronizacao.getDuracaoMilissegundos(),
+			"mensagem", sincronizacao.getParesProcessados() > 0 
 				? "Cotações sincronizadas com sucesso!" 
 				: "Todas as cotações já estão sincronizadas."
 		);
 	}
+
+	@RequestMapping(method = GET, path = "sincronizar/progresso")
+	CotacaoSincronizacao obterProgressoSincronizacao() {
+		return cotacaoServicoAplicacao.obterProgressoSincronizacao();
+	}
 }
 
@@ -36,6 +36,14 @@ class EstoqueControlador {
 		return estoqueServicoAplicacao.pesquisarResumos();
 	}
 
+	@RequestMapping(method = GET, path = "busca")
+	List<EstoqueResumo> buscar(
+			@RequestParam String termo,
+			@RequestParam(defaultValue = "0") int pagina,
+			@RequestParam(defaultValue = "20") int tamanho) {
+		return estoqueServicoAplicacao.buscar(termo, pagina, tamanho);
+	}
+
 	@RequestMapping(method = GET, path = "{id}")
 	EstoqueResumo obter(@PathVariable("id") int id) {
 		return estoqueServicoAplicacao.obterResumo(id);
@@ -76,5 +84,16 @@ class EstoqueControlador {
 	List<ProdutoResumo> pesquisarProdutos(@PathVariable("id") int id) {
 		return estoqueServicoAplicacao.pesquisarProdutos(id);
 	}
+
+	@RequestMapping(method = POST, path = "ocupacao/reconciliar")
+	java.util.Map<String, Object> reconciliarOcupacao() {
+		int corrigidos = estoqueServicoAplicacao.reconciliarOcupacao();
+		return java.util.Map.of(
+			"estoquesCorrigidos", corrigidos,
+			"mensagem", corrigidos > 0
+				? "Ocupação corrigida nos estoques divergentes."
+				: "A ocupação de todos os estoques confere com os saldos."
+		);
+	}
 }
 
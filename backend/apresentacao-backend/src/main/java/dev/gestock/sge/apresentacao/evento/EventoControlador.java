@@ -0,0 +1,19 @@
+package dev.gestock.sge.apresentacao.evento;
+
+import static org.springframework.web.bind.annotation.RequestMethod.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import dev.gestock.sge.infraestrutura.evento.EventoSaidaMetricas;
+import dev.gestock.sge.infraestrutura.evento.EventoSaidaRelay;
+
+@RestController
+@RequestMapping("backend/evento")
+class EventoControlador {
+
+	private @Autowired EventoSaidaRelay relay;
+
+	@RequestMapping(method = GET, path = "metricas")
+	EventoSaidaMetricas obterMetricas() {
+		return relay.obterMetricas();
+	}
+}
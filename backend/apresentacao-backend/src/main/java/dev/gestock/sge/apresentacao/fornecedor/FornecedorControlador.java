@@ -35,6 +35,14 @@ class FornecedorControlador {
 		return fornecedorServicoAplicacao.pesquisarResumos();
 	}
 
+	@RequestMapping(method = GET, path = "busca")
+	List<FornecedorResumo> buscar(
+			@RequestParam String termo,
+			@RequestParam(defaultValue = "0") int pagina,
+			@RequestParam(defaultValue = "20") int tamanho) {
+		return fornecedorServicoAplicacao.buscar(termo, pagina, tamanho);
+	}
+
 	@RequestMapping(method = GET, path = "{id}")
 	FornecedorResumo obter(@PathVariable("id") int id) {
 		return fornecedorServicoAplicacao.obterResumo(id);
@@ -0,0 +1,18 @@
+package dev.gestock.sge.apresentacao.medicao;
+
+import static org.springframework.web.bind.annotation.RequestMethod.*;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("backend/medicao")
+class MedicaoControlador {
+
+	private @Autowired MedicaoEstatisticas estatisticas;
+
+	@RequestMapping(method = GET, path = "metricas")
+	List<MedicaoEndpointMetricas> obterMetricas() {
+		return estatisticas.obterMetricas();
+	}
+}
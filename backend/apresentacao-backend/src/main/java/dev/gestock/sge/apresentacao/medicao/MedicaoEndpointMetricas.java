@@ -0,0 +1,69 @@
+package dev.gestock.sge.apresentacao.medicao;
+
+/**
+ * Custo acumulado de um endpoint desde o início da aplicação.
+ */
+public class MedicaoEndpointMetricas {
+	private final String endpoint;
+	private final long requisicoes;
+	private final long comandos;
+	private final int comandosMaximo;
+	private final long tempoJdbcMilissegundos;
+	private final long entidades;
+	private final long tempoMapeamentoMilissegundos;
+	private final int maiorRepeticao;
+
+	MedicaoEndpointMetricas(String endpoint, long requisicoes, long comandos, int comandosMaximo,
+			long tempoJdbcMilissegundos, long entidades, long tempoMapeamentoMilissegundos, int maiorRepeticao) {
+		this.endpoint = endpoint;
+		this.requisicoes = requisicoes;
+		this.comandos = comandos;
+		this.comandosMaximo = comandosMaximo;
+		this.tempoJdbcMilissegundos = tempoJdbcMilissegundos;
+		this.entidades = entidades;
+		this.tempoMapeamentoMilissegundos = tempoMapeamentoMilissegundos;
+		this.maiorRepeticao = maiorRepeticao;
+	}
+
+	public String getEndpoint() {
+		return endpoint;
+	}
+
+	public long getRequisicoes() {
+		return requisicoes;
+	}
+
+	public long getComandos() {
+		return comandos;
+	}
+
+	/**
+	 * Maior quantidade de comandos SQL em uma única requisição.
+	 */
+	public int getComandosMaximo() {
+		return comandosMaximo;
+	}
+
+	public long getTempoJdbcMilissegundos() {
+		return tempoJdbcMilissegundos;
+	}
+
+	public long getEntidades() {
+		return entidades;
+	}
+
+	public long getTempoMapeamentoMilissegundos() {
+		return tempoMapeamentoMilissegundos;
+	}
+
+	/**
+	 * Maior número de execuções do mesmo comando em uma requisição; valores altos indicam N+1.
+	 */
+	public int getMaiorRepeticao() {
+		return maiorRepeticao;
+	}
+
+	public double getComandosPorRequisicao() {
+		return requisicoes > 0 ? (double) comandos / requisicoes : 0.0;
+	}
+}
@@ -0,0 +1,58 @@
+package dev.gestock.sge.apresentacao.medicao;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+import dev.gestock.sge.infraestrutura.medicao.Medicao;
+
+/**
+ * Acumula as medições por endpoint (método e padrão do mapeamento) desde o início da aplicação.
+ */
+@Component
+class MedicaoEstatisticas {
+	private final Map<String, Acumulado> porEndpoint = new ConcurrentHashMap<>();
+
+	void registrar(String endpoint, Medicao medicao) {
+		porEndpoint.computeIfAbsent(endpoint, chave -> new Acumulado()).somar(medicao);
+	}
+
+	/**
+	 * @return endpoints em ordem decrescente de comandos SQL executados
+	 */
+	List<MedicaoEndpointMetricas> obterMetricas() {
+		var metricas = new ArrayList<MedicaoEndpointMetricas>(porEndpoint.size());
+		for (var entrada : porEndpoint.entrySet()) {
+			var acumulado = entrada.getValue();
+			metricas.add(new MedicaoEndpointMetricas(entrada.getKey(), acumulado.requisicoes.sum(),
+				acumulado.comandos.sum(), acumulado.comandosMaximo.get(), acumulado.milissegundosJdbc.sum(),
+				acumulado.entidades.sum(), acumulado.milissegundosMapeamento.sum(), acumulado.maiorRepeticao.get()));
+		}
+		metricas.sort(Comparator.comparingLong(MedicaoEndpointMetricas::getComandos).reversed());
+		return metricas;
+	}
+
+	private static class Acumulado {
+		final LongAdder requisicoes = new LongAdder();
+		final LongAdder comandos = new LongAdder();
+		final AtomicInteger comandosMaximo = new AtomicInteger();
+		final LongAdder milissegundosJdbc = new LongAdder();
+		final LongAdder entidades = new LongAdder();
+		final LongAdder milissegundosMapeamento = new LongAdder();
+		final AtomicInteger maiorRepeticao = new AtomicInteger();
+
+		void somar(Medicao medicao) {
+			requisicoes.increment();
+			comandos.add(medicao.getComandos());
+			comandosMaximo.accumulateAndGet(medicao.getComandos(), Math::max);
+			milissegundosJdbc.add(medicao.getTempoJdbcMilissegundos());
+			entidades.add(medicao.getEntidades());
+			milissegundosMapeamento.add(medicao.getTempoMapeamentoMilissegundos());
+			maiorRepeticao.accumulateAndGet(medicao.getMaiorRepeticao(), Math::max);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package dev.gestock.sge.apresentacao.medicao;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import dev.gestock.sge.infraestrutura.medicao.Medicao;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Mede cada requisição e devolve o custo nos cabeçalhos X-Consultas-SQL, X-Tempo-JDBC,
+ * X-Entidades-Carregadas e X-Tempo-Mapeamento (tempos em milissegundos).
+ *
+ * Os cabeçalhos são escritos logo antes do primeiro byte da resposta, com o que foi executado até
+ * ali; comandos disparados durante a serialização entram apenas nas métricas por endpoint.
+ * Requisições acima de {@code sge.medicao.orcamento.consultas} comandos, ou que repetem o mesmo
+ * comando mais de {@code sge.medicao.orcamento.repeticoes} vezes, são registradas no log.
+ * Com {@code sge.medicao.habilitado=false} o filtro não é registrado.
+ */
+@ConditionalOnProperty(name = "sge.medicao.habilitado", havingValue = "true", matchIfMissing = true)
+@Component
+class MedicaoFiltro extends OncePerRequestFilter {
+	private static final Logger LOG = LoggerFactory.getLogger(MedicaoFiltro.class);
+
+	@Value("${sge.medicao.orcamento.consultas:50}")
+	int orcamentoConsultas;
+
+	@Value("${sge.medicao.orcamento.repeticoes:10}")
+	int orcamentoRepeticoes;
+
+	@Autowired
+	MedicaoEstatisticas estatisticas;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest requisicao, HttpServletResponse resposta, FilterChain cadeia)
+			throws ServletException, IOException {
+		var propria = Medicao.iniciar();
+		var medicao = propria != null ? propria : Medicao.atual();
+		var respostaMedida = new RespostaMedida(resposta, medicao);
+		try {
+			cadeia.doFilter(requisicao, respostaMedida);
+		} finally {
+			if (propria != null) {
+				propria.encerrar();
+			}
+			respostaMedida.escreverCabecalhos();
+			registrar(requisicao, medicao);
+		}
+	}
+
+	private void registrar(HttpServletRequest requisicao, Medicao medicao) {
+		var padrao = requisicao.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		var endpoint = requisicao.getMethod() + " " + (padrao != null ? padrao : "(sem mapeamento)");
+		estatisticas.registrar(endpoint, medicao);
+
+		if (medicao.getComandos() > orcamentoConsultas || medicao.getMaiorRepeticao() > orcamentoRepeticoes) {
+			LOG.warn("{} executou {} comandos SQL em {} ms e carregou {} entidades; comando repetido {} vezes: {}",
+				endpoint, medicao.getComandos(), medicao.getTempoJdbcMilissegundos(), medicao.getEntidades(),
+				medicao.getMaiorRepeticao(), medicao.getComandoMaisRepetido());
+		}
+	}
+
+	/**
+	 * Escreve os cabeçalhos de medição antes de a resposta ser confirmada.
+	 */
+	private static class RespostaMedida extends HttpServletResponseWrapper {
+		private final Medicao medicao;
+		private boolean escritos;
+
+		RespostaMedida(HttpServletResponse resposta, Medicao medicao) {
+			super(resposta);
+			this.medicao = medicao;
+		}
+
+		void escreverCabecalhos() {
+			if (escritos || isCommitted()) {
+				return;
+			}
+			escritos = true;
+			setHeader("X-Consultas-SQL", Integer.toString(medicao.getComandos()));
+			setHeader("X-Tempo-JDBC", Long.toString(medicao.getTempoJdbcMilissegundos()));
+			setHeader("X-Entidades-Carregadas", Integer.toString(medicao.getEntidades()));
+			setHeader("X-Tempo-Mapeamento", Long.toString(medicao.getTempoMapeamentoMilissegundos()));
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			escreverCabecalhos();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			escreverCabecalhos();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			escreverCabecalhos();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(int status, String mensagem) throws IOException {
+			escreverCabecalhos();
+			super.sendError(status, mensagem);
+		}
+
+		@Override
+		public void sendError(int status) throws IOException {
+			escreverCabecalhos();
+			super.sendError(status);
+		}
+
+		@Override
+		public void sendRedirect(String destino) throws IOException {
+			escreverCabecalhos();
+			super.sendRedirect(destino);
+		}
+	}
+}
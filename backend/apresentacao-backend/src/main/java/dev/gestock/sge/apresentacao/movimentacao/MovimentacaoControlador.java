@@ -1,12 +1,19 @@
 package dev.gestock.sge.apresentacao.movimentacao;
 
 import static org.springframework.web.bind.annotation.RequestMethod.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoFiltro;
+import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoPagina;
 import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoResumo;
 import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoServicoAplicacao;
 import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoTotais;
@@ -24,6 +31,7 @@ class MovimentacaoControlador {
 	private @Autowired dev.gestock.sge.dominio.movimentacao.MovimentacaoServico movimentacaoServico;
 	private @Autowired MovimentacaoServicoAplicacao movimentacaoServicoAplicacao;
 	private @Autowired BackendMapeador mapeador;
+	private @Autowired ObjectMapper objectMapper;
 
 	@RequestMapping(method = GET, path = "pesquisa")
 	List<MovimentacaoResumo> pesquisar(
@@ -42,6 +50,41 @@ class MovimentacaoControlador {
 		return movimentacaoServicoAplicacao.pesquisarResumos();
 	}
 
+	@RequestMapping(method = GET, path = "pagina")
+	MovimentacaoPagina pesquisarPagina(
+			@RequestParam(required = false) String tipo,
+			@RequestParam(required = false) Integer estoqueId,
+			@RequestParam(required = false) Integer produtoId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "50") int limite) {
+		var filtro = new MovimentacaoFiltro(tipo, estoqueId, produtoId, dataInicio, dataFim);
+		return movimentacaoServicoAplicacao.pesquisarPagina(filtro, cursor, limite);
+	}
+
+	/**
+	 * Exporta o histórico filtrado como NDJSON (uma movimentação por linha), escrito
+	 * à medida que as linhas são lidas do banco.
+	 */
+	@RequestMapping(method = GET, path = "exportar", produces = "application/x-ndjson")
+	StreamingResponseBody exportar(
+			@RequestParam(required = false) String tipo,
+			@RequestParam(required = false) Integer estoqueId,
+			@RequestParam(required = false) Integer produtoId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+		var filtro = new MovimentacaoFiltro(tipo, estoqueId, produtoId, dataInicio, dataFim);
+		return saida -> movimentacaoServicoAplicacao.percorrer(filtro, resumo -> {
+			try {
+				saida.write(objectMapper.writeValueAsBytes(resumo));
+				saida.write('\n');
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
 	@RequestMapping(method = GET, path = "totais")
 	MovimentacaoTotais obterTotais(
 			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
@@ -61,6 +104,89 @@ class MovimentacaoControlador {
 
 	@RequestMapping(method = POST, path = "registrar")
 	MovimentacaoResumo registrar(@RequestBody MovimentacaoDto dto) {
+		var movimentacao = criarMovimentacao(dto);
+		var movimentacaoSalva = movimentacaoServico.registrar(movimentacao);
+		
+		return movimentacaoServicoAplicacao.obterResumo(movimentacaoSalva.getId().getId());
+	}
+
+	@RequestMapping(method = POST, path = "lote", consumes = "application/json")
+	List<MovimentacaoLoteResposta> registrarLote(@RequestBody List<MovimentacaoDto> dtos) {
+		return registrarLote(dtos, new String[dtos.size()]);
+	}
+
+	/**
+	 * Mesmo registro em lote, com uma movimentação JSON por linha.
+	 * Linhas em branco são ignoradas; a numeração segue as linhas do corpo.
+	 */
+	@RequestMapping(method = POST, path = "lote", consumes = "application/x-ndjson")
+	List<MovimentacaoLoteResposta> registrarLoteNdjson(@RequestBody String corpo) {
+		var linhas = corpo.split("\\r?\\n");
+		var dtos = new ArrayList<MovimentacaoDto>(linhas.length);
+		var errosLeitura = new String[linhas.length];
+		for (int i = 0; i < linhas.length; i++) {
+			if (linhas[i].isBlank()) {
+				dtos.add(null);
+				continue;
+			}
+			try {
+				dtos.add(objectMapper.readValue(linhas[i], MovimentacaoDto.class));
+			} catch (IOException e) {
+				dtos.add(null);
+				errosLeitura[i] = "JSON inválido";
+			}
+		}
+		return registrarLote(dtos, errosLeitura);
+	}
+
+	/**
+	 * Converte as linhas válidas e registra todas em uma única chamada ao domínio.
+	 * Posições nulas sem erro de leitura (linhas em branco) não geram resultado.
+	 */
+	private List<MovimentacaoLoteResposta> registrarLote(List<MovimentacaoDto> dtos, String[] errosLeitura) {
+		var respostas = new ArrayList<MovimentacaoLoteResposta>(dtos.size());
+		var movimentacoes = new ArrayList<Movimentacao>();
+		var linhasValidas = new ArrayList<Integer>();
+
+		for (int i = 0; i < dtos.size(); i++) {
+			var linha = i + 1;
+			if (errosLeitura[i] != null) {
+				respostas.add(MovimentacaoLoteResposta.falha(linha, errosLeitura[i]));
+				continue;
+			}
+			if (dtos.get(i) == null) {
+				continue;
+			}
+			try {
+				movimentacoes.add(criarMovimentacao(dtos.get(i)));
+				linhasValidas.add(linha);
+			} catch (IllegalArgumentException e) {
+				respostas.add(MovimentacaoLoteResposta.falha(linha, e.getMessage() != null ? e.getMessage() : "Movimentação inválida"));
+			}
+		}
+
+		var resultados = movimentacaoServico.registrarLote(movimentacoes);
+		for (int i = 0; i < resultados.size(); i++) {
+			var resultado = resultados.get(i);
+			var linha = linhasValidas.get(i);
+			respostas.add(resultado.isSucesso()
+				? MovimentacaoLoteResposta.sucesso(linha, resultado.getMovimentacao().getId().getId())
+				: MovimentacaoLoteResposta.falha(linha, resultado.getErro()));
+		}
+		respostas.sort((a, b) -> Integer.compare(a.linha, b.linha));
+		return respostas;
+	}
+
+	private Movimentacao criarMovimentacao(MovimentacaoDto dto) {
+		if (dto.produtoId == null || dto.estoqueId == null || dto.quantidade == null) {
+			throw new IllegalArgumentException("Produto, estoque e quantidade são obrigatórios");
+		}
+		if (dto.motivo == null || dto.motivo.isBlank()) {
+			throw new IllegalArgumentException("O motivo é obrigatório");
+		}
+		if (dto.responsavel == null || dto.responsavel.isBlank()) {
+			throw new IllegalArgumentException("O responsável é obrigatório");
+		}
 		var movimentacaoId = dto.id != null ? new MovimentacaoId(dto.id) : new MovimentacaoId(0);
 		var dataHora = dto.dataHora != null ? dto.dataHora : LocalDateTime.now();
 		var produtoId = new ProdutoId(dto.produtoId);
@@ -69,11 +195,9 @@ class MovimentacaoControlador {
 		var tipo = dto.tipo != null ? TipoMovimentacao.valueOf(dto.tipo.toUpperCase()) : TipoMovimentacao.ENTRADA;
 		var motivo = new Motivo(dto.motivo);
 		var responsavel = new Responsavel(dto.responsavel);
+		var correlacao = dto.correlacao != null && !dto.correlacao.isBlank() ? dto.correlacao : null;
 		
-		var movimentacao = new Movimentacao(movimentacaoId, dataHora, produtoId, estoqueId, quantidade, tipo, motivo, responsavel);
-		var movimentacaoSalva = movimentacaoServico.registrar(movimentacao);
-		
-		return movimentacaoServicoAplicacao.obterResumo(movimentacaoSalva.getId().getId());
+		return new Movimentacao(movimentacaoId, dataHora, produtoId, estoqueId, quantidade, tipo, motivo, responsavel, correlacao);
 	}
 
 	@RequestMapping(method = DELETE, path = "{id}")
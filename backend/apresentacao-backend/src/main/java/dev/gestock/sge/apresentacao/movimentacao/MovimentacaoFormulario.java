@@ -18,6 +18,7 @@ public class MovimentacaoFormulario {
 		public String tipo;
 		public String motivo;
 		public String responsavel;
+		public String correlacao;
 	}
 }
 
@@ -0,0 +1,26 @@
+package dev.gestock.sge.apresentacao.movimentacao;
+
+/**
+ * Resultado de uma linha de {@code POST backend/movimentacao/lote}.
+ */
+public class MovimentacaoLoteResposta {
+	public int linha;
+	public boolean sucesso;
+	public Integer id;
+	public String erro;
+
+	static MovimentacaoLoteResposta sucesso(int linha, int id) {
+		var resposta = new MovimentacaoLoteResposta();
+		resposta.linha = linha;
+		resposta.sucesso = true;
+		resposta.id = id;
+		return resposta;
+	}
+
+	static MovimentacaoLoteResposta falha(int linha, String erro) {
+		var resposta = new MovimentacaoLoteResposta();
+		resposta.linha = linha;
+		resposta.erro = erro;
+		return resposta;
+	}
+}
@@ -85,5 +85,14 @@ class PontoRessuprimentoControlador {
 				: "Nenhum novo ponto de ressuprimento para criar. Verifique se existem produtos nos estoques."
 		);
 	}
+
+	@RequestMapping(method = POST, path = "consumo/reconstruir")
+	java.util.Map<String, Object> reconstruirConsumo() {
+		int linhas = pontoRessuprimentoServicoAplicacao.reconstruirConsumoDiario();
+		return java.util.Map.of(
+			"linhasConsolidadas", linhas,
+			"mensagem", "Consumo diário reconstruído a partir do histórico de movimentações."
+		);
+	}
 }
 
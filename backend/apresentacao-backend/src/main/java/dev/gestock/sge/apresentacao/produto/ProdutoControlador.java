@@ -36,6 +36,14 @@ class ProdutoControlador {
 		return produtoServicoAplicacao.pesquisarResumos();
 	}
 
+	@RequestMapping(method = GET, path = "busca")
+	List<ProdutoResumo> buscar(
+			@RequestParam String termo,
+			@RequestParam(defaultValue = "0") int pagina,
+			@RequestParam(defaultValue = "20") int tamanho) {
+		return produtoServicoAplicacao.buscar(termo, pagina, tamanho);
+	}
+
 	@RequestMapping(method = GET, path = "{id}")
 	ProdutoResumo obter(@PathVariable("id") int id) {
 		return produtoServicoAplicacao.obterResumo(id);
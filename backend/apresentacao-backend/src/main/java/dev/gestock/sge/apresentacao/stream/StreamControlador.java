@@ -0,0 +1,40 @@
+package dev.gestock.sge.apresentacao.stream;
+
+import static org.springframework.web.bind.annotation.RequestMethod.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import dev.gestock.sge.apresentacao.config.StreamIngresso;
+
+@RestController
+@RequestMapping("backend/stream")
+class StreamControlador {
+
+	private @Autowired StreamDifusor difusor;
+	private @Autowired StreamIngresso ingresso;
+
+	/**
+	 * Ingresso de uso único para abrir o stream pelo EventSource, que não envia o token.
+	 */
+	@RequestMapping(method = POST, path = "ingresso")
+	java.util.Map<String, String> emitirIngresso(@AuthenticationPrincipal Integer clienteId) {
+		return java.util.Map.of("ingresso", ingresso.emitir(clienteId));
+	}
+
+	/**
+	 * Eventos "mudancas" com o saldo, o ROP e o nível de alerta dos pares (estoque, produto)
+	 * alterados por movimentações, recebimentos de pedido e transferências. Autenticado pelo
+	 * cabeçalho Authorization ou pelo parâmetro {@code ingresso}.
+	 */
+	@RequestMapping(method = GET, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	SseEmitter conectar() {
+		return difusor.conectar();
+	}
+
+	@RequestMapping(method = GET, path = "conexoes")
+	java.util.Map<String, Object> obterConexoes() {
+		return java.util.Map.of("conexoes", difusor.contarConexoes());
+	}
+}
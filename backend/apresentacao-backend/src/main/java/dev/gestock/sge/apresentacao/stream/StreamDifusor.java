@@ -0,0 +1,158 @@
+package dev.gestock.sge.apresentacao.stream;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gestock.sge.infraestrutura.estoque.EstoqueMudanca;
+import dev.gestock.sge.infraestrutura.estoque.EstoqueMudancaCanal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Difunde as mudanças do {@link EstoqueMudancaCanal} para os painéis conectados.
+ *
+ * Todos os painéis compartilham o mesmo canal: cada lote é serializado uma vez e o mesmo texto
+ * segue para todas as conexões, por uma única thread, de modo que nem a movimentação nem o
+ * monitor de alertas esperam por clientes lentos. Conexões que falham no envio são descartadas.
+ * Um comentário a cada {@code sge.stream.pulso} segundos mantém abertas as conexões ociosas.
+ *
+ * Cada conexão ocupa uma de {@code sge.stream.conexoes} vagas, reservada antes de a conexão ser
+ * aceita e devolvida uma única vez quando ela é descartada. Sem painéis conectados o canal é
+ * informado de que o stream está inativo, e o monitor deixa de montar os lotes.
+ */
+@Component
+class StreamDifusor {
+	private static final Logger LOG = LoggerFactory.getLogger(StreamDifusor.class);
+
+	@Value("${sge.stream.habilitado:true}")
+	boolean habilitado;
+
+	@Value("${sge.stream.conexoes:500}")
+	int maximoConexoes;
+
+	@Value("${sge.stream.expiracao:1800}")
+	long expiracaoSegundos;
+
+	@Value("${sge.stream.pulso:25}")
+	long pulsoSegundos;
+
+	@Autowired
+	EstoqueMudancaCanal canal;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	private final List<SseEmitter> conexoes = new CopyOnWriteArrayList<>();
+	private final AtomicLong sequencia = new AtomicLong();
+	private Semaphore vagas;
+	private ScheduledExecutorService difusao;
+
+	@PostConstruct
+	void iniciar() {
+		if (!habilitado) {
+			return;
+		}
+		vagas = new Semaphore(maximoConexoes);
+		difusao = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+			var thread = new Thread(tarefa, "stream-difusao");
+			thread.setDaemon(true);
+			return thread;
+		});
+		difusao.scheduleWithFixedDelay(this::pulsar, pulsoSegundos, pulsoSegundos, TimeUnit.SECONDS);
+		canal.adicionar(mudancas -> difusao.execute(() -> difundir(mudancas)), () -> !conexoes.isEmpty());
+	}
+
+	@PreDestroy
+	void encerrar() {
+		if (difusao != null) {
+			difusao.shutdownNow();
+		}
+		for (var conexao : conexoes) {
+			conexao.complete();
+		}
+	}
+
+	SseEmitter conectar() {
+		if (!habilitado) {
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Stream desabilitado");
+		}
+		if (!vagas.tryAcquire()) {
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Limite de conexões do stream atingido");
+		}
+		var conexao = new SseEmitter(TimeUnit.SECONDS.toMillis(expiracaoSegundos));
+		conexao.onCompletion(() -> descartar(conexao));
+		conexao.onTimeout(conexao::complete);
+		conexao.onError(erro -> descartar(conexao));
+		conexoes.add(conexao);
+		try {
+			// O painel recarrega as listas ao receber este evento e aplica os lotes seguintes
+			conexao.send(SseEmitter.event().name("conectado").data(sequencia.get()));
+		} catch (IOException e) {
+			descartar(conexao);
+			conexao.completeWithError(e);
+		}
+		return conexao;
+	}
+
+	/**
+	 * Devolve a vaga apenas para quem de fato removeu a conexão, mesmo que o envio, o erro e o
+	 * encerramento a descartem ao mesmo tempo.
+	 */
+	private void descartar(SseEmitter conexao) {
+		if (conexoes.remove(conexao)) {
+			vagas.release();
+		}
+	}
+
+	int contarConexoes() {
+		return conexoes.size();
+	}
+
+	private void difundir(List<EstoqueMudanca> mudancas) {
+		if (conexoes.isEmpty()) {
+			return;
+		}
+		String dados;
+		try {
+			dados = objectMapper.writeValueAsString(mudancas);
+		} catch (JsonProcessingException e) {
+			LOG.error("Falha ao serializar {} mudanças para o stream", mudancas.size(), e);
+			return;
+		}
+		enviar(SseEmitter.event().id(Long.toString(sequencia.incrementAndGet())).name("mudancas").data(dados).build());
+	}
+
+	private void pulsar() {
+		if (!conexoes.isEmpty()) {
+			enviar(SseEmitter.event().comment("pulso").build());
+		}
+	}
+
+	private void enviar(Set<ResponseBodyEmitter.DataWithMediaType> evento) {
+		for (var conexao : conexoes) {
+			try {
+				conexao.send(evento);
+			} catch (IOException | IllegalStateException e) {
+				// Cliente desconectado ou conexão já encerrada
+				descartar(conexao);
+			}
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package dev.gestock.sge;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * Banco sge_teste no PostgreSQL do docker-compose, criado se não existir, para os testes que sobem
+ * a aplicação inteira. Use com {@code @EnabledIf("dev.gestock.sge.BancoTeste#disponivel")}.
+ */
+public final class BancoTeste {
+	private static final String SERVIDOR = "jdbc:postgresql://localhost:5434/";
+	private static final String BANCO = "sge_teste";
+	private static final String USUARIO = "sge";
+	private static final String SENHA = "sge";
+
+	private BancoTeste() {
+	}
+
+	public static boolean disponivel() {
+		try (var conexao = DriverManager.getConnection(SERVIDOR + "postgres", USUARIO, SENHA)) {
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	public static void configurar(DynamicPropertyRegistry propriedades) throws SQLException {
+		try (var conexao = DriverManager.getConnection(SERVIDOR + "postgres", USUARIO, SENHA);
+				var consulta = conexao.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+			consulta.setString(1, BANCO);
+			try (var resultado = consulta.executeQuery()) {
+				if (!resultado.next()) {
+					try (var comando = conexao.createStatement()) {
+						comando.execute("CREATE DATABASE " + BANCO);
+					}
+				}
+			}
+		}
+		propriedades.add("spring.datasource.url", () -> SERVIDOR + BANCO);
+		propriedades.add("spring.datasource.username", () -> USUARIO);
+		propriedades.add("spring.datasource.password", () -> SENHA);
+	}
+}
@@ -0,0 +1,171 @@
+package dev.gestock.sge.apresentacao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import dev.gestock.sge.BackendAplicacao;
+import dev.gestock.sge.BancoTeste;
+import dev.gestock.sge.aplicacao.cotacao.CotacaoServicoAplicacao;
+import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoServicoAplicacao;
+import dev.gestock.sge.aplicacao.pedido.PedidoServicoAplicacao;
+import dev.gestock.sge.aplicacao.reserva.ReservaServicoAplicacao;
+import dev.gestock.sge.aplicacao.transferencia.TransferenciaServicoAplicacao;
+import dev.gestock.sge.infraestrutura.medicao.OrcamentoConsultas;
+
+/**
+ * As listagens de resumo executam o mesmo número de comandos SQL com poucos e com muitos registros:
+ * um comando por linha aparece como diferença entre as duas medições. Roda contra o
+ * {@link BancoTeste}; ignorado quando o servidor não responde.
+ */
+@EnabledIf("dev.gestock.sge.BancoTeste#disponivel")
+@SpringBootTest(classes = BackendAplicacao.class, properties = { "sge.medicao.habilitado=true",
+	"sge.eventos.saida.habilitada=false", "sge.estoque.ocupacao.reconciliacao.intervalo=0", "sge.stream.habilitado=false" })
+class ResumoConsultasTest {
+	private static final int ORCAMENTO_LISTAGEM = 5;
+	private static final int POUCOS = 5;
+	private static final int MUITOS = 100;
+
+	@Autowired
+	CotacaoServicoAplicacao cotacoes;
+
+	@Autowired
+	PedidoServicoAplicacao pedidos;
+
+	@Autowired
+	ReservaServicoAplicacao reservas;
+
+	@Autowired
+	TransferenciaServicoAplicacao transferencias;
+
+	@Autowired
+	MovimentacaoServicoAplicacao movimentacoes;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void configurarBanco(DynamicPropertyRegistry propriedades) throws SQLException {
+		BancoTeste.configurar(propriedades);
+	}
+
+	@Test
+	void listagensNaoCrescemComOsDados() throws Exception {
+		var produtoId = acrescentar(POUCOS);
+		var listagens = listagens(produtoId);
+		var antes = medir(listagens);
+
+		acrescentar(MUITOS);
+		var depois = medir(listagens);
+
+		assertThat(depois).isEqualTo(antes);
+	}
+
+	private Map<String, OrcamentoConsultas.Acao> listagens(int produtoId) {
+		var listagens = new LinkedHashMap<String, OrcamentoConsultas.Acao>();
+		listagens.put("cotações por produto", () -> cotacoes.pesquisarPorProduto());
+		listagens.put("cotações de um produto", () -> cotacoes.pesquisarPorProduto(produtoId));
+		listagens.put("pedidos", () -> pedidos.pesquisarResumos());
+		listagens.put("reservas", () -> reservas.pesquisarResumos(""));
+		listagens.put("transferências", () -> transferencias.pesquisarResumos(""));
+		listagens.put("movimentações", () -> movimentacoes.pesquisarResumos());
+		return listagens;
+	}
+
+	/**
+	 * Comandos de cada listagem, dentro do orçamento. Uma chamada antes da medição deixa de fora o
+	 * que só acontece na primeira vez.
+	 */
+	private Map<String, Integer> medir(Map<String, OrcamentoConsultas.Acao> listagens) throws Exception {
+		var comandos = new LinkedHashMap<String, Integer>();
+		for (var listagem : listagens.entrySet()) {
+			listagem.getValue().executar();
+			var medicao = OrcamentoConsultas.noMaximo(ORCAMENTO_LISTAGEM, listagem.getValue());
+			comandos.put(listagem.getKey(), medicao.getComandos());
+		}
+		return comandos;
+	}
+
+	/**
+	 * Para cada item, um produto com cotações de três fornecedores, um pedido com uma reserva e uma
+	 * transferência com suas duas movimentações.
+	 *
+	 * @return Id do primeiro produto criado
+	 */
+	private int acrescentar(int quantidade) {
+		var sufixo = UUID.randomUUID().toString();
+		var fornecedores = new int[3];
+		for (int i = 0; i < fornecedores.length; i++) {
+			fornecedores[i] = jdbcTemplate.queryForObject("""
+					INSERT INTO FORNECEDOR (NOME, CNPJ, CONTATO, LEAD_TIME, CUSTO, STATUS)
+					VALUES (?, ?, 'contato@fornecedor.com', 5, 10.00, 'ATIVO') RETURNING ID
+					""", Integer.class, "Fornecedor " + i + " " + sufixo, i + "-" + sufixo);
+		}
+		var origemId = criarEstoque("Origem " + sufixo);
+		var destinoId = criarEstoque("Destino " + sufixo);
+
+		var primeiroProdutoId = 0;
+		for (int i = 0; i < quantidade; i++) {
+			var produtoId = jdbcTemplate.queryForObject("""
+					INSERT INTO PRODUTO (CODIGO, NOME, PESO, PERECIVEL, STATUS)
+					VALUES (?, ?, 100, 'NAO', 'ATIVO') RETURNING ID
+					""", Integer.class, "R-" + i + "-" + sufixo, "Produto " + i);
+			if (i == 0) {
+				primeiroProdutoId = produtoId;
+			}
+			for (var fornecedorId : fornecedores) {
+				jdbcTemplate.update("""
+						INSERT INTO COTACAO (PRODUTO_ID, FORNECEDOR_ID, PRECO, LEAD_TIME, VALIDADE, STATUS_APROVACAO)
+						VALUES (?, ?, 12.50, 5, 'ATIVA', 'APROVADA')
+						""", produtoId, fornecedorId);
+			}
+
+			var pedidoId = jdbcTemplate.queryForObject("""
+					INSERT INTO PEDIDO (FORNECEDOR_ID, ESTOQUE_ID, VALOR_TOTAL, DATA_PEDIDO, DATA_PREVISTA, STATUS)
+					VALUES (?, ?, 125.00, CURRENT_DATE, CURRENT_DATE + 5, 'CRIADO') RETURNING ID
+					""", Integer.class, fornecedores[i % fornecedores.length], destinoId);
+			jdbcTemplate.update(
+				"INSERT INTO PEDIDO_ITEM (PEDIDO_ID, PRODUTO_ID, QUANTIDADE, PRECO_UNITARIO) VALUES (?, ?, 10, 12.50)",
+				pedidoId, produtoId);
+			jdbcTemplate.update("""
+					INSERT INTO RESERVA (PEDIDO_ID, PRODUTO_ID, QUANTIDADE, DATA_HORA_RESERVA, STATUS)
+					VALUES (?, ?, 10, LOCALTIMESTAMP, 'ATIVA')
+					""", pedidoId, produtoId);
+
+			var correlacao = UUID.randomUUID().toString();
+			var saidaId = movimentacao(produtoId, origemId, "SAIDA", correlacao);
+			var entradaId = movimentacao(produtoId, destinoId, "ENTRADA", correlacao);
+			jdbcTemplate.update("""
+					INSERT INTO TRANSFERENCIA (PRODUTO_ID, QUANTIDADE, ESTOQUE_ORIGEM_ID, ESTOQUE_DESTINO_ID,
+					    DATA_HORA_TRANSFERENCIA, RESPONSAVEL, MOTIVO, MOVIMENTACAO_SAIDA_ID, MOVIMENTACAO_ENTRADA_ID)
+					VALUES (?, 10, ?, ?, LOCALTIMESTAMP, 'Teste', 'Reposição', ?, ?)
+					""", produtoId, origemId, destinoId, saidaId, entradaId);
+		}
+		return primeiroProdutoId;
+	}
+
+	private int movimentacao(int produtoId, int estoqueId, String tipo, String correlacao) {
+		return jdbcTemplate.queryForObject("""
+				INSERT INTO MOVIMENTACAO (DATA_HORA, PRODUTO_ID, ESTOQUE_ID, QUANTIDADE, TIPO, MOTIVO, RESPONSAVEL, CORRELACAO)
+				VALUES (LOCALTIMESTAMP, ?, ?, 10, ?, '[TRANSFERÊNCIA] Reposição', 'Teste', ?) RETURNING ID
+				""", Integer.class, produtoId, estoqueId, tipo, correlacao);
+	}
+
+	private int criarEstoque(String nome) {
+		return jdbcTemplate.queryForObject("""
+				INSERT INTO ESTOQUE (NOME, ENDERECO, CAPACIDADE, STATUS)
+				VALUES (?, ?, 100000, 'ATIVO') RETURNING ID
+				""", Integer.class, nome, "Rua " + nome);
+	}
+}
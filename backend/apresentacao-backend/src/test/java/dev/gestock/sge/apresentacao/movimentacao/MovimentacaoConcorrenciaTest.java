@@ -0,0 +1,144 @@
+package dev.gestock.sge.apresentacao.movimentacao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import dev.gestock.sge.BackendAplicacao;
+import dev.gestock.sge.BancoTeste;
+import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.movimentacao.Motivo;
+import dev.gestock.sge.dominio.movimentacao.Movimentacao;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoId;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoServico;
+import dev.gestock.sge.dominio.movimentacao.Responsavel;
+import dev.gestock.sge.dominio.movimentacao.TipoMovimentacao;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+import dev.gestock.sge.dominio.produto.Quantidade;
+
+/**
+ * Saídas simultâneas sobre um único par estoque-produto, sem entradas entre elas: a soma das saídas
+ * pedidas é o dobro do saldo, então metade tem de ser recusada. Roda contra o {@link BancoTeste};
+ * ignorado quando o servidor não responde.
+ */
+@EnabledIf("dev.gestock.sge.BancoTeste#disponivel")
+@SpringBootTest(classes = BackendAplicacao.class, properties = { "sge.eventos.saida.habilitada=false",
+	"sge.estoque.ocupacao.reconciliacao.intervalo=0", "sge.stream.habilitado=false" })
+class MovimentacaoConcorrenciaTest {
+	private static final int SALDO_INICIAL = 200;
+	private static final int QUANTIDADE = 5;
+	private static final int SAIDAS = 2 * SALDO_INICIAL / QUANTIDADE;
+	private static final int THREADS = 16;
+
+	@Autowired
+	MovimentacaoServico servico;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	private int produtoId;
+	private int estoqueId;
+
+	@DynamicPropertySource
+	static void configurarBanco(DynamicPropertyRegistry propriedades) throws SQLException {
+		BancoTeste.configurar(propriedades);
+	}
+
+	@BeforeEach
+	void preparar() {
+		var sufixo = UUID.randomUUID().toString();
+		produtoId = jdbcTemplate.queryForObject("""
+				INSERT INTO PRODUTO (CODIGO, NOME, PESO, PERECIVEL, STATUS)
+				VALUES (?, 'Produto concorrido', 100, 'NAO', 'ATIVO') RETURNING ID
+				""", Integer.class, "C-" + sufixo);
+		estoqueId = jdbcTemplate.queryForObject("""
+				INSERT INTO ESTOQUE (NOME, ENDERECO, CAPACIDADE, STATUS)
+				VALUES (?, ?, 100000, 'ATIVO') RETURNING ID
+				""", Integer.class, "Concorrido " + sufixo, "Rua " + sufixo);
+		jdbcTemplate.update("INSERT INTO ESTOQUE_PRODUTO (ESTOQUE_ID, PRODUTO_ID, QUANTIDADE) VALUES (?, ?, ?)",
+			estoqueId, produtoId, SALDO_INICIAL);
+		jdbcTemplate.update("INSERT INTO ESTOQUE_OCUPACAO (ESTOQUE_ID, FAIXA, QUANTIDADE) VALUES (?, ?, ?)",
+			estoqueId, produtoId % 16, SALDO_INICIAL);
+	}
+
+	@Test
+	void saidasSimultaneasNuncaPassamDoSaldo() throws Exception {
+		var aceitas = new AtomicInteger();
+		var recusadas = new AtomicInteger();
+		var menorSaldo = new AtomicInteger(SALDO_INICIAL);
+		var executando = new AtomicBoolean(true);
+		var largada = new CountDownLatch(1);
+
+		// Amostra o saldo enquanto as saídas disputam a linha
+		var amostragem = new Thread(() -> {
+			while (executando.get()) {
+				menorSaldo.accumulateAndGet(saldo(), Math::min);
+			}
+		});
+		amostragem.start();
+
+		var executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			var tarefas = new ArrayList<Future<?>>(SAIDAS);
+			for (int i = 0; i < SAIDAS; i++) {
+				tarefas.add(executor.submit(() -> {
+					largada.await();
+					try {
+						servico.registrar(saida());
+						aceitas.incrementAndGet();
+					} catch (IllegalArgumentException e) {
+						assertThat(e).hasMessageStartingWith("Quantidade insuficiente");
+						recusadas.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			largada.countDown();
+			for (var tarefa : tarefas) {
+				tarefa.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+			executando.set(false);
+			amostragem.join();
+		}
+
+		assertThat(aceitas.get() + recusadas.get()).isEqualTo(SAIDAS);
+		assertThat(aceitas.get() * QUANTIDADE).isEqualTo(SALDO_INICIAL);
+		assertThat(saldo()).isZero();
+		assertThat(menorSaldo.get()).isGreaterThanOrEqualTo(0);
+		assertThat(jdbcTemplate.queryForObject("""
+				SELECT COUNT(*) FROM MOVIMENTACAO
+				 WHERE ESTOQUE_ID = ? AND PRODUTO_ID = ? AND TIPO = 'SAIDA'
+				""", Integer.class, estoqueId, produtoId)).isEqualTo(aceitas.get());
+	}
+
+	private Movimentacao saida() {
+		return new Movimentacao(new MovimentacaoId(0), LocalDateTime.now(), new ProdutoId(produtoId),
+			new EstoqueId(estoqueId), new Quantidade(QUANTIDADE), TipoMovimentacao.SAIDA, new Motivo("Concorrência"),
+			new Responsavel("teste"));
+	}
+
+	private int saldo() {
+		return jdbcTemplate.queryForObject("SELECT QUANTIDADE FROM ESTOQUE_PRODUTO WHERE ESTOQUE_ID = ? AND PRODUTO_ID = ?",
+			Integer.class, estoqueId, produtoId);
+	}
+}
@@ -0,0 +1,128 @@
+package dev.gestock.sge.apresentacao.transferencia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import dev.gestock.sge.BackendAplicacao;
+import dev.gestock.sge.BancoTeste;
+import dev.gestock.sge.aplicacao.transferencia.TransferenciaResumo;
+import dev.gestock.sge.aplicacao.transferencia.TransferenciaServicoAplicacao;
+
+/**
+ * Registro de transferências com a fila de saída habilitada, contra o {@link BancoTeste}. Ignorado
+ * quando o servidor não responde.
+ */
+@EnabledIf("dev.gestock.sge.BancoTeste#disponivel")
+@SpringBootTest(classes = BackendAplicacao.class, properties = { "sge.eventos.saida.habilitada=true",
+	"sge.eventos.saida.intervalo=100", "sge.estoque.ocupacao.reconciliacao.intervalo=0", "sge.stream.habilitado=false" })
+class TransferenciaRegistroTest {
+	@Autowired
+	TransferenciaServicoAplicacao servico;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	private int produtoId;
+	private int origemId;
+	private int destinoId;
+
+	@DynamicPropertySource
+	static void configurarBanco(DynamicPropertyRegistry propriedades) throws SQLException {
+		BancoTeste.configurar(propriedades);
+	}
+
+	@BeforeEach
+	void preparar() {
+		var sufixo = UUID.randomUUID().toString();
+		produtoId = jdbcTemplate.queryForObject("""
+				INSERT INTO PRODUTO (CODIGO, NOME, PESO, PERECIVEL, STATUS)
+				VALUES (?, 'Produto transferido', 100, 'NAO', 'ATIVO') RETURNING ID
+				""", Integer.class, "T-" + sufixo);
+		origemId = criarEstoque("Origem " + sufixo);
+		destinoId = criarEstoque("Destino " + sufixo);
+		jdbcTemplate.update("INSERT INTO ESTOQUE_PRODUTO (ESTOQUE_ID, PRODUTO_ID, QUANTIDADE) VALUES (?, ?, 100)",
+			origemId, produtoId);
+		jdbcTemplate.update("INSERT INTO ESTOQUE_OCUPACAO (ESTOQUE_ID, FAIXA, QUANTIDADE) VALUES (?, ?, 100)",
+			origemId, produtoId % 16);
+	}
+
+	@Test
+	void devolveATransferenciaDoParRegistrado() {
+		var primeira = servico.registrar(produtoId, origemId, destinoId, 10, "Relay", "Reposição");
+		var segunda = servico.registrar(produtoId, origemId, destinoId, 7, "Relay", "Reposição");
+
+		verificarPar(primeira, 10);
+		verificarPar(segunda, 7);
+		assertThat(primeira.getId()).isNotEqualTo(segunda.getId());
+	}
+
+	@Test
+	void naoDuplicaATransferenciaQuandoORelayEntregaOEvento() throws InterruptedException {
+		var resumo = servico.registrar(produtoId, origemId, destinoId, 10, "Relay", "Reposição");
+		var entradaId = jdbcTemplate.queryForObject("SELECT MOVIMENTACAO_ENTRADA_ID FROM TRANSFERENCIA WHERE ID = ?",
+			Integer.class, resumo.getId());
+
+		// O evento da entrada foi para a fila de saída, e não direto para o observador
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM EVENTO_SAIDA WHERE TIPO = 'MOVIMENTACAO_CRIADA' AND AGREGADO_ID = ?", Integer.class,
+			entradaId)).isEqualTo(1);
+
+		var limite = System.nanoTime() + 10_000_000_000L;
+		while (jdbcTemplate.queryForObject("""
+				SELECT COUNT(*) FROM EVENTO_SAIDA
+				 WHERE TIPO = 'MOVIMENTACAO_CRIADA' AND AGREGADO_ID = ? AND PROCESSADO_EM IS NOT NULL
+				""", Integer.class, entradaId) == 0) {
+			assertThat(System.nanoTime()).as("evento entregue pelo relay").isLessThan(limite);
+			Thread.sleep(50);
+		}
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TRANSFERENCIA WHERE PRODUTO_ID = ?", Integer.class,
+			produtoId)).isEqualTo(1);
+	}
+
+	/**
+	 * A transferência devolvida liga exatamente a saída e a entrada registradas juntas.
+	 */
+	private void verificarPar(TransferenciaResumo resumo, int quantidade) {
+		assertThat(resumo).isNotNull();
+		assertThat(resumo.getProdutoId()).isEqualTo(produtoId);
+		assertThat(resumo.getEstoqueOrigemId()).isEqualTo(origemId);
+		assertThat(resumo.getEstoqueDestinoId()).isEqualTo(destinoId);
+		assertThat(resumo.getQuantidade()).isEqualTo(quantidade);
+		assertThat(resumo.getMotivo()).isEqualTo("[TRANSFERÊNCIA] Reposição");
+
+		var par = jdbcTemplate.queryForMap("""
+				SELECT s.TIPO AS TIPO_SAIDA, s.ESTOQUE_ID AS ESTOQUE_SAIDA, e.TIPO AS TIPO_ENTRADA,
+				       e.ESTOQUE_ID AS ESTOQUE_ENTRADA, s.CORRELACAO = e.CORRELACAO AS CORRELACIONADAS,
+				       e.QUANTIDADE AS QUANTIDADE
+				  FROM TRANSFERENCIA t
+				  JOIN MOVIMENTACAO s ON s.ID = t.MOVIMENTACAO_SAIDA_ID
+				  JOIN MOVIMENTACAO e ON e.ID = t.MOVIMENTACAO_ENTRADA_ID
+				 WHERE t.ID = ?
+				""", resumo.getId());
+		assertThat(par.get("TIPO_SAIDA")).isEqualTo("SAIDA");
+		assertThat(par.get("ESTOQUE_SAIDA")).isEqualTo(origemId);
+		assertThat(par.get("TIPO_ENTRADA")).isEqualTo("ENTRADA");
+		assertThat(par.get("ESTOQUE_ENTRADA")).isEqualTo(destinoId);
+		assertThat(par.get("CORRELACIONADAS")).isEqualTo(true);
+		assertThat(par.get("QUANTIDADE")).isEqualTo(quantidade);
+	}
+
+	private int criarEstoque(String nome) {
+		return jdbcTemplate.queryForObject("""
+				INSERT INTO ESTOQUE (NOME, ENDERECO, CAPACIDADE, STATUS)
+				VALUES (?, ?, 100000, 'ATIVO') RETURNING ID
+				""", Integer.class, nome, "Rua " + nome);
+	}
+}
@@ -0,0 +1,112 @@
+package dev.gestock.sge.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa os benchmarks e grava o resultado em JSON, um arquivo por commit, para que execuções
+ * de commits diferentes possam ser comparadas.
+ *
+ * Argumentos: a expressão regular dos benchmarks e, em seguida, opções de linha de comando do
+ * JMH. As propriedades de sistema sge.benchmark.* são repassadas às JVMs dos forks.
+ */
+public final class Benchmarks {
+	private static final String PREFIXO_PROPRIEDADES = "sge.benchmark.";
+
+	private Benchmarks() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		var filtro = args.length > 0 && !args[0].isBlank() ? args[0] : ".*";
+		var argumentos = new ArrayList<String>();
+		for (int i = 1; i < args.length; i++) {
+			for (var parte : args[i].trim().split("\\s+")) {
+				if (!parte.isEmpty()) {
+					argumentos.add(parte);
+				}
+			}
+		}
+		var linhaComando = new CommandLineOptions(argumentos.toArray(String[]::new));
+
+		var diretorio = Path.of(System.getProperty("jmh.diretorio", "target/jmh"));
+		Files.createDirectories(diretorio);
+		var resultado = diretorio.resolve(versao() + ".json");
+
+		var jvmArgs = new ArrayList<String>(propriedadesRepassadas());
+		if (linhaComando.getJvmArgsAppend().hasValue()) {
+			jvmArgs.addAll(linhaComando.getJvmArgsAppend().get());
+		}
+		var opcoes = new OptionsBuilder()
+			.parent(linhaComando)
+			.include(filtro)
+			.jvmArgsAppend(jvmArgs.toArray(String[]::new))
+			.resultFormat(ResultFormatType.JSON)
+			.result(resultado.toString())
+			.build();
+		new Runner(opcoes).run();
+		System.out.println("Resultado gravado em " + resultado.toAbsolutePath());
+
+		var anterior = System.getProperty("jmh.comparar", "");
+		if (!anterior.isBlank()) {
+			var tolerancia = Double.parseDouble(System.getProperty("jmh.tolerancia", "10"));
+			var regressoes = ComparadorResultados.comparar(Path.of(anterior), resultado, tolerancia);
+			if (!regressoes.isEmpty()) {
+				System.exit(1);
+			}
+		}
+	}
+
+	private static List<String> propriedadesRepassadas() {
+		var propriedades = new ArrayList<String>();
+		for (var nome : System.getProperties().stringPropertyNames()) {
+			if (nome.startsWith(PREFIXO_PROPRIEDADES)) {
+				propriedades.add("-D" + nome + "=" + System.getProperty(nome));
+			}
+		}
+		return propriedades;
+	}
+
+	/**
+	 * Commit atual ({@code jmh.versao} se informado), com o sufixo "-alterado" quando há mudanças
+	 * não commitadas.
+	 */
+	private static String versao() {
+		var versao = System.getProperty("jmh.versao", "");
+		if (!versao.isBlank()) {
+			return versao;
+		}
+		var commit = executarGit("rev-parse", "--short", "HEAD");
+		if (commit == null || commit.isBlank()) {
+			return "local";
+		}
+		var alteracoes = executarGit("status", "--porcelain", "--untracked-files=no");
+		return alteracoes != null && !alteracoes.isBlank() ? commit + "-alterado" : commit;
+	}
+
+	private static String executarGit(String... argumentos) {
+		var comando = new ArrayList<String>();
+		comando.add("git");
+		comando.addAll(List.of(argumentos));
+		try {
+			var processo = new ProcessBuilder(comando).redirectErrorStream(true).start();
+			var saida = new String(processo.getInputStream().readAllBytes()).trim();
+			if (!processo.waitFor(10, TimeUnit.SECONDS) || processo.exitValue() != 0) {
+				return null;
+			}
+			return saida;
+		} catch (IOException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package dev.gestock.sge.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara dois resultados JSON do JMH, benchmark a benchmark (com os mesmos parâmetros).
+ *
+ * No modo vazão (thrpt) maior é melhor; nos demais (avgt, sample, ss) menor é melhor. Uma
+ * piora acima da tolerância, em porcentagem, é uma regressão.
+ *
+ * <pre>
+ * java -cp ... dev.gestock.sge.benchmark.ComparadorResultados anterior.json atual.json [tolerancia]
+ * </pre>
+ */
+public final class ComparadorResultados {
+
+	private ComparadorResultados() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Uso: ComparadorResultados <anterior.json> <atual.json> [tolerancia]");
+			System.exit(2);
+		}
+		var tolerancia = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+		var regressoes = comparar(Path.of(args[0]), Path.of(args[1]), tolerancia);
+		System.exit(regressoes.isEmpty() ? 0 : 1);
+	}
+
+	/**
+	 * Imprime a comparação e devolve os benchmarks que pioraram além da tolerância.
+	 */
+	public static List<String> comparar(Path anterior, Path atual, double tolerancia) throws IOException {
+		var resultadosAnteriores = ler(anterior);
+		var resultadosAtuais = ler(atual);
+		var regressoes = new ArrayList<String>();
+
+		System.out.printf("%n%-90s %14s %14s %9s%n", "Benchmark", "Anterior", "Atual", "Variação");
+		for (var entrada : resultadosAtuais.entrySet()) {
+			var resultadoAtual = entrada.getValue();
+			var resultadoAnterior = resultadosAnteriores.get(entrada.getKey());
+			if (resultadoAnterior == null) {
+				System.out.printf("%-90s %14s %14.3f %9s%n", entrada.getKey(), "-", resultadoAtual.valor, "novo");
+				continue;
+			}
+			// Positivo quando piorou, nos dois sentidos de medida
+			var piora = (resultadoAtual.valor - resultadoAnterior.valor) / resultadoAnterior.valor * 100.0;
+			if (resultadoAtual.maiorEhMelhor()) {
+				piora = -piora;
+			}
+			var regressao = piora > tolerancia;
+			System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entrada.getKey(), resultadoAnterior.valor,
+				resultadoAtual.valor, piora, regressao ? "  REGRESSÃO" : "");
+			if (regressao) {
+				regressoes.add(entrada.getKey());
+			}
+		}
+		System.out.printf("%n%d benchmarks comparados, %d regressões acima de %.1f%% (%s)%n%n",
+			resultadosAtuais.size(), regressoes.size(), tolerancia, resultadosAtuais.values().stream()
+				.map(resultado -> resultado.unidade).distinct().toList());
+		return regressoes;
+	}
+
+	private static Map<String, Resultado> ler(Path arquivo) throws IOException {
+		var resultados = new LinkedHashMap<String, Resultado>();
+		for (var benchmark : new ObjectMapper().readTree(arquivo.toFile())) {
+			var metrica = benchmark.get("primaryMetric");
+			resultados.put(chave(benchmark), new Resultado(benchmark.get("mode").asText(),
+				metrica.get("score").asDouble(), metrica.get("scoreUnit").asText()));
+		}
+		return resultados;
+	}
+
+	private static String chave(JsonNode benchmark) {
+		var chave = new StringBuilder(benchmark.get("benchmark").asText());
+		var parametros = benchmark.get("params");
+		if (parametros != null) {
+			var ordenados = new TreeMap<String, String>();
+			parametros.fields().forEachRemaining(parametro -> ordenados.put(parametro.getKey(), parametro.getValue().asText()));
+			chave.append(ordenados);
+		}
+		return chave.append(" ").append(benchmark.get("mode").asText()).toString();
+	}
+
+	private static class Resultado {
+		final String modo;
+		final double valor;
+		final String unidade;
+
+		Resultado(String modo, double valor, String unidade) {
+			this.modo = modo;
+			this.valor = valor;
+			this.unidade = unidade;
+		}
+
+		boolean maiorEhMelhor() {
+			return "thrpt".equals(modo);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package dev.gestock.sge.benchmark.apresentacao;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import dev.gestock.sge.apresentacao.config.JwtAuthenticationFilter;
+import dev.gestock.sge.apresentacao.config.JwtConfig;
+import dev.gestock.sge.apresentacao.config.JwtTokenProvider;
+import dev.gestock.sge.apresentacao.config.JwtVerificador;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Custo do filtro de autenticação por requisição, com o cache de tokens verificados ligado e
+ * desligado ({@code jwt.cache.tamanho=0} verifica a assinatura em toda requisição), para um e
+ * para muitos clientes distintos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFiltroBenchmark {
+	private static final FilterChain CADEIA = (requisicao, resposta) -> {
+	};
+
+	@Param({ "10000", "0" })
+	String cache;
+
+	@Param({ "1", "1000" })
+	int clientes;
+
+	private AnnotationConfigApplicationContext contexto;
+	private JwtAuthenticationFilter filtro;
+	private String[] tokens;
+
+	@Setup
+	public void preparar() {
+		contexto = new AnnotationConfigApplicationContext();
+		contexto.getEnvironment().getPropertySources()
+			.addFirst(new MapPropertySource("benchmark", Map.of("jwt.cache.tamanho", cache)));
+		contexto.register(JwtConfig.class, JwtVerificador.class, JwtTokenProvider.class);
+		contexto.refresh();
+
+		filtro = new JwtAuthenticationFilter(contexto.getBean(JwtVerificador.class));
+		var provedor = contexto.getBean(JwtTokenProvider.class);
+		tokens = new String[clientes];
+		for (int i = 0; i < clientes; i++) {
+			tokens[i] = provedor.gerarToken(i + 1, "cliente" + (i + 1) + "@gestock.com.br");
+		}
+	}
+
+	@TearDown
+	public void encerrar() {
+		contexto.close();
+	}
+
+	/**
+	 * Requisições de uma thread, uma por token, reaproveitadas entre as chamadas.
+	 */
+	@State(Scope.Thread)
+	public static class Requisicoes {
+		MockHttpServletRequest[] requisicoes;
+		MockHttpServletResponse resposta = new MockHttpServletResponse();
+		int proxima;
+
+		@Setup
+		public void preparar(JwtFiltroBenchmark benchmark) {
+			requisicoes = new MockHttpServletRequest[benchmark.tokens.length];
+			for (int i = 0; i < requisicoes.length; i++) {
+				requisicoes[i] = new MockHttpServletRequest("GET", "/backend/produto/pesquisa");
+				requisicoes[i].addHeader("Authorization", "Bearer " + benchmark.tokens[i]);
+			}
+		}
+
+		MockHttpServletRequest proxima() {
+			var requisicao = requisicoes[proxima];
+			proxima = (proxima + 1) % requisicoes.length;
+			return requisicao;
+		}
+	}
+
+	@Benchmark
+	public Authentication filtrar(Requisicoes requisicoes) throws ServletException, IOException {
+		return autenticar(requisicoes);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Authentication filtrarConcorrente(Requisicoes requisicoes) throws ServletException, IOException {
+		return autenticar(requisicoes);
+	}
+
+	private Authentication autenticar(Requisicoes requisicoes) throws ServletException, IOException {
+		try {
+			filtro.doFilter(requisicoes.proxima(), requisicoes.resposta, CADEIA);
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package dev.gestock.sge.benchmark.dominio;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import dev.gestock.sge.dominio.alerta.AlertaServico;
+import dev.gestock.sge.dominio.alerta.PercentualAbaixoRop;
+
+/**
+ * Classificação do nível de alerta sobre percentuais distribuídos entre as quatro faixas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlertaServicoBenchmark {
+	private static final int PERCENTUAIS = 1024;
+
+	private final AlertaServico servico = new AlertaServico();
+	private PercentualAbaixoRop[] percentuais;
+
+	@Setup
+	public void preparar() {
+		var aleatorio = new Random(42);
+		percentuais = new PercentualAbaixoRop[PERCENTUAIS];
+		for (int i = 0; i < PERCENTUAIS; i++) {
+			percentuais[i] = new PercentualAbaixoRop(-aleatorio.nextDouble() * 100.0);
+		}
+	}
+
+	/**
+	 * Tempo por classificação, com {@value #PERCENTUAIS} classificações por chamada.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(PERCENTUAIS)
+	public void determinarNivel(Blackhole blackhole) {
+		for (var percentual : percentuais) {
+			blackhole.consume(servico.determinarNivel(percentual));
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package dev.gestock.sge.benchmark.dominio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import dev.gestock.sge.dominio.cotacao.Cotacao;
+import dev.gestock.sge.dominio.cotacao.CotacaoId;
+import dev.gestock.sge.dominio.cotacao.CotacaoSelecaoCompletaStrategy;
+import dev.gestock.sge.dominio.cotacao.CotacaoSelecaoPorLeadTimeStrategy;
+import dev.gestock.sge.dominio.cotacao.CotacaoSelecaoPorPrecoStrategy;
+import dev.gestock.sge.dominio.cotacao.CotacaoSelecaoStrategy;
+import dev.gestock.sge.dominio.cotacao.StatusAprovacao;
+import dev.gestock.sge.dominio.cotacao.Validade;
+import dev.gestock.sge.dominio.fornecedor.Custo;
+import dev.gestock.sge.dominio.fornecedor.FornecedorId;
+import dev.gestock.sge.dominio.fornecedor.LeadTime;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+
+/**
+ * Seleção da cotação mais vantajosa de um produto por cada estratégia.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CotacaoSelecaoBenchmark {
+
+	@Param({ "PRECO", "LEAD_TIME", "COMPLETA" })
+	String estrategia;
+
+	@Param({ "4", "50", "1000" })
+	int cotacoes;
+
+	private CotacaoSelecaoStrategy selecao;
+	private List<Cotacao> lista;
+
+	@Setup
+	public void preparar() {
+		selecao = switch (estrategia) {
+			case "PRECO" -> new CotacaoSelecaoPorPrecoStrategy();
+			case "LEAD_TIME" -> new CotacaoSelecaoPorLeadTimeStrategy();
+			default -> new CotacaoSelecaoCompletaStrategy();
+		};
+
+		var aleatorio = new Random(42);
+		lista = new ArrayList<>(cotacoes);
+		for (int i = 1; i <= cotacoes; i++) {
+			lista.add(new Cotacao(new CotacaoId(i), new ProdutoId(1), new FornecedorId(i),
+				new Custo(1 + aleatorio.nextInt(100_000) / 100.0), new LeadTime(1 + aleatorio.nextInt(30)),
+				aleatorio.nextInt(10) == 0 ? Validade.EXPIRADA : Validade.ATIVA,
+				aleatorio.nextInt(4) == 0 ? StatusAprovacao.PENDENTE : StatusAprovacao.APROVADA));
+		}
+	}
+
+	@Benchmark
+	public Cotacao selecionar() {
+		return selecao.selecionar(lista);
+	}
+}
@@ -0,0 +1,52 @@
+package dev.gestock.sge.benchmark.dominio;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.fornecedor.Custo;
+import dev.gestock.sge.dominio.fornecedor.FornecedorId;
+import dev.gestock.sge.dominio.pedido.DataPedido;
+import dev.gestock.sge.dominio.pedido.ItemPedido;
+import dev.gestock.sge.dominio.pedido.Pedido;
+import dev.gestock.sge.dominio.pedido.PedidoId;
+import dev.gestock.sge.dominio.pedido.StatusPedido;
+import dev.gestock.sge.dominio.pedido.ValorTotal;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+import dev.gestock.sge.dominio.produto.Quantidade;
+
+/**
+ * Cálculo do valor total de pedidos com poucas e com muitas linhas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoBenchmark {
+
+	@Param({ "1", "20", "200", "2000" })
+	int itens;
+
+	private Pedido pedido;
+
+	@Setup
+	public void preparar() {
+		var aleatorio = new Random(42);
+		var lista = new ArrayList<ItemPedido>(itens);
+		for (int i = 1; i <= itens; i++) {
+			lista.add(new ItemPedido(new ProdutoId(i), new Quantidade(1 + aleatorio.nextInt(500)),
+				new Custo(1 + aleatorio.nextInt(100_000) / 100.0)));
+		}
+		pedido = new Pedido(new PedidoId(1), new FornecedorId(1), new EstoqueId(1), lista,
+			new DataPedido(LocalDate.of(2025, 1, 1)), StatusPedido.CRIADO);
+	}
+
+	@Benchmark
+	public ValorTotal calcularValorTotal() {
+		return pedido.calcularValorTotal();
+	}
+}
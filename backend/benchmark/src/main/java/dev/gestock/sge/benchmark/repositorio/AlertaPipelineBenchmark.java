@@ -0,0 +1,79 @@
+package dev.gestock.sge.benchmark.repositorio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.*;
+import dev.gestock.sge.dominio.alerta.AlertaServicoObservable;
+import dev.gestock.sge.dominio.alerta.NivelAlerta;
+import dev.gestock.sge.dominio.alerta.PercentualAbaixoRop;
+import dev.gestock.sge.infraestrutura.alerta.AlertaDespachoAssincrono;
+
+/**
+ * Vazão de alertas pelo pipeline de notificação: deduplicação, fila limitada, thread de entrega e
+ * observador de email em lotes. Cada chamada troca o nível de um par, então todas geram um
+ * alerta; com a fila cheia a vazão medida é a da entrega. Ao final, imprime a fila e a espera
+ * registradas pelo despacho.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AlertaPipelineBenchmark {
+	private static final int PARES_POR_THREAD = 1000;
+
+	private final AtomicInteger threads = new AtomicInteger();
+	private AlertaServicoObservable observable;
+	private AlertaDespachoAssincrono despacho;
+
+	@Setup
+	public void preparar(Aplicacao aplicacao) {
+		observable = aplicacao.obter(AlertaServicoObservable.class);
+		despacho = aplicacao.obter(AlertaDespachoAssincrono.class);
+	}
+
+	@TearDown
+	public void relatar() {
+		var metricas = despacho.obterMetricas();
+		System.out.printf("%nAlertas entregues: %d em %d lotes, %d falhas; pendentes %d de %d; espera média %.1f ms, máxima %d ms%n",
+			metricas.getEntregues(), metricas.getLotes(), metricas.getFalhas(), metricas.getPendentes(),
+			metricas.getCapacidade(), metricas.getEsperaMediaMilissegundos(), metricas.getEsperaMaximaMilissegundos());
+	}
+
+	/**
+	 * Pares próprios de cada thread (o estoque é o número da thread), para que a deduplicação de
+	 * uma não descarte os alertas da outra.
+	 */
+	@State(Scope.Thread)
+	public static class Pares {
+		int estoqueId;
+		int chamadas;
+
+		@Setup
+		public void preparar(AlertaPipelineBenchmark benchmark) {
+			estoqueId = benchmark.threads.incrementAndGet();
+		}
+	}
+
+	@Benchmark
+	public NivelAlerta notificar(Pares pares) {
+		return notificarProximo(pares);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public NivelAlerta notificarQuatroThreads(Pares pares) {
+		return notificarProximo(pares);
+	}
+
+	private NivelAlerta notificarProximo(Pares pares) {
+		var chamada = pares.chamadas++;
+		var produtoId = 1 + chamada % PARES_POR_THREAD;
+		// A cada volta pelos pares o nível alterna entre CRITICO e ALTO
+		var percentual = (chamada / PARES_POR_THREAD) % 2 == 0 ? -70.0 : -45.0;
+		var rop = 100;
+		return observable.determinarNivelENotificar(new PercentualAbaixoRop(percentual), produtoId,
+			"Produto " + produtoId, pares.estoqueId, "Estoque " + pares.estoqueId, (int) (rop * (1 + percentual / 100)), rop);
+	}
+}
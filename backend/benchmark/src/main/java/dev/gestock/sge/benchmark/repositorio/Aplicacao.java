@@ -0,0 +1,66 @@
+package dev.gestock.sge.benchmark.repositorio;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import dev.gestock.sge.BackendAplicacao;
+import dev.gestock.sge.infraestrutura.medicao.OrcamentoConsultas;
+
+/**
+ * A aplicação inteira, iniciada uma vez por fork sobre o banco da {@link CargaSintetica}.
+ */
+@State(Scope.Benchmark)
+public class Aplicacao {
+	private CargaSintetica carga;
+	private ConfigurableApplicationContext contexto;
+
+	@Setup(Level.Trial)
+	public void iniciar() throws SQLException {
+		carga = CargaSintetica.configurada();
+		carga.preparar();
+		contexto = new SpringApplicationBuilder(BackendAplicacao.class)
+			.run(carga.argumentosAplicacao().toArray(String[]::new));
+	}
+
+	@TearDown(Level.Trial)
+	public void encerrar() {
+		if (contexto != null) {
+			contexto.close();
+		}
+	}
+
+	public <T> T obter(Class<T> tipo) {
+		return contexto.getBean(tipo);
+	}
+
+	public JdbcTemplate getJdbcTemplate() {
+		return contexto.getBean(JdbcTemplate.class);
+	}
+
+	public CargaSintetica getCarga() {
+		return carga;
+	}
+
+	/**
+	 * Executa a consulta e falha o benchmark se ela passar de {@code maximoComandos} comandos SQL.
+	 */
+	public static <T> T noMaximo(int maximoComandos, Supplier<T> consulta) {
+		var resultado = new AtomicReference<T>();
+		try {
+			OrcamentoConsultas.noMaximo(maximoComandos, () -> resultado.set(consulta.get()));
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return resultado.get();
+	}
+}
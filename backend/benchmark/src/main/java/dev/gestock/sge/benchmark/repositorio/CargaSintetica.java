@@ -0,0 +1,254 @@
+package dev.gestock.sge.benchmark.repositorio;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import dev.gestock.sge.gerador.BancoCarga;
+
+/**
+ * Massa de dados sintética dos benchmarks de repositório, gravada direto no PostgreSQL com
+ * {@code INSERT ... SELECT generate_series} e configurada por propriedades de sistema:
+ *
+ * <pre>
+ * sge.benchmark.url                    jdbc:postgresql://localhost:5434/sge_benchmark (criado se não existir)
+ * sge.benchmark.usuario / senha        sge / sge
+ * sge.benchmark.estoques               20
+ * sge.benchmark.produtos               5000
+ * sge.benchmark.fornecedores           200
+ * sge.benchmark.produto.fornecedores   3       fornecedores (e cotações) por produto
+ * sge.benchmark.estoque.produtos       500     produtos (e pontos de ressuprimento) por estoque
+ * sge.benchmark.anos                   2       período coberto pelas movimentações
+ * sge.benchmark.movimentacoes          1000000
+ * sge.benchmark.semente                42
+ * sge.benchmark.recarregar             false   grava de novo mesmo com a configuração inalterada
+ * </pre>
+ *
+ * O banco é criado, migrado e limpo pelo {@link BancoCarga} do gerador. A carga apaga os dados de
+ * negócio do banco e é refeita só quando a configuração muda: a configuração gravada fica na
+ * tabela BENCHMARK_CARGA. Os ids começam em 1 e são sequenciais,
+ * e cada estoque guarda os produtos ((estoque - 1) × produtos por estoque + j) mod produtos + 1.
+ */
+public class CargaSintetica {
+	private static final Logger LOG = LoggerFactory.getLogger(CargaSintetica.class);
+	private static final int LOTE_MOVIMENTACOES = 1_000_000;
+
+	private final String url;
+	private final String usuario;
+	private final String senha;
+	private final int estoques;
+	private final int produtos;
+	private final int fornecedores;
+	private final int fornecedoresPorProduto;
+	private final int produtosPorEstoque;
+	private final int anos;
+	private final long movimentacoes;
+	private final long semente;
+	private final boolean recarregar;
+
+	private CargaSintetica() {
+		url = System.getProperty("sge.benchmark.url",
+			"jdbc:postgresql://localhost:5434/sge_benchmark?reWriteBatchedInserts=true");
+		usuario = System.getProperty("sge.benchmark.usuario", "sge");
+		senha = System.getProperty("sge.benchmark.senha", "sge");
+		estoques = Integer.getInteger("sge.benchmark.estoques", 20);
+		produtos = Integer.getInteger("sge.benchmark.produtos", 5000);
+		fornecedores = Integer.getInteger("sge.benchmark.fornecedores", 200);
+		fornecedoresPorProduto = Math.max(1, Math.min(fornecedores, Integer.getInteger("sge.benchmark.produto.fornecedores", 3)));
+		produtosPorEstoque = Math.min(produtos, Integer.getInteger("sge.benchmark.estoque.produtos", 500));
+		anos = Integer.getInteger("sge.benchmark.anos", 2);
+		movimentacoes = Long.getLong("sge.benchmark.movimentacoes", 1_000_000L);
+		semente = Long.getLong("sge.benchmark.semente", 42L);
+		recarregar = Boolean.getBoolean("sge.benchmark.recarregar");
+	}
+
+	public static CargaSintetica configurada() {
+		return new CargaSintetica();
+	}
+
+	/**
+	 * Cria o banco se necessário, aplica as migrações e grava a massa de dados se ela ainda não
+	 * corresponde à configuração.
+	 */
+	public void preparar() throws SQLException {
+		BancoCarga.preparar(url, usuario, senha);
+		try (var conexao = DriverManager.getConnection(url, usuario, senha)) {
+			carregar(conexao);
+		}
+	}
+
+	/**
+	 * Propriedades que apontam a aplicação para o banco da carga, como argumentos de linha de comando.
+	 */
+	public List<String> argumentosAplicacao() {
+		var argumentos = new ArrayList<String>();
+		argumentos.add("--spring.datasource.url=" + url);
+		argumentos.add("--spring.datasource.username=" + usuario);
+		argumentos.add("--spring.datasource.password=" + senha);
+		argumentos.add("--server.port=0");
+		argumentos.add("--spring.main.banner-mode=off");
+		argumentos.add("--logging.level.root=WARN");
+		argumentos.add("--sge.estoque.ocupacao.reconciliacao.intervalo=0");
+		return argumentos;
+	}
+
+	private void carregar(Connection conexao) throws SQLException {
+		var descricao = descricao();
+		try (var comando = conexao.createStatement()) {
+			comando.execute("CREATE TABLE IF NOT EXISTS BENCHMARK_CARGA (DESCRICAO varchar not null, CARREGADA_EM timestamp not null)");
+			try (var resultado = comando.executeQuery("SELECT DESCRICAO FROM BENCHMARK_CARGA")) {
+				if (!recarregar && resultado.next() && descricao.equals(resultado.getString(1))) {
+					LOG.info("Carga sintética já gravada: {}", descricao);
+					return;
+				}
+			}
+		}
+
+		LOG.info("Gravando carga sintética: {}", descricao);
+		var inicio = System.nanoTime();
+		conexao.setAutoCommit(false);
+		try {
+			BancoCarga.limpar(conexao);
+			executar(conexao, "TRUNCATE BENCHMARK_CARGA");
+			// random() passa a produzir a mesma sequência a cada carga com a mesma semente
+			executar(conexao, "SELECT setseed(?)", Math.floorMod(semente, 2_000_001L) / 1_000_000.0 - 1.0);
+
+			executar(conexao, """
+					INSERT INTO FORNECEDOR (NOME, CNPJ, CONTATO, LEAD_TIME, CUSTO, STATUS)
+					SELECT 'Fornecedor ' || g, LPAD(g::text, 14, '0'), 'fornecedor' || g || '@gestock.com.br',
+					       1 + floor(random() * 30)::int, round((5 + random() * 495)::numeric, 2), 'ATIVO'
+					  FROM generate_series(1, ?) g
+					""", fornecedores);
+			executar(conexao, """
+					INSERT INTO PRODUTO (CODIGO, NOME, PESO, PERECIVEL, STATUS)
+					SELECT 'P' || LPAD(g::text, 8, '0'), 'Produto ' || g, 50 + floor(random() * 5000)::int,
+					       CASE WHEN random() < 0.3 THEN 'SIM' ELSE 'NAO' END, 'ATIVO'
+					  FROM generate_series(1, ?) g
+					""", produtos);
+			executar(conexao, """
+					INSERT INTO PRODUTO_FORNECEDOR (PRODUTO_ID, FORNECEDOR_ID)
+					SELECT p, (p - 1 + i * ?) % ? + 1
+					  FROM generate_series(1, ?) p, generate_series(0, ? - 1) i
+					""", fornecedores / fornecedoresPorProduto, fornecedores, produtos, fornecedoresPorProduto);
+			executar(conexao, """
+					INSERT INTO COTACAO (PRODUTO_ID, FORNECEDOR_ID, PRECO, LEAD_TIME, VALIDADE, STATUS_APROVACAO)
+					SELECT pf.PRODUTO_ID, pf.FORNECEDOR_ID, f.CUSTO, f.LEAD_TIME, 'ATIVA', 'APROVADA'
+					  FROM PRODUTO_FORNECEDOR pf
+					  JOIN FORNECEDOR f ON f.ID = pf.FORNECEDOR_ID
+					 ORDER BY pf.PRODUTO_ID, pf.FORNECEDOR_ID
+					""");
+			executar(conexao, """
+					INSERT INTO ESTOQUE (NOME, ENDERECO, CAPACIDADE, STATUS)
+					SELECT 'Estoque ' || g, 'Rua do Estoque, ' || g, 2000000000, 'ATIVO'
+					  FROM generate_series(1, ?) g
+					""", estoques);
+			executar(conexao, """
+					INSERT INTO ESTOQUE_PRODUTO (ESTOQUE_ID, PRODUTO_ID, QUANTIDADE)
+					SELECT e, ((e - 1) * ? + j) % ? + 1, floor(random() * 1000)::int
+					  FROM generate_series(1, ?) e, generate_series(0, ? - 1) j
+					""", produtosPorEstoque, produtos, estoques, produtosPorEstoque);
+			executar(conexao, """
+					INSERT INTO PONTO_RESSUPRIMENTO (ESTOQUE_ID, PRODUTO_ID, ESTOQUE_SEGURANCA)
+					SELECT ESTOQUE_ID, PRODUTO_ID, 5 + floor(random() * 46)::int
+					  FROM ESTOQUE_PRODUTO
+					 ORDER BY ESTOQUE_ID, PRODUTO_ID
+					""");
+
+			for (long gravadas = 0; gravadas < movimentacoes; gravadas += LOTE_MOVIMENTACOES) {
+				var lote = Math.min(LOTE_MOVIMENTACOES, movimentacoes - gravadas);
+				// OFFSET 0 impede que a subconsulta seja achatada e random() avaliado mais de uma vez por linha
+				executar(conexao, """
+						INSERT INTO MOVIMENTACAO (DATA_HORA, PRODUTO_ID, ESTOQUE_ID, QUANTIDADE, TIPO, MOTIVO, RESPONSAVEL)
+						SELECT DATA_HORA, ((ESTOQUE_ID - 1) * ? + J) % ? + 1, ESTOQUE_ID,
+						       CASE WHEN SAIDA THEN 1 + floor(random() * 20)::int ELSE 20 + floor(random() * 200)::int END,
+						       CASE WHEN SAIDA THEN 'SAIDA' ELSE 'ENTRADA' END,
+						       CASE WHEN SAIDA THEN 'Venda' ELSE 'Reposição' END,
+						       'carga-benchmark'
+						  FROM (SELECT LOCALTIMESTAMP(0) - random() * ? * INTERVAL '1 day' AS DATA_HORA,
+						               1 + floor(random() * ?)::int AS ESTOQUE_ID,
+						               floor(random() * ?)::int AS J,
+						               random() < 0.7 AS SAIDA
+						          FROM generate_series(1, ?) g
+						        OFFSET 0) m
+						""", produtosPorEstoque, produtos, anos * 365, estoques, produtosPorEstoque, lote);
+				LOG.info("{} de {} movimentações gravadas", gravadas + lote, movimentacoes);
+			}
+
+			// Tabelas mantidas junto com cada movimentação, reconstruídas como nas migrações
+			executar(conexao, """
+					INSERT INTO CONSUMO_DIARIO (ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA)
+					SELECT ESTOQUE_ID, PRODUTO_ID, CAST(DATA_HORA AS date),
+					       COALESCE(SUM(CASE WHEN TIPO = 'SAIDA' THEN QUANTIDADE END), 0),
+					       COALESCE(SUM(CASE WHEN TIPO = 'ENTRADA' THEN QUANTIDADE END), 0)
+					  FROM MOVIMENTACAO
+					 GROUP BY ESTOQUE_ID, PRODUTO_ID, CAST(DATA_HORA AS date)
+					""");
+			executar(conexao, """
+					INSERT INTO MOVIMENTACAO_CONTAGEM (DIA, FAIXA, ENTRADAS, SAIDAS)
+					SELECT CAST(DATA_HORA AS date), (ESTOQUE_ID::bigint * 31 + PRODUTO_ID) % 16,
+					       COUNT(*) FILTER (WHERE TIPO = 'ENTRADA'),
+					       COUNT(*) FILTER (WHERE TIPO = 'SAIDA')
+					  FROM MOVIMENTACAO
+					 GROUP BY 1, 2
+					""");
+			executar(conexao, """
+					INSERT INTO ESTOQUE_OCUPACAO (ESTOQUE_ID, FAIXA, QUANTIDADE)
+					SELECT ESTOQUE_ID, PRODUTO_ID % 16, SUM(QUANTIDADE)
+					  FROM ESTOQUE_PRODUTO
+					 GROUP BY 1, 2
+					""");
+			executar(conexao, "INSERT INTO BENCHMARK_CARGA (DESCRICAO, CARREGADA_EM) VALUES (?, LOCALTIMESTAMP)", descricao);
+			conexao.commit();
+		} catch (SQLException e) {
+			conexao.rollback();
+			throw e;
+		} finally {
+			conexao.setAutoCommit(true);
+		}
+		executar(conexao, "ANALYZE");
+		LOG.info("Carga sintética gravada em {} s", (System.nanoTime() - inicio) / 1_000_000_000L);
+	}
+
+	private static void executar(Connection conexao, String sql, Object... parametros) throws SQLException {
+		try (var comando = conexao.prepareStatement(sql)) {
+			for (int i = 0; i < parametros.length; i++) {
+				comando.setObject(i + 1, parametros[i]);
+			}
+			comando.execute();
+		}
+	}
+
+	private String descricao() {
+		return "estoques=" + estoques + ", produtos=" + produtos + ", fornecedores=" + fornecedores
+			+ ", fornecedoresPorProduto=" + fornecedoresPorProduto + ", produtosPorEstoque=" + produtosPorEstoque
+			+ ", anos=" + anos + ", movimentacoes=" + movimentacoes + ", semente=" + semente;
+	}
+
+	public int getEstoques() {
+		return estoques;
+	}
+
+	public int getProdutos() {
+		return produtos;
+	}
+
+	public int getFornecedores() {
+		return fornecedores;
+	}
+
+	public int getProdutosPorEstoque() {
+		return produtosPorEstoque;
+	}
+
+	/**
+	 * Um dos produtos guardados no estoque, como distribuídos pela carga.
+	 *
+	 * @param indice de 0 a produtos por estoque - 1
+	 */
+	public int produtoDoEstoque(int estoqueId, int indice) {
+		return (int) (((long) (estoqueId - 1) * produtosPorEstoque + indice) % produtos) + 1;
+	}
+}
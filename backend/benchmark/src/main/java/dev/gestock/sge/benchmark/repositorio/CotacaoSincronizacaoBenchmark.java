@@ -0,0 +1,46 @@
+package dev.gestock.sge.benchmark.repositorio;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import dev.gestock.sge.aplicacao.cotacao.CotacaoServicoAplicacao;
+import dev.gestock.sge.aplicacao.cotacao.CotacaoSincronizacao;
+
+/**
+ * Sincronização completa das cotações do catálogo. Antes de cada execução todos os fornecedores
+ * mudam de custo e um décimo das cotações é apagado, de modo que toda cotação é atualizada ou
+ * recriada.
+ *
+ * Para medir na escala do catálogo: -Dsge.benchmark.produtos=50000 -Dsge.benchmark.produto.fornecedores=4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CotacaoSincronizacaoBenchmark {
+	private Aplicacao aplicacao;
+	private CotacaoServicoAplicacao servico;
+
+	@Setup
+	public void preparar(Aplicacao aplicacao) {
+		this.aplicacao = aplicacao;
+		servico = aplicacao.obter(CotacaoServicoAplicacao.class);
+	}
+
+	@Setup(Level.Iteration)
+	public void divergir() {
+		var jdbcTemplate = aplicacao.getJdbcTemplate();
+		jdbcTemplate.update("UPDATE FORNECEDOR SET CUSTO = CUSTO + 0.01");
+		jdbcTemplate.update("DELETE FROM COTACAO WHERE ID % 10 = 0");
+	}
+
+	@Benchmark
+	public CotacaoSincronizacao sincronizar() {
+		var sincronizacao = servico.sincronizarCotacoes();
+		if (sincronizacao.getParesDivergentes() == 0) {
+			throw new IllegalStateException("Nenhuma cotação divergente para sincronizar");
+		}
+		return sincronizacao;
+	}
+}
@@ -0,0 +1,129 @@
+package dev.gestock.sge.benchmark.repositorio;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.*;
+import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.movimentacao.Motivo;
+import dev.gestock.sge.dominio.movimentacao.Movimentacao;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoId;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoLoteResultado;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoServico;
+import dev.gestock.sge.dominio.movimentacao.Responsavel;
+import dev.gestock.sge.dominio.movimentacao.TipoMovimentacao;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+import dev.gestock.sge.dominio.produto.Quantidade;
+
+/**
+ * Gravação de movimentações: uma por chamada, em lote, e concorrente sobre um único par
+ * estoque-produto. Resultados em movimentações por segundo.
+ *
+ * O par concorrido é o primeiro produto do estoque 1; cada chamada faz uma entrada e uma saída da
+ * mesma quantidade, e ao final o saldo tem de ser exatamente o inicial. As demais movimentações
+ * nunca caem nesse par. Como cada saída vem depois da sua entrada, o saldo nunca se esgota aqui;
+ * a disputa de saídas simultâneas pelo mesmo saldo é verificada no MovimentacaoConcorrenciaTest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MovimentacaoBenchmark {
+	private static final int LOTE = 500;
+
+	private MovimentacaoServico servico;
+	private Aplicacao aplicacao;
+	private CargaSintetica carga;
+	private int produtoConcorrido;
+	private int saldoInicial;
+	private final AtomicLong operacoesConcorridas = new AtomicLong();
+
+	@Setup
+	public void preparar(Aplicacao aplicacao) {
+		this.aplicacao = aplicacao;
+		servico = aplicacao.obter(MovimentacaoServico.class);
+		carga = aplicacao.getCarga();
+		produtoConcorrido = carga.produtoDoEstoque(1, 0);
+		saldoInicial = saldoConcorrido();
+	}
+
+	@TearDown
+	public void verificarSaldo() {
+		var saldo = saldoConcorrido();
+		if (operacoesConcorridas.get() > 0 && saldo != saldoInicial) {
+			throw new IllegalStateException("Saldo do par concorrido divergente: esperado " + saldoInicial
+				+ ", obtido " + saldo + " após " + operacoesConcorridas.get() + " operações");
+		}
+	}
+
+	private int saldoConcorrido() {
+		return aplicacao.getJdbcTemplate().queryForObject(
+			"SELECT QUANTIDADE FROM ESTOQUE_PRODUTO WHERE ESTOQUE_ID = 1 AND PRODUTO_ID = ?", Integer.class,
+			produtoConcorrido);
+	}
+
+	@State(Scope.Thread)
+	public static class Gerador {
+		private final SplittableRandom aleatorio = new SplittableRandom();
+
+		/**
+		 * Entrada em um par qualquer da carga, fora o par concorrido.
+		 */
+		Movimentacao entrada(CargaSintetica carga) {
+			var estoqueId = 1 + aleatorio.nextInt(carga.getEstoques());
+			var indice = 1 + aleatorio.nextInt(carga.getProdutosPorEstoque() - 1);
+			return movimentacao(estoqueId, carga.produtoDoEstoque(estoqueId, indice), 1 + aleatorio.nextInt(10),
+				TipoMovimentacao.ENTRADA);
+		}
+
+		int quantidade() {
+			return 1 + aleatorio.nextInt(10);
+		}
+	}
+
+	private static Movimentacao movimentacao(int estoqueId, int produtoId, int quantidade, TipoMovimentacao tipo) {
+		return new Movimentacao(new MovimentacaoId(0), LocalDateTime.now(), new ProdutoId(produtoId),
+			new EstoqueId(estoqueId), new Quantidade(quantidade), tipo, new Motivo("Benchmark"),
+			new Responsavel("benchmark"));
+	}
+
+	@Benchmark
+	public Movimentacao registrar(Gerador gerador) {
+		return servico.registrar(gerador.entrada(carga));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LOTE)
+	public List<MovimentacaoLoteResultado> registrarLote(Gerador gerador) {
+		var lote = new ArrayList<Movimentacao>(LOTE);
+		for (int i = 0; i < LOTE; i++) {
+			lote.add(gerador.entrada(carga));
+		}
+		return servico.registrarLote(lote);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(2)
+	public Movimentacao parConcorrido(Gerador gerador) {
+		return entradaESaida(gerador.quantidade());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(2)
+	@Threads(8)
+	public Movimentacao parConcorridoOitoThreads(Gerador gerador) {
+		return entradaESaida(gerador.quantidade());
+	}
+
+	private Movimentacao entradaESaida(int quantidade) {
+		servico.registrar(movimentacao(1, produtoConcorrido, quantidade, TipoMovimentacao.ENTRADA));
+		var saida = servico.registrar(movimentacao(1, produtoConcorrido, quantidade, TipoMovimentacao.SAIDA));
+		operacoesConcorridas.addAndGet(2);
+		return saida;
+	}
+}
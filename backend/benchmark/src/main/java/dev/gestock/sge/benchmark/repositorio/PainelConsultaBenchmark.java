@@ -0,0 +1,75 @@
+package dev.gestock.sge.benchmark.repositorio;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import dev.gestock.sge.aplicacao.alerta.AlertaResumo;
+import dev.gestock.sge.aplicacao.alerta.AlertaServicoAplicacao;
+import dev.gestock.sge.aplicacao.alerta.AlertaTotais;
+import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoServicoAplicacao;
+import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoTotais;
+import dev.gestock.sge.aplicacao.pontoresuprimento.PontoRessuprimentoResumo;
+import dev.gestock.sge.aplicacao.pontoresuprimento.PontoRessuprimentoServicoAplicacao;
+import dev.gestock.sge.aplicacao.pontoresuprimento.PontoRessuprimentoTotais;
+
+/**
+ * Consultas do painel sobre a carga sintética. Cada consulta tem um orçamento fixo de comandos
+ * SQL, o mesmo qualquer que seja o tamanho da carga: o benchmark falha se ele for excedido, e
+ * rodar com cargas maiores mostra que só o tempo cresce.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PainelConsultaBenchmark {
+	private static final int ORCAMENTO_LISTAGEM = 5;
+	private static final int ORCAMENTO_TOTAIS = 3;
+
+	private PontoRessuprimentoServicoAplicacao pontos;
+	private AlertaServicoAplicacao alertas;
+	private MovimentacaoServicoAplicacao movimentacoes;
+
+	@Setup
+	public void preparar(Aplicacao aplicacao) {
+		pontos = aplicacao.obter(PontoRessuprimentoServicoAplicacao.class);
+		alertas = aplicacao.obter(AlertaServicoAplicacao.class);
+		movimentacoes = aplicacao.obter(MovimentacaoServicoAplicacao.class);
+	}
+
+	@Benchmark
+	public List<PontoRessuprimentoResumo> pontosRessuprimento() {
+		return Aplicacao.noMaximo(ORCAMENTO_LISTAGEM, pontos::pesquisarResumos);
+	}
+
+	@Benchmark
+	public PontoRessuprimentoTotais pontosRessuprimentoTotais() {
+		return Aplicacao.noMaximo(ORCAMENTO_TOTAIS, pontos::obterTotais);
+	}
+
+	@Benchmark
+	public List<AlertaResumo> alertas() {
+		return Aplicacao.noMaximo(ORCAMENTO_LISTAGEM, alertas::pesquisarResumos);
+	}
+
+	@Benchmark
+	public AlertaTotais alertasTotais() {
+		return Aplicacao.noMaximo(ORCAMENTO_TOTAIS, alertas::obterTotais);
+	}
+
+	@Benchmark
+	public MovimentacaoTotais movimentacoesTotais() {
+		return Aplicacao.noMaximo(ORCAMENTO_TOTAIS, movimentacoes::obterTotais);
+	}
+
+	/**
+	 * Totais do último ano, que na carga padrão cobre metade das movimentações.
+	 */
+	@Benchmark
+	public MovimentacaoTotais movimentacoesTotaisPorPeriodo() {
+		var hoje = LocalDate.now();
+		return Aplicacao.noMaximo(ORCAMENTO_TOTAIS, () -> movimentacoes.obterTotaisPorPeriodo(hoje.minusYears(1), hoje));
+	}
+}
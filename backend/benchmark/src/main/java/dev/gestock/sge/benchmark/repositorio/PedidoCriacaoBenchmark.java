@@ -0,0 +1,57 @@
+package dev.gestock.sge.benchmark.repositorio;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.fornecedor.Custo;
+import dev.gestock.sge.dominio.fornecedor.FornecedorId;
+import dev.gestock.sge.dominio.pedido.DataPedido;
+import dev.gestock.sge.dominio.pedido.IPedidoServico;
+import dev.gestock.sge.dominio.pedido.ItemPedido;
+import dev.gestock.sge.dominio.pedido.Pedido;
+import dev.gestock.sge.dominio.pedido.PedidoId;
+import dev.gestock.sge.dominio.pedido.StatusPedido;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+import dev.gestock.sge.dominio.produto.Quantidade;
+
+/**
+ * Criação de pedidos com muitas linhas. Parte dos produtos tem cotação com o fornecedor do
+ * pedido e o restante cai na cotação mais vantajosa; os comandos SQL por pedido não podem crescer
+ * com o número de linhas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PedidoCriacaoBenchmark {
+	private static final int ORCAMENTO = 30;
+
+	@Param({ "10", "200" })
+	int itens;
+
+	private IPedidoServico servico;
+	private List<ItemPedido> linhas;
+
+	@Setup
+	public void preparar(Aplicacao aplicacao) {
+		servico = aplicacao.obter(IPedidoServico.class);
+		var produtos = Math.min(itens, aplicacao.getCarga().getProdutos());
+		linhas = new ArrayList<>(produtos);
+		for (int produtoId = 1; produtoId <= produtos; produtoId++) {
+			// O preço informado é substituído pelo da cotação
+			linhas.add(new ItemPedido(new ProdutoId(produtoId), new Quantidade(1 + produtoId % 10), new Custo(1)));
+		}
+	}
+
+	@Benchmark
+	public Pedido criar() {
+		var pedido = new Pedido(new PedidoId(0), new FornecedorId(1), new EstoqueId(1), linhas,
+			new DataPedido(LocalDate.now()), StatusPedido.CRIADO);
+		return Aplicacao.noMaximo(ORCAMENTO, () -> servico.criar(pedido));
+	}
+}
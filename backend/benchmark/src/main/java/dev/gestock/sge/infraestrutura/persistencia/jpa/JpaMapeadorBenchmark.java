@@ -0,0 +1,118 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import dev.gestock.sge.dominio.movimentacao.Movimentacao;
+import dev.gestock.sge.dominio.produto.Produto;
+
+/**
+ * Conversão de listas de entidades JPA em objetos de domínio: JpaMapeador (métodos escritos à mão)
+ * contra o caminho reflexivo do ModelMapper que ele substituiu.
+ *
+ * Fica no pacote das entidades porque elas e o mapeador não são públicos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class JpaMapeadorBenchmark {
+
+	@Param({ "10000" })
+	int entidades;
+
+	private final JpaMapeador mapeador = new JpaMapeador();
+	private final JpaMapeadorReflexivo mapeadorReflexivo = new JpaMapeadorReflexivo();
+
+	private List<ProdutoJpa> produtos;
+	private List<MovimentacaoJpa> movimentacoes;
+
+	@Setup
+	public void preparar() {
+		var aleatorio = new Random(42);
+		var fornecedores = new ArrayList<FornecedorJpa>();
+		for (int i = 1; i <= 50; i++) {
+			var fornecedor = new FornecedorJpa();
+			fornecedor.id = i;
+			fornecedores.add(fornecedor);
+		}
+		var estoques = new ArrayList<EstoqueJpa>();
+		for (int i = 1; i <= 20; i++) {
+			var estoque = new EstoqueJpa();
+			estoque.id = i;
+			estoques.add(estoque);
+		}
+
+		produtos = new ArrayList<>(entidades);
+		for (int i = 1; i <= entidades; i++) {
+			var produto = new ProdutoJpa();
+			produto.id = i;
+			produto.codigo = "P" + i;
+			produto.nome = "Produto " + i;
+			produto.peso = 1 + aleatorio.nextInt(5000);
+			produto.perecivel = aleatorio.nextBoolean() ? "SIM" : "NAO";
+			produto.status = "ATIVO";
+			produto.fornecedores = new ArrayList<>(3);
+			for (int j = 0; j < 3; j++) {
+				produto.fornecedores.add(fornecedores.get((i + j * 17) % fornecedores.size()));
+			}
+			produtos.add(produto);
+		}
+
+		movimentacoes = new ArrayList<>(entidades);
+		var agora = LocalDateTime.of(2025, 1, 1, 0, 0);
+		for (int i = 1; i <= entidades; i++) {
+			var movimentacao = new MovimentacaoJpa();
+			movimentacao.id = i;
+			movimentacao.dataHora = agora.minusMinutes(i);
+			movimentacao.produto = produtos.get(aleatorio.nextInt(produtos.size()));
+			movimentacao.estoque = estoques.get(aleatorio.nextInt(estoques.size()));
+			movimentacao.quantidade = 1 + aleatorio.nextInt(100);
+			movimentacao.tipo = aleatorio.nextBoolean() ? "ENTRADA" : "SAIDA";
+			movimentacao.motivo = "Reposição";
+			movimentacao.responsavel = "benchmark";
+			movimentacoes.add(movimentacao);
+		}
+	}
+
+	@Benchmark
+	public List<Produto> produtosManual() {
+		var resultado = new ArrayList<Produto>(produtos.size());
+		for (var produto : produtos) {
+			resultado.add(mapeador.mapear(produto));
+		}
+		return resultado;
+	}
+
+	@Benchmark
+	public List<Produto> produtosModelMapper() {
+		var resultado = new ArrayList<Produto>(produtos.size());
+		for (var produto : produtos) {
+			resultado.add(mapeadorReflexivo.map(produto, Produto.class));
+		}
+		return resultado;
+	}
+
+	@Benchmark
+	public List<Movimentacao> movimentacoesManual() {
+		var resultado = new ArrayList<Movimentacao>(movimentacoes.size());
+		for (var movimentacao : movimentacoes) {
+			resultado.add(mapeador.mapear(movimentacao));
+		}
+		return resultado;
+	}
+
+	@Benchmark
+	public List<Movimentacao> movimentacoesModelMapper() {
+		var resultado = new ArrayList<Movimentacao>(movimentacoes.size());
+		for (var movimentacao : movimentacoes) {
+			resultado.add(mapeadorReflexivo.map(movimentacao, Movimentacao.class));
+		}
+		return resultado;
+	}
+}
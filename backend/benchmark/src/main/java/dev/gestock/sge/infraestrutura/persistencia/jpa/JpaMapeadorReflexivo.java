@@ -0,0 +1,178 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.util.List;
+import org.modelmapper.AbstractConverter;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.modelmapper.config.Configuration.AccessLevel;
+import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.fornecedor.FornecedorId;
+import dev.gestock.sge.dominio.fornecedor.Status;
+import dev.gestock.sge.dominio.movimentacao.Motivo;
+import dev.gestock.sge.dominio.movimentacao.Movimentacao;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoId;
+import dev.gestock.sge.dominio.movimentacao.Responsavel;
+import dev.gestock.sge.dominio.movimentacao.TipoMovimentacao;
+import dev.gestock.sge.dominio.produto.Codigo;
+import dev.gestock.sge.dominio.produto.Perecivel;
+import dev.gestock.sge.dominio.produto.Peso;
+import dev.gestock.sge.dominio.produto.Produto;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+import dev.gestock.sge.dominio.produto.Quantidade;
+
+/**
+ * Referência para o {@link JpaMapeadorBenchmark}: os conversores de Produto e Movimentacao como
+ * eram no JpaMapeador baseado em ModelMapper, em que cada campo passa pela busca de conversor.
+ */
+class JpaMapeadorReflexivo extends ModelMapper {
+
+	JpaMapeadorReflexivo() {
+		var configuracao = getConfiguration();
+		configuracao.setFieldMatchingEnabled(true);
+		configuracao.setFieldAccessLevel(AccessLevel.PRIVATE);
+
+		addConverter(new AbstractConverter<ProdutoJpa, Produto>() {
+			@Override
+			protected Produto convert(ProdutoJpa source) {
+				if (source == null) {
+					return null;
+				}
+				var id = map(source.id, ProdutoId.class);
+				var codigo = map(source.codigo, Codigo.class);
+				var peso = map(source.peso, Peso.class);
+				var perecivel = map(source.perecivel, Perecivel.class);
+				var status = map(source.status, Status.class);
+				List<FornecedorId> fornecedores = map(source.fornecedores, new TypeToken<List<FornecedorId>>() {}.getType());
+				return new Produto(id, codigo, source.nome, peso, perecivel, status, fornecedores);
+			}
+		});
+
+		addConverter(new AbstractConverter<MovimentacaoJpa, Movimentacao>() {
+			@Override
+			protected Movimentacao convert(MovimentacaoJpa source) {
+				if (source == null) {
+					return null;
+				}
+				var id = map(source.id, MovimentacaoId.class);
+				var produtoId = map(source.produto.id, ProdutoId.class);
+				var estoqueId = map(source.estoque.id, EstoqueId.class);
+				var quantidade = map(source.quantidade, Quantidade.class);
+				var tipo = map(source.tipo, TipoMovimentacao.class);
+				var motivo = map(source.motivo, Motivo.class);
+				var responsavel = map(source.responsavel, Responsavel.class);
+				return new Movimentacao(id, source.dataHora, produtoId, estoqueId, quantidade, tipo, motivo, responsavel);
+			}
+		});
+
+		addConverter(new AbstractConverter<Integer, ProdutoId>() {
+			@Override
+			protected ProdutoId convert(Integer source) {
+				return new ProdutoId(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<Integer, EstoqueId>() {
+			@Override
+			protected EstoqueId convert(Integer source) {
+				return new EstoqueId(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<Integer, MovimentacaoId>() {
+			@Override
+			protected MovimentacaoId convert(Integer source) {
+				return new MovimentacaoId(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<FornecedorJpa, FornecedorId>() {
+			@Override
+			protected FornecedorId convert(FornecedorJpa source) {
+				if (source == null) {
+					return null;
+				}
+				return new FornecedorId(source.id);
+			}
+		});
+
+		addConverter(new AbstractConverter<String, Codigo>() {
+			@Override
+			protected Codigo convert(String source) {
+				if (source == null) {
+					return null;
+				}
+				return new Codigo(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<Integer, Peso>() {
+			@Override
+			protected Peso convert(Integer source) {
+				if (source == null) {
+					return null;
+				}
+				return new Peso(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<Integer, Quantidade>() {
+			@Override
+			protected Quantidade convert(Integer source) {
+				if (source == null) {
+					return null;
+				}
+				return new Quantidade(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<String, Perecivel>() {
+			@Override
+			protected Perecivel convert(String source) {
+				if (source == null) {
+					return null;
+				}
+				return Perecivel.valueOf(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<String, Status>() {
+			@Override
+			protected Status convert(String source) {
+				if (source == null) {
+					return null;
+				}
+				return Status.valueOf(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<String, TipoMovimentacao>() {
+			@Override
+			protected TipoMovimentacao convert(String source) {
+				if (source == null) {
+					return null;
+				}
+				return TipoMovimentacao.valueOf(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<String, Motivo>() {
+			@Override
+			protected Motivo convert(String source) {
+				if (source == null) {
+					return null;
+				}
+				return new Motivo(source);
+			}
+		});
+
+		addConverter(new AbstractConverter<String, Responsavel>() {
+			@Override
+			protected Responsavel convert(String source) {
+				if (source == null) {
+					return null;
+				}
+				return new Responsavel(source);
+			}
+		});
+	}
+}
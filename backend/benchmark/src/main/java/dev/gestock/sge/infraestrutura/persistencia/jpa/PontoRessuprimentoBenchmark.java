@@ -0,0 +1,71 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.fornecedor.LeadTime;
+import dev.gestock.sge.dominio.pontoresuprimento.ConsumoMedioDiario;
+import dev.gestock.sge.dominio.pontoresuprimento.EstoqueSeguranca;
+import dev.gestock.sge.dominio.pontoresuprimento.PontoRessuprimento;
+import dev.gestock.sge.dominio.pontoresuprimento.PontoRessuprimentoId;
+import dev.gestock.sge.dominio.pontoresuprimento.SaldoAtual;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+
+/**
+ * Fórmula do ROP e status por ponto: pelo agregado de domínio, com objetos de valor, e pela
+ * calculadora em lote, sobre primitivos, como nas listagens.
+ *
+ * Fica no pacote da calculadora porque ela não é pública.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PontoRessuprimentoBenchmark {
+	private static final int PONTOS = 1024;
+
+	private PontoRessuprimento[] pontos;
+	private double[] consumos;
+	private int[] leadTimes;
+	private int[] saldos;
+
+	@Setup
+	public void preparar() {
+		var aleatorio = new Random(42);
+		pontos = new PontoRessuprimento[PONTOS];
+		consumos = new double[PONTOS];
+		leadTimes = new int[PONTOS];
+		saldos = new int[PONTOS];
+		for (int i = 0; i < PONTOS; i++) {
+			pontos[i] = new PontoRessuprimento(new PontoRessuprimentoId(i + 1), new EstoqueId(1 + i % 20),
+				new ProdutoId(i + 1), new EstoqueSeguranca(aleatorio.nextInt(50)));
+			consumos[i] = aleatorio.nextDouble() * 40.0;
+			leadTimes[i] = 1 + aleatorio.nextInt(30);
+			saldos[i] = aleatorio.nextInt(1000);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(PONTOS)
+	public void dominio(Blackhole blackhole) {
+		for (int i = 0; i < PONTOS; i++) {
+			var ponto = pontos[i];
+			var rop = ponto.calcularRop(new ConsumoMedioDiario(consumos[i]), new LeadTime(leadTimes[i]));
+			blackhole.consume(ponto.determinarStatus(new SaldoAtual(saldos[i]), rop));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(PONTOS)
+	public void lote(Blackhole blackhole) {
+		for (int i = 0; i < PONTOS; i++) {
+			blackhole.consume(PontoRessuprimentoCalculadoraLote.criarResumo(i + 1, 1 + i % 20, "Estoque", i + 1,
+				"Produto", consumos[i], consumos[i] * 2, leadTimes[i], leadTimes[i] + 5,
+				pontos[i].getEstoqueSeguranca().getValor(), saldos[i]));
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package dev.gestock.sge.dominio.alerta;
+
+/**
+ * Envio das mensagens de alerta por email.
+ * 
+ * Funcionalidade: Emitir Alertas de Estoque Baixo (RODRIGO)
+ */
+public interface AlertaCorreio {
+	void enviar(String assunto, String mensagem);
+}
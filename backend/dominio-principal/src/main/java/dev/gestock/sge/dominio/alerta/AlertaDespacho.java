@@ -0,0 +1,31 @@
+package dev.gestock.sge.dominio.alerta;
+
+import java.util.List;
+
+/**
+ * Define como os alertas chegam aos observadores: na thread de quem gerou o alerta ou
+ * por uma fila, em lotes.
+ * 
+ * Pattern: Strategy
+ * Funcionalidade: Emitir Alertas de Estoque Baixo (RODRIGO)
+ */
+public interface AlertaDespacho {
+	/**
+	 * Entrega o alerta aos observadores na própria thread; a falha de um é registrada no log, com a
+	 * pilha, e não impede os demais. O domínio não depende de SLF4J: o {@link System.Logger} chega
+	 * ao mesmo log da aplicação pela ponte do java.util.logging.
+	 */
+	AlertaDespacho SINCRONO = (alertaInfo, observadores) -> {
+		for (AlertaObserver observador : observadores) {
+			try {
+				observador.notificarAlertaGerado(alertaInfo);
+			} catch (RuntimeException e) {
+				System.getLogger(AlertaDespacho.class.getName()).log(System.Logger.Level.ERROR,
+						"Falha do observador " + observador.getClass().getName() + " ao tratar o alerta do produto "
+								+ alertaInfo.getProdutoId() + " no estoque " + alertaInfo.getEstoqueId(), e);
+			}
+		}
+	};
+
+	void despachar(AlertaInfo alertaInfo, List<AlertaObserver> observadores);
+}
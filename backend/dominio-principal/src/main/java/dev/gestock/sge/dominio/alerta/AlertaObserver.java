@@ -1,5 +1,7 @@
 package dev.gestock.sge.dominio.alerta;
 
+import java.util.List;
+
 /**
  * Interface para observadores de alertas.
  * 
@@ -13,5 +15,17 @@ public interface AlertaObserver {
 	 * @param alertaInfo Informações do alerta gerado
 	 */
 	void notificarAlertaGerado(AlertaInfo alertaInfo);
+
+	/**
+	 * Notifica o observador de vários alertas de uma vez, como na entrega em lote.
+	 * Por padrão repassa um a um; observadores que agrupam os alertas sobrescrevem este método.
+	 * 
+	 * @param alertas Alertas na ordem em que foram gerados
+	 */
+	default void notificarAlertasGerados(List<AlertaInfo> alertas) {
+		for (AlertaInfo alertaInfo : alertas) {
+			notificarAlertaGerado(alertaInfo);
+		}
+	}
 }
 
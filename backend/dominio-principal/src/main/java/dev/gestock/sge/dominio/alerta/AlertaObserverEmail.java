@@ -1,38 +1,82 @@
 package dev.gestock.sge.dominio.alerta;
 
+import static org.apache.commons.lang3.Validate.*;
+import java.util.List;
+
 /**
  * Observador concreto que envia notificações por email quando alertas críticos são gerados.
  * 
+ * Na entrega em lote envia um único email com todos os alertas críticos do lote.
+ * 
  * Pattern: Observer
  * Funcionalidade: Emitir Alertas de Estoque Baixo (RODRIGO)
  */
 public class AlertaObserverEmail implements AlertaObserver {
+	private final AlertaCorreio correio;
+
+	public AlertaObserverEmail(AlertaCorreio correio) {
+		notNull(correio, "O correio não pode ser nulo");
+		this.correio = correio;
+	}
 
 	@Override
 	public void notificarAlertaGerado(AlertaInfo alertaInfo) {
+		notificarAlertasGerados(List.of(alertaInfo));
+	}
+
+	@Override
+	public void notificarAlertasGerados(List<AlertaInfo> alertas) {
 		// Enviar email apenas para alertas críticos
-		if (alertaInfo.getNivel() == NivelAlerta.CRITICO) {
-			String assunto = "ALERTA CRÍTICO: Estoque Baixo - " + alertaInfo.getProdutoNome();
-			String mensagem = String.format(
-				"Produto: %s (ID: %d)\n" +
-				"Estoque: %s (ID: %d)\n" +
-				"Quantidade Atual: %d\n" +
-				"ROP: %d\n" +
-				"Percentual Abaixo do ROP: %.2f%%\n" +
-				"Nível: %s",
-				alertaInfo.getProdutoNome(), alertaInfo.getProdutoId(),
-				alertaInfo.getEstoqueNome(), alertaInfo.getEstoqueId(),
-				alertaInfo.getQuantidadeAtual(),
-				alertaInfo.getRop(),
-				alertaInfo.getPercentualAbaixoRop(),
-				alertaInfo.getNivel()
-			);
-			
-			// Em produção, usar um serviço de email real
-			System.out.println("[EMAIL-ALERTA] Enviando email:");
-			System.out.println("Assunto: " + assunto);
-			System.out.println("Mensagem:\n" + mensagem);
+		var mensagem = new StringBuilder(256);
+		AlertaInfo primeiro = null;
+		int criticos = 0;
+		for (AlertaInfo alertaInfo : alertas) {
+			if (alertaInfo.getNivel() != NivelAlerta.CRITICO) {
+				continue;
+			}
+			if (criticos++ > 0) {
+				mensagem.append("\n\n");
+			} else {
+				primeiro = alertaInfo;
+			}
+			escrever(mensagem, alertaInfo);
+		}
+		if (criticos == 0) {
+			return;
+		}
+
+		String assunto = criticos == 1
+				? "ALERTA CRÍTICO: Estoque Baixo - " + primeiro.getProdutoNome()
+				: "ALERTA CRÍTICO: Estoque Baixo - " + criticos + " produtos";
+		correio.enviar(assunto, mensagem.toString());
+	}
+
+	private static void escrever(StringBuilder mensagem, AlertaInfo alertaInfo) {
+		mensagem.append("Produto: ").append(alertaInfo.getProdutoNome())
+				.append(" (ID: ").append(alertaInfo.getProdutoId()).append(")\n")
+				.append("Estoque: ").append(alertaInfo.getEstoqueNome())
+				.append(" (ID: ").append(alertaInfo.getEstoqueId()).append(")\n")
+				.append("Quantidade Atual: ").append(alertaInfo.getQuantidadeAtual()).append('\n')
+				.append("ROP: ").append(alertaInfo.getRop()).append('\n')
+				.append("Percentual Abaixo do ROP: ");
+		escreverPercentual(mensagem, alertaInfo.getPercentualAbaixoRop());
+		mensagem.append('\n').append("Nível: ").append(alertaInfo.getNivel());
+	}
+
+	/**
+	 * Duas casas decimais, arredondadas, sem passar por String.format.
+	 */
+	private static void escreverPercentual(StringBuilder mensagem, double percentual) {
+		long centesimos = Math.round(Math.abs(percentual) * 100);
+		if (percentual < 0 && centesimos != 0) {
+			mensagem.append('-');
+		}
+		long resto = centesimos % 100;
+		mensagem.append(centesimos / 100).append('.');
+		if (resto < 10) {
+			mensagem.append('0');
 		}
+		mensagem.append(resto).append('%');
 	}
 }
 
@@ -1,23 +1,37 @@
 package dev.gestock.sge.dominio.alerta;
 
 import static org.apache.commons.lang3.Validate.*;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Versão observável do AlertaServico que notifica observadores quando alertas são gerados.
  * 
+ * Cada par (estoque, produto) é notificado apenas quando entra em alerta ou muda de nível;
+ * reavaliar um par que continua no mesmo nível não gera nova notificação. A entrega aos
+ * observadores fica a cargo do {@link AlertaDespacho}.
+ * 
  * Pattern: Observer
  * Funcionalidade: Emitir Alertas de Estoque Baixo (RODRIGO)
  */
 public class AlertaServicoObservable {
 	private final AlertaServico servico;
+	private final AlertaDespacho despacho;
 	private final List<AlertaObserver> observadores;
+	private final Map<Long, NivelAlerta> ultimosNiveis = new ConcurrentHashMap<>();
 
 	public AlertaServicoObservable(AlertaServico servico) {
+		this(servico, AlertaDespacho.SINCRONO);
+	}
+
+	public AlertaServicoObservable(AlertaServico servico, AlertaDespacho despacho) {
 		notNull(servico, "O serviço não pode ser nulo");
+		notNull(despacho, "O despacho não pode ser nulo");
 		this.servico = servico;
-		this.observadores = new ArrayList<>();
+		this.despacho = despacho;
+		this.observadores = new CopyOnWriteArrayList<>();
 	}
 
 	/**
@@ -43,28 +57,31 @@ public class AlertaServicoObservable {
 		
 		NivelAlerta nivel = servico.determinarNivel(percentual);
 		
-		// Se um alerta foi gerado, notificar os observadores
-		if (nivel != null) {
+		long chave = chave(estoqueId, produtoId);
+		if (nivel == null) {
+			ultimosNiveis.remove(chave);
+			return null;
+		}
+
+		// Notificar apenas se o par entrou em alerta ou mudou de nível
+		if (ultimosNiveis.put(chave, nivel) != nivel) {
 			AlertaInfo alertaInfo = new AlertaInfo(produtoId, produtoNome, estoqueId, estoqueNome,
 					quantidadeAtual, rop, percentual.getValor(), nivel);
-			notificarObservadores(alertaInfo);
+			despacho.despachar(alertaInfo, observadores);
 		}
 		
 		return nivel;
 	}
 
 	/**
-	 * Notifica todos os observadores sobre um alerta gerado.
+	 * Esquece o último nível notificado do par, como quando o ponto de ressuprimento deixa de existir.
 	 */
-	private void notificarObservadores(AlertaInfo alertaInfo) {
-		for (AlertaObserver observador : observadores) {
-			try {
-				observador.notificarAlertaGerado(alertaInfo);
-			} catch (Exception e) {
-				// Log do erro sem interromper a notificação dos outros observadores
-				System.err.println("Erro ao notificar observador: " + e.getMessage());
-			}
-		}
+	public void descartar(int produtoId, int estoqueId) {
+		ultimosNiveis.remove(chave(estoqueId, produtoId));
+	}
+
+	private static long chave(int estoqueId, int produtoId) {
+		return ((long) estoqueId << 32) | (produtoId & 0xFFFFFFFFL);
 	}
 }
 
@@ -1,6 +1,8 @@
 package dev.gestock.sge.dominio.cotacao;
 
+import java.util.Collection;
 import java.util.List;
+import dev.gestock.sge.dominio.fornecedor.FornecedorId;
 import dev.gestock.sge.dominio.produto.ProdutoId;
 
 public interface CotacaoRepositorio {
@@ -10,6 +12,16 @@ public interface CotacaoRepositorio {
 
 	List<Cotacao> obterPorProduto(ProdutoId produtoId);
 
+	/**
+	 * Cotações de todos os produtos informados, em uma única leitura.
+	 */
+	List<Cotacao> obterPorProdutos(Collection<ProdutoId> produtoIds);
+
+	/**
+	 * Cotações do fornecedor para os produtos informados, em uma única leitura.
+	 */
+	List<Cotacao> obterPorFornecedorEProdutos(FornecedorId fornecedorId, Collection<ProdutoId> produtoIds);
+
 	void remover(CotacaoId id);
 }
 
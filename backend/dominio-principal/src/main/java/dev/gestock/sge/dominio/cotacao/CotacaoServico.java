@@ -1,8 +1,12 @@
 package dev.gestock.sge.dominio.cotacao;
 
 import static org.apache.commons.lang3.Validate.*;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import dev.gestock.sge.dominio.fornecedor.FornecedorRepositorio;
 import dev.gestock.sge.dominio.produto.ProdutoId;
 import dev.gestock.sge.dominio.produto.ProdutoRepositorio;
@@ -115,5 +119,29 @@ public class CotacaoServico {
 
 		return estrategia.selecionar(cotacoes);
 	}
+
+	/**
+	 * Obtém a cotação mais vantajosa de cada produto, com a estratégia configurada,
+	 * lendo as cotações de todos eles de uma vez. Produtos sem cotação não aparecem no resultado.
+	 */
+	public Map<ProdutoId, Cotacao> obterMaisVantajosas(Collection<ProdutoId> produtoIds) {
+		notNull(produtoIds, "Os ids dos produtos não podem ser nulos");
+		var resultado = new HashMap<ProdutoId, Cotacao>();
+		if (produtoIds.isEmpty()) {
+			return resultado;
+		}
+
+		var porProduto = new HashMap<ProdutoId, List<Cotacao>>();
+		for (var cotacao : repositorio.obterPorProdutos(produtoIds)) {
+			porProduto.computeIfAbsent(cotacao.getProdutoId(), id -> new ArrayList<>()).add(cotacao);
+		}
+		for (var entrada : porProduto.entrySet()) {
+			var maisVantajosa = estrategiaSelecao.selecionar(entrada.getValue());
+			if (maisVantajosa != null) {
+				resultado.put(entrada.getKey(), maisVantajosa);
+			}
+		}
+		return resultado;
+	}
 }
 
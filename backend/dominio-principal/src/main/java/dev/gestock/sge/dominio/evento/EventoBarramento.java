@@ -3,6 +3,11 @@ package dev.gestock.sge.dominio.evento;
 public interface EventoBarramento {
 	<E> void adicionar(EventoObservador<E> observador);
 
+	/**
+	 * Registra um observador que recebe apenas eventos do tipo informado. Necessário para lambdas e
+	 * referências de método, cujo tipo de evento não pode ser descoberto pela classe.
+	 */
+	<E> void adicionar(Class<E> tipo, EventoObservador<E> observador);
+
 	<E> void postar(E evento);
 }
-
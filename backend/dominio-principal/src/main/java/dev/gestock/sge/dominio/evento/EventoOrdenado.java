@@ -0,0 +1,9 @@
+package dev.gestock.sge.dominio.evento;
+
+/**
+ * Evento que pertence a um agregado. Barramentos assíncronos entregam os eventos com a mesma
+ * chave na ordem em que foram postados.
+ */
+public interface EventoOrdenado {
+	Object getChaveOrdenacao();
+}
@@ -3,6 +3,7 @@ package dev.gestock.sge.dominio.movimentacao;
 import static org.apache.commons.lang3.Validate.*;
 import java.time.LocalDateTime;
 import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.evento.EventoOrdenado;
 import dev.gestock.sge.dominio.produto.ProdutoId;
 import dev.gestock.sge.dominio.produto.Quantidade;
 
@@ -15,9 +16,19 @@ public class Movimentacao {
 	private final TipoMovimentacao tipo;
 	private final Motivo motivo;
 	private final Responsavel responsavel;
+	private final String correlacao;
 
 	public Movimentacao(MovimentacaoId id, LocalDateTime dataHora, ProdutoId produtoId, EstoqueId estoqueId,
 			Quantidade quantidade, TipoMovimentacao tipo, Motivo motivo, Responsavel responsavel) {
+		this(id, dataHora, produtoId, estoqueId, quantidade, tipo, motivo, responsavel, null);
+	}
+
+	/**
+	 * @param correlacao identificador compartilhado pelas movimentações de uma mesma operação
+	 * (a saída e a entrada de uma transferência); pode ser nulo
+	 */
+	public Movimentacao(MovimentacaoId id, LocalDateTime dataHora, ProdutoId produtoId, EstoqueId estoqueId,
+			Quantidade quantidade, TipoMovimentacao tipo, Motivo motivo, Responsavel responsavel, String correlacao) {
 		notNull(id, "O id não pode ser nulo");
 		notNull(dataHora, "A data/hora não pode ser nula");
 		notNull(produtoId, "O id do produto não pode ser nulo");
@@ -35,6 +46,7 @@ public class Movimentacao {
 		this.tipo = tipo;
 		this.motivo = motivo;
 		this.responsavel = responsavel;
+		this.correlacao = correlacao;
 	}
 
 	public MovimentacaoId getId() {
@@ -69,6 +81,10 @@ public class Movimentacao {
 		return responsavel;
 	}
 
+	public String getCorrelacao() {
+		return correlacao;
+	}
+
 	/**
 	 * Retorna a quantidade com sinal: positiva para ENTRADA, negativa para SAIDA.
 	 */
@@ -86,7 +102,7 @@ public class Movimentacao {
 	}
 
 	// Classe base para eventos do Movimentacao
-	public static abstract class MovimentacaoEvento {
+	public static abstract class MovimentacaoEvento implements EventoOrdenado {
 		private final Movimentacao movimentacao;
 
 		MovimentacaoEvento(Movimentacao movimentacao) {
@@ -96,6 +112,14 @@ public class Movimentacao {
 		public Movimentacao getMovimentacao() {
 			return movimentacao;
 		}
+
+		/**
+		 * Ordenado por produto: a saída e a entrada de uma transferência chegam na ordem registrada.
+		 */
+		@Override
+		public Object getChaveOrdenacao() {
+			return movimentacao.getProdutoId();
+		}
 	}
 
 	// Evento específico: movimentação criada
@@ -0,0 +1,38 @@
+package dev.gestock.sge.dominio.movimentacao;
+
+import static org.apache.commons.lang3.Validate.*;
+
+/**
+ * Resultado de uma linha do registro em lote: a movimentação salva ou o motivo da rejeição.
+ */
+public class MovimentacaoLoteResultado {
+	private final Movimentacao movimentacao;
+	private final String erro;
+
+	private MovimentacaoLoteResultado(Movimentacao movimentacao, String erro) {
+		this.movimentacao = movimentacao;
+		this.erro = erro;
+	}
+
+	public static MovimentacaoLoteResultado sucesso(Movimentacao movimentacao) {
+		notNull(movimentacao, "A movimentação não pode ser nula");
+		return new MovimentacaoLoteResultado(movimentacao, null);
+	}
+
+	public static MovimentacaoLoteResultado falha(String erro) {
+		notBlank(erro, "O erro não pode estar em branco");
+		return new MovimentacaoLoteResultado(null, erro);
+	}
+
+	public boolean isSucesso() {
+		return movimentacao != null;
+	}
+
+	public Movimentacao getMovimentacao() {
+		return movimentacao;
+	}
+
+	public String getErro() {
+		return erro;
+	}
+}
@@ -1,6 +1,7 @@
 package dev.gestock.sge.dominio.movimentacao;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import dev.gestock.sge.dominio.estoque.EstoqueRepositorio;
 import dev.gestock.sge.dominio.produto.ProdutoRepositorio;
@@ -8,12 +9,27 @@ import dev.gestock.sge.dominio.produto.ProdutoRepositorio;
 public interface MovimentacaoRepositorio {
 	Movimentacao salvar(Movimentacao movimentacao);
 
+	/**
+	 * Salva as movimentações em uma única transação, validando os saldos na ordem recebida.
+	 * Devolve um resultado por movimentação, na mesma ordem; as rejeitadas não alteram o saldo.
+	 */
+	List<MovimentacaoLoteResultado> salvarLote(List<Movimentacao> movimentacoes);
+
 	Movimentacao obter(MovimentacaoId id);
 
 	List<Movimentacao> obterPorPeriodo(LocalDate inicio, LocalDate fim);
 
 	List<Movimentacao> obterPorTipo(TipoMovimentacao tipo);
 
+	Movimentacao obterPorCorrelacao(String correlacao, TipoMovimentacao tipo);
+
+	/**
+	 * Busca a SAÍDA mais recente que corresponde à ENTRADA informada: mesmo produto, quantidade,
+	 * responsável e motivo, outro estoque, registrada entre {@code desde} e a data/hora da entrada
+	 * e ainda não usada em uma transferência.
+	 */
+	Movimentacao obterSaidaCorrespondente(Movimentacao entrada, LocalDateTime desde);
+
 	void remover(MovimentacaoId id);
 }
 
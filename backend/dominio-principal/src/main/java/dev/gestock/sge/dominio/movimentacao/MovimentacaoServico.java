@@ -1,11 +1,16 @@
 package dev.gestock.sge.dominio.movimentacao;
 
 import static org.apache.commons.lang3.Validate.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import dev.gestock.sge.dominio.estoque.EstoqueRepositorio;
 import dev.gestock.sge.dominio.evento.EventoBarramento;
 import dev.gestock.sge.dominio.produto.ProdutoRepositorio;
 
 public class MovimentacaoServico {
+	public static final int TAMANHO_MAXIMO_LOTE = 5000;
+
 	private final MovimentacaoRepositorio repositorio;
 	private final ProdutoRepositorio produtoRepositorio;
 	private final EstoqueRepositorio estoqueRepositorio;
@@ -54,6 +59,51 @@ public class MovimentacaoServico {
 		return movimentacaoSalva;
 	}
 
+	/**
+	 * Registra várias movimentações de uma vez. Cada produto e estoque distinto é consultado
+	 * uma única vez; linhas inválidas são rejeitadas individualmente sem impedir as demais.
+	 */
+	public List<MovimentacaoLoteResultado> registrarLote(List<Movimentacao> movimentacoes) {
+		notNull(movimentacoes, "As movimentações não podem ser nulas");
+		isTrue(movimentacoes.size() <= TAMANHO_MAXIMO_LOTE, "O lote não pode ter mais de " + TAMANHO_MAXIMO_LOTE + " movimentações");
+
+		var produtosExistentes = new HashMap<Integer, Boolean>();
+		var estoquesExistentes = new HashMap<Integer, Boolean>();
+		var resultados = new ArrayList<MovimentacaoLoteResultado>(movimentacoes.size());
+		var validas = new ArrayList<Movimentacao>();
+		var posicoesValidas = new ArrayList<Integer>();
+
+		for (var movimentacao : movimentacoes) {
+			notNull(movimentacao, "A movimentação não pode ser nula");
+			var produtoExiste = produtosExistentes.computeIfAbsent(movimentacao.getProdutoId().getId(),
+				id -> produtoRepositorio.obter(movimentacao.getProdutoId()) != null);
+			var estoqueExiste = estoquesExistentes.computeIfAbsent(movimentacao.getEstoqueId().getId(),
+				id -> estoqueRepositorio.obter(movimentacao.getEstoqueId()) != null);
+
+			if (!produtoExiste) {
+				resultados.add(MovimentacaoLoteResultado.falha("Produto não encontrado"));
+			} else if (!estoqueExiste) {
+				resultados.add(MovimentacaoLoteResultado.falha("Estoque não encontrado"));
+			} else {
+				resultados.add(null);
+				posicoesValidas.add(resultados.size() - 1);
+				validas.add(movimentacao);
+			}
+		}
+
+		if (!validas.isEmpty()) {
+			var salvas = repositorio.salvarLote(validas);
+			for (int i = 0; i < salvas.size(); i++) {
+				var resultado = salvas.get(i);
+				resultados.set(posicoesValidas.get(i), resultado);
+				if (resultado.isSucesso()) {
+					barramento.postar(resultado.getMovimentacao().criarEvento());
+				}
+			}
+		}
+		return resultados;
+	}
+
 	public void remover(MovimentacaoId id) {
 		notNull(id, "O id não pode ser nulo");
 		repositorio.remover(id);
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.evento.EventoOrdenado;
 import dev.gestock.sge.dominio.fornecedor.FornecedorId;
 import dev.gestock.sge.dominio.fornecedor.LeadTime;
 
@@ -39,6 +40,15 @@ public class Pedido {
 		this.valorTotal = calcularValorTotal();
 	}
 
+	/**
+	 * Reconstitui um pedido já persistido, incluindo a data prevista calculada anteriormente.
+	 */
+	public Pedido(PedidoId id, FornecedorId fornecedorId, EstoqueId estoqueId, List<ItemPedido> itens, DataPedido dataPedido,
+			StatusPedido status, DataPrevista dataPrevista) {
+		this(id, fornecedorId, estoqueId, itens, dataPedido, status);
+		this.dataPrevista = dataPrevista;
+	}
+
 	public PedidoId getId() {
 		return id;
 	}
@@ -126,7 +136,8 @@ public class Pedido {
 	}
 
 	// Classe base para eventos do Pedido
-	public static abstract class PedidoEvento {
+	// Os construtores são públicos para que o evento possa ser reconstituído a partir da fila de saída
+	public static abstract class PedidoEvento implements EventoOrdenado {
 		private final Pedido pedido;
 
 		PedidoEvento(Pedido pedido) {
@@ -136,25 +147,30 @@ public class Pedido {
 		public Pedido getPedido() {
 			return pedido;
 		}
+
+		@Override
+		public Object getChaveOrdenacao() {
+			return pedido.getId();
+		}
 	}
 
 	// Evento específico: pedido criado
 	public static class PedidoCriadoEvento extends PedidoEvento {
-		private PedidoCriadoEvento(Pedido pedido) {
+		public PedidoCriadoEvento(Pedido pedido) {
 			super(pedido);
 		}
 	}
 
 	// Evento específico: pedido cancelado
 	public static class PedidoCanceladoEvento extends PedidoEvento {
-		private PedidoCanceladoEvento(Pedido pedido) {
+		public PedidoCanceladoEvento(Pedido pedido) {
 			super(pedido);
 		}
 	}
 
 	// Evento específico: pedido recebido
 	public static class PedidoRecebidoEvento extends PedidoEvento {
-		private PedidoRecebidoEvento(Pedido pedido) {
+		public PedidoRecebidoEvento(Pedido pedido) {
 			super(pedido);
 		}
 	}
@@ -3,6 +3,8 @@ package dev.gestock.sge.dominio.pedido;
 import static org.apache.commons.lang3.Validate.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import dev.gestock.sge.dominio.comum.RegraVioladaException;
 import dev.gestock.sge.dominio.cotacao.Cotacao;
@@ -107,40 +109,57 @@ public class PedidoServico implements IPedidoServico {
 					quantidadeTotal, capacidadeMaxima));
 		}
 
-		// Validar produtos e buscar cotações
-		var itensComPreco = new ArrayList<ItemPedido>();
+		// Validar produtos e buscar cotações em lote: uma leitura para os produtos e uma para as
+		// cotações do fornecedor, qualquer que seja a quantidade de itens
+		var produtoIds = new LinkedHashSet<ProdutoId>();
 		for (var item : pedido.getItens()) {
+			produtoIds.add(item.getProdutoId());
+		}
+		var produtos = new HashMap<ProdutoId, Produto>();
+		for (var produto : produtoRepositorio.obterTodos(produtoIds)) {
+			produtos.put(produto.getId(), produto);
+		}
+		for (var produtoId : produtoIds) {
 			// Validar que produto existe e está ativo
-			var produto = produtoRepositorio.obter(item.getProdutoId());
+			var produto = produtos.get(produtoId);
 			if (produto == null) {
-				throw new IllegalArgumentException("Produto não encontrado: " + item.getProdutoId().getId());
+				throw new IllegalArgumentException("Produto não encontrado: " + produtoId.getId());
 			}
 			if (!produto.getStatus().equals(dev.gestock.sge.dominio.fornecedor.Status.ATIVO)) {
-				throw new IllegalArgumentException("Produto deve estar ativo: " + item.getProdutoId().getId());
+				throw new IllegalArgumentException("Produto deve estar ativo: " + produtoId.getId());
 			}
+		}
 
-			// Buscar cotação do produto com o fornecedor especificado
-			var cotacoes = cotacaoRepositorio.obterPorProduto(item.getProdutoId());
-			Cotacao cotacao = null;
-			for (var c : cotacoes) {
-				if (c.getFornecedorId().equals(pedido.getFornecedorId())) {
-					cotacao = c;
-					break;
-				}
-			}
+		// Cotações dos produtos com o fornecedor especificado
+		var cotacoes = new HashMap<ProdutoId, Cotacao>();
+		for (var cotacao : cotacaoRepositorio.obterPorFornecedorEProdutos(pedido.getFornecedorId(), produtoIds)) {
+			cotacoes.putIfAbsent(cotacao.getProdutoId(), cotacao);
+		}
 
-			// Se não houver cotação com o fornecedor, usar a mais vantajosa
-			if (cotacao == null) {
-				cotacao = cotacaoServico.obterMaisVantajosa(item.getProdutoId());
+		// Se não houver cotação com o fornecedor, usar a mais vantajosa
+		var semCotacao = new ArrayList<ProdutoId>();
+		for (var produtoId : produtoIds) {
+			if (!cotacoes.containsKey(produtoId)) {
+				semCotacao.add(produtoId);
+			}
+		}
+		if (!semCotacao.isEmpty()) {
+			var maisVantajosas = cotacaoServico.obterMaisVantajosas(semCotacao);
+			for (var produtoId : semCotacao) {
+				var cotacao = maisVantajosas.get(produtoId);
 				if (cotacao == null) {
 					throw new IllegalArgumentException(
-							"Produto não possui cotação disponível: " + item.getProdutoId().getId());
+							"Produto não possui cotação disponível: " + produtoId.getId());
 				}
+				cotacoes.put(produtoId, cotacao);
 			}
+		}
 
-			// Criar item com preço unitário da cotação
-			var itemComPreco = new ItemPedido(item.getProdutoId(), item.getQuantidade(), cotacao.getPreco());
-			itensComPreco.add(itemComPreco);
+		// Criar itens com preço unitário da cotação
+		var itensComPreco = new ArrayList<ItemPedido>(pedido.getItens().size());
+		for (var item : pedido.getItens()) {
+			var cotacao = cotacoes.get(item.getProdutoId());
+			itensComPreco.add(new ItemPedido(item.getProdutoId(), item.getQuantidade(), cotacao.getPreco()));
 		}
 
 		// Criar novo pedido com itens e preços
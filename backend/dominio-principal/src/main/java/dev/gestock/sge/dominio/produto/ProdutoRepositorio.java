@@ -1,10 +1,18 @@
 package dev.gestock.sge.dominio.produto;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ProdutoRepositorio {
 	Produto salvar(Produto produto);
 
 	Produto obter(ProdutoId id);
 
+	/**
+	 * Obtém de uma só vez os produtos informados; ids inexistentes não aparecem no resultado.
+	 */
+	List<Produto> obterTodos(Collection<ProdutoId> ids);
+
 	Produto obterPorCodigo(Codigo codigo);
 
 	void remover(ProdutoId id);
@@ -32,6 +32,17 @@ public class Reserva {
 		this.status = status;
 	}
 
+	/**
+	 * Reconstitui uma reserva já persistida, incluindo os dados de liberação quando houver.
+	 */
+	public Reserva(ReservaId id, PedidoId pedidoId, ProdutoId produtoId, Quantidade quantidade,
+			DataHoraReserva dataHoraReserva, StatusReserva status, TipoLiberacao tipoLiberacao,
+			DataHoraLiberacao dataHoraLiberacao) {
+		this(id, pedidoId, produtoId, quantidade, dataHoraReserva, status);
+		this.tipoLiberacao = tipoLiberacao;
+		this.dataHoraLiberacao = dataHoraLiberacao;
+	}
+
 	public ReservaId getId() {
 		return id;
 	}
@@ -6,8 +6,18 @@ import dev.gestock.sge.dominio.pedido.PedidoId;
 public interface ReservaRepositorio {
 	void salvar(Reserva reserva);
 
+	/**
+	 * Insere as reservas novas em lote.
+	 */
+	void salvarTodos(List<Reserva> reservas);
+
 	Reserva obter(ReservaId id);
 
 	List<Reserva> obterPorPedido(PedidoId pedidoId);
-}
 
+	/**
+	 * Libera de uma vez as reservas ativas do pedido.
+	 * @return quantidade de reservas liberadas
+	 */
+	int liberarPorPedido(PedidoId pedidoId, TipoLiberacao tipoLiberacao, DataHoraLiberacao dataHoraLiberacao);
+}
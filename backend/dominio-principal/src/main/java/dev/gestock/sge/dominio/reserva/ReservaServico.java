@@ -33,26 +33,18 @@ public class ReservaServico {
 			reservas.add(reserva);
 		}
 
-		// Salvar todas as reservas
-		for (var reserva : reservas) {
-			repositorio.salvar(reserva);
-		}
+		repositorio.salvarTodos(reservas);
 	}
 
 	/**
-	 * Libera todas as reservas de um pedido.
+	 * Libera todas as reservas ativas de um pedido; as já liberadas não são alteradas.
+	 * @return quantidade de reservas liberadas
 	 */
-	public void liberarReservas(PedidoId pedidoId, TipoLiberacao tipoLiberacao) {
+	public int liberarReservas(PedidoId pedidoId, TipoLiberacao tipoLiberacao) {
 		notNull(pedidoId, "O id do pedido não pode ser nulo");
 		notNull(tipoLiberacao, "O tipo de liberação não pode ser nulo");
 
-		var reservas = repositorio.obterPorPedido(pedidoId);
-		for (var reserva : reservas) {
-			if (reserva.getStatus() == StatusReserva.ATIVA) {
-				reserva.liberar(tipoLiberacao);
-				repositorio.salvar(reserva);
-			}
-		}
+		return repositorio.liberarPorPedido(pedidoId, tipoLiberacao, new DataHoraLiberacao(LocalDateTime.now()));
 	}
 }
 
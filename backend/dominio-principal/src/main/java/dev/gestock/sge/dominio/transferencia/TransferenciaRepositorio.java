@@ -1,8 +1,14 @@
 package dev.gestock.sge.dominio.transferencia;
 
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoId;
+
 public interface TransferenciaRepositorio {
 	void salvar(Transferencia transferencia);
 
 	Transferencia obter(TransferenciaId id);
-}
 
+	/**
+	 * Verifica se a movimentação de saída já faz parte de uma transferência.
+	 */
+	boolean existePorMovimentacaoSaida(MovimentacaoId movimentacaoSaidaId);
+}
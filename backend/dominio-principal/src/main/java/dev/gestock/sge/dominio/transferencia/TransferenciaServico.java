@@ -13,7 +13,9 @@ public class TransferenciaServico {
 	}
 
 	/**
-	 * Cria uma transferência a partir de duas movimentações (SAÍDA e ENTRADA).
+	 * Cria uma transferência a partir de duas movimentações (SAÍDA e ENTRADA). Não faz nada se a
+	 * saída já faz parte de uma transferência: a transferência registrada diretamente volta a ser
+	 * encontrada quando o evento da entrada é entregue depois.
 	 */
 	public void criarTransferencia(Movimentacao movimentacaoSaida, Movimentacao movimentacaoEntrada) {
 		notNull(movimentacaoSaida, "A movimentação de saída não pode ser nula");
@@ -44,6 +46,10 @@ public class TransferenciaServico {
 			throw new IllegalArgumentException("Os estoques de origem e destino devem ser diferentes");
 		}
 
+		if (repositorio.existePorMovimentacaoSaida(movimentacaoSaida.getId())) {
+			return;
+		}
+
 		// Criar ID temporário (será gerado pelo banco)
 		var transferenciaId = new TransferenciaId(0);
 		var dataHora = LocalDateTime.now();
@@ -0,0 +1,24 @@
+package dev.gestock.sge.dominio.alerta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caixa de saída local que substitui o servidor de email nos testes.
+ */
+class AlertaCorreioMemoria implements AlertaCorreio {
+	private final List<String[]> enviados = new ArrayList<>();
+
+	@Override
+	public synchronized void enviar(String assunto, String mensagem) {
+		enviados.add(new String[] { assunto, mensagem });
+	}
+
+	synchronized int contarEnviados() {
+		return enviados.size();
+	}
+
+	synchronized String obterAssunto(int indice) {
+		return enviados.get(indice)[0];
+	}
+}
@@ -5,6 +5,8 @@ import io.cucumber.java.pt.Então;
 import io.cucumber.java.pt.Quando;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
+
 import static org.assertj.core.api.Assertions.*;
 
 public class AlertaSteps {
@@ -12,6 +14,8 @@ public class AlertaSteps {
 	private AlertaServico servico;
 	private PercentualAbaixoRop percentual;
 	private NivelAlerta nivel;
+	private AlertaCorreioMemoria correio;
+	private AlertaObserverEmail observador;
 	
 	public AlertaSteps() {
 		MockitoAnnotations.openMocks(this);
@@ -57,5 +61,41 @@ public class AlertaSteps {
 	public void nao_deve_ser_gerado_nenhum_alerta() {
 		assertThat(nivel).isNull();
 	}
+
+	@Dado("um observador de email com caixa de saída local")
+	public void um_observador_de_email_com_caixa_de_saida_local() {
+		correio = new AlertaCorreioMemoria();
+		observador = new AlertaObserverEmail(correio);
+	}
+
+	@Quando("o produto {int} no estoque {int} é avaliado {int} vezes com percentual {double}")
+	public void o_produto_no_estoque_e_avaliado_vezes_com_percentual(Integer produtoId, Integer estoqueId,
+			Integer vezes, Double valor) {
+		var observable = new AlertaServicoObservable(servico);
+		observable.adicionarObservador(observador);
+		for (int i = 0; i < vezes; i++) {
+			nivel = observable.determinarNivelENotificar(new PercentualAbaixoRop(valor), produtoId, "Produto",
+					estoqueId, "Estoque", 3, 10);
+		}
+	}
+
+	@Quando("um lote com {int} alertas críticos é entregue ao observador")
+	public void um_lote_com_alertas_criticos_e_entregue_ao_observador(Integer quantidade) {
+		var alertas = new ArrayList<AlertaInfo>();
+		for (int i = 1; i <= quantidade; i++) {
+			alertas.add(new AlertaInfo(i, "Produto " + i, 1, "Estoque", 2, 10, -80.0, NivelAlerta.CRITICO));
+		}
+		observador.notificarAlertasGerados(alertas);
+	}
+
+	@Então("a caixa de saída deve ter {int} email")
+	public void a_caixa_de_saida_deve_ter_email(Integer quantidade) {
+		assertThat(correio.contarEnviados()).isEqualTo(quantidade);
+	}
+
+	@Então("o assunto do email deve citar {int} produtos")
+	public void o_assunto_do_email_deve_citar_produtos(Integer quantidade) {
+		assertThat(correio.obterAssunto(0)).endsWith(quantidade + " produtos");
+	}
 }
 
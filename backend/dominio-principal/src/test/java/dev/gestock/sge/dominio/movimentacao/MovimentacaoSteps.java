@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,6 +42,7 @@ public class MovimentacaoSteps {
 	private int proximoId = 1;
 	private ProdutoId produtoId;
 	private EstoqueId estoqueId;
+	private List<MovimentacaoLoteResultado> resultadosLote;
 	
 	public MovimentacaoSteps() {
 		MockitoAnnotations.openMocks(this);
@@ -194,5 +196,37 @@ public class MovimentacaoSteps {
 		assertThat(excecao).isNotNull();
 		assertThat(excecao.getMessage()).contains("Estoque não encontrado");
 	}
+	
+	@Dado("que o produto {int} não existe")
+	public void que_o_produto_nao_existe(Integer id) {
+		when(produtoRepositorio.obter(new ProdutoId(id))).thenReturn(null);
+	}
+	
+	@Quando("eu registro um lote com uma ENTRADA de {int} unidades do produto cadastrado e uma ENTRADA de {int} unidades do produto {int}")
+	public void eu_registro_um_lote(Integer quantidade1, Integer quantidade2, Integer outroProdutoId) {
+		var movimentacao1 = new Movimentacao(new MovimentacaoId(0), LocalDateTime.now(), produtoId, estoqueId,
+			new Quantidade(quantidade1), TipoMovimentacao.ENTRADA, new Motivo("Recebimento"), new Responsavel("João"));
+		var movimentacao2 = new Movimentacao(new MovimentacaoId(0), LocalDateTime.now(), new ProdutoId(outroProdutoId), estoqueId,
+			new Quantidade(quantidade2), TipoMovimentacao.ENTRADA, new Motivo("Recebimento"), new Responsavel("João"));
+		when(repositorio.salvarLote(anyList())).thenAnswer(invocation -> {
+			List<Movimentacao> movimentacoes = invocation.getArgument(0);
+			return movimentacoes.stream().map(MovimentacaoLoteResultado::sucesso).toList();
+		});
+		resultadosLote = servico.registrarLote(List.of(movimentacao1, movimentacao2));
+	}
+	
+	@Então("o lote deve ter a linha {int} registrada e a linha {int} rejeitada com {string}")
+	public void o_lote_deve_ter_a_linha_registrada_e_a_linha_rejeitada(Integer registrada, Integer rejeitada, String erro) {
+		assertThat(resultadosLote).hasSize(2);
+		assertThat(resultadosLote.get(registrada - 1).isSucesso()).isTrue();
+		assertThat(resultadosLote.get(rejeitada - 1).isSucesso()).isFalse();
+		assertThat(resultadosLote.get(rejeitada - 1).getErro()).isEqualTo(erro);
+	}
+	
+	@Então("somente as movimentações válidas do lote devem ser salvas")
+	public void somente_as_movimentacoes_validas_do_lote_devem_ser_salvas() {
+		verify(repositorio, times(1)).salvarLote(argThat(movimentacoes -> movimentacoes.size() == 1));
+		verify(barramento, times(1)).postar(any());
+	}
 }
 
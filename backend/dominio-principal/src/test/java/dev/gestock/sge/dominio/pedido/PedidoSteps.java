@@ -32,6 +32,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -100,8 +101,10 @@ public class PedidoSteps {
 	@Dado("que existe um produto ativo cadastrado")
 	public void que_existe_um_produto_ativo_cadastrado() {
 		var produto = mock(Produto.class);
+		when(produto.getId()).thenReturn(produtoId);
 		when(produto.getStatus()).thenReturn(Status.ATIVO);
 		when(produtoRepositorio.obter(produtoId)).thenReturn(produto);
+		when(produtoRepositorio.obterTodos(anyCollection())).thenReturn(List.of(produto));
 	}
 	
 	@Dado("que existe uma cotação aprovada para o produto")
@@ -109,8 +112,11 @@ public class PedidoSteps {
 		var cotacao = mock(Cotacao.class);
 		when(cotacao.getPreco()).thenReturn(new Custo(10.50));
 		when(cotacao.getFornecedorId()).thenReturn(fornecedorId);
+		when(cotacao.getProdutoId()).thenReturn(produtoId);
 		when(cotacaoRepositorio.obterPorProduto(produtoId)).thenReturn(List.of(cotacao));
+		when(cotacaoRepositorio.obterPorFornecedorEProdutos(eq(fornecedorId), anyCollection())).thenReturn(List.of(cotacao));
 		when(cotacaoServico.obterMaisVantajosa(produtoId)).thenReturn(cotacao);
+		when(cotacaoServico.obterMaisVantajosas(anyCollection())).thenReturn(Map.of(produtoId, cotacao));
 	}
 	
 	@Dado("que o fornecedor está inativo")
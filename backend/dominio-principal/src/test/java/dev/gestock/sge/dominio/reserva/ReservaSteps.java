@@ -13,10 +13,13 @@ import dev.gestock.sge.dominio.produto.Quantidade;
 import io.cucumber.java.pt.Dado;
 import io.cucumber.java.pt.Então;
 import io.cucumber.java.pt.Quando;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +36,7 @@ public class ReservaSteps {
 	private Pedido pedido;
 	private List<Reserva> reservas;
 	private Exception excecao;
+	private int liberadas;
 	private int proximoId = 1;
 	
 	public ReservaSteps() {
@@ -54,17 +58,18 @@ public class ReservaSteps {
 	public void que_existem_reservas_ativas_para_o_pedido() {
 		var reservaId = new ReservaId(proximoId++);
 		var reserva = new Reserva(reservaId, pedido.getId(), new ProdutoId(1), new Quantidade(100),
-				new DataHoraReserva(java.time.LocalDateTime.now()), StatusReserva.ATIVA);
+				new DataHoraReserva(LocalDateTime.now()), StatusReserva.ATIVA);
 		reservas = List.of(reserva);
 		when(repositorio.obterPorPedido(pedido.getId())).thenReturn(reservas);
-		doNothing().when(repositorio).salvar(any(Reserva.class));
+		when(repositorio.liberarPorPedido(eq(pedido.getId()), any(TipoLiberacao.class), any(DataHoraLiberacao.class)))
+			.thenReturn(reservas.size());
 	}
 	
 	@Dado("que existe uma reserva com status {string}")
 	public void que_existe_uma_reserva_com_status(String status) {
 		var reservaId = new ReservaId(proximoId++);
 		var reserva = new Reserva(reservaId, new PedidoId(1), new ProdutoId(1), new Quantidade(100),
-				new DataHoraReserva(java.time.LocalDateTime.now()), StatusReserva.valueOf(status));
+				new DataHoraReserva(LocalDateTime.now()), StatusReserva.valueOf(status));
 		reservas = List.of(reserva);
 		when(repositorio.obterPorPedido(any(PedidoId.class))).thenReturn(reservas);
 	}
@@ -73,7 +78,7 @@ public class ReservaSteps {
 	public void que_existe_uma_reserva_com_status_liberada() {
 		var reservaId = new ReservaId(proximoId++);
 		var reserva = new Reserva(reservaId, new PedidoId(1), new ProdutoId(1), new Quantidade(100),
-				new DataHoraReserva(java.time.LocalDateTime.now()), StatusReserva.LIBERADA);
+				new DataHoraReserva(LocalDateTime.now()), StatusReserva.LIBERADA);
 		reservas = List.of(reserva);
 		when(repositorio.obterPorPedido(any(PedidoId.class))).thenReturn(reservas);
 	}
@@ -85,20 +90,17 @@ public class ReservaSteps {
 	
 	@Quando("eu libero as reservas do pedido com tipo {string}")
 	public void eu_libero_as_reservas_do_pedido_com_tipo(String tipo) {
-		servico.liberarReservas(pedido.getId(), TipoLiberacao.valueOf(tipo));
-		reservas = repositorio.obterPorPedido(pedido.getId());
+		liberadas = servico.liberarReservas(pedido.getId(), TipoLiberacao.valueOf(tipo));
 	}
 	
 	@Quando("eu libero as reservas do pedido com tipo RECEBIDO")
 	public void eu_libero_as_reservas_do_pedido_com_tipo_recebido() {
-		servico.liberarReservas(pedido.getId(), TipoLiberacao.RECEBIDO);
-		reservas = repositorio.obterPorPedido(pedido.getId());
+		liberadas = servico.liberarReservas(pedido.getId(), TipoLiberacao.RECEBIDO);
 	}
 	
 	@Quando("eu libero as reservas do pedido com tipo CANCELADO")
 	public void eu_libero_as_reservas_do_pedido_com_tipo_cancelado() {
-		servico.liberarReservas(pedido.getId(), TipoLiberacao.CANCELADO);
-		reservas = repositorio.obterPorPedido(pedido.getId());
+		liberadas = servico.liberarReservas(pedido.getId(), TipoLiberacao.CANCELADO);
 	}
 	
 	@Quando("eu tento liberar a reserva novamente")
@@ -113,12 +115,14 @@ public class ReservaSteps {
 	
 	@Então("as reservas devem ser criadas com sucesso")
 	public void as_reservas_devem_ser_criadas_com_sucesso() {
-		verify(repositorio, atLeastOnce()).salvar(any(Reserva.class));
+		verify(repositorio, times(1)).salvarTodos(anyList());
+		verify(repositorio, never()).salvar(any(Reserva.class));
 	}
 	
 	@Então("cada item do pedido deve ter uma reserva ATIVA")
 	public void cada_item_do_pedido_deve_ter_uma_reserva_ativa() {
-		verify(repositorio, times(pedido.getItens().size())).salvar(any(Reserva.class));
+		verify(repositorio).salvarTodos(argThat(criadas -> criadas.size() == pedido.getItens().size()
+				&& criadas.stream().allMatch(r -> r.getStatus() == StatusReserva.ATIVA)));
 	}
 	
 	@Então("as reservas devem ter status {string}")
@@ -126,24 +130,17 @@ public class ReservaSteps {
 		assertThat(reservas.get(0).getStatus()).isEqualTo(StatusReserva.valueOf(status));
 	}
 	
-	@Então("as reservas devem ter status LIBERADA")
-	public void as_reservas_devem_ter_status_liberada() {
-		assertThat(reservas.get(0).getStatus()).isEqualTo(StatusReserva.LIBERADA);
+	@Então("as reservas ativas do pedido devem ser liberadas com tipo {word}")
+	public void as_reservas_ativas_do_pedido_devem_ser_liberadas_com_tipo(String tipo) {
+		var dataHora = ArgumentCaptor.forClass(DataHoraLiberacao.class);
+		verify(repositorio).liberarPorPedido(eq(pedido.getId()), eq(TipoLiberacao.valueOf(tipo)), dataHora.capture());
+		assertThat(dataHora.getValue().getValor()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.MINUTES));
+		verify(repositorio, never()).salvar(any(Reserva.class));
 	}
 	
-	@Então("as reservas devem ter tipo de liberação {string}")
-	public void as_reservas_devem_ter_tipo_de_liberacao(String tipo) {
-		assertThat(reservas.get(0).getTipoLiberacao()).isEqualTo(TipoLiberacao.valueOf(tipo));
-	}
-	
-	@Então("as reservas devem ter tipo de liberação RECEBIDO")
-	public void as_reservas_devem_ter_tipo_de_liberacao_recebido() {
-		assertThat(reservas.get(0).getTipoLiberacao()).isEqualTo(TipoLiberacao.RECEBIDO);
-	}
-	
-	@Então("as reservas devem ter tipo de liberação CANCELADO")
-	public void as_reservas_devem_ter_tipo_de_liberacao_cancelado() {
-		assertThat(reservas.get(0).getTipoLiberacao()).isEqualTo(TipoLiberacao.CANCELADO);
+	@Então("a quantidade de reservas liberadas deve ser {int}")
+	public void a_quantidade_de_reservas_liberadas_deve_ser(int quantidade) {
+		assertThat(liberadas).isEqualTo(quantidade);
 	}
 	
 	@Então("deve ocorrer um erro informando que a reserva já está liberada")
@@ -9,3 +9,13 @@ Funcionalidade: Gerenciamento de Alerta
     Quando eu determino o nível do alerta
     Então o nível do alerta deve ser CRITICO
 
+  Cenário: Notificar o mesmo alerta crítico uma única vez
+    Dado um observador de email com caixa de saída local
+    Quando o produto 1 no estoque 1 é avaliado 2 vezes com percentual -70.0
+    Então a caixa de saída deve ter 1 email
+
+  Cenário: Enviar um resumo por lote de alertas críticos
+    Dado um observador de email com caixa de saída local
+    Quando um lote com 3 alertas críticos é entregue ao observador
+    Então a caixa de saída deve ter 1 email
+    E o assunto do email deve citar 3 produtos
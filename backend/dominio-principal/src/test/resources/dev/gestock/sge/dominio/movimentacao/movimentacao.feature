@@ -30,3 +30,9 @@ Funcionalidade: Gerenciamento de Movimentação
     Quando eu tento registrar uma movimentação de tipo ENTRADA com quantidade 50, motivo "Recebimento" e responsável "João"
     Então deve ocorrer um erro informando que o estoque não foi encontrado
 
+
+  Cenário: Registrar lote com uma linha de produto inexistente
+    Dado que o produto 99 não existe
+    Quando eu registro um lote com uma ENTRADA de 10 unidades do produto cadastrado e uma ENTRADA de 5 unidades do produto 99
+    Então o lote deve ter a linha 1 registrada e a linha 2 rejeitada com "Produto não encontrado"
+    E somente as movimentações válidas do lote devem ser salvas
@@ -15,14 +15,14 @@ Funcionalidade: Gerenciamento de Reserva
   Cenário: Liberar reservas ao receber pedido
     Dado que existem reservas ativas para o pedido
     Quando eu libero as reservas do pedido com tipo RECEBIDO
-    Então as reservas devem ter status LIBERADA
-    E as reservas devem ter tipo de liberação RECEBIDO
+    Então as reservas ativas do pedido devem ser liberadas com tipo RECEBIDO
+    E a quantidade de reservas liberadas deve ser 1
 
   Cenário: Liberar reservas ao cancelar pedido
     Dado que existem reservas ativas para o pedido
     Quando eu libero as reservas do pedido com tipo CANCELADO
-    Então as reservas devem ter status LIBERADA
-    E as reservas devem ter tipo de liberação CANCELADO
+    Então as reservas ativas do pedido devem ser liberadas com tipo CANCELADO
+    E a quantidade de reservas liberadas deve ser 1
 
   Cenário: Tentar liberar reserva já liberada
     Dado que existe uma reserva com status LIBERADA
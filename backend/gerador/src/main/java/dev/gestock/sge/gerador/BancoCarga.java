@@ -0,0 +1,60 @@
+package dev.gestock.sge.gerador;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Preparação do banco compartilhada pelas cargas: o {@link GeradorCarga} e a massa sintética dos
+ * benchmarks criam o banco, aplicam as migrações e apagam os dados de negócio da mesma forma.
+ */
+public final class BancoCarga {
+	private static final Logger LOG = LoggerFactory.getLogger(BancoCarga.class);
+
+	private BancoCarga() {
+	}
+
+	/**
+	 * Cria o banco da URL se ele não existir e aplica as migrações.
+	 */
+	public static void preparar(String url, String usuario, String senha) throws SQLException {
+		criar(url, usuario, senha);
+		Flyway.configure().dataSource(url, usuario, senha).locations("classpath:db/migration").load().migrate();
+	}
+
+	/**
+	 * Apaga os dados de negócio e reinicia os ids; os clientes são mantidos. Roda na transação da
+	 * conexão, se houver uma.
+	 */
+	public static void limpar(Connection conexao) throws SQLException {
+		try (var comando = conexao.createStatement()) {
+			comando.execute("TRUNCATE MOVIMENTACAO, TRANSFERENCIA, RESERVA, PEDIDO_ITEM, PEDIDO, PONTO_RESSUPRIMENTO, "
+				+ "COTACAO, CONSUMO_DIARIO, MOVIMENTACAO_CONTAGEM, ESTOQUE_OCUPACAO, ESTOQUE_PRODUTO, ESTOQUE, "
+				+ "PRODUTO_FORNECEDOR, PRODUTO, FORNECEDOR, EVENTO_SAIDA, SINCRONIZACAO_CHECKPOINT RESTART IDENTITY CASCADE");
+		}
+	}
+
+	private static void criar(String url, String usuario, String senha) throws SQLException {
+		var inicioNome = url.lastIndexOf('/') + 1;
+		var fimNome = url.indexOf('?', inicioNome);
+		var nome = fimNome < 0 ? url.substring(inicioNome) : url.substring(inicioNome, fimNome);
+		var urlAdministracao = url.substring(0, inicioNome) + "postgres";
+
+		try (var conexao = DriverManager.getConnection(urlAdministracao, usuario, senha);
+				var consulta = conexao.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+			consulta.setString(1, nome);
+			try (var resultado = consulta.executeQuery()) {
+				if (resultado.next()) {
+					return;
+				}
+			}
+			try (var comando = conexao.createStatement()) {
+				comando.execute("CREATE DATABASE \"" + nome.replace("\"", "\"\"") + "\"");
+			}
+			LOG.info("Banco {} criado", nome);
+		}
+	}
+}
@@ -0,0 +1,303 @@
+package dev.gestock.sge.gerador;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.util.SplittableRandom;
+
+/**
+ * Fornecedores, produtos, cotações e estoques da carga. Grava as tabelas de cadastro e guarda os
+ * atributos usados pela simulação das movimentações; os ids são as posições + 1, na ordem do COPY.
+ */
+final class Catalogo {
+	static final int FLUXO_FORNECEDOR = 1;
+	static final int FLUXO_PRODUTO = 2;
+	static final int FLUXO_ESTOQUE = 3;
+	static final int FLUXO_COTACAO = 4;
+
+	private static final String[] RAZOES = { "Distribuidora", "Atacado", "Comercial", "Importadora", "Indústria",
+		"Alimentos", "Cooperativa", "Logística", "Empório", "Casa" };
+	private static final String[] NOMES = { "Vale Verde", "Bom Sabor", "Da Fazenda", "Estrela", "Primor", "Serra Azul",
+		"Tropical", "Nobre", "Campo Belo", "Aurora", "Sol Nascente", "Boa Safra", "Ouro Fino", "Real", "Pérola",
+		"Vitória", "Minuano", "Pampa", "Cerrado", "Litoral", "Ipê", "Jequitibá", "Bem-Te-Vi", "Sabiá", "Guarani",
+		"Iguaçu", "Araucária", "Mantiqueira", "Santa Clara", "São Jorge" };
+	private static final String[] SUFIXOS = { "Ltda", "S.A.", "Eireli", "ME" };
+	private static final String[] CIDADES = { "São Paulo - SP", "Campinas - SP", "Ribeirão Preto - SP", "Santos - SP",
+		"Rio de Janeiro - RJ", "Niterói - RJ", "Belo Horizonte - MG", "Uberlândia - MG", "Juiz de Fora - MG",
+		"Vitória - ES", "Curitiba - PR", "Londrina - PR", "Maringá - PR", "Florianópolis - SC", "Joinville - SC",
+		"Porto Alegre - RS", "Caxias do Sul - RS", "Pelotas - RS", "Salvador - BA", "Feira de Santana - BA",
+		"Recife - PE", "Fortaleza - CE", "Natal - RN", "João Pessoa - PB", "Maceió - AL", "Aracaju - SE",
+		"São Luís - MA", "Teresina - PI", "Belém - PA", "Manaus - AM", "Goiânia - GO", "Brasília - DF",
+		"Campo Grande - MS", "Cuiabá - MT", "Palmas - TO", "Porto Velho - RO" };
+	private static final String[] TIPOS_ESTOQUE = { "Centro de Distribuição", "Armazém", "Depósito", "Loja" };
+	private static final String[] LOGRADOUROS = { "Av. Industrial", "Rod. BR-116, km", "Rua do Porto", "Av. das Nações",
+		"Rua das Indústrias", "Av. Brasil", "Rod. Anhanguera, km", "Rua da Logística" };
+
+	private final ConfiguracaoCarga configuracao;
+
+	private final int[] leadTimeFornecedor;
+	private final int[] custoFornecedor;
+	private final boolean[] fornecedorAtivo;
+
+	private final Categoria[] categoriaProduto;
+	private final float[] popularidadeProduto;
+	private final byte[] quantidadeSaidaProduto;
+	private final int[] fornecedorPrincipalProduto;
+	private final int[] inicioFornecedoresProduto;
+	private final int[] fornecedoresProduto;
+
+	private final float[] porteEstoque;
+	private final int[] deslocamentoEstoque;
+
+	Catalogo(ConfiguracaoCarga configuracao) {
+		this.configuracao = configuracao;
+		var fornecedores = configuracao.getFornecedores();
+		var produtos = configuracao.getProdutos();
+		var estoques = configuracao.getEstoques();
+		leadTimeFornecedor = new int[fornecedores];
+		custoFornecedor = new int[fornecedores];
+		fornecedorAtivo = new boolean[fornecedores];
+		categoriaProduto = new Categoria[produtos];
+		popularidadeProduto = new float[produtos];
+		quantidadeSaidaProduto = new byte[produtos];
+		fornecedorPrincipalProduto = new int[produtos];
+		inicioFornecedoresProduto = new int[produtos + 1];
+		fornecedoresProduto = new int[produtos * configuracao.getFornecedoresPorProduto()];
+		porteEstoque = new float[estoques];
+		deslocamentoEstoque = new int[estoques];
+	}
+
+	void gravar(Connection conexao) throws SQLException, IOException {
+		gravarFornecedores(conexao);
+		gravarProdutos(conexao);
+		gravarCotacoes(conexao);
+		gravarEstoques(conexao);
+	}
+
+	private void gravarFornecedores(Connection conexao) throws SQLException, IOException {
+		try (var copia = Copia.paraTabela(conexao, "FORNECEDOR", "NOME, CNPJ, CONTATO, LEAD_TIME, CUSTO, STATUS")) {
+			for (int f = 0; f < leadTimeFornecedor.length; f++) {
+				var aleatorio = configuracao.aleatorio(FLUXO_FORNECEDOR, f);
+				var nome = sortear(aleatorio, NOMES);
+				leadTimeFornecedor[f] = Math.min(30, 1 + (int) exponencial(aleatorio, 6));
+				custoFornecedor[f] = 500 + (int) exponencial(aleatorio, 4000);
+				fornecedorAtivo[f] = aleatorio.nextInt(100) < 95;
+				copia.texto(sortear(aleatorio, RAZOES) + " " + nome + " " + sortear(aleatorio, SUFIXOS))
+					.texto(cnpj(f))
+					.texto("vendas" + (f + 1) + "@" + dominio(nome) + ".com.br")
+					.inteiro(leadTimeFornecedor[f])
+					.centavos(custoFornecedor[f])
+					.texto(fornecedorAtivo[f] ? "ATIVO" : "INATIVO")
+					.linha();
+			}
+		}
+	}
+
+	private void gravarProdutos(Connection conexao) throws SQLException, IOException {
+		var frequencias = 0;
+		for (var categoria : Categoria.values()) {
+			frequencias += categoria.getFrequencia();
+		}
+		try (var copia = Copia.paraTabela(conexao, "PRODUTO", "CODIGO, NOME, PESO, PERECIVEL, STATUS")) {
+			for (int p = 0; p < categoriaProduto.length; p++) {
+				var aleatorio = configuracao.aleatorio(FLUXO_PRODUTO, p);
+				var categoria = sortearCategoria(aleatorio, frequencias);
+				var tamanho = aleatorio.nextInt(categoria.getTamanhos().length);
+				categoriaProduto[p] = categoria;
+				// Log-normal de média 1: poucos produtos concentram a maior parte das saídas
+				popularidadeProduto[p] = (float) Math.exp(aleatorio.nextGaussian() * 1.1 - 1.1 * 1.1 / 2);
+				quantidadeSaidaProduto[p] = (byte) (1 + aleatorio.nextInt(8));
+				sortearFornecedores(aleatorio, p);
+				copia.texto(categoria.getPrefixo() + "-" + String.format("%07d", p + 1))
+					.texto(sortear(aleatorio, categoria.getTipos()) + " " + sortear(aleatorio, NOMES) + " "
+						+ categoria.getTamanhos()[tamanho])
+					.inteiro(categoria.getPesos()[tamanho])
+					.texto(categoria.isPerecivel() ? "SIM" : "NAO")
+					.texto(aleatorio.nextInt(100) < 98 ? "ATIVO" : "INATIVO")
+					.linha();
+			}
+		}
+		try (var copia = Copia.paraTabela(conexao, "PRODUTO_FORNECEDOR", "PRODUTO_ID, FORNECEDOR_ID")) {
+			for (int p = 0; p < categoriaProduto.length; p++) {
+				for (int i = inicioFornecedoresProduto[p]; i < inicioFornecedoresProduto[p + 1]; i++) {
+					copia.inteiro(p + 1).inteiro(fornecedoresProduto[i] + 1).linha();
+				}
+			}
+		}
+	}
+
+	/**
+	 * De 1 ao máximo configurado de fornecedores distintos; o principal, que recebe os pedidos da
+	 * simulação, é o de menor custo entre os ativos.
+	 */
+	private void sortearFornecedores(SplittableRandom aleatorio, int produto) {
+		var inicio = inicioFornecedoresProduto[produto];
+		var quantidade = 1 + aleatorio.nextInt(configuracao.getFornecedoresPorProduto());
+		var principal = -1;
+		for (int i = 0; i < quantidade; i++) {
+			int fornecedor;
+			do {
+				fornecedor = aleatorio.nextInt(custoFornecedor.length);
+			} while (contem(fornecedoresProduto, inicio, inicio + i, fornecedor));
+			fornecedoresProduto[inicio + i] = fornecedor;
+			if (principal < 0 || prioridade(fornecedor) < prioridade(principal)) {
+				principal = fornecedor;
+			}
+		}
+		fornecedorPrincipalProduto[produto] = principal;
+		inicioFornecedoresProduto[produto + 1] = inicio + quantidade;
+	}
+
+	private long prioridade(int fornecedor) {
+		// Inativos só são escolhidos quando o produto não tem fornecedor ativo
+		return fornecedorAtivo[fornecedor] ? custoFornecedor[fornecedor] : (long) Integer.MAX_VALUE + custoFornecedor[fornecedor];
+	}
+
+	private static boolean contem(int[] valores, int inicio, int fim, int valor) {
+		for (int i = inicio; i < fim; i++) {
+			if (valores[i] == valor) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Uma cotação por produto e fornecedor, com o custo e o lead time do fornecedor, como a
+	 * sincronização de cotações as mantém.
+	 */
+	private void gravarCotacoes(Connection conexao) throws SQLException, IOException {
+		try (var copia = Copia.paraTabela(conexao, "COTACAO",
+				"PRODUTO_ID, FORNECEDOR_ID, PRECO, LEAD_TIME, VALIDADE, STATUS_APROVACAO")) {
+			for (int p = 0; p < categoriaProduto.length; p++) {
+				var aleatorio = configuracao.aleatorio(FLUXO_COTACAO, p);
+				for (int i = inicioFornecedoresProduto[p]; i < inicioFornecedoresProduto[p + 1]; i++) {
+					var fornecedor = fornecedoresProduto[i];
+					copia.inteiro(p + 1)
+						.inteiro(fornecedor + 1)
+						.centavos(custoFornecedor[fornecedor])
+						.inteiro(leadTimeFornecedor[fornecedor])
+						.texto(aleatorio.nextInt(100) < 90 ? "ATIVA" : "EXPIRADA")
+						.texto(fornecedor == fornecedorPrincipalProduto[p] || aleatorio.nextInt(100) < 80 ? "APROVADA" : "PENDENTE")
+						.linha();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A capacidade gravada é provisória: é ajustada à ocupação final depois da simulação.
+	 */
+	private void gravarEstoques(Connection conexao) throws SQLException, IOException {
+		try (var copia = Copia.paraTabela(conexao, "ESTOQUE", "NOME, ENDERECO, CAPACIDADE, STATUS")) {
+			for (int e = 0; e < porteEstoque.length; e++) {
+				var aleatorio = configuracao.aleatorio(FLUXO_ESTOQUE, e);
+				var cidade = CIDADES[e % CIDADES.length];
+				var nome = sortear(aleatorio, TIPOS_ESTOQUE) + " " + cidade.substring(0, cidade.indexOf(" - "));
+				if (e >= CIDADES.length) {
+					nome += " " + (e / CIDADES.length + 1);
+				}
+				porteEstoque[e] = (float) (0.5 + aleatorio.nextDouble());
+				deslocamentoEstoque[e] = aleatorio.nextInt(categoriaProduto.length);
+				copia.texto(nome)
+					.texto(sortear(aleatorio, LOGRADOUROS) + " " + (1 + aleatorio.nextInt(3000)) + " - " + cidade)
+					.inteiro(Integer.MAX_VALUE)
+					.texto("ATIVO")
+					.linha();
+			}
+		}
+	}
+
+	private Categoria sortearCategoria(SplittableRandom aleatorio, int frequencias) {
+		var sorteio = aleatorio.nextInt(frequencias);
+		for (var categoria : Categoria.values()) {
+			sorteio -= categoria.getFrequencia();
+			if (sorteio < 0) {
+				return categoria;
+			}
+		}
+		throw new IllegalStateException();
+	}
+
+	private static String sortear(SplittableRandom aleatorio, String[] valores) {
+		return valores[aleatorio.nextInt(valores.length)];
+	}
+
+	static double exponencial(SplittableRandom aleatorio, double media) {
+		return -Math.log(1 - aleatorio.nextDouble()) * media;
+	}
+
+	/**
+	 * CNPJ com dígitos verificadores válidos; a raiz é uma permutação do índice, então não se repete.
+	 */
+	private static String cnpj(int indice) {
+		var raiz = (indice * 48_271L + 10_000_019L) % 100_000_000L;
+		var digitos = new int[14];
+		var texto = String.format("%08d0001", raiz);
+		for (int i = 0; i < 12; i++) {
+			digitos[i] = texto.charAt(i) - '0';
+		}
+		digitos[12] = digitoCnpj(digitos, 12);
+		digitos[13] = digitoCnpj(digitos, 13);
+		var cnpj = new StringBuilder(14);
+		for (var digito : digitos) {
+			cnpj.append(digito);
+		}
+		return cnpj.toString();
+	}
+
+	private static int digitoCnpj(int[] digitos, int tamanho) {
+		var soma = 0;
+		var peso = tamanho - 7;
+		for (int i = 0; i < tamanho; i++) {
+			soma += digitos[i] * peso;
+			peso = peso == 2 ? 9 : peso - 1;
+		}
+		var resto = soma % 11;
+		return resto < 2 ? 0 : 11 - resto;
+	}
+
+	private static String dominio(String nome) {
+		return Normalizer.normalize(nome, Normalizer.Form.NFD).replaceAll("[^A-Za-z]", "").toLowerCase();
+	}
+
+	/**
+	 * Produto guardado no estoque: cada estoque tem um bloco de produtos consecutivos a partir de
+	 * um deslocamento sorteado.
+	 *
+	 * @param indice de 0 a produtos por estoque - 1
+	 * @return posição do produto (id - 1)
+	 */
+	int produtoDoEstoque(int estoque, int indice) {
+		return (deslocamentoEstoque[estoque] + indice) % categoriaProduto.length;
+	}
+
+	int getLeadTimeFornecedor(int fornecedor) {
+		return leadTimeFornecedor[fornecedor];
+	}
+
+	int getCustoFornecedor(int fornecedor) {
+		return custoFornecedor[fornecedor];
+	}
+
+	Categoria getCategoriaProduto(int produto) {
+		return categoriaProduto[produto];
+	}
+
+	float getPopularidadeProduto(int produto) {
+		return popularidadeProduto[produto];
+	}
+
+	int getQuantidadeSaidaProduto(int produto) {
+		return quantidadeSaidaProduto[produto];
+	}
+
+	int getFornecedorPrincipalProduto(int produto) {
+		return fornecedorPrincipalProduto[produto];
+	}
+
+	float getPorteEstoque(int estoque) {
+		return porteEstoque[estoque];
+	}
+}
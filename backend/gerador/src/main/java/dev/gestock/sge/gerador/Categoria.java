@@ -0,0 +1,105 @@
+package dev.gestock.sge.gerador;
+
+/**
+ * Categorias do catálogo gerado. Cada uma tem sua sazonalidade: o consumo varia ao longo do ano em
+ * torno da média, com a amplitude dada e o pico no dia do ano indicado (calendário do hemisfério sul).
+ */
+enum Categoria {
+	MERCEARIA("MER", 30, false, 0.10, 75,
+		new String[] { "Arroz Branco", "Arroz Integral", "Feijão Carioca", "Feijão Preto", "Macarrão Espaguete",
+			"Macarrão Parafuso", "Açúcar Refinado", "Açúcar Cristal", "Café Torrado", "Farinha de Trigo",
+			"Farinha de Mandioca", "Óleo de Soja", "Azeite Extra Virgem", "Sal Refinado", "Molho de Tomate" },
+		new String[] { "500g", "1kg", "2kg", "5kg", "900ml" }, new int[] { 500, 1000, 2000, 5000, 900 }),
+	BEBIDAS("BEB", 15, false, 0.45, 15,
+		new String[] { "Refrigerante Cola", "Refrigerante Guaraná", "Água Mineral", "Água com Gás", "Suco de Uva",
+			"Suco de Laranja", "Cerveja Pilsen", "Chá Gelado", "Isotônico", "Energético" },
+		new String[] { "350ml", "600ml", "1,5L", "2L", "Fardo 12un" }, new int[] { 370, 630, 1550, 2080, 4500 }),
+	LATICINIOS("LAT", 12, true, 0.08, 200,
+		new String[] { "Leite UHT Integral", "Leite UHT Desnatado", "Queijo Mussarela", "Queijo Prato", "Iogurte Natural",
+			"Manteiga com Sal", "Requeijão Cremoso", "Creme de Leite", "Leite Condensado" },
+		new String[] { "200g", "395g", "500g", "1L", "1kg" }, new int[] { 200, 395, 500, 1050, 1000 }),
+	HORTIFRUTI("HRT", 8, true, 0.20, 300,
+		new String[] { "Banana Prata", "Maçã Gala", "Laranja Pera", "Tomate", "Batata Inglesa", "Cebola", "Alface Crespa",
+			"Cenoura" },
+		new String[] { "Bandeja", "1kg", "Caixa 5kg", "Saco 10kg" }, new int[] { 600, 1000, 5000, 10000 }),
+	LIMPEZA("LIM", 12, false, 0.05, 10,
+		new String[] { "Detergente Neutro", "Sabão em Pó", "Sabão em Barra", "Água Sanitária", "Desinfetante",
+			"Amaciante", "Esponja Multiuso", "Limpador Multiuso" },
+		new String[] { "500ml", "1L", "2L", "1kg", "Pacote 5un" }, new int[] { 520, 1040, 2080, 1000, 300 }),
+	HIGIENE("HIG", 10, false, 0.05, 340,
+		new String[] { "Sabonete em Barra", "Xampu", "Condicionador", "Creme Dental", "Desodorante Aerossol",
+			"Papel Higiênico", "Fralda Descartável", "Absorvente" },
+		new String[] { "90g", "150ml", "350ml", "Pacote 12un", "Pacote 30un" }, new int[] { 90, 160, 370, 1100, 1500 }),
+	VERAO("VER", 4, false, 0.80, 20,
+		new String[] { "Protetor Solar FPS 30", "Protetor Solar FPS 50", "Repelente", "Sorvete de Creme",
+			"Picolé de Frutas", "Carvão Vegetal" },
+		new String[] { "120ml", "200ml", "1,5L", "Saco 3kg" }, new int[] { 130, 210, 800, 3000 }),
+	INVERNO("INV", 4, false, 0.45, 190,
+		new String[] { "Achocolatado em Pó", "Sopa Instantânea", "Chá de Camomila", "Vinho Tinto Seco", "Pinhão",
+			"Canjica Amarela" },
+		new String[] { "200g", "400g", "750ml", "1kg" }, new int[] { 200, 400, 1250, 1000 }),
+	PASCOA("PAS", 2, false, 0.90, 100,
+		new String[] { "Ovo de Páscoa ao Leite", "Ovo de Páscoa Meio Amargo", "Colomba Pascal", "Bombom Sortido",
+			"Chocolate ao Leite" },
+		new String[] { "90g", "250g", "500g", "Caixa 1kg" }, new int[] { 90, 250, 500, 1000 }),
+	NATAL("NAT", 3, false, 0.95, 355,
+		new String[] { "Panetone de Frutas", "Chocotone", "Espumante Brut", "Lentilha", "Castanha-do-Pará",
+			"Pêssego em Calda" },
+		new String[] { "400g", "500g", "750ml", "1kg" }, new int[] { 400, 500, 1250, 1000 });
+
+	private final String prefixo;
+	private final int frequencia;
+	private final boolean perecivel;
+	private final double amplitude;
+	private final int pico;
+	private final String[] tipos;
+	private final String[] tamanhos;
+	private final int[] pesos;
+
+	Categoria(String prefixo, int frequencia, boolean perecivel, double amplitude, int pico, String[] tipos,
+			String[] tamanhos, int[] pesos) {
+		this.prefixo = prefixo;
+		this.frequencia = frequencia;
+		this.perecivel = perecivel;
+		this.amplitude = amplitude;
+		this.pico = pico;
+		this.tipos = tipos;
+		this.tamanhos = tamanhos;
+		this.pesos = pesos;
+	}
+
+	/**
+	 * Fator multiplicativo do consumo no dia do ano, com média 1 ao longo do ano.
+	 */
+	double sazonalidade(int diaDoAno) {
+		return 1 + amplitude * Math.cos(2 * Math.PI * (diaDoAno - pico) / 365.25);
+	}
+
+	double getSazonalidadeMaxima() {
+		return 1 + amplitude;
+	}
+
+	String getPrefixo() {
+		return prefixo;
+	}
+
+	int getFrequencia() {
+		return frequencia;
+	}
+
+	boolean isPerecivel() {
+		return perecivel;
+	}
+
+	String[] getTipos() {
+		return tipos;
+	}
+
+	String[] getTamanhos() {
+		return tamanhos;
+	}
+
+	int[] getPesos() {
+		return pesos;
+	}
+}
@@ -0,0 +1,156 @@
+package dev.gestock.sge.gerador;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Conexão e volumes da carga, lidos de argumentos {@code --chave=valor}:
+ *
+ * <pre>
+ * --url                       jdbc:postgresql://localhost:5434/sge_carga (criado se não existir)
+ * --usuario / --senha         sge / sge
+ * --estoques                  50
+ * --produtos                  20000
+ * --fornecedores              500
+ * --fornecedores-por-produto  3        máximo; cada produto tem de 1 a esse número de fornecedores
+ * --produtos-por-estoque      2000     pares estoque-produto (e pontos de ressuprimento) por estoque
+ * --anos                      2        período coberto pelo histórico
+ * --movimentacoes             5000000  alvo aproximado; a simulação decide o número exato
+ * --fim                       hoje     dia seguinte ao último do histórico
+ * --semente                   42
+ * </pre>
+ */
+final class ConfiguracaoCarga {
+	private final String url;
+	private final String usuario;
+	private final String senha;
+	private final int estoques;
+	private final int produtos;
+	private final int fornecedores;
+	private final int fornecedoresPorProduto;
+	private final int produtosPorEstoque;
+	private final int anos;
+	private final long movimentacoes;
+	private final LocalDate fim;
+	private final long semente;
+
+	private ConfiguracaoCarga(Map<String, String> valores) {
+		url = valores.getOrDefault("url", "jdbc:postgresql://localhost:5434/sge_carga");
+		usuario = valores.getOrDefault("usuario", "sge");
+		senha = valores.getOrDefault("senha", "sge");
+		estoques = positivo(valores, "estoques", 50);
+		produtos = positivo(valores, "produtos", 20_000);
+		fornecedores = positivo(valores, "fornecedores", 500);
+		fornecedoresPorProduto = Math.min(fornecedores, positivo(valores, "fornecedores-por-produto", 3));
+		produtosPorEstoque = Math.min(produtos, positivo(valores, "produtos-por-estoque", 2000));
+		anos = positivo(valores, "anos", 2);
+		movimentacoes = Long.parseLong(valores.getOrDefault("movimentacoes", "5000000"));
+		fim = valores.containsKey("fim") ? LocalDate.parse(valores.get("fim")) : LocalDate.now();
+		semente = Long.parseLong(valores.getOrDefault("semente", "42"));
+
+		if (movimentacoes < 0 || movimentacoes > Integer.MAX_VALUE / 2) {
+			throw new IllegalArgumentException("movimentacoes deve estar entre 0 e " + Integer.MAX_VALUE / 2);
+		}
+	}
+
+	static ConfiguracaoCarga ler(String[] argumentos) {
+		var valores = new HashMap<String, String>();
+		for (var argumento : argumentos) {
+			var separador = argumento.indexOf('=');
+			if (!argumento.startsWith("--") || separador < 0) {
+				throw new IllegalArgumentException("Argumento inválido: " + argumento + " (use --chave=valor)");
+			}
+			valores.put(argumento.substring(2, separador), argumento.substring(separador + 1));
+		}
+		var configuracao = new ConfiguracaoCarga(valores);
+		valores.keySet().removeAll(List.of("url", "usuario", "senha", "estoques", "produtos", "fornecedores",
+			"fornecedores-por-produto", "produtos-por-estoque", "anos", "movimentacoes", "fim", "semente"));
+		if (!valores.isEmpty()) {
+			throw new IllegalArgumentException("Argumentos desconhecidos: " + valores.keySet());
+		}
+		return configuracao;
+	}
+
+	private static int positivo(Map<String, String> valores, String chave, int padrao) {
+		var valor = valores.containsKey(chave) ? Integer.parseInt(valores.get(chave)) : padrao;
+		if (valor <= 0) {
+			throw new IllegalArgumentException(chave + " deve ser positivo");
+		}
+		return valor;
+	}
+
+	Connection conectar() throws SQLException {
+		return DriverManager.getConnection(url, usuario, senha);
+	}
+
+	/**
+	 * Gerador pseudoaleatório de um fluxo (tabela, simulação) e de um índice dentro dele. Cada
+	 * fluxo depende só da semente e do índice, de modo que a carga é a mesma qualquer que seja a
+	 * ordem em que as partes são geradas.
+	 */
+	SplittableRandom aleatorio(int fluxo, long indice) {
+		return new SplittableRandom(misturar(misturar(semente + fluxo * 0x9E3779B97F4A7C15L) + indice));
+	}
+
+	private static long misturar(long valor) {
+		valor = (valor ^ (valor >>> 30)) * 0xBF58476D1CE4E5B9L;
+		valor = (valor ^ (valor >>> 27)) * 0x94D049BB133111EBL;
+		return valor ^ (valor >>> 31);
+	}
+
+	String descricao() {
+		return "estoques=" + estoques + ", produtos=" + produtos + ", fornecedores=" + fornecedores
+			+ ", fornecedoresPorProduto=" + fornecedoresPorProduto + ", produtosPorEstoque=" + produtosPorEstoque
+			+ ", anos=" + anos + ", movimentacoes=" + movimentacoes + ", fim=" + fim + ", semente=" + semente;
+	}
+
+	String getUrl() {
+		return url;
+	}
+
+	String getUsuario() {
+		return usuario;
+	}
+
+	String getSenha() {
+		return senha;
+	}
+
+	int getEstoques() {
+		return estoques;
+	}
+
+	int getProdutos() {
+		return produtos;
+	}
+
+	int getFornecedores() {
+		return fornecedores;
+	}
+
+	int getFornecedoresPorProduto() {
+		return fornecedoresPorProduto;
+	}
+
+	int getProdutosPorEstoque() {
+		return produtosPorEstoque;
+	}
+
+	int getAnos() {
+		return anos;
+	}
+
+	long getMovimentacoes() {
+		return movimentacoes;
+	}
+
+	LocalDate getFim() {
+		return fim;
+	}
+}
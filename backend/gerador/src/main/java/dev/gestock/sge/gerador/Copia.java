@@ -0,0 +1,188 @@
+package dev.gestock.sge.gerador;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Escreve linhas no formato texto do COPY (campos separados por tabulação, \N para nulo), direto
+ * para um {@code COPY ... FROM STDIN} aberto na conexão ou para um arquivo carregado depois.
+ */
+final class Copia implements AutoCloseable {
+	private static final int TAMANHO_BUFFER = 1 << 16;
+
+	private final OutputStream saida;
+	private final byte[] buffer = new byte[TAMANHO_BUFFER];
+	private int posicao;
+	private boolean primeiroCampo = true;
+	private long linhas;
+
+	private Copia(OutputStream saida) {
+		this.saida = saida;
+	}
+
+	/**
+	 * Abre um COPY na conexão; as linhas vão para o banco à medida que o buffer enche e o COPY é
+	 * concluído (e confirmado, com autocommit) no {@link #close()}.
+	 */
+	static Copia paraTabela(Connection conexao, String tabela, String colunas) throws SQLException {
+		return new Copia(new PGCopyOutputStream(conexao.unwrap(PGConnection.class), comando(tabela, colunas), TAMANHO_BUFFER));
+	}
+
+	static Copia paraArquivo(Path arquivo) throws IOException {
+		return new Copia(new BufferedOutputStream(Files.newOutputStream(arquivo), TAMANHO_BUFFER));
+	}
+
+	/**
+	 * Carrega na tabela um arquivo gravado por {@link #paraArquivo(Path)}.
+	 */
+	static long carregar(Connection conexao, String tabela, String colunas, Path arquivo) throws SQLException, IOException {
+		try (var entrada = new BufferedInputStream(Files.newInputStream(arquivo), TAMANHO_BUFFER)) {
+			return new CopyManager(conexao.unwrap(PGConnection.class)).copyIn(comando(tabela, colunas), entrada);
+		}
+	}
+
+	private static String comando(String tabela, String colunas) {
+		return "COPY " + tabela + " (" + colunas + ") FROM STDIN";
+	}
+
+	Copia texto(String valor) {
+		separar();
+		for (var b : valor.getBytes(StandardCharsets.UTF_8)) {
+			switch (b) {
+				case '\\' -> escapar('\\');
+				case '\t' -> escapar('t');
+				case '\n' -> escapar('n');
+				case '\r' -> escapar('r');
+				default -> escrever(b);
+			}
+		}
+		return this;
+	}
+
+	Copia inteiro(long valor) {
+		separar();
+		if (valor < 0) {
+			escrever('-');
+			valor = -valor;
+		}
+		escreverDigitos(valor, 1);
+		return this;
+	}
+
+	/**
+	 * Valor decimal não negativo com duas casas, a partir dos centavos.
+	 */
+	Copia centavos(long valor) {
+		inteiro(valor / 100);
+		escrever('.');
+		escreverDigitos(valor % 100, 2);
+		return this;
+	}
+
+	/**
+	 * Data no formato ISO a partir do texto já formatado do dia.
+	 */
+	Copia dia(byte[] dia) {
+		separar();
+		garantir(dia.length);
+		System.arraycopy(dia, 0, buffer, posicao, dia.length);
+		posicao += dia.length;
+		return this;
+	}
+
+	/**
+	 * Data e hora: o dia já formatado e os segundos desde a meia-noite.
+	 */
+	Copia diaHora(byte[] dia, int segundos) {
+		dia(dia);
+		escrever(' ');
+		escreverDigitos(segundos / 3600, 2);
+		escrever(':');
+		escreverDigitos(segundos / 60 % 60, 2);
+		escrever(':');
+		escreverDigitos(segundos % 60, 2);
+		return this;
+	}
+
+	Copia nulo() {
+		separar();
+		escrever('\\');
+		escrever('N');
+		return this;
+	}
+
+	void linha() {
+		escrever('\n');
+		primeiroCampo = true;
+		linhas++;
+	}
+
+	long getLinhas() {
+		return linhas;
+	}
+
+	@Override
+	public void close() throws IOException {
+		descarregar();
+		saida.close();
+	}
+
+	private void separar() {
+		if (!primeiroCampo) {
+			escrever('\t');
+		}
+		primeiroCampo = false;
+	}
+
+	private void escapar(char c) {
+		escrever('\\');
+		escrever(c);
+	}
+
+	private void escreverDigitos(long valor, int minimo) {
+		garantir(20);
+		var inicio = posicao;
+		do {
+			buffer[posicao++] = (byte) ('0' + valor % 10);
+			valor /= 10;
+			minimo--;
+		} while (valor > 0 || minimo > 0);
+		// Os dígitos saem do menos para o mais significativo
+		for (int i = inicio, j = posicao - 1; i < j; i++, j--) {
+			var b = buffer[i];
+			buffer[i] = buffer[j];
+			buffer[j] = b;
+		}
+	}
+
+	private void escrever(int b) {
+		garantir(1);
+		buffer[posicao++] = (byte) b;
+	}
+
+	private void garantir(int bytes) {
+		if (posicao + bytes > buffer.length) {
+			descarregar();
+		}
+	}
+
+	private void descarregar() {
+		try {
+			saida.write(buffer, 0, posicao);
+			posicao = 0;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
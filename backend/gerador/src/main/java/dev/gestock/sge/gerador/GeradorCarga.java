@@ -0,0 +1,151 @@
+package dev.gestock.sge.gerador;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gera uma massa de dados em escala de produção no esquema real, para testes de carga e
+ * benchmarks. Os dados de negócio do banco são apagados (clientes são mantidos) e gravados de novo
+ * por COPY; com a mesma configuração e o mesmo --fim o resultado é idêntico. Veja
+ * {@link ConfiguracaoCarga} para os argumentos.
+ *
+ * Exemplo em escala de produção:
+ *
+ * <pre>
+ * mvn -pl gerador exec:java -Dexec.args="--estoques=500 --produtos=200000 --fornecedores=2000
+ *     --produtos-por-estoque=20000 --movimentacoes=50000000 --fim=2025-01-01"
+ * </pre>
+ *
+ * A carga não é transacional: as tabelas grandes são gravadas em paralelo por conexões separadas e
+ * os índices secundários das movimentações só são recriados no fim. Antes de removê-los, as
+ * definições ficam gravadas em CARGA_INDICE_PENDENTE, na mesma transação; uma carga interrompida
+ * deixa ali o que falta recriar, e a próxima execução recria esses índices. Se ela falhar, rode de
+ * novo.
+ */
+public final class GeradorCarga {
+	private static final Logger LOG = LoggerFactory.getLogger(GeradorCarga.class);
+	// Índices que não sustentam restrições são recriados depois da carga, de uma vez
+	private static final List<String> TABELAS_SEM_INDICES = List.of("movimentacao", "consumo_diario");
+
+	// Fora das migrações: é estado do gerador, não da aplicação, e não entra na limpeza
+	private static final String CRIAR_PENDENTES = """
+			CREATE TABLE IF NOT EXISTS CARGA_INDICE_PENDENTE (
+			    NOME varchar not null,
+			    DEFINICAO varchar not null,
+			    PRIMARY KEY (NOME)
+			)
+			""";
+
+	private final ConfiguracaoCarga configuracao;
+
+	private GeradorCarga(ConfiguracaoCarga configuracao) {
+		this.configuracao = configuracao;
+	}
+
+	public static void main(String[] argumentos) throws SQLException, IOException {
+		new GeradorCarga(ConfiguracaoCarga.ler(argumentos)).gerar();
+	}
+
+	private void gerar() throws SQLException, IOException {
+		LOG.info("Gerando carga: {}", configuracao.descricao());
+		var inicio = System.nanoTime();
+		BancoCarga.preparar(configuracao.getUrl(), configuracao.getUsuario(), configuracao.getSenha());
+
+		try (var conexao = configuracao.conectar()) {
+			executar(conexao, CRIAR_PENDENTES);
+			BancoCarga.limpar(conexao);
+			// Com as tabelas vazias, recriar o que uma carga interrompida deixou pendente é imediato
+			recriarIndices(conexao);
+			removerIndices(conexao);
+			try {
+				var catalogo = new Catalogo(configuracao);
+				catalogo.gravar(conexao);
+				LOG.info("Catálogo gravado");
+				new SimulacaoMovimentacoes(configuracao, catalogo).executar(conexao);
+			} finally {
+				recriarIndices(conexao);
+			}
+			executar(conexao, "ANALYZE");
+		}
+		LOG.info("Carga gerada em {} s", (System.nanoTime() - inicio) / 1_000_000_000L);
+	}
+
+	/**
+	 * Registra os índices secundários das tabelas carregadas em volume como pendentes e os remove,
+	 * na mesma transação.
+	 */
+	private void removerIndices(Connection conexao) throws SQLException {
+		conexao.setAutoCommit(false);
+		try {
+			var nomes = new ArrayList<String>();
+			try (var consulta = conexao.prepareStatement("""
+					INSERT INTO CARGA_INDICE_PENDENTE (NOME, DEFINICAO)
+					SELECT i.indexname, i.indexdef
+					  FROM pg_indexes i
+					 WHERE i.schemaname = current_schema()
+					   AND i.tablename = ANY (?)
+					   AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)
+					RETURNING NOME
+					""")) {
+				consulta.setArray(1, conexao.createArrayOf("varchar", TABELAS_SEM_INDICES.toArray()));
+				try (var resultado = consulta.executeQuery()) {
+					while (resultado.next()) {
+						nomes.add(resultado.getString(1));
+					}
+				}
+			}
+			for (var nome : nomes) {
+				executar(conexao, "DROP INDEX \"" + nome.replace("\"", "\"\"") + "\"");
+			}
+			conexao.commit();
+		} catch (SQLException e) {
+			conexao.rollback();
+			throw e;
+		} finally {
+			conexao.setAutoCommit(true);
+		}
+	}
+
+	/**
+	 * Recria os índices pendentes, cada um na transação que o tira da lista.
+	 */
+	private void recriarIndices(Connection conexao) throws SQLException {
+		var pendentes = new LinkedHashMap<String, String>();
+		try (var consulta = conexao.prepareStatement("SELECT NOME, DEFINICAO FROM CARGA_INDICE_PENDENTE ORDER BY NOME");
+				var resultado = consulta.executeQuery()) {
+			while (resultado.next()) {
+				pendentes.put(resultado.getString(1), resultado.getString(2));
+			}
+		}
+		if (pendentes.isEmpty()) {
+			return;
+		}
+		LOG.info("Recriando {} índices", pendentes.size());
+		conexao.setAutoCommit(false);
+		try (var remocao = conexao.prepareStatement("DELETE FROM CARGA_INDICE_PENDENTE WHERE NOME = ?")) {
+			for (var pendente : pendentes.entrySet()) {
+				executar(conexao, pendente.getValue());
+				remocao.setString(1, pendente.getKey());
+				remocao.executeUpdate();
+				conexao.commit();
+			}
+		} catch (SQLException e) {
+			conexao.rollback();
+			throw e;
+		} finally {
+			conexao.setAutoCommit(true);
+		}
+	}
+
+	private static void executar(Connection conexao, String sql) throws SQLException {
+		try (var comando = conexao.createStatement()) {
+			comando.execute(sql);
+		}
+	}
+}
@@ -0,0 +1,379 @@
+package dev.gestock.sge.gerador;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Histórico de cada par estoque-produto, simulado do primeiro ao último dia do período.
+ *
+ * As saídas chegam como um processo de Poisson cuja taxa depende da popularidade do produto, do
+ * porte do estoque, da sazonalidade da categoria, do dia da semana e de um crescimento ao longo do
+ * período. Quando o saldo cai ao ponto de ressuprimento, um pedido é feito ao fornecedor principal
+ * (com reserva) e chega como entrada depois do lead time, às vezes com atraso; uma parte dos
+ * pedidos é cancelada e os ainda em curso no fim do período ficam abertos. Sem saldo a venda é
+ * perdida, então o saldo final nunca é negativo e é sempre a soma das movimentações do par.
+ *
+ * Movimentações, consumo diário, saldos, pontos de ressuprimento e pedidos vão direto para o banco
+ * por COPY, cada tabela na sua conexão; itens e reservas dependem dos pedidos já gravados e passam
+ * por arquivos temporários. Contagens diárias e ocupação são somadas em memória e gravadas no fim.
+ */
+final class SimulacaoMovimentacoes {
+	static final int FLUXO_PAR = 5;
+
+	private static final Logger LOG = LoggerFactory.getLogger(SimulacaoMovimentacoes.class);
+	private static final int FAIXAS = 16;
+	// Dias além do período para as datas previstas dos pedidos abertos
+	private static final int DIAS_ALEM_DO_FIM = 64;
+	// De segunda a domingo, com média 1
+	private static final double[] FATOR_DIA_DA_SEMANA = { 1.0, 0.95, 1.0, 1.05, 1.25, 1.15, 0.6 };
+	private static final double FRACAO_SAIDAS = 0.9;
+	private static final int COBERTURA_DIAS = 30;
+	private static final int PERCENTUAL_CANCELAMENTO = 2;
+	private static final int PERCENTUAL_ATRASO = 30;
+	private static final String[] RESPONSAVEIS = { "Ana Oliveira", "Carlos Mendes", "João Silva", "Maria Santos",
+		"Pedro Costa", "Juliana Rocha", "Rafael Lima", "Fernanda Alves", "Lucas Ribeiro", "Patrícia Gomes",
+		"Bruno Carvalho", "Camila Martins" };
+
+	private final ConfiguracaoCarga configuracao;
+	private final Catalogo catalogo;
+	private final int dias;
+	private final byte[][] textoDia;
+	private final double[][] fatorDia;
+	private final double[] fatorMaximo;
+	private final double saidasPorParDia;
+	private final long[] entradasDia;
+	private final long[] saidasDia;
+	private final long[] ocupacao;
+
+	private Copia movimentacoes;
+	private Copia consumos;
+	private Copia pedidos;
+	private Copia itens;
+	private Copia reservas;
+
+	private int proximaMovimentacao = 1;
+	private int proximoPedido = 1;
+	private long vendasPerdidas;
+
+	// Par em simulação
+	private SplittableRandom aleatorio;
+	private int estoqueId;
+	private int produtoId;
+	private int faixa;
+	private int fornecedor;
+	private int leadTime;
+	private int lote;
+	private int saldo;
+	private int diaConsumo;
+	private int saidaDia;
+	private int entradaDia;
+
+	// Pedido em curso do par
+	private boolean pedidoPendente;
+	private double inicioPedido;
+	private double fimPedido;
+	private double chegadaPedido;
+	private boolean pedidoCancelado;
+
+	SimulacaoMovimentacoes(ConfiguracaoCarga configuracao, Catalogo catalogo) {
+		this.configuracao = configuracao;
+		this.catalogo = catalogo;
+		dias = configuracao.getAnos() * 365;
+		var inicio = configuracao.getFim().minusDays(dias);
+
+		textoDia = new byte[dias + DIAS_ALEM_DO_FIM][];
+		for (int d = 0; d < textoDia.length; d++) {
+			textoDia[d] = inicio.plusDays(d).toString().getBytes(StandardCharsets.US_ASCII);
+		}
+
+		var categorias = Categoria.values();
+		fatorDia = new double[categorias.length][dias];
+		fatorMaximo = new double[categorias.length];
+		for (var categoria : categorias) {
+			var fatores = fatorDia[categoria.ordinal()];
+			for (int d = 0; d < dias; d++) {
+				var dia = inicio.plusDays(d);
+				var crescimento = 0.9 + 0.2 * d / dias;
+				fatores[d] = categoria.sazonalidade(dia.getDayOfYear())
+					* FATOR_DIA_DA_SEMANA[dia.getDayOfWeek().getValue() - 1] * crescimento;
+				fatorMaximo[categoria.ordinal()] = Math.max(fatorMaximo[categoria.ordinal()], fatores[d]);
+			}
+		}
+
+		var pares = (double) configuracao.getEstoques() * configuracao.getProdutosPorEstoque();
+		saidasPorParDia = FRACAO_SAIDAS * configuracao.getMovimentacoes() / (pares * dias);
+		entradasDia = new long[dias * FAIXAS];
+		saidasDia = new long[dias * FAIXAS];
+		ocupacao = new long[configuracao.getEstoques() * FAIXAS];
+	}
+
+	void executar(Connection conexao) throws SQLException, IOException {
+		var arquivoItens = Files.createTempFile("sge-pedido-item", ".copy");
+		var arquivoReservas = Files.createTempFile("sge-reserva", ".copy");
+		var conexoes = new ArrayList<Connection>();
+		try {
+			long pares;
+			try (var movimentacoes = Copia.paraTabela(conectar(conexoes), "MOVIMENTACAO",
+						"ID, DATA_HORA, PRODUTO_ID, ESTOQUE_ID, QUANTIDADE, TIPO, MOTIVO, RESPONSAVEL");
+					var consumos = Copia.paraTabela(conectar(conexoes), "CONSUMO_DIARIO",
+						"ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA");
+					var saldos = Copia.paraTabela(conectar(conexoes), "ESTOQUE_PRODUTO", "ESTOQUE_ID, PRODUTO_ID, QUANTIDADE");
+					var pontos = Copia.paraTabela(conectar(conexoes), "PONTO_RESSUPRIMENTO",
+						"ESTOQUE_ID, PRODUTO_ID, ESTOQUE_SEGURANCA");
+					var pedidos = Copia.paraTabela(conectar(conexoes), "PEDIDO",
+						"FORNECEDOR_ID, ESTOQUE_ID, VALOR_TOTAL, DATA_PEDIDO, DATA_PREVISTA, STATUS");
+					var itens = Copia.paraArquivo(arquivoItens);
+					var reservas = Copia.paraArquivo(arquivoReservas)) {
+				this.movimentacoes = movimentacoes;
+				this.consumos = consumos;
+				this.pedidos = pedidos;
+				this.itens = itens;
+				this.reservas = reservas;
+				simular(saldos, pontos);
+				pares = saldos.getLinhas();
+			}
+			LOG.info("{} pares simulados: {} movimentações, {} pedidos, {} vendas perdidas por falta de saldo",
+				pares, proximaMovimentacao - 1, proximoPedido - 1, vendasPerdidas);
+
+			Copia.carregar(conexao, "PEDIDO_ITEM", "PEDIDO_ID, PRODUTO_ID, QUANTIDADE, PRECO_UNITARIO", arquivoItens);
+			Copia.carregar(conexao, "RESERVA", "PEDIDO_ID, PRODUTO_ID, QUANTIDADE, DATA_HORA_RESERVA, STATUS, "
+				+ "TIPO_LIBERACAO, DATA_HORA_LIBERACAO", arquivoReservas);
+			gravarTotais(conexao);
+		} finally {
+			for (var aberta : conexoes) {
+				aberta.close();
+			}
+			Files.deleteIfExists(arquivoItens);
+			Files.deleteIfExists(arquivoReservas);
+		}
+	}
+
+	private Connection conectar(List<Connection> conexoes) throws SQLException {
+		var conexao = configuracao.conectar();
+		conexoes.add(conexao);
+		return conexao;
+	}
+
+	private void simular(Copia saldos, Copia pontos) {
+		var estoques = configuracao.getEstoques();
+		var produtosPorEstoque = configuracao.getProdutosPorEstoque();
+		for (int e = 0; e < estoques; e++) {
+			for (int i = 0; i < produtosPorEstoque; i++) {
+				var seguranca = simularPar(e, i);
+				saldos.inteiro(estoqueId).inteiro(produtoId).inteiro(saldo).linha();
+				pontos.inteiro(estoqueId).inteiro(produtoId).inteiro(seguranca).linha();
+				ocupacao[e * FAIXAS + produtoId % FAIXAS] += saldo;
+			}
+			if ((e + 1) % Math.max(1, estoques / 20) == 0 || e + 1 == estoques) {
+				LOG.info("{} de {} estoques simulados, {} movimentações", e + 1, estoques, proximaMovimentacao - 1);
+			}
+		}
+	}
+
+	/**
+	 * Simula o par e devolve o estoque de segurança dele.
+	 */
+	private int simularPar(int estoque, int indice) {
+		var produto = catalogo.produtoDoEstoque(estoque, indice);
+		var categoria = catalogo.getCategoriaProduto(produto).ordinal();
+		aleatorio = configuracao.aleatorio(FLUXO_PAR, (long) estoque * configuracao.getProdutosPorEstoque() + indice);
+		estoqueId = estoque + 1;
+		produtoId = produto + 1;
+		faixa = (int) ((estoqueId * 31L + produtoId) % FAIXAS);
+		fornecedor = catalogo.getFornecedorPrincipalProduto(produto);
+		leadTime = catalogo.getLeadTimeFornecedor(fornecedor);
+		diaConsumo = -1;
+		pedidoPendente = false;
+
+		// Política do par a partir da demanda média: ROP = demanda no lead time + segurança
+		var taxa = saidasPorParDia * catalogo.getPopularidadeProduto(produto) * catalogo.getPorteEstoque(estoque);
+		var quantidadeMedia = catalogo.getQuantidadeSaidaProduto(produto);
+		var demandaDiaria = taxa * quantidadeMedia;
+		var seguranca = (int) Math.ceil(demandaDiaria * 2 + 1.65 * Math.sqrt(demandaDiaria * quantidadeMedia * leadTime));
+		var rop = (int) Math.ceil(demandaDiaria * leadTime) + seguranca;
+		lote = lote(demandaDiaria, quantidadeMedia, catalogo.getCustoFornecedor(fornecedor));
+
+		saldo = 0;
+		registrar(aleatorio.nextDouble() * 0.1, "ENTRADA", rop + aleatorio.nextInt(lote + 1), "Inventário inicial", "Sistema");
+
+		var fatores = fatorDia[categoria];
+		var maximo = fatorMaximo[categoria];
+		var t = 0.0;
+		while (true) {
+			t = taxa > 0 ? t + Catalogo.exponencial(aleatorio, 1 / (taxa * maximo)) : dias;
+			while (pedidoPendente && fimPedido <= t && fimPedido < dias) {
+				resolverPedido();
+				if (saldo <= rop) {
+					fazerPedido(fimPedido);
+				}
+			}
+			if (t >= dias) {
+				break;
+			}
+			// Amostragem por rejeição: a taxa máxima é reduzida à taxa do dia
+			if (aleatorio.nextDouble() * maximo >= fatores[(int) t]) {
+				continue;
+			}
+			var quantidade = Math.min(saldo, 1 + (int) Catalogo.exponencial(aleatorio, quantidadeMedia - 1));
+			if (quantidade == 0) {
+				vendasPerdidas++;
+			} else {
+				registrar(t, "SAIDA", quantidade, "Venda", RESPONSAVEIS[aleatorio.nextInt(RESPONSAVEIS.length)]);
+			}
+			if (!pedidoPendente && saldo <= rop) {
+				fazerPedido(t);
+			}
+		}
+		if (pedidoPendente) {
+			gravarPedidoAberto();
+		}
+		fecharDia();
+		return seguranca;
+	}
+
+	/**
+	 * Cobre a demanda de {@value #COBERTURA_DIAS} dias, com um mínimo para produtos de giro lento,
+	 * em caixas de 10 e sem passar do valor total que um pedido comporta.
+	 */
+	private static int lote(double demandaDiaria, int quantidadeMedia, int custo) {
+		var lote = Math.max(12 * quantidadeMedia, (int) Math.ceil(demandaDiaria * COBERTURA_DIAS));
+		lote = (lote + 9) / 10 * 10;
+		return (int) Math.min(lote, Math.min(100_000, 9_999_999_999L / custo));
+	}
+
+	private void fazerPedido(double t) {
+		pedidoPendente = true;
+		inicioPedido = t;
+		var atraso = aleatorio.nextInt(100) < PERCENTUAL_ATRASO ? 1 + aleatorio.nextInt(3) : 0;
+		// Entregas chegam pela manhã
+		chegadaPedido = Math.floor(t) + leadTime + atraso + aleatorio.nextDouble() * 0.25;
+		pedidoCancelado = aleatorio.nextInt(100) < PERCENTUAL_CANCELAMENTO;
+		// Pedidos em transporte não podem ser cancelados
+		fimPedido = pedidoCancelado ? t + aleatorio.nextDouble() * (chegadaPedido - t) * 0.6 : chegadaPedido;
+	}
+
+	private void resolverPedido() {
+		var pedidoId = proximoPedido;
+		gravarPedido(pedidoCancelado ? "CANCELADO" : "RECEBIDO");
+		reservas.texto("LIBERADA").texto(pedidoCancelado ? "CANCELADO" : "RECEBIDO")
+			.diaHora(textoDia[(int) fimPedido], segundos(fimPedido)).linha();
+		if (!pedidoCancelado) {
+			registrar(fimPedido, "ENTRADA", lote, "Recebimento de pedido #" + pedidoId, "Sistema - Pedido Recebido");
+		}
+		pedidoPendente = false;
+	}
+
+	private void gravarPedidoAberto() {
+		var andamento = (dias - inicioPedido) / (chegadaPedido - inicioPedido);
+		gravarPedido(andamento < 0.34 ? "CRIADO" : andamento < 0.67 ? "ENVIADO" : "EM_TRANSPORTE");
+		reservas.texto("ATIVA").nulo().nulo().linha();
+		pedidoPendente = false;
+	}
+
+	/**
+	 * Grava o pedido, o item e o início da linha da reserva; o status da reserva fica a cargo de
+	 * quem chama.
+	 */
+	private void gravarPedido(String status) {
+		var pedidoId = proximoPedido++;
+		var custo = catalogo.getCustoFornecedor(fornecedor);
+		var dia = (int) inicioPedido;
+		pedidos.inteiro(fornecedor + 1)
+			.inteiro(estoqueId)
+			.centavos((long) lote * custo)
+			.dia(textoDia[dia])
+			.dia(textoDia[dia + leadTime])
+			.texto(status)
+			.linha();
+		itens.inteiro(pedidoId).inteiro(produtoId).inteiro(lote).centavos(custo).linha();
+		reservas.inteiro(pedidoId).inteiro(produtoId).inteiro(lote).diaHora(textoDia[dia], segundos(inicioPedido));
+	}
+
+	private void registrar(double t, String tipo, int quantidade, String motivo, String responsavel) {
+		if (proximaMovimentacao == Integer.MAX_VALUE - 100) {
+			throw new IllegalStateException("Movimentações demais para ids inteiros");
+		}
+		var dia = (int) t;
+		if (dia != diaConsumo) {
+			fecharDia();
+			diaConsumo = dia;
+		}
+		movimentacoes.inteiro(proximaMovimentacao++)
+			.diaHora(textoDia[dia], segundos(t))
+			.inteiro(produtoId)
+			.inteiro(estoqueId)
+			.inteiro(quantidade)
+			.texto(tipo)
+			.texto(motivo)
+			.texto(responsavel)
+			.linha();
+		if (tipo.equals("SAIDA")) {
+			saldo -= quantidade;
+			saidaDia += quantidade;
+			saidasDia[dia * FAIXAS + faixa]++;
+		} else {
+			saldo += quantidade;
+			entradaDia += quantidade;
+			entradasDia[dia * FAIXAS + faixa]++;
+		}
+	}
+
+	private void fecharDia() {
+		if (diaConsumo >= 0 && (saidaDia > 0 || entradaDia > 0)) {
+			consumos.inteiro(estoqueId).inteiro(produtoId).dia(textoDia[diaConsumo]).inteiro(saidaDia).inteiro(entradaDia).linha();
+		}
+		saidaDia = 0;
+		entradaDia = 0;
+	}
+
+	/**
+	 * Horário comercial: a fração do dia simulado vai das 8h às 20h.
+	 */
+	private static int segundos(double t) {
+		return 8 * 3600 + (int) ((t - Math.floor(t)) * 12 * 3600);
+	}
+
+	/**
+	 * Contagem diária por faixa, ocupação por faixa de produto e capacidade dos estoques, que passa
+	 * a ter folga sobre a ocupação final.
+	 */
+	private void gravarTotais(Connection conexao) throws SQLException, IOException {
+		try (var contagem = Copia.paraTabela(conexao, "MOVIMENTACAO_CONTAGEM", "DIA, FAIXA, ENTRADAS, SAIDAS")) {
+			for (int d = 0; d < dias; d++) {
+				for (int f = 0; f < FAIXAS; f++) {
+					var i = d * FAIXAS + f;
+					if (entradasDia[i] > 0 || saidasDia[i] > 0) {
+						contagem.dia(textoDia[d]).inteiro(f).inteiro(entradasDia[i]).inteiro(saidasDia[i]).linha();
+					}
+				}
+			}
+		}
+		try (var copia = Copia.paraTabela(conexao, "ESTOQUE_OCUPACAO", "ESTOQUE_ID, FAIXA, QUANTIDADE")) {
+			for (int e = 0; e < configuracao.getEstoques(); e++) {
+				for (int f = 0; f < FAIXAS; f++) {
+					copia.inteiro(e + 1).inteiro(f).inteiro(ocupacao[e * FAIXAS + f]).linha();
+				}
+			}
+		}
+		try (var comando = conexao.createStatement()) {
+			comando.execute("""
+					UPDATE ESTOQUE e
+					   SET CAPACIDADE = LEAST(2147483647, GREATEST(1000, CEIL(o.TOTAL * 1.3)))
+					  FROM (SELECT ESTOQUE_ID, SUM(QUANTIDADE) AS TOTAL FROM ESTOQUE_OCUPACAO GROUP BY ESTOQUE_ID) o
+					 WHERE o.ESTOQUE_ID = e.ID
+					""");
+			if (proximaMovimentacao > 1) {
+				// A aplicação reserva ids em blocos a partir do valor da sequência (V16)
+				comando.execute("SELECT setval(pg_get_serial_sequence('movimentacao', 'id'), " + (proximaMovimentacao - 1) + ")");
+			}
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package dev.gestock.sge.infraestrutura.alerta;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import dev.gestock.sge.dominio.alerta.AlertaCorreio;
+
+/**
+ * Registra no log os emails de alerta enquanto não há servidor de email configurado.
+ */
+@Component
+class AlertaCorreioLog implements AlertaCorreio {
+	private static final Logger LOG = LoggerFactory.getLogger(AlertaCorreioLog.class);
+
+	@Override
+	public void enviar(String assunto, String mensagem) {
+		LOG.info("[EMAIL-ALERTA] {}\n{}", assunto, mensagem);
+	}
+}
@@ -0,0 +1,153 @@
+package dev.gestock.sge.infraestrutura.alerta;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import dev.gestock.sge.dominio.alerta.AlertaDespacho;
+import dev.gestock.sge.dominio.alerta.AlertaInfo;
+import dev.gestock.sge.dominio.alerta.AlertaObserver;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Entrega os alertas aos observadores fora da thread que os gerou, por uma fila limitada a
+ * {@code sge.alertas.capacidade} alertas; com a fila cheia, quem gera o alerta espera.
+ *
+ * A thread de entrega junta os alertas que chegam até {@code sge.alertas.janela} segundos depois
+ * do primeiro da vez, ou até {@code sge.alertas.lote} alertas, e chama cada observador uma vez por
+ * lote, de modo que um observador de email envia um resumo por janela. A falha de um observador é
+ * registrada e não impede os demais.
+ */
+@Component
+public class AlertaDespachoAssincrono implements AlertaDespacho {
+	private static final Logger LOG = LoggerFactory.getLogger(AlertaDespachoAssincrono.class);
+
+	@Value("${sge.alertas.capacidade:1000}")
+	int capacidade;
+
+	@Value("${sge.alertas.lote:100}")
+	int tamanhoLote;
+
+	@Value("${sge.alertas.janela:30}")
+	long janelaSegundos;
+
+	private final LongAdder entregues = new LongAdder();
+	private final LongAdder falhas = new LongAdder();
+	private final LongAdder lotes = new LongAdder();
+	private final AtomicLong nanosEspera = new AtomicLong();
+	private final AtomicLong nanosEsperaMaxima = new AtomicLong();
+	private BlockingQueue<Pendente> fila;
+	private Thread entregador;
+
+	@PostConstruct
+	void iniciar() {
+		fila = new ArrayBlockingQueue<>(capacidade);
+		entregador = new Thread(this::executar, "alertas-entrega");
+		entregador.setDaemon(true);
+		entregador.start();
+	}
+
+	@PreDestroy
+	void encerrar() throws InterruptedException {
+		entregador.interrupt();
+		entregador.join(TimeUnit.SECONDS.toMillis(10));
+	}
+
+	@Override
+	public void despachar(AlertaInfo alertaInfo, List<AlertaObserver> observadores) {
+		if (observadores.isEmpty()) {
+			return;
+		}
+		try {
+			fila.put(new Pendente(alertaInfo, observadores, System.nanoTime()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrompido aguardando espaço na fila de alertas", e);
+		}
+	}
+
+	public AlertaDespachoMetricas obterMetricas() {
+		return new AlertaDespachoMetricas(fila.size(), capacidade, entregues.sum(), falhas.sum(), lotes.sum(),
+			TimeUnit.NANOSECONDS.toMillis(nanosEspera.get()), TimeUnit.NANOSECONDS.toMillis(nanosEsperaMaxima.get()));
+	}
+
+	private void executar() {
+		var janela = TimeUnit.SECONDS.toNanos(janelaSegundos);
+		var lote = new ArrayList<Pendente>(tamanhoLote);
+		while (true) {
+			try {
+				lote.add(fila.take());
+				var prazo = lote.get(0).enfileiradoEm + janela;
+				fila.drainTo(lote, tamanhoLote - lote.size());
+				while (lote.size() < tamanhoLote) {
+					var proximo = fila.poll(prazo - System.nanoTime(), TimeUnit.NANOSECONDS);
+					if (proximo == null) {
+						break;
+					}
+					lote.add(proximo);
+				}
+			} catch (InterruptedException e) {
+				// Encerrando: entrega o que já foi aceito na fila
+				fila.drainTo(lote);
+				entregar(lote);
+				return;
+			}
+			entregar(lote);
+			lote.clear();
+		}
+	}
+
+	private void entregar(List<Pendente> lote) {
+		if (lote.isEmpty()) {
+			return;
+		}
+		// Normalmente todos os alertas vêm da mesma lista de observadores
+		var porObservadores = new IdentityHashMap<List<AlertaObserver>, List<AlertaInfo>>();
+		for (var pendente : lote) {
+			porObservadores.computeIfAbsent(pendente.observadores, lista -> new ArrayList<>()).add(pendente.alertaInfo);
+		}
+		for (var entrada : porObservadores.entrySet()) {
+			var alertas = List.copyOf(entrada.getValue());
+			for (var observador : entrada.getKey()) {
+				try {
+					observador.notificarAlertasGerados(alertas);
+				} catch (RuntimeException e) {
+					falhas.increment();
+					LOG.error("Falha do observador {} ao tratar {} alertas", observador.getClass().getName(), alertas.size(), e);
+				}
+			}
+		}
+
+		var agora = System.nanoTime();
+		for (var pendente : lote) {
+			var espera = agora - pendente.enfileiradoEm;
+			nanosEspera.addAndGet(espera);
+			nanosEsperaMaxima.accumulateAndGet(espera, Math::max);
+		}
+		entregues.add(lote.size());
+		lotes.increment();
+	}
+
+	private static class Pendente {
+		final AlertaInfo alertaInfo;
+		final List<AlertaObserver> observadores;
+		final long enfileiradoEm;
+
+		Pendente(AlertaInfo alertaInfo, List<AlertaObserver> observadores, long enfileiradoEm) {
+			this.alertaInfo = alertaInfo;
+			this.observadores = observadores;
+			this.enfileiradoEm = enfileiradoEm;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package dev.gestock.sge.infraestrutura.alerta;
+
+/**
+ * Estado da fila de alertas e contadores de entrega desde o início da aplicação.
+ */
+public class AlertaDespachoMetricas {
+	private final int pendentes;
+	private final int capacidade;
+	private final long entregues;
+	private final long falhas;
+	private final long lotes;
+	private final long esperaTotalMilissegundos;
+	private final long esperaMaximaMilissegundos;
+
+	AlertaDespachoMetricas(int pendentes, int capacidade, long entregues, long falhas, long lotes,
+			long esperaTotalMilissegundos, long esperaMaximaMilissegundos) {
+		this.pendentes = pendentes;
+		this.capacidade = capacidade;
+		this.entregues = entregues;
+		this.falhas = falhas;
+		this.lotes = lotes;
+		this.esperaTotalMilissegundos = esperaTotalMilissegundos;
+		this.esperaMaximaMilissegundos = esperaMaximaMilissegundos;
+	}
+
+	/**
+	 * Alertas na fila aguardando entrega.
+	 */
+	public int getPendentes() {
+		return pendentes;
+	}
+
+	public int getCapacidade() {
+		return capacidade;
+	}
+
+	public long getEntregues() {
+		return entregues;
+	}
+
+	/**
+	 * Chamadas de observador que falharam.
+	 */
+	public long getFalhas() {
+		return falhas;
+	}
+
+	public long getLotes() {
+		return lotes;
+	}
+
+	/**
+	 * Tempo máximo entre um alerta entrar na fila e ser entregue.
+	 */
+	public long getEsperaMaximaMilissegundos() {
+		return esperaMaximaMilissegundos;
+	}
+
+	/**
+	 * Tempo médio entre um alerta entrar na fila e ser entregue; inclui a janela de agrupamento.
+	 */
+	public double getEsperaMediaMilissegundos() {
+		return entregues > 0 ? (double) esperaTotalMilissegundos / entregues : 0.0;
+	}
+}
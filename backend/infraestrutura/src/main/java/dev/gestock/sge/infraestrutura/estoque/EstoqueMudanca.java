@@ -0,0 +1,54 @@
+package dev.gestock.sge.infraestrutura.estoque;
+
+/**
+ * Estado de um par (estoque, produto) logo após uma movimentação: saldo, ponto de ressuprimento e
+ * nível de alerta. Sem ponto de ressuprimento para o par, ROP, situação e nível ficam nulos.
+ */
+public class EstoqueMudanca {
+	private final int estoqueId;
+	private final int produtoId;
+	private final int saldoAtual;
+	private final Integer ropCalculado;
+	private final String status;
+	private final String nivel;
+
+	public EstoqueMudanca(int estoqueId, int produtoId, int saldoAtual, Integer ropCalculado, String status,
+			String nivel) {
+		this.estoqueId = estoqueId;
+		this.produtoId = produtoId;
+		this.saldoAtual = saldoAtual;
+		this.ropCalculado = ropCalculado;
+		this.status = status;
+		this.nivel = nivel;
+	}
+
+	public int getEstoqueId() {
+		return estoqueId;
+	}
+
+	public int getProdutoId() {
+		return produtoId;
+	}
+
+	public int getSaldoAtual() {
+		return saldoAtual;
+	}
+
+	public Integer getRopCalculado() {
+		return ropCalculado;
+	}
+
+	/**
+	 * ADEQUADO ou INADEQUADO, como no resumo do ponto de ressuprimento.
+	 */
+	public String getStatus() {
+		return status;
+	}
+
+	/**
+	 * Nível do alerta, ou nulo se o par não está em alerta.
+	 */
+	public String getNivel() {
+		return nivel;
+	}
+}
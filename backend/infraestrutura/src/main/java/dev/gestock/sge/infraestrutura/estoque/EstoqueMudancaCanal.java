@@ -0,0 +1,82 @@
+package dev.gestock.sge.infraestrutura.estoque;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Canal único das mudanças de saldo, ponto de ressuprimento e alerta causadas pelas movimentações.
+ *
+ * O monitor de alertas publica um lote por avaliação, já com os pares agrupados; os ouvintes,
+ * como o stream dos painéis, recebem o mesmo lote sem consultar o banco de novo. Um ouvinte pode
+ * informar se está ativo, como o stream com ao menos um painel conectado; lotes só são montados e
+ * entregues enquanto algum ouvinte está ativo.
+ */
+@Component
+public class EstoqueMudancaCanal {
+	private static final Logger LOG = LoggerFactory.getLogger(EstoqueMudancaCanal.class);
+
+	private final List<Inscricao> ouvintes = new CopyOnWriteArrayList<>();
+
+	public void adicionar(Consumer<List<EstoqueMudanca>> ouvinte) {
+		adicionar(ouvinte, () -> true);
+	}
+
+	/**
+	 * @param ativo consultado a cada publicação; falso enquanto o ouvinte não tem a quem repassar
+	 */
+	public void adicionar(Consumer<List<EstoqueMudanca>> ouvinte, BooleanSupplier ativo) {
+		notNull(ouvinte, "O ouvinte não pode ser nulo");
+		notNull(ativo, "A condição de atividade não pode ser nula");
+		ouvintes.add(new Inscricao(ouvinte, ativo));
+	}
+
+	/**
+	 * Permite a quem publica pular a montagem do lote quando ninguém escuta.
+	 */
+	public boolean possuiOuvintes() {
+		for (var inscricao : ouvintes) {
+			if (inscricao.ativo.getAsBoolean()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Entrega o lote a cada ouvinte, na thread de quem publica; a falha de um não impede os demais.
+	 */
+	public void publicar(List<EstoqueMudanca> mudancas) {
+		if (mudancas.isEmpty()) {
+			return;
+		}
+		var lote = List.copyOf(mudancas);
+		for (var inscricao : ouvintes) {
+			if (!inscricao.ativo.getAsBoolean()) {
+				continue;
+			}
+			try {
+				inscricao.ouvinte.accept(lote);
+			} catch (RuntimeException e) {
+				LOG.error("Falha do ouvinte {} ao tratar {} mudanças", inscricao.ouvinte.getClass().getName(), lote.size(), e);
+			}
+		}
+	}
+
+	private static class Inscricao {
+		final Consumer<List<EstoqueMudanca>> ouvinte;
+		final BooleanSupplier ativo;
+
+		Inscricao(Consumer<List<EstoqueMudanca>> ouvinte, BooleanSupplier ativo) {
+			this.ouvinte = ouvinte;
+			this.ativo = ativo;
+		}
+	}
+}
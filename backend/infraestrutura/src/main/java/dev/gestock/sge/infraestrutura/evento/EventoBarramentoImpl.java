@@ -1,38 +1,301 @@
 package dev.gestock.sge.infraestrutura.evento;
 
+import static org.apache.commons.lang3.Validate.isTrue;
 import static org.apache.commons.lang3.Validate.notNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.PayloadApplicationEvent;
-import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import dev.gestock.sge.dominio.evento.EventoBarramento;
 import dev.gestock.sge.dominio.evento.EventoObservador;
+import dev.gestock.sge.dominio.evento.EventoOrdenado;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
+/**
+ * Barramento de eventos com três modos, escolhidos por {@code sge.eventos.modo}:
+ * <ul>
+ * <li>SINCRONO: entrega na thread de quem posta; a falha de um observador volta para quem postou.</li>
+ * <li>APOS_COMMIT: como SINCRONO, mas dentro de uma transação adia a entrega para depois do commit.</li>
+ * <li>ASSINCRONO: após o commit, enfileira a entrega em filas de uma thread cada. Eventos com a mesma
+ * {@link EventoOrdenado#getChaveOrdenacao() chave} vão para a mesma fila e são entregues em ordem;
+ * com a fila cheia, quem posta espera.</li>
+ * </ul>
+ * Cada observador recebe apenas eventos do tipo que observa, descoberto no registro, e é chamado
+ * isoladamente: a falha de um é registrada e não impede os demais.
+ *
+ * Com {@code sge.eventos.saida.habilitada}, eventos de pedido e de movimentação postados dentro de
+ * uma transação não passam pelos modos acima: são gravados na fila de saída junto com o agregado,
+ * em um único batch antes do commit, e entregues pelo {@link EventoSaidaRelay}.
+ */
 @Component
 public class EventoBarramentoImpl implements EventoBarramento {
+	public enum Modo {
+		SINCRONO, APOS_COMMIT, ASSINCRONO
+	}
+
+	private static final Logger LOG = LoggerFactory.getLogger(EventoBarramentoImpl.class);
+
+	@Value("${sge.eventos.modo:SINCRONO}")
+	Modo modo;
+
+	@Value("${sge.eventos.filas:4}")
+	int quantidadeFilas;
+
+	@Value("${sge.eventos.capacidade:1000}")
+	int capacidadeFila;
+
+	@Value("${sge.eventos.saida.habilitada:true}")
+	boolean saidaHabilitada;
+
+	@Autowired
+	EventoSaidaConversor conversor;
+
 	@Autowired
-	private ApplicationEventMulticaster multicaster;
+	EventoSaidaRepositorio saidaRepositorio;
 
 	@Autowired
-	private ApplicationEventPublisher publicador;
+	@Lazy
+	EventoSaidaRelay relay;
+
+	private final List<Inscricao> inscricoes = new CopyOnWriteArrayList<>();
+	private final AtomicInteger proximaFila = new AtomicInteger();
+	private ThreadPoolExecutor[] filas;
+
+	@PostConstruct
+	void iniciar() {
+		if (modo != Modo.ASSINCRONO) {
+			return;
+		}
+		filas = new ThreadPoolExecutor[quantidadeFilas];
+		for (int i = 0; i < quantidadeFilas; i++) {
+			var nome = "eventos-" + i;
+			filas[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacidadeFila),
+				tarefa -> {
+					var thread = new Thread(tarefa, nome);
+					thread.setDaemon(true);
+					return thread;
+				}, EventoBarramentoImpl::aguardarEspaco);
+		}
+	}
+
+	@PreDestroy
+	void encerrar() throws InterruptedException {
+		if (filas == null) {
+			return;
+		}
+		for (var fila : filas) {
+			fila.shutdown();
+		}
+		for (var fila : filas) {
+			fila.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
 
+	/**
+	 * Descobre o tipo de evento pelo parâmetro genérico da classe do observador. Lambdas e
+	 * referências de método não o expõem e devem ser registrados com
+	 * {@link #adicionar(Class, EventoObservador)}.
+	 */
 	@Override
 	public <E> void adicionar(EventoObservador<E> observador) {
 		notNull(observador, "O observador não pode ser nulo");
+		var tipo = ResolvableType.forClass(observador.getClass()).as(EventoObservador.class).getGeneric(0).resolve();
+		isTrue(tipo != null, "O tipo de evento de %s não pode ser descoberto; informe o tipo no registro",
+			observador.getClass().getName());
+		inscricoes.add(new Inscricao(tipo, observador));
+	}
 
-		multicaster.addApplicationListener(new ApplicationListener<PayloadApplicationEvent<E>>() {
-			public void onApplicationEvent(PayloadApplicationEvent<E> evento) {
-				observador.observarEvento(evento.getPayload());
-			};
-		});
+	@Override
+	public <E> void adicionar(Class<E> tipo, EventoObservador<E> observador) {
+		notNull(tipo, "O tipo de evento não pode ser nulo");
+		notNull(observador, "O observador não pode ser nulo");
+		inscricoes.add(new Inscricao(tipo, observador));
 	}
 
 	@Override
 	public <E> void postar(E evento) {
-		publicador.publishEvent(evento);
+		notNull(evento, "O evento não pode ser nulo");
+
+		if (saidaHabilitada && registrarNaSaida(evento)) {
+			return;
+		}
+		switch (modo) {
+			case SINCRONO -> entregarPropagando(evento);
+			case APOS_COMMIT -> {
+				if (!aposCommit(() -> entregar(evento))) {
+					entregarPropagando(evento);
+				}
+			}
+			case ASSINCRONO -> {
+				if (!aposCommit(() -> enfileirar(evento))) {
+					enfileirar(evento);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Entrega o evento na thread atual, propagando a falha de qualquer observador.
+	 * Usado pelo relay, que precisa desfazer a transação do lote quando um observador falha.
+	 */
+	void entregarAgora(Object evento) {
+		entregarPropagando(evento);
+	}
+
+	/**
+	 * Registra o evento para gravação na fila de saída, na transação atual.
+	 * @return false se o evento não é persistido ou não há transação ativa
+	 */
+	private boolean registrarNaSaida(Object evento) {
+		var tipo = conversor.obterTipo(evento);
+		if (tipo == null || !TransactionSynchronizationManager.isActualTransactionActive()
+				|| !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+		var agregadoId = conversor.obterAgregadoId(evento);
+		pendentesNaSaida().add(new EventoSaida(tipo, agregadoId, EventoSaidaConversor.obterChave(tipo, agregadoId),
+			conversor.serializar(evento)));
+		return true;
+	}
+
+	/**
+	 * Eventos de saída da transação atual ainda não gravados. São gravados todos de uma vez antes
+	 * do commit, e o relay é acordado depois dele. Uma transação aninhada (REQUIRES_NEW) tem a
+	 * própria lista.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<EventoSaida> pendentesNaSaida() {
+		var pendentes = (List<EventoSaida>) TransactionSynchronizationManager.getResource(this);
+		if (pendentes != null) {
+			return pendentes;
+		}
+		var novos = new ArrayList<EventoSaida>();
+		TransactionSynchronizationManager.bindResource(this, novos);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void suspend() {
+				TransactionSynchronizationManager.unbindResource(EventoBarramentoImpl.this);
+			}
+
+			@Override
+			public void resume() {
+				TransactionSynchronizationManager.bindResource(EventoBarramentoImpl.this, novos);
+			}
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				saidaRepositorio.registrar(novos);
+			}
+
+			@Override
+			public void afterCommit() {
+				relay.acordar();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(EventoBarramentoImpl.this);
+			}
+		});
+		return novos;
+	}
+
+	/**
+	 * Agenda a ação para depois do commit da transação atual.
+	 * @return false se não há transação ativa, cabendo a quem chamou executar a ação agora
+	 */
+	private boolean aposCommit(Runnable acao) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				acao.run();
+			}
+		});
+		return true;
+	}
+
+	private void enfileirar(Object evento) {
+		var indice = evento instanceof EventoOrdenado ordenado && ordenado.getChaveOrdenacao() != null
+			? Math.floorMod(ordenado.getChaveOrdenacao().hashCode(), filas.length)
+			: Math.floorMod(proximaFila.getAndIncrement(), filas.length);
+		filas[indice].execute(() -> entregar(evento));
+	}
+
+	private void entregarPropagando(Object evento) {
+		var falha = entregar(evento);
+		if (falha != null) {
+			throw falha;
+		}
+	}
+
+	/**
+	 * Entrega o evento a todos os observadores.
+	 * @return a primeira falha, ou null se todos trataram o evento
+	 */
+	@SuppressWarnings("unchecked")
+	private RuntimeException entregar(Object evento) {
+		RuntimeException primeiraFalha = null;
+		for (var inscricao : inscricoes) {
+			if (!inscricao.tipo.isInstance(evento)) {
+				continue;
+			}
+			try {
+				((EventoObservador<Object>) inscricao.observador).observarEvento(evento);
+			} catch (RuntimeException e) {
+				primeiraFalha = registrarFalha(inscricao.observador, evento, e, primeiraFalha);
+			}
+		}
+		return primeiraFalha;
+	}
+
+	private static RuntimeException registrarFalha(EventoObservador<?> observador, Object evento, RuntimeException falha,
+			RuntimeException primeiraFalha) {
+		LOG.error("Falha do observador {} ao tratar {}", observador.getClass().getName(), evento.getClass().getSimpleName(), falha);
+		return primeiraFalha != null ? primeiraFalha : falha;
+	}
+
+	/**
+	 * Contrapressão: com a fila cheia, bloqueia quem posta até abrir espaço, preservando a ordem.
+	 */
+	private static void aguardarEspaco(Runnable tarefa, ThreadPoolExecutor fila) {
+		if (fila.isShutdown()) {
+			throw new RejectedExecutionException("Barramento de eventos encerrado");
+		}
+		try {
+			fila.getQueue().put(tarefa);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrompido aguardando espaço na fila de eventos", e);
+		}
+	}
+
+	private static final class Inscricao {
+		final Class<?> tipo;
+		final EventoObservador<?> observador;
+
+		Inscricao(Class<?> tipo, EventoObservador<?> observador) {
+			this.tipo = tipo;
+			this.observador = observador;
+		}
 	}
-}
\ No newline at end of file
+}
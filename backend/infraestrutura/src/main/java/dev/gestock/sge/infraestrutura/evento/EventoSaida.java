@@ -0,0 +1,57 @@
+package dev.gestock.sge.infraestrutura.evento;
+
+/**
+ * Evento pendente na fila de saída, identificado pelo tipo e pelo agregado que o originou, com o
+ * agregado em JSON no momento em que o evento foi postado.
+ */
+public class EventoSaida {
+	private final long id;
+	private final String tipo;
+	private final int agregadoId;
+	private final String chave;
+	private final String payload;
+	private final int tentativas;
+
+	public EventoSaida(long id, String tipo, int agregadoId, String chave, String payload, int tentativas) {
+		this.id = id;
+		this.tipo = tipo;
+		this.agregadoId = agregadoId;
+		this.chave = chave;
+		this.payload = payload;
+		this.tentativas = tentativas;
+	}
+
+	/**
+	 * Evento ainda não gravado.
+	 */
+	public EventoSaida(String tipo, int agregadoId, String chave, String payload) {
+		this(0, tipo, agregadoId, chave, payload, 0);
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public String getTipo() {
+		return tipo;
+	}
+
+	public int getAgregadoId() {
+		return agregadoId;
+	}
+
+	public String getChave() {
+		return chave;
+	}
+
+	/**
+	 * @return o agregado em JSON, ou null em eventos gravados antes do conteúdo existir
+	 */
+	public String getPayload() {
+		return payload;
+	}
+
+	public int getTentativas() {
+		return tentativas;
+	}
+}
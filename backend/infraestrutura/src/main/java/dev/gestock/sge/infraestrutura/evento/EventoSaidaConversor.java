@@ -0,0 +1,196 @@
+package dev.gestock.sge.infraestrutura.evento;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.fornecedor.Custo;
+import dev.gestock.sge.dominio.fornecedor.FornecedorId;
+import dev.gestock.sge.dominio.movimentacao.Motivo;
+import dev.gestock.sge.dominio.movimentacao.Movimentacao;
+import dev.gestock.sge.dominio.movimentacao.Movimentacao.MovimentacaoCriadaEvento;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoId;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoRepositorio;
+import dev.gestock.sge.dominio.movimentacao.Responsavel;
+import dev.gestock.sge.dominio.movimentacao.TipoMovimentacao;
+import dev.gestock.sge.dominio.pedido.DataPedido;
+import dev.gestock.sge.dominio.pedido.DataPrevista;
+import dev.gestock.sge.dominio.pedido.ItemPedido;
+import dev.gestock.sge.dominio.pedido.Pedido;
+import dev.gestock.sge.dominio.pedido.Pedido.PedidoCanceladoEvento;
+import dev.gestock.sge.dominio.pedido.Pedido.PedidoCriadoEvento;
+import dev.gestock.sge.dominio.pedido.Pedido.PedidoEvento;
+import dev.gestock.sge.dominio.pedido.Pedido.PedidoRecebidoEvento;
+import dev.gestock.sge.dominio.pedido.PedidoId;
+import dev.gestock.sge.dominio.pedido.PedidoRepositorio;
+import dev.gestock.sge.dominio.pedido.StatusPedido;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+import dev.gestock.sge.dominio.produto.Quantidade;
+
+/**
+ * Converte eventos de domínio para o registro da fila de saída (tipo, id do agregado e conteúdo em
+ * JSON) e de volta. O conteúdo é o agregado no momento em que o evento foi postado, de modo que o
+ * relay entrega o que aconteceu mesmo que o agregado tenha mudado ou sido removido depois.
+ * Registros gravados antes do conteúdo existir são reconstituídos recarregando o agregado.
+ */
+@Component
+class EventoSaidaConversor {
+	static final String PEDIDO_CRIADO = "PEDIDO_CRIADO";
+	static final String PEDIDO_CANCELADO = "PEDIDO_CANCELADO";
+	static final String PEDIDO_RECEBIDO = "PEDIDO_RECEBIDO";
+	static final String MOVIMENTACAO_CRIADA = "MOVIMENTACAO_CRIADA";
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	@Autowired
+	PedidoRepositorio pedidoRepositorio;
+
+	@Autowired
+	MovimentacaoRepositorio movimentacaoRepositorio;
+
+	/**
+	 * @return o tipo registrado na fila de saída, ou null se o evento não é persistido
+	 */
+	String obterTipo(Object evento) {
+		if (evento instanceof PedidoCriadoEvento) {
+			return PEDIDO_CRIADO;
+		} else if (evento instanceof PedidoCanceladoEvento) {
+			return PEDIDO_CANCELADO;
+		} else if (evento instanceof PedidoRecebidoEvento) {
+			return PEDIDO_RECEBIDO;
+		} else if (evento instanceof MovimentacaoCriadaEvento) {
+			return MOVIMENTACAO_CRIADA;
+		}
+		return null;
+	}
+
+	int obterAgregadoId(Object evento) {
+		if (evento instanceof MovimentacaoCriadaEvento movimentacaoCriada) {
+			return movimentacaoCriada.getMovimentacao().getId().getId();
+		}
+		return ((PedidoEvento) evento).getPedido().getId().getId();
+	}
+
+	/**
+	 * Chave de idempotência: cada agregado emite no máximo um evento de cada tipo.
+	 */
+	static String obterChave(String tipo, int agregadoId) {
+		return tipo + ":" + agregadoId;
+	}
+
+	/**
+	 * @return o agregado do evento em JSON
+	 */
+	String serializar(Object evento) {
+		var conteudo = evento instanceof MovimentacaoCriadaEvento movimentacaoCriada
+			? serializarMovimentacao(movimentacaoCriada.getMovimentacao())
+			: serializarPedido(((PedidoEvento) evento).getPedido());
+		try {
+			return JSON.writeValueAsString(conteudo);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Falha ao serializar o evento " + evento.getClass().getSimpleName(), e);
+		}
+	}
+
+	/**
+	 * @return o evento reconstituído, ou null se não tem conteúdo e o agregado não existe mais
+	 */
+	Object reconstituir(EventoSaida registro) {
+		if (registro.getPayload() == null) {
+			return recarregar(registro);
+		}
+		JsonNode conteudo;
+		try {
+			conteudo = JSON.readTree(registro.getPayload());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Conteúdo inválido no evento " + registro.getId(), e);
+		}
+		if (MOVIMENTACAO_CRIADA.equals(registro.getTipo())) {
+			return desserializarMovimentacao(conteudo).criarEvento();
+		}
+		return criarEventoPedido(registro.getTipo(), desserializarPedido(conteudo));
+	}
+
+	private Object recarregar(EventoSaida registro) {
+		if (MOVIMENTACAO_CRIADA.equals(registro.getTipo())) {
+			var movimentacao = movimentacaoRepositorio.obter(new MovimentacaoId(registro.getAgregadoId()));
+			return movimentacao != null ? movimentacao.criarEvento() : null;
+		}
+
+		var pedido = pedidoRepositorio.obter(new PedidoId(registro.getAgregadoId()));
+		return pedido != null ? criarEventoPedido(registro.getTipo(), pedido) : null;
+	}
+
+	private static Object criarEventoPedido(String tipo, Pedido pedido) {
+		return switch (tipo) {
+			case PEDIDO_CRIADO -> new PedidoCriadoEvento(pedido);
+			case PEDIDO_CANCELADO -> new PedidoCanceladoEvento(pedido);
+			case PEDIDO_RECEBIDO -> new PedidoRecebidoEvento(pedido);
+			default -> throw new IllegalStateException("Tipo de evento desconhecido: " + tipo);
+		};
+	}
+
+	private static ObjectNode serializarMovimentacao(Movimentacao movimentacao) {
+		var no = JSON.createObjectNode();
+		no.put("id", movimentacao.getId().getId());
+		no.put("dataHora", movimentacao.getDataHora().toString());
+		no.put("produtoId", movimentacao.getProdutoId().getId());
+		no.put("estoqueId", movimentacao.getEstoqueId().getId());
+		no.put("quantidade", movimentacao.getQuantidade().getValor());
+		no.put("tipo", movimentacao.getTipo().name());
+		no.put("motivo", movimentacao.getMotivo().getValor());
+		no.put("responsavel", movimentacao.getResponsavel().getValor());
+		no.put("correlacao", movimentacao.getCorrelacao());
+		return no;
+	}
+
+	private static Movimentacao desserializarMovimentacao(JsonNode no) {
+		return new Movimentacao(new MovimentacaoId(no.get("id").asInt()), LocalDateTime.parse(no.get("dataHora").asText()),
+			new ProdutoId(no.get("produtoId").asInt()), new EstoqueId(no.get("estoqueId").asInt()),
+			new Quantidade(no.get("quantidade").asInt()), TipoMovimentacao.valueOf(no.get("tipo").asText()),
+			new Motivo(no.get("motivo").asText()), new Responsavel(no.get("responsavel").asText()),
+			texto(no, "correlacao"));
+	}
+
+	private static ObjectNode serializarPedido(Pedido pedido) {
+		var no = JSON.createObjectNode();
+		no.put("id", pedido.getId().getId());
+		no.put("fornecedorId", pedido.getFornecedorId().getId());
+		no.put("estoqueId", pedido.getEstoqueId().getId());
+		no.put("dataPedido", pedido.getDataPedido().getValor().toString());
+		no.put("status", pedido.getStatus().name());
+		no.put("dataPrevista", pedido.getDataPrevista() != null ? pedido.getDataPrevista().getValor().toString() : null);
+		var itens = no.putArray("itens");
+		for (var item : pedido.getItens()) {
+			itens.addObject()
+				.put("produtoId", item.getProdutoId().getId())
+				.put("quantidade", item.getQuantidade().getValor())
+				.put("precoUnitario", item.getPrecoUnitario().getValor().toPlainString());
+		}
+		return no;
+	}
+
+	private static Pedido desserializarPedido(JsonNode no) {
+		var itens = new ArrayList<ItemPedido>();
+		for (var item : no.get("itens")) {
+			itens.add(new ItemPedido(new ProdutoId(item.get("produtoId").asInt()), new Quantidade(item.get("quantidade").asInt()),
+				new Custo(new BigDecimal(item.get("precoUnitario").asText()))));
+		}
+		var dataPrevista = texto(no, "dataPrevista");
+		return new Pedido(new PedidoId(no.get("id").asInt()), new FornecedorId(no.get("fornecedorId").asInt()),
+			new EstoqueId(no.get("estoqueId").asInt()), itens, new DataPedido(LocalDate.parse(no.get("dataPedido").asText())),
+			StatusPedido.valueOf(no.get("status").asText()), dataPrevista != null ? new DataPrevista(LocalDate.parse(dataPrevista)) : null);
+	}
+
+	private static String texto(JsonNode no, String campo) {
+		var valor = no.get(campo);
+		return valor == null || valor.isNull() ? null : valor.asText();
+	}
+}
@@ -0,0 +1,47 @@
+package dev.gestock.sge.infraestrutura.evento;
+
+/**
+ * Contadores do relay desde o início da aplicação.
+ */
+public class EventoSaidaMetricas {
+	private final long entregues;
+	private final long falhas;
+	private final long lotes;
+	private final long tempoEntregaMilissegundos;
+	private final long pendentes;
+
+	EventoSaidaMetricas(long entregues, long falhas, long lotes, long tempoEntregaMilissegundos, long pendentes) {
+		this.entregues = entregues;
+		this.falhas = falhas;
+		this.lotes = lotes;
+		this.tempoEntregaMilissegundos = tempoEntregaMilissegundos;
+		this.pendentes = pendentes;
+	}
+
+	public long getEntregues() {
+		return entregues;
+	}
+
+	public long getFalhas() {
+		return falhas;
+	}
+
+	public long getLotes() {
+		return lotes;
+	}
+
+	public long getTempoEntregaMilissegundos() {
+		return tempoEntregaMilissegundos;
+	}
+
+	public long getPendentes() {
+		return pendentes;
+	}
+
+	/**
+	 * Vazão média considerando apenas o tempo gasto entregando lotes.
+	 */
+	public double getEventosPorSegundo() {
+		return tempoEntregaMilissegundos > 0 ? entregues * 1000.0 / tempoEntregaMilissegundos : 0.0;
+	}
+}
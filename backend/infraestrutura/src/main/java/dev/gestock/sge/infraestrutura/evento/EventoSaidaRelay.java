@@ -0,0 +1,223 @@
+package dev.gestock.sge.infraestrutura.evento;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drena a fila de saída para os observadores do {@link EventoBarramentoImpl}.
+ *
+ * Cada lote é bloqueado com {@code FOR UPDATE SKIP LOCKED} e entregue na mesma transação que o
+ * marca como processado: o que os observadores gravam e a baixa do evento são confirmados juntos.
+ * Se a transação não chega ao commit o evento volta a ficar pendente (entrega pelo menos uma vez).
+ * Quando um lote falha, os eventos são reprocessados um a um para isolar o que falhou, que é
+ * adiado com espera exponencial até {@code sge.eventos.saida.tentativas} tentativas.
+ *
+ * Várias instâncias podem drenar a mesma fila; a ordem entre eventos só é garantida dentro de
+ * um mesmo relay.
+ */
+@Component
+public class EventoSaidaRelay implements SmartLifecycle {
+	private static final Logger LOG = LoggerFactory.getLogger(EventoSaidaRelay.class);
+	private static final Duration RETENCAO_PROCESSADOS = Duration.ofDays(7);
+	private static final Duration INTERVALO_LIMPEZA = Duration.ofHours(1);
+
+	@Autowired
+	EventoSaidaRepositorio repositorio;
+
+	@Autowired
+	EventoSaidaConversor conversor;
+
+	@Autowired
+	EventoBarramentoImpl barramento;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Value("${sge.eventos.saida.lote:100}")
+	int tamanhoLote;
+
+	@Value("${sge.eventos.saida.intervalo:1000}")
+	long intervaloMilissegundos;
+
+	@Value("${sge.eventos.saida.tentativas:5}")
+	int tentativasMaximas;
+
+	private final Semaphore sinal = new Semaphore(0);
+	private final LongAdder entregues = new LongAdder();
+	private final LongAdder falhas = new LongAdder();
+	private final LongAdder lotes = new LongAdder();
+	private final AtomicLong nanosEntrega = new AtomicLong();
+	private volatile Thread thread;
+	private volatile boolean executando;
+	private LocalDateTime ultimaLimpeza = LocalDateTime.now();
+
+	/**
+	 * Antecipa a próxima drenagem, chamado após o commit de uma transação que registrou eventos.
+	 */
+	void acordar() {
+		sinal.release();
+	}
+
+	@Override
+	public void start() {
+		executando = true;
+		thread = new Thread(this::executar, "eventos-saida");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public void stop() {
+		executando = false;
+		var atual = thread;
+		if (atual != null) {
+			atual.interrupt();
+			try {
+				atual.join(TimeUnit.SECONDS.toMillis(10));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return executando;
+	}
+
+	private void executar() {
+		while (executando) {
+			try {
+				// Continua drenando enquanto os lotes vêm cheios
+				int processados;
+				do {
+					processados = drenar();
+				} while (executando && processados == tamanhoLote);
+				limparProcessados();
+				sinal.tryAcquire(intervaloMilissegundos, TimeUnit.MILLISECONDS);
+				sinal.drainPermits();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				LOG.error("Falha ao drenar a fila de saída de eventos", e);
+				pausar();
+			}
+		}
+	}
+
+	/**
+	 * Entrega um lote de eventos pendentes.
+	 * @return quantos eventos foram retirados da fila
+	 */
+	int drenar() {
+		var inicio = System.nanoTime();
+		int processados;
+		try {
+			processados = novaTransacao().execute(status -> {
+				var pendentes = repositorio.bloquearPendentes(tamanhoLote, tentativasMaximas);
+				var ids = new ArrayList<Long>(pendentes.size());
+				for (var pendente : pendentes) {
+					entregar(pendente);
+					ids.add(pendente.getId());
+				}
+				repositorio.marcarProcessados(ids);
+				return pendentes.size();
+			});
+		} catch (RuntimeException e) {
+			processados = drenarIndividualmente();
+		}
+		if (processados > 0) {
+			lotes.increment();
+			entregues.add(processados);
+			nanosEntrega.addAndGet(System.nanoTime() - inicio);
+		}
+		return processados;
+	}
+
+	/**
+	 * Reprocessa até um lote, um evento por transação, registrando a falha do evento que a causou.
+	 */
+	private int drenarIndividualmente() {
+		int processados = 0;
+		for (int i = 0; i < tamanhoLote; i++) {
+			var atual = new EventoSaida[1];
+			try {
+				var entregue = novaTransacao().execute(status -> {
+					var pendentes = repositorio.bloquearPendentes(1, tentativasMaximas);
+					if (pendentes.isEmpty()) {
+						return false;
+					}
+					atual[0] = pendentes.get(0);
+					entregar(atual[0]);
+					repositorio.marcarProcessados(List.of(atual[0].getId()));
+					return true;
+				});
+				if (!entregue) {
+					break;
+				}
+				processados++;
+			} catch (RuntimeException e) {
+				if (atual[0] == null) {
+					throw e;
+				}
+				falhas.increment();
+				var espera = Duration.ofSeconds(1L << Math.min(atual[0].getTentativas(), 10));
+				LOG.warn("Evento {} (tentativa {}) falhou; nova tentativa em {}s", atual[0].getId(),
+					atual[0].getTentativas() + 1, espera.toSeconds(), e);
+				repositorio.registrarFalha(atual[0].getId(), e.toString(), LocalDateTime.now().plus(espera));
+			}
+		}
+		return processados;
+	}
+
+	private void entregar(EventoSaida pendente) {
+		var evento = conversor.reconstituir(pendente);
+		if (evento != null) {
+			barramento.entregarAgora(evento);
+		}
+	}
+
+	private void limparProcessados() {
+		var agora = LocalDateTime.now();
+		if (ultimaLimpeza.plus(INTERVALO_LIMPEZA).isBefore(agora)) {
+			ultimaLimpeza = agora;
+			repositorio.limparProcessados(agora.minus(RETENCAO_PROCESSADOS));
+		}
+	}
+
+	private void pausar() {
+		try {
+			Thread.sleep(intervaloMilissegundos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			executando = false;
+		}
+	}
+
+	private TransactionTemplate novaTransacao() {
+		var transacao = new TransactionTemplate(transactionManager);
+		transacao.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+		return transacao;
+	}
+
+	public EventoSaidaMetricas obterMetricas() {
+		return new EventoSaidaMetricas(entregues.sum(), falhas.sum(), lotes.sum(),
+			TimeUnit.NANOSECONDS.toMillis(nanosEntrega.get()), repositorio.contarPendentes());
+	}
+}
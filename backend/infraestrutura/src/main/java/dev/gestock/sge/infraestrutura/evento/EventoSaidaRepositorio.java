@@ -0,0 +1,26 @@
+package dev.gestock.sge.infraestrutura.evento;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EventoSaidaRepositorio {
+	/**
+	 * Grava os eventos na transação atual, em um único batch. Chaves já registradas são ignoradas.
+	 */
+	void registrar(List<EventoSaida> eventos);
+
+	/**
+	 * Bloqueia até {@code limite} eventos pendentes, em ordem de registro, ignorando os já
+	 * bloqueados por outro relay e os que aguardam nova tentativa.
+	 */
+	List<EventoSaida> bloquearPendentes(int limite, int tentativasMaximas);
+
+	void marcarProcessados(Collection<Long> ids);
+
+	void registrarFalha(long id, String erro, LocalDateTime proximaTentativa);
+
+	long contarPendentes();
+
+	int limparProcessados(LocalDateTime antesDe);
+}
@@ -0,0 +1,109 @@
+package dev.gestock.sge.infraestrutura.medicao;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de acesso a dados de uma unidade de trabalho, normalmente uma requisição HTTP: comandos
+ * SQL executados e tempo gasto no JDBC, entidades carregadas pelo Hibernate e tempo de mapeamento.
+ *
+ * A medição fica presa à thread que a iniciou; comandos executados por outras threads, como as
+ * filas de eventos e o monitor de alertas, não entram na conta. Cada comando é contado pelo texto
+ * SQL, e o comando mais repetido aponta consultas N+1.
+ */
+public class Medicao {
+	private static final ThreadLocal<Medicao> ATUAL = new ThreadLocal<>();
+
+	private int comandos;
+	private long nanosJdbc;
+	private int entidades;
+	private long nanosMapeamento;
+	private final Map<String, Integer> repeticoes = new HashMap<>();
+	private String comandoMaisRepetido;
+	private int maiorRepeticao;
+
+	/**
+	 * Inicia uma medição na thread atual.
+	 * @return a nova medição, ou null se a thread já está sendo medida; nesse caso tudo entra na
+	 * medição já em andamento
+	 */
+	public static Medicao iniciar() {
+		if (ATUAL.get() != null) {
+			return null;
+		}
+		var medicao = new Medicao();
+		ATUAL.set(medicao);
+		return medicao;
+	}
+
+	/**
+	 * @return a medição em andamento na thread atual, ou null
+	 */
+	public static Medicao atual() {
+		return ATUAL.get();
+	}
+
+	public void encerrar() {
+		if (ATUAL.get() == this) {
+			ATUAL.remove();
+		}
+	}
+
+	static void registrarComando(String sql, long nanos) {
+		var medicao = ATUAL.get();
+		if (medicao == null) {
+			return;
+		}
+		medicao.comandos++;
+		medicao.nanosJdbc += nanos;
+		if (sql != null) {
+			int vezes = medicao.repeticoes.merge(sql, 1, Integer::sum);
+			if (vezes > medicao.maiorRepeticao) {
+				medicao.maiorRepeticao = vezes;
+				medicao.comandoMaisRepetido = sql;
+			}
+		}
+	}
+
+	static void registrarEntidade() {
+		var medicao = ATUAL.get();
+		if (medicao != null) {
+			medicao.entidades++;
+		}
+	}
+
+	public static void registrarMapeamento(long nanos) {
+		var medicao = ATUAL.get();
+		if (medicao != null) {
+			medicao.nanosMapeamento += nanos;
+		}
+	}
+
+	public int getComandos() {
+		return comandos;
+	}
+
+	public long getTempoJdbcMilissegundos() {
+		return TimeUnit.NANOSECONDS.toMillis(nanosJdbc);
+	}
+
+	public int getEntidades() {
+		return entidades;
+	}
+
+	public long getTempoMapeamentoMilissegundos() {
+		return TimeUnit.NANOSECONDS.toMillis(nanosMapeamento);
+	}
+
+	/**
+	 * Quantas vezes o mesmo texto SQL foi executado; bem acima de 1 indica uma consulta por item.
+	 */
+	public int getMaiorRepeticao() {
+		return maiorRepeticao;
+	}
+
+	public String getComandoMaisRepetido() {
+		return comandoMaisRepetido;
+	}
+}
@@ -0,0 +1,30 @@
+package dev.gestock.sge.infraestrutura.medicao;
+
+import java.util.Map;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conta na {@link Medicao} da thread cada entidade que o Hibernate carrega, inclusive por
+ * associações preguiçosas inicializadas durante a montagem dos resumos. Desligado com
+ * {@code sge.medicao.habilitado=false}.
+ */
+@ConditionalOnProperty(name = "sge.medicao.habilitado", havingValue = "true", matchIfMissing = true)
+@Component
+class MedicaoHibernate implements HibernatePropertiesCustomizer {
+
+	@Override
+	public void customize(Map<String, Object> propriedades) {
+		propriedades.put(AvailableSettings.INTERCEPTOR, new Interceptor() {
+			@Override
+			public boolean onLoad(Object entidade, Object id, Object[] estado, String[] propriedades, Type[] tipos) {
+				Medicao.registrarEntidade();
+				return false;
+			}
+		});
+	}
+}
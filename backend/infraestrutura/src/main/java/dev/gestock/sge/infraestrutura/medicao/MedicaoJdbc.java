@@ -0,0 +1,125 @@
+package dev.gestock.sge.infraestrutura.medicao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Envolve o DataSource da aplicação para que cada comando executado, pelo Hibernate ou pelo
+ * JdbcTemplate, entre na {@link Medicao} da thread. Sem medição em andamento o custo é uma
+ * leitura de ThreadLocal por comando.
+ *
+ * Cada chamada execute* conta como um comando; um executeBatch conta uma vez, pois vai ao banco
+ * em uma única ida.
+ *
+ * Com {@code sge.medicao.habilitado=false} o DataSource não é envolvido e a medição não tem custo.
+ */
+@ConditionalOnProperty(name = "sge.medicao.habilitado", havingValue = "true", matchIfMissing = true)
+@Component
+class MedicaoJdbc implements BeanPostProcessor {
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource && !(bean instanceof MedicaoDataSource)) {
+			return new MedicaoDataSource(dataSource);
+		}
+		return bean;
+	}
+
+	static class MedicaoDataSource extends DelegatingDataSource {
+		MedicaoDataSource(DataSource alvo) {
+			super(alvo);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return envolver(super.getConnection());
+		}
+
+		@Override
+		public Connection getConnection(String usuario, String senha) throws SQLException {
+			return envolver(super.getConnection(usuario, senha));
+		}
+	}
+
+	private static Connection envolver(Connection conexao) {
+		return (Connection) Proxy.newProxyInstance(MedicaoJdbc.class.getClassLoader(), new Class<?>[] { Connection.class },
+			new Intermediario(conexao, null));
+	}
+
+	private static Statement envolver(Statement comando, String sql) {
+		Class<?> tipo = comando instanceof CallableStatement ? CallableStatement.class
+			: comando instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+		return (Statement) Proxy.newProxyInstance(MedicaoJdbc.class.getClassLoader(), new Class<?>[] { tipo },
+			new Intermediario(comando, sql));
+	}
+
+	/**
+	 * Repassa as chamadas ao objeto JDBC real. Na conexão, envolve os comandos criados; no comando,
+	 * mede as execuções.
+	 */
+	private static class Intermediario implements InvocationHandler {
+		private final Object alvo;
+		private final String sql;
+
+		Intermediario(Object alvo, String sql) {
+			this.alvo = alvo;
+			this.sql = sql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method metodo, Object[] argumentos) throws Throwable {
+			var nome = metodo.getName();
+			switch (nome) {
+				case "equals":
+					return proxy == argumentos[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return alvo.toString();
+				default:
+					break;
+			}
+
+			if (alvo instanceof Connection) {
+				var resultado = repassar(metodo, argumentos);
+				if (resultado instanceof Statement comando && !nome.equals("unwrap")) {
+					var texto = argumentos != null && argumentos.length > 0 && argumentos[0] instanceof String s ? s : null;
+					return envolver(comando, texto);
+				}
+				return resultado;
+			}
+
+			if (!nome.startsWith("execute")) {
+				return repassar(metodo, argumentos);
+			}
+			var texto = sql != null ? sql
+				: argumentos != null && argumentos.length > 0 && argumentos[0] instanceof String s ? s : null;
+			var inicio = System.nanoTime();
+			try {
+				return repassar(metodo, argumentos);
+			} finally {
+				Medicao.registrarComando(texto, System.nanoTime() - inicio);
+			}
+		}
+
+		private Object repassar(Method metodo, Object[] argumentos) throws Throwable {
+			try {
+				return metodo.invoke(alvo, argumentos);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package dev.gestock.sge.infraestrutura.medicao;
+
+/**
+ * Verificação de orçamento de consultas para testes de integração. A ação roda medida na thread
+ * do teste; com MockMvc a requisição inteira, filtros incluídos, entra na mesma medição.
+ *
+ * <pre>
+ * OrcamentoConsultas.noMaximo(5, () -&gt; mockMvc.perform(get("/backend/alerta/pesquisa")));
+ * </pre>
+ */
+public final class OrcamentoConsultas {
+
+	@FunctionalInterface
+	public interface Acao {
+		void executar() throws Exception;
+	}
+
+	private OrcamentoConsultas() {
+	}
+
+	/**
+	 * Executa a ação e devolve o que ela custou.
+	 */
+	public static Medicao medir(Acao acao) throws Exception {
+		var medicao = Medicao.iniciar();
+		if (medicao == null) {
+			throw new IllegalStateException("A thread já está sendo medida");
+		}
+		try {
+			acao.executar();
+		} finally {
+			medicao.encerrar();
+		}
+		return medicao;
+	}
+
+	/**
+	 * Executa a ação e falha se ela executar mais de {@code maximoComandos} comandos SQL.
+	 */
+	public static Medicao noMaximo(int maximoComandos, Acao acao) throws Exception {
+		var medicao = medir(acao);
+		verificar(medicao, maximoComandos);
+		return medicao;
+	}
+
+	/**
+	 * @throws AssertionError se a medição passou do orçamento, com o comando mais repetido
+	 */
+	public static void verificar(Medicao medicao, int maximoComandos) {
+		if (medicao.getComandos() <= maximoComandos) {
+			return;
+		}
+		var mensagem = new StringBuilder("Orçamento de consultas excedido: ")
+			.append(medicao.getComandos()).append(" comandos SQL, máximo ").append(maximoComandos);
+		if (medicao.getMaiorRepeticao() > 1) {
+			mensagem.append("; executado ").append(medicao.getMaiorRepeticao()).append(" vezes: ")
+				.append(medicao.getComandoMaisRepetido());
+		}
+		throw new AssertionError(mensagem.toString());
+	}
+}
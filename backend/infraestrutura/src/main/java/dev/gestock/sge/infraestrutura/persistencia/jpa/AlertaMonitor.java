@@ -0,0 +1,195 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import dev.gestock.sge.dominio.alerta.AlertaServico;
+import dev.gestock.sge.dominio.alerta.AlertaServicoObservable;
+import dev.gestock.sge.dominio.alerta.PercentualAbaixoRop;
+import dev.gestock.sge.infraestrutura.estoque.EstoqueMudanca;
+import dev.gestock.sge.infraestrutura.estoque.EstoqueMudancaCanal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Avalia os alertas dos pares (estoque, produto) movimentados e os repassa ao
+ * {@link AlertaServicoObservable}, sem esperar que alguém leia os alertas.
+ *
+ * A movimentação marca o par após o commit; a thread do monitor junta os pares marcados,
+ * recalcula apenas os pontos deles e deixa com o serviço observável a deduplicação e a entrega
+ * aos observadores. Um par marcado várias vezes antes da avaliação é avaliado uma vez, de modo
+ * que a fila de pares nunca passa da quantidade de pares distintos. Com
+ * {@code sge.alertas.habilitado=false} os observadores não são notificados.
+ *
+ * O resultado de cada avaliação (saldo, ROP e nível dos pares) também é publicado no
+ * {@link EstoqueMudancaCanal}, que alimenta o stream dos painéis. Com os alertas desligados e
+ * nenhum painel conectado, os pares nem são marcados.
+ */
+@Component
+class AlertaMonitor {
+	private static final Logger LOG = LoggerFactory.getLogger(AlertaMonitor.class);
+
+	@Value("${sge.alertas.habilitado:true}")
+	boolean habilitado;
+
+	@Value("${sge.alertas.lote:100}")
+	int tamanhoLote;
+
+	@Autowired
+	PontoRessuprimentoCalculadoraLote calculadora;
+
+	@Autowired
+	AlertaServicoObservable alertaServicoObservable;
+
+	@Autowired
+	AlertaServico alertaServico;
+
+	@Autowired
+	EstoqueProdutoJpaRepository estoqueProdutoRepositorio;
+
+	@Autowired
+	EstoqueMudancaCanal canal;
+
+	private final Set<Long> marcados = ConcurrentHashMap.newKeySet();
+	private final BlockingQueue<Long> pares = new LinkedBlockingQueue<>();
+	private Thread avaliador;
+
+	@PostConstruct
+	void iniciar() {
+		avaliador = new Thread(this::executar, "alertas-avaliacao");
+		avaliador.setDaemon(true);
+		avaliador.start();
+	}
+
+	@PreDestroy
+	void encerrar() throws InterruptedException {
+		if (avaliador != null) {
+			avaliador.interrupt();
+			avaliador.join(TimeUnit.SECONDS.toMillis(10));
+		}
+	}
+
+	void marcarPar(int estoqueId, int produtoId) {
+		if (!habilitado && !canal.possuiOuvintes()) {
+			return;
+		}
+		var chave = PontoRessuprimentoCalculadoraLote.chave(estoqueId, produtoId);
+		aposCommit(() -> {
+			if (marcados.add(chave)) {
+				pares.add(chave);
+			}
+		});
+	}
+
+	private void executar() {
+		var lote = new ArrayList<Long>(tamanhoLote);
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				lote.add(pares.take());
+			} catch (InterruptedException e) {
+				return;
+			}
+			pares.drainTo(lote, tamanhoLote - 1);
+			// Marcas feitas a partir daqui voltam para a fila e o par é avaliado de novo
+			marcados.removeAll(lote);
+			try {
+				avaliar(new HashSet<>(lote));
+			} catch (RuntimeException e) {
+				LOG.error("Falha ao avaliar os alertas de {} pares", lote.size(), e);
+			}
+			lote.clear();
+		}
+	}
+
+	private void avaliar(Set<Long> lote) {
+		var produtoIds = new HashSet<Integer>();
+		for (var chave : lote) {
+			produtoIds.add((int) (long) chave);
+		}
+
+		var mudancas = new ArrayList<EstoqueMudanca>(lote.size());
+		var avaliados = new HashSet<Long>();
+		for (var ponto : calculadora.calcularPorProdutos(produtoIds)) {
+			var chave = PontoRessuprimentoCalculadoraLote.chave(ponto.getEstoqueId(), ponto.getProdutoId());
+			if (!lote.contains(chave)) {
+				continue;
+			}
+			avaliados.add(chave);
+			var percentual = new PercentualAbaixoRop(
+				AlertaSnapshot.calcularPercentualAbaixoRop(ponto.getSaldoAtual(), ponto.getRopCalculado()));
+			var nivel = habilitado
+				? alertaServicoObservable.determinarNivelENotificar(percentual, ponto.getProdutoId(),
+					ponto.getProdutoNome(), ponto.getEstoqueId(), ponto.getEstoqueNome(), ponto.getSaldoAtual(),
+					ponto.getRopCalculado())
+				: alertaServico.determinarNivel(percentual);
+			mudancas.add(new EstoqueMudanca(ponto.getEstoqueId(), ponto.getProdutoId(), ponto.getSaldoAtual(),
+				ponto.getRopCalculado(), ponto.getStatus(), nivel != null ? nivel.name() : null));
+		}
+
+		// Par sem ponto de ressuprimento não tem alerta; publica apenas o saldo
+		var semPonto = new HashSet<Long>();
+		for (var chave : lote) {
+			if (!avaliados.contains(chave)) {
+				semPonto.add(chave);
+				if (habilitado) {
+					alertaServicoObservable.descartar((int) (long) chave, (int) (chave >> 32));
+				}
+			}
+		}
+		if (!canal.possuiOuvintes()) {
+			return;
+		}
+		mudancas.addAll(criarMudancasDeSaldo(semPonto));
+		canal.publicar(mudancas);
+	}
+
+	private List<EstoqueMudanca> criarMudancasDeSaldo(Set<Long> pares) {
+		if (pares.isEmpty()) {
+			return List.of();
+		}
+		var estoqueIds = new HashSet<Integer>();
+		var produtoIds = new HashSet<Integer>();
+		for (var chave : pares) {
+			estoqueIds.add((int) (chave >> 32));
+			produtoIds.add((int) (long) chave);
+		}
+		var restantes = new HashSet<Long>(pares);
+		var mudancas = new ArrayList<EstoqueMudanca>(pares.size());
+		for (var saldo : estoqueProdutoRepositorio.pesquisarSaldos(estoqueIds, produtoIds)) {
+			if (restantes.remove(PontoRessuprimentoCalculadoraLote.chave(saldo.getEstoqueId(), saldo.getProdutoId()))) {
+				mudancas.add(new EstoqueMudanca(saldo.getEstoqueId(), saldo.getProdutoId(), saldo.getQuantidade(),
+					null, null, null));
+			}
+		}
+		// Par sem linha de saldo, como após remover a única movimentação
+		for (var chave : restantes) {
+			mudancas.add(new EstoqueMudanca((int) (chave >> 32), (int) (long) chave, 0, null, null, null));
+		}
+		return mudancas;
+	}
+
+	private static void aposCommit(Runnable acao) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					acao.run();
+				}
+			});
+		} else {
+			acao.run();
+		}
+	}
+}
@@ -0,0 +1,307 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import dev.gestock.sge.aplicacao.alerta.AlertaResumo;
+import dev.gestock.sge.aplicacao.pontoresuprimento.PontoRessuprimentoResumo;
+import dev.gestock.sge.dominio.alerta.AlertaServico;
+import dev.gestock.sge.dominio.alerta.PercentualAbaixoRop;
+
+/**
+ * Mantém em memória os alertas ativos, indexados por (estoque, produto).
+ *
+ * A carga completa acontece na primeira leitura. Depois disso, movimentações, alterações de
+ * estoque de segurança e de fornecedores apenas marcam os pares ou produtos afetados, que são
+ * recalculados na leitura seguinte. Como o consumo médio usa uma janela móvel de dias, que anda
+ * sem nenhuma movimentação, a carga completa é refeita na virada do dia e depois de
+ * {@code sge.alertas.snapshot.expiracao} segundos. A versão muda sempre que algum alerta muda e serve de ETag.
+ * A quantidade de alertas por nível acompanha cada inclusão e remoção, para os totais não
+ * percorrerem a lista.
+ */
+@Component
+class AlertaSnapshot {
+	@Autowired
+	PontoRessuprimentoCalculadoraLote calculadora;
+
+	@Autowired
+	AlertaServico alertaServico;
+
+	@Value("${sge.alertas.snapshot.expiracao:3600}")
+	long expiracaoSegundos;
+
+	private final String inicio = Long.toString(System.currentTimeMillis(), 36);
+	private final TreeMap<Long, AlertaResumo> alertas = new TreeMap<>();
+	private final Map<String, Integer> quantidadesPorNivel = new HashMap<>();
+	private final Set<Long> paresAlterados = ConcurrentHashMap.newKeySet();
+	private final Set<Integer> produtosAlterados = ConcurrentHashMap.newKeySet();
+	// Cada invalidação avança a geração; a carga vale para a geração lida antes de começar
+	private final AtomicLong geracao = new AtomicLong(1);
+	private long geracaoCarregada;
+	private long carregadoEm;
+	private LocalDate diaCarga;
+	private long versao;
+
+	void marcarPar(int estoqueId, int produtoId) {
+		aposCommit(() -> paresAlterados.add(PontoRessuprimentoCalculadoraLote.chave(estoqueId, produtoId)));
+	}
+
+	void marcarProdutos(Collection<Integer> produtoIds) {
+		var copia = List.copyOf(produtoIds);
+		aposCommit(() -> produtosAlterados.addAll(copia));
+	}
+
+	void invalidar() {
+		aposCommit(geracao::incrementAndGet);
+	}
+
+	synchronized List<AlertaResumo> listar() {
+		atualizar();
+		return List.copyOf(alertas.values());
+	}
+
+	/**
+	 * @return quantidade de alertas ativos por nível; níveis sem alerta não aparecem
+	 */
+	synchronized Map<String, Integer> contarPorNivel() {
+		atualizar();
+		return Map.copyOf(quantidadesPorNivel);
+	}
+
+	synchronized String obterVersao() {
+		atualizar();
+		return inicio + "-" + versao;
+	}
+
+	private void atualizar() {
+		if (precisaCarregar()) {
+			carregar();
+			return;
+		}
+		if (paresAlterados.isEmpty() && produtosAlterados.isEmpty()) {
+			return;
+		}
+
+		var pares = new HashSet<Long>(paresAlterados);
+		paresAlterados.removeAll(pares);
+		var produtos = new HashSet<Integer>(produtosAlterados);
+		produtosAlterados.removeAll(produtos);
+
+		// Todo par marcado, ou de produto marcado, sai do snapshot e volta apenas se ainda tiver alerta
+		var afetados = new HashSet<Long>(pares);
+		for (var chave : alertas.keySet()) {
+			if (produtos.contains(produtoDa(chave))) {
+				afetados.add(chave);
+			}
+		}
+		var produtosConsulta = new HashSet<Integer>(produtos);
+		for (var chave : pares) {
+			produtosConsulta.add(produtoDa(chave));
+		}
+
+		boolean alterado = false;
+		var recalculados = new HashSet<Long>();
+		for (var ponto : calculadora.calcularPorProdutos(produtosConsulta)) {
+			var chave = PontoRessuprimentoCalculadoraLote.chave(ponto.getEstoqueId(), ponto.getProdutoId());
+			if (!afetados.contains(chave) && !produtos.contains(ponto.getProdutoId())) {
+				continue;
+			}
+			recalculados.add(chave);
+			var alerta = criarAlerta(ponto);
+			if (mesmoAlerta(alertas.get(chave), alerta)) {
+				continue;
+			}
+			if (alerta != null) {
+				colocar(chave, alerta);
+			} else {
+				retirar(chave);
+			}
+			alterado = true;
+		}
+		for (var chave : afetados) {
+			if (!recalculados.contains(chave) && retirar(chave)) {
+				alterado = true;
+			}
+		}
+		if (alterado) {
+			versao++;
+		}
+	}
+
+	private boolean precisaCarregar() {
+		return geracaoCarregada != geracao.get()
+			|| System.nanoTime() - carregadoEm >= expiracaoSegundos * 1_000_000_000L
+			|| !LocalDate.now().equals(diaCarga);
+	}
+
+	/**
+	 * Recalcula todos os alertas. Se o cálculo falhar, o snapshot anterior é mantido e a próxima
+	 * leitura tenta de novo.
+	 */
+	private void carregar() {
+		var geracaoLida = geracao.get();
+		var dia = LocalDate.now();
+		var inicioCarga = System.nanoTime();
+		// Marcas que chegarem durante o cálculo ficam para a próxima leitura
+		paresAlterados.clear();
+		produtosAlterados.clear();
+		var novos = new HashMap<Long, AlertaResumo>();
+		for (var ponto : calculadora.calcularTodos()) {
+			var alerta = criarAlerta(ponto);
+			if (alerta != null) {
+				novos.put(PontoRessuprimentoCalculadoraLote.chave(ponto.getEstoqueId(), ponto.getProdutoId()), alerta);
+			}
+		}
+		alertas.clear();
+		quantidadesPorNivel.clear();
+		novos.forEach(this::colocar);
+		geracaoCarregada = geracaoLida;
+		carregadoEm = inicioCarga;
+		diaCarga = dia;
+		versao++;
+	}
+
+	private void colocar(long chave, AlertaResumo alerta) {
+		var anterior = alertas.put(chave, alerta);
+		if (anterior != null) {
+			descontar(anterior);
+		}
+		quantidadesPorNivel.merge(alerta.getNivel(), 1, Integer::sum);
+	}
+
+	private boolean retirar(long chave) {
+		var anterior = alertas.remove(chave);
+		if (anterior == null) {
+			return false;
+		}
+		descontar(anterior);
+		return true;
+	}
+
+	private void descontar(AlertaResumo alerta) {
+		quantidadesPorNivel.computeIfPresent(alerta.getNivel(), (nivel, quantidade) -> quantidade > 1 ? quantidade - 1 : null);
+	}
+
+	private static int produtoDa(long chave) {
+		return (int) chave;
+	}
+
+	private static boolean mesmoAlerta(AlertaResumo anterior, AlertaResumo atual) {
+		if (anterior == null || atual == null) {
+			return anterior == atual;
+		}
+		return anterior.getNivel().equals(atual.getNivel())
+			&& anterior.getQuantidadeAtual() == atual.getQuantidadeAtual()
+			&& anterior.getRop() == atual.getRop()
+			&& anterior.getProdutoNome().equals(atual.getProdutoNome())
+			&& anterior.getEstoqueNome().equals(atual.getEstoqueNome());
+	}
+
+	private static void aposCommit(Runnable acao) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					acao.run();
+				}
+			});
+		} else {
+			acao.run();
+		}
+	}
+
+	static double calcularPercentualAbaixoRop(int saldoAtual, int rop) {
+		if (rop <= 0) {
+			return 0.0;
+		}
+		if (saldoAtual >= rop) {
+			return 0.0; // Não está abaixo do ROP
+		}
+		return ((saldoAtual - rop) / (double) rop) * 100.0;
+	}
+
+	private AlertaResumo criarAlerta(PontoRessuprimentoResumo ponto) {
+		var saldoAtual = ponto.getSaldoAtual();
+		var rop = ponto.getRopCalculado();
+		
+		// Validar que está abaixo do ROP
+		if (saldoAtual >= rop || rop <= 0) {
+			return null;
+		}
+		
+		// Calcular percentual abaixo do ROP
+		var percentual = calcularPercentualAbaixoRop(saldoAtual, rop);
+		var percentualAbaixoRop = new PercentualAbaixoRop(percentual);
+		
+		// Determinar nível do alerta
+		var nivel = alertaServico.determinarNivel(percentualAbaixoRop);
+		if (nivel == null) {
+			return null; // Não gera alerta se percentual > -20%
+		}
+		
+		// Criar resumo do alerta
+		final String nivelStr = nivel.name();
+		final double percentualFinal = percentual;
+		final LocalDateTime dataAtual = LocalDateTime.now();
+		
+		return new AlertaResumo() {
+			@Override
+			public String getNivel() {
+				return nivelStr;
+			}
+
+			@Override
+			public int getProdutoId() {
+				return ponto.getProdutoId();
+			}
+
+			@Override
+			public String getProdutoNome() {
+				return ponto.getProdutoNome();
+			}
+
+			@Override
+			public int getEstoqueId() {
+				return ponto.getEstoqueId();
+			}
+
+			@Override
+			public String getEstoqueNome() {
+				return ponto.getEstoqueNome();
+			}
+
+			@Override
+			public int getQuantidadeAtual() {
+				return saldoAtual;
+			}
+
+			@Override
+			public int getRop() {
+				return rop;
+			}
+
+			@Override
+			public double getPercentualAbaixoRop() {
+				return percentualFinal;
+			}
+
+			@Override
+			public LocalDateTime getData() {
+				return dataAtual;
+			}
+		};
+	}
+}
@@ -22,30 +22,30 @@ class ClienteRepositorioImpl implements ClienteRepositorio, ClienteRepositorioAp
 
 	@Override
 	public Cliente salvar(Cliente cliente) {
-		var clienteJpa = mapeador.map(cliente, ClienteJpa.class);
+		var clienteJpa = mapeador.mapear(cliente);
 		clienteJpa = repositorio.save(clienteJpa);
-		return mapeador.map(clienteJpa, Cliente.class);
+		return mapeador.mapear(clienteJpa);
 	}
 
 	@Transactional
 	@Override
 	public Cliente obter(ClienteId id) {
 		var clienteJpa = repositorio.findById(id.getId()).orElse(null);
-		return mapeador.map(clienteJpa, Cliente.class);
+		return mapeador.mapear(clienteJpa);
 	}
 
 	@Transactional
 	@Override
 	public Cliente obterPorEmail(Email email) {
 		var clienteJpa = repositorio.findByEmail(email.getEndereco()).orElse(null);
-		return mapeador.map(clienteJpa, Cliente.class);
+		return mapeador.mapear(clienteJpa);
 	}
 
 	@Transactional
 	@Override
 	public Cliente obterPorDocumento(CpfCnpj documento) {
 		var clienteJpa = repositorio.findByDocumento(documento.getDocumento()).orElse(null);
-		return mapeador.map(clienteJpa, Cliente.class);
+		return mapeador.mapear(clienteJpa);
 	}
 
 	@Override
@@ -0,0 +1,34 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+class ConsumoDiarioId implements Serializable {
+	int estoqueId;
+	int produtoId;
+	LocalDate dia;
+
+	ConsumoDiarioId() {
+	}
+
+	ConsumoDiarioId(int estoqueId, int produtoId, LocalDate dia) {
+		this.estoqueId = estoqueId;
+		this.produtoId = produtoId;
+		this.dia = dia;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj != null && obj instanceof ConsumoDiarioId) {
+			var other = (ConsumoDiarioId) obj;
+			return estoqueId == other.estoqueId && produtoId == other.produtoId && Objects.equals(dia, other.dia);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(estoqueId, produtoId, dia);
+	}
+}
@@ -0,0 +1,30 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDate;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Totais diários de SAIDA e ENTRADA por estoque e produto.
+ */
+@Entity
+@Table(name = "CONSUMO_DIARIO")
+@IdClass(ConsumoDiarioId.class)
+class ConsumoDiarioJpa {
+	@Id
+	@Column(name = "ESTOQUE_ID")
+	int estoqueId;
+
+	@Id
+	@Column(name = "PRODUTO_ID")
+	int produtoId;
+
+	@Id
+	LocalDate dia;
+
+	int saida;
+	int entrada;
+}
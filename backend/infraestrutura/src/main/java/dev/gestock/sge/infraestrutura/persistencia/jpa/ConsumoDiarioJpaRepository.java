@@ -0,0 +1,84 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+interface ConsumoDiarioJpaRepository extends JpaRepository<ConsumoDiarioJpa, ConsumoDiarioId> {
+	/**
+	 * Soma as quantidades ao dia do par estoque-produto, criando a linha se não existir.
+	 * Valores negativos desfazem uma movimentação removida.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT INTO CONSUMO_DIARIO (ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA)
+		VALUES (:estoqueId, :produtoId, :dia, :saida, :entrada)
+		ON CONFLICT (ESTOQUE_ID, PRODUTO_ID, DIA) DO UPDATE
+		SET SAIDA = CONSUMO_DIARIO.SAIDA + EXCLUDED.SAIDA,
+			ENTRADA = CONSUMO_DIARIO.ENTRADA + EXCLUDED.ENTRADA
+	""", nativeQuery = true)
+	void acumular(@Param("estoqueId") int estoqueId, @Param("produtoId") int produtoId, @Param("dia") LocalDate dia,
+		@Param("saida") int saida, @Param("entrada") int entrada);
+
+	@Query("""
+		SELECT COALESCE(SUM(c.saida) / CAST(:dias AS double), 0.0)
+		FROM ConsumoDiarioJpa c
+		WHERE c.estoqueId = :estoqueId
+		AND c.produtoId = :produtoId
+		AND c.dia >= :dataInicio
+	""")
+	double calcularConsumoMedioDiario(@Param("estoqueId") int estoqueId, @Param("produtoId") int produtoId,
+		@Param("dataInicio") LocalDate dataInicio, @Param("dias") int dias);
+
+	@Query("""
+		SELECT COALESCE(MAX(c.saida), 0)
+		FROM ConsumoDiarioJpa c
+		WHERE c.estoqueId = :estoqueId
+		AND c.produtoId = :produtoId
+		AND c.dia >= :dataInicio
+	""")
+	int calcularConsumoMaximoDiario(@Param("estoqueId") int estoqueId, @Param("produtoId") int produtoId,
+		@Param("dataInicio") LocalDate dataInicio);
+
+	/**
+	 * Consumo de SAIDA agregado por par (estoque, produto) a partir de uma data:
+	 * total consumido no período e maior consumo registrado em um único dia.
+	 */
+	interface ConsumoAgregado {
+		int getEstoqueId();
+
+		int getProdutoId();
+
+		double getConsumoTotal();
+
+		double getConsumoMaximoDiario();
+	}
+
+	@Query(value = """
+		SELECT c.ESTOQUE_ID AS "estoqueId", c.PRODUTO_ID AS "produtoId",
+			SUM(c.SAIDA) AS "consumoTotal", MAX(c.SAIDA) AS "consumoMaximoDiario"
+		FROM CONSUMO_DIARIO c
+		WHERE c.DIA >= :dataInicio
+		AND c.SAIDA > 0
+		GROUP BY c.ESTOQUE_ID, c.PRODUTO_ID
+	""", nativeQuery = true)
+	List<ConsumoAgregado> calcularConsumoAgregado(@Param("dataInicio") LocalDate dataInicio);
+
+	@Query(value = """
+		SELECT c.ESTOQUE_ID AS "estoqueId", c.PRODUTO_ID AS "produtoId",
+			SUM(c.SAIDA) AS "consumoTotal", MAX(c.SAIDA) AS "consumoMaximoDiario"
+		FROM CONSUMO_DIARIO c
+		WHERE c.DIA >= :dataInicio
+		AND c.SAIDA > 0
+		AND c.PRODUTO_ID IN (:produtoIds)
+		GROUP BY c.ESTOQUE_ID, c.PRODUTO_ID
+	""", nativeQuery = true)
+	List<ConsumoAgregado> calcularConsumoAgregadoPorProdutos(@Param("dataInicio") LocalDate dataInicio,
+		@Param("produtoIds") Collection<Integer> produtoIds);
+}
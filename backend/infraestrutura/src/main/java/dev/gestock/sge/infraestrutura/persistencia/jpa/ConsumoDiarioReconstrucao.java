@@ -0,0 +1,169 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reconstrói as tabelas CONSUMO_DIARIO e MOVIMENTACAO_CONTAGEM a partir do histórico de movimentações.
+ *
+ * O histórico é percorrido em faixas de ID, cada uma em sua própria transação curta, todas lendo
+ * a mesma foto do banco (exportada por uma transação REPEATABLE READ que fica aberta durante a
+ * reconstrução). Nas tabelas de trabalho *_RECONSTRUCAO fica o histórico da foto menos a
+ * consolidação da foto, ou seja, o desvio acumulado. Movimentações registradas ou removidas depois
+ * da foto já alteram a consolidação em uso pelo repositório de movimentações, então basta somar o
+ * desvio a ela: só esse passo final bloqueia as duas tabelas em modo EXCLUSIVE, e dura o tempo de
+ * aplicar as linhas que divergem. Nenhuma movimentação é contada duas vezes, qualquer que seja a
+ * ordem em que os IDs foram reservados.
+ */
+@Component
+class ConsumoDiarioReconstrucao {
+	static final int TAMANHO_LOTE = 10_000;
+
+	private static final String REPEATABLE_READ = "SET TRANSACTION ISOLATION LEVEL REPEATABLE READ";
+
+	private static final String LIMPAR = "TRUNCATE CONSUMO_DIARIO_RECONSTRUCAO, MOVIMENTACAO_CONTAGEM_RECONSTRUCAO";
+
+	private static final String CONSOLIDAR_CONSUMO = """
+			INSERT INTO CONSUMO_DIARIO_RECONSTRUCAO (ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA)
+			SELECT m.ESTOQUE_ID, m.PRODUTO_ID, CAST(m.DATA_HORA AS date),
+			       COALESCE(SUM(CASE WHEN m.TIPO = 'SAIDA' THEN m.QUANTIDADE END), 0),
+			       COALESCE(SUM(CASE WHEN m.TIPO = 'ENTRADA' THEN m.QUANTIDADE END), 0)
+			  FROM MOVIMENTACAO m
+			 WHERE m.ID > ? AND m.ID <= ?
+			 GROUP BY m.ESTOQUE_ID, m.PRODUTO_ID, CAST(m.DATA_HORA AS date)
+			""";
+
+	// Mesma faixa de MovimentacaoContagem.faixa
+	private static final String CONSOLIDAR_CONTAGEM = """
+			INSERT INTO MOVIMENTACAO_CONTAGEM_RECONSTRUCAO (DIA, FAIXA, ENTRADAS, SAIDAS)
+			SELECT CAST(m.DATA_HORA AS date), (m.ESTOQUE_ID::bigint * 31 + m.PRODUTO_ID) % 16,
+			       COUNT(*) FILTER (WHERE m.TIPO = 'ENTRADA'),
+			       COUNT(*) FILTER (WHERE m.TIPO = 'SAIDA')
+			  FROM MOVIMENTACAO m
+			 WHERE m.ID > ? AND m.ID <= ?
+			 GROUP BY 1, 2
+			""";
+
+	private static final String DESCONTAR_CONSUMO = """
+			INSERT INTO CONSUMO_DIARIO_RECONSTRUCAO (ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA)
+			SELECT ESTOQUE_ID, PRODUTO_ID, DIA, -SAIDA, -ENTRADA
+			  FROM CONSUMO_DIARIO
+			""";
+
+	private static final String DESCONTAR_CONTAGEM = """
+			INSERT INTO MOVIMENTACAO_CONTAGEM_RECONSTRUCAO (DIA, FAIXA, ENTRADAS, SAIDAS)
+			SELECT DIA, FAIXA, -ENTRADAS, -SAIDAS
+			  FROM MOVIMENTACAO_CONTAGEM
+			""";
+
+	// Uma linha por chave, só onde há desvio
+	private static final String COMPACTAR_CONSUMO = """
+			WITH PARCIAIS AS (DELETE FROM CONSUMO_DIARIO_RECONSTRUCAO RETURNING *)
+			INSERT INTO CONSUMO_DIARIO_RECONSTRUCAO (ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA)
+			SELECT ESTOQUE_ID, PRODUTO_ID, DIA, SUM(SAIDA), SUM(ENTRADA)
+			  FROM PARCIAIS
+			 GROUP BY ESTOQUE_ID, PRODUTO_ID, DIA
+			HAVING SUM(SAIDA) <> 0 OR SUM(ENTRADA) <> 0
+			""";
+
+	private static final String COMPACTAR_CONTAGEM = """
+			WITH PARCIAIS AS (DELETE FROM MOVIMENTACAO_CONTAGEM_RECONSTRUCAO RETURNING *)
+			INSERT INTO MOVIMENTACAO_CONTAGEM_RECONSTRUCAO (DIA, FAIXA, ENTRADAS, SAIDAS)
+			SELECT DIA, FAIXA, SUM(ENTRADAS), SUM(SAIDAS)
+			  FROM PARCIAIS
+			 GROUP BY DIA, FAIXA
+			HAVING SUM(ENTRADAS) <> 0 OR SUM(SAIDAS) <> 0
+			""";
+
+	private static final String BLOQUEAR = "LOCK TABLE CONSUMO_DIARIO, MOVIMENTACAO_CONTAGEM IN EXCLUSIVE MODE";
+
+	private static final String APLICAR_CONSUMO = """
+			INSERT INTO CONSUMO_DIARIO (ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA)
+			SELECT ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA
+			  FROM CONSUMO_DIARIO_RECONSTRUCAO
+			ON CONFLICT (ESTOQUE_ID, PRODUTO_ID, DIA) DO UPDATE
+			SET SAIDA = CONSUMO_DIARIO.SAIDA + EXCLUDED.SAIDA,
+			    ENTRADA = CONSUMO_DIARIO.ENTRADA + EXCLUDED.ENTRADA
+			""";
+
+	private static final String APLICAR_CONTAGEM = """
+			INSERT INTO MOVIMENTACAO_CONTAGEM (DIA, FAIXA, ENTRADAS, SAIDAS)
+			SELECT DIA, FAIXA, ENTRADAS, SAIDAS
+			  FROM MOVIMENTACAO_CONTAGEM_RECONSTRUCAO
+			ON CONFLICT (DIA, FAIXA) DO UPDATE
+			SET ENTRADAS = MOVIMENTACAO_CONTAGEM.ENTRADAS + EXCLUDED.ENTRADAS,
+			    SAIDAS = MOVIMENTACAO_CONTAGEM.SAIDAS + EXCLUDED.SAIDAS
+			""";
+
+	@Autowired
+	AlertaSnapshot alertaSnapshot;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	/**
+	 * Uma reconstrução por vez: as tabelas de trabalho são compartilhadas.
+	 *
+	 * @return Número de linhas diárias consolidadas
+	 */
+	synchronized int reconstruir() {
+		jdbcTemplate.execute(LIMPAR);
+		try {
+			var lote = new TransactionTemplate(transactionManager);
+			lote.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+			// A transação da foto só lê; cada faixa é gravada em uma transação nova que a importa
+			new TransactionTemplate(transactionManager).executeWithoutResult(foto -> {
+				jdbcTemplate.execute(REPEATABLE_READ);
+				var identificador = jdbcTemplate.queryForObject("SELECT pg_export_snapshot()", String.class);
+				var maiorId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(ID), 0) FROM MOVIMENTACAO", Integer.class);
+
+				for (int inicio = 0; inicio < maiorId; inicio += TAMANHO_LOTE) {
+					var idInicio = inicio;
+					var idFim = Math.min(inicio + TAMANHO_LOTE, maiorId);
+					lote.executeWithoutResult(status -> {
+						importar(identificador);
+						jdbcTemplate.update(CONSOLIDAR_CONSUMO, idInicio, idFim);
+						jdbcTemplate.update(CONSOLIDAR_CONTAGEM, idInicio, idFim);
+					});
+				}
+				lote.executeWithoutResult(status -> {
+					importar(identificador);
+					jdbcTemplate.update(DESCONTAR_CONSUMO);
+					jdbcTemplate.update(DESCONTAR_CONTAGEM);
+				});
+			});
+
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				jdbcTemplate.update(COMPACTAR_CONSUMO);
+				jdbcTemplate.update(COMPACTAR_CONTAGEM);
+			});
+
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				jdbcTemplate.execute(BLOQUEAR);
+				jdbcTemplate.update(APLICAR_CONSUMO);
+				jdbcTemplate.update(APLICAR_CONTAGEM);
+				// O consumo médio pode ter mudado para qualquer par; o snapshot recarrega tudo após o commit
+				alertaSnapshot.invalidar();
+			});
+		} finally {
+			jdbcTemplate.execute(LIMPAR);
+		}
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM CONSUMO_DIARIO", Integer.class);
+	}
+
+	/**
+	 * Faz a transação atual, ainda sem comandos, ler a foto exportada.
+	 */
+	private void importar(String identificador) {
+		jdbcTemplate.execute(REPEATABLE_READ);
+		jdbcTemplate.execute("SET TRANSACTION SNAPSHOT '" + identificador.replace("'", "''") + "'");
+	}
+}
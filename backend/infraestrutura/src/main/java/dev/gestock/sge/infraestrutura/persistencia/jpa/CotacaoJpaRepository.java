@@ -1,7 +1,11 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 interface CotacaoJpaRepository extends JpaRepository<CotacaoJpa, Integer> {
 	List<CotacaoJpa> findByProdutoId(int produtoId);
@@ -10,6 +14,87 @@ interface CotacaoJpaRepository extends JpaRepository<CotacaoJpa, Integer> {
 
 	void deleteByProdutoId(int produtoId);
 
+	@Query("""
+			SELECT c FROM CotacaoJpa c
+			  JOIN FETCH c.produto
+			  JOIN FETCH c.fornecedor
+			 WHERE c.produto.id IN :produtoIds
+			 ORDER BY c.id
+			""")
+	List<CotacaoJpa> pesquisarPorProdutos(@Param("produtoIds") Collection<Integer> produtoIds);
+
+	@Query("""
+			SELECT c FROM CotacaoJpa c
+			  JOIN FETCH c.produto
+			  JOIN FETCH c.fornecedor
+			 WHERE c.fornecedor.id = :fornecedorId
+			   AND c.produto.id IN :produtoIds
+			 ORDER BY c.id
+			""")
+	List<CotacaoJpa> pesquisarPorFornecedorEProdutos(@Param("fornecedorId") int fornecedorId,
+			@Param("produtoIds") Collection<Integer> produtoIds);
+
 	void deleteByFornecedorId(int fornecedorId);
+
+	/**
+	 * Linhas de resumo com produto e fornecedor em junções, sem carregar as cotações.
+	 */
+	@Query("""
+			SELECT c.id AS id, p.id AS produtoId, p.nome AS produtoNome, f.id AS fornecedorId,
+			       f.nome AS fornecedorNome, c.preco AS preco, c.leadTime AS leadTime,
+			       c.validade AS validade, c.statusAprovacao AS statusAprovacao
+			  FROM CotacaoJpa c
+			  LEFT JOIN c.produto p
+			  LEFT JOIN c.fornecedor f
+			 ORDER BY c.id
+			""")
+	List<CotacaoLinha> pesquisarLinhas();
+
+	@Query("""
+			SELECT c.id AS id, p.id AS produtoId, p.nome AS produtoNome, f.id AS fornecedorId,
+			       f.nome AS fornecedorNome, c.preco AS preco, c.leadTime AS leadTime,
+			       c.validade AS validade, c.statusAprovacao AS statusAprovacao
+			  FROM CotacaoJpa c
+			  JOIN c.produto p
+			  LEFT JOIN c.fornecedor f
+			 WHERE p.id = :produtoId
+			 ORDER BY c.id
+			""")
+	List<CotacaoLinha> pesquisarLinhasPorProduto(@Param("produtoId") int produtoId);
+
+	/**
+	 * Linhas de todas as cotações do mesmo produto da cotação informada.
+	 */
+	@Query("""
+			SELECT c.id AS id, p.id AS produtoId, p.nome AS produtoNome, f.id AS fornecedorId,
+			       f.nome AS fornecedorNome, c.preco AS preco, c.leadTime AS leadTime,
+			       c.validade AS validade, c.statusAprovacao AS statusAprovacao
+			  FROM CotacaoJpa c
+			  JOIN c.produto p
+			  LEFT JOIN c.fornecedor f
+			 WHERE p.id = (SELECT o.produto.id FROM CotacaoJpa o WHERE o.id = :id)
+			 ORDER BY c.id
+			""")
+	List<CotacaoLinha> pesquisarLinhasDoMesmoProduto(@Param("id") int id);
+
+	interface CotacaoLinha {
+		int getId();
+
+		Integer getProdutoId();
+
+		String getProdutoNome();
+
+		Integer getFornecedorId();
+
+		String getFornecedorNome();
+
+		BigDecimal getPreco();
+
+		int getLeadTime();
+
+		String getValidade();
+
+		String getStatusAprovacao();
+	}
 }
 
@@ -1,8 +1,10 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
@@ -10,12 +12,15 @@ import org.springframework.transaction.annotation.Transactional;
 import dev.gestock.sge.aplicacao.cotacao.CotacaoPorProdutoResumo;
 import dev.gestock.sge.aplicacao.cotacao.CotacaoRepositorioAplicacao;
 import dev.gestock.sge.aplicacao.cotacao.CotacaoResumo;
+import dev.gestock.sge.aplicacao.cotacao.CotacaoSincronizacao;
 import java.util.Comparator;
 import dev.gestock.sge.dominio.cotacao.Cotacao;
 import dev.gestock.sge.dominio.cotacao.CotacaoId;
 import dev.gestock.sge.dominio.cotacao.CotacaoRepositorio;
 import dev.gestock.sge.dominio.cotacao.Validade;
+import dev.gestock.sge.dominio.fornecedor.FornecedorId;
 import dev.gestock.sge.dominio.produto.ProdutoId;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.CotacaoJpaRepository.CotacaoLinha;
 
 @Repository
 class CotacaoRepositorioImpl implements CotacaoRepositorio, CotacaoRepositorioAplicacao {
@@ -26,10 +31,10 @@ class CotacaoRepositorioImpl implements CotacaoRepositorio, CotacaoRepositorioAp
 	JpaMapeador mapeador;
 
 	@Autowired
-	ProdutoJpaRepository produtoRepositorio;
+	CotacaoSincronizador sincronizador;
 
 	@Autowired
-	FornecedorJpaRepository fornecedorRepositorio;
+	ReferenciaCache referenciaCache;
 
 	@Override
 	public Cotacao salvar(Cotacao cotacao) {
@@ -40,11 +45,9 @@ class CotacaoRepositorioImpl implements CotacaoRepositorio, CotacaoRepositorioAp
 		cotacaoJpa.validade = cotacao.getValidade().name();
 		cotacaoJpa.statusAprovacao = cotacao.getStatusAprovacao().name();
 		
-		// Carregar produto e fornecedor do banco
-		cotacaoJpa.produto = produtoRepositorio.findById(cotacao.getProdutoId().getId())
-			.orElseThrow(() -> new IllegalArgumentException("Produto não encontrado"));
-		cotacaoJpa.fornecedor = fornecedorRepositorio.findById(cotacao.getFornecedorId().getId())
-			.orElseThrow(() -> new IllegalArgumentException("Fornecedor não encontrado"));
+		// Produto e fornecedor vêm do cache de referência
+		cotacaoJpa.produto = referenciaCache.referenciarProduto(cotacao.getProdutoId().getId());
+		cotacaoJpa.fornecedor = referenciaCache.referenciarFornecedor(cotacao.getFornecedorId().getId());
 		
 		// Verificar se já existe cotação para o mesmo produto+fornecedor
 		if (cotacao.getId().getId() == 0) {
@@ -68,7 +71,7 @@ class CotacaoRepositorioImpl implements CotacaoRepositorio, CotacaoRepositorioAp
 		}
 		
 		cotacaoJpa = repositorio.save(cotacaoJpa);
-		return mapeador.map(cotacaoJpa, Cotacao.class);
+		return mapeador.mapear(cotacaoJpa);
 	}
 
 	@Transactional
@@ -78,7 +81,7 @@ class CotacaoRepositorioImpl implements CotacaoRepositorio, CotacaoRepositorioAp
 		if (cotacaoJpa == null) {
 			return null;
 		}
-		return mapeador.map(cotacaoJpa, Cotacao.class);
+		return mapeador.mapear(cotacaoJpa);
 	}
 
 	@Transactional
@@ -90,50 +93,76 @@ class CotacaoRepositorioImpl implements CotacaoRepositorio, CotacaoRepositorioAp
 		}
 		var resultado = new ArrayList<Cotacao>();
 		for (var cotacaoJpa : cotacoesJpa) {
-			resultado.add(mapeador.map(cotacaoJpa, Cotacao.class));
+			resultado.add(mapeador.mapear(cotacaoJpa));
 		}
 		return resultado;
 	}
 
+	@Transactional(readOnly = true)
+	@Override
+	public List<Cotacao> obterPorProdutos(Collection<ProdutoId> produtoIds) {
+		if (produtoIds.isEmpty()) {
+			return List.of();
+		}
+		return mapear(repositorio.pesquisarPorProdutos(chaves(produtoIds)));
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public List<Cotacao> obterPorFornecedorEProdutos(FornecedorId fornecedorId, Collection<ProdutoId> produtoIds) {
+		if (produtoIds.isEmpty()) {
+			return List.of();
+		}
+		return mapear(repositorio.pesquisarPorFornecedorEProdutos(fornecedorId.getId(), chaves(produtoIds)));
+	}
+
+	private List<Cotacao> mapear(List<CotacaoJpa> cotacoesJpa) {
+		var resultado = new ArrayList<Cotacao>(cotacoesJpa.size());
+		for (var cotacaoJpa : cotacoesJpa) {
+			resultado.add(mapeador.mapear(cotacaoJpa));
+		}
+		return resultado;
+	}
+
+	private static List<Integer> chaves(Collection<ProdutoId> produtoIds) {
+		var chaves = new ArrayList<Integer>(produtoIds.size());
+		for (var produtoId : produtoIds) {
+			chaves.add(produtoId.getId());
+		}
+		return chaves;
+	}
+
 	@Override
 	public void remover(CotacaoId id) {
 		repositorio.deleteById(id.getId());
 	}
 
-	@Transactional
+	@Transactional(readOnly = true)
 	@Override
 	public List<CotacaoPorProdutoResumo> pesquisarPorProduto() {
-		var todasCotacoes = repositorio.findAll();
+		var todasCotacoes = repositorio.pesquisarLinhas();
 		
 		// Agrupar por NOME do produto (para comparar produtos com mesmo nome de fornecedores diferentes)
-		Map<String, List<CotacaoJpa>> porNomeProduto = todasCotacoes.stream()
-			.filter(c -> c.produto != null && c.produto.nome != null)
-			.collect(Collectors.groupingBy(c -> c.produto.nome.toLowerCase().trim()));
+		Map<String, List<CotacaoLinha>> porNomeProduto = todasCotacoes.stream()
+			.filter(c -> c.getProdutoId() != null && c.getProdutoNome() != null)
+			.collect(Collectors.groupingBy(c -> c.getProdutoNome().toLowerCase().trim()));
 		
 		var resultados = new ArrayList<CotacaoPorProdutoResumo>();
 		
 		for (var entry : porNomeProduto.entrySet()) {
-			var nomeProduto = entry.getKey();
-			var cotacoesJpa = entry.getValue();
+			var cotacoes = entry.getValue();
 			
-			// Obter a cotação mais vantajosa usando a mesma lógica do serviço
-			var maisVantajosaJpa = obterMaisVantajosaJpa(cotacoesJpa);
-			int idMaisVantajosa = maisVantajosaJpa != null ? maisVantajosaJpa.id : -1;
-			
-			// Criar resumos das cotações
-			var cotacoesResumo = new ArrayList<CotacaoResumo>();
-			for (var cotacaoJpa : cotacoesJpa) {
-				cotacoesResumo.add(criarResumo(cotacaoJpa, cotacaoJpa.id == idMaisVantajosa));
-			}
+			// Criar resumos das cotações, marcando a mais vantajosa
+			var cotacoesResumo = criarResumos(cotacoes);
 			
 			// Contar aprovadas
-			long totalAprovadas = cotacoesJpa.stream()
-				.filter(c -> "APROVADA".equals(c.statusAprovacao))
+			long totalAprovadas = cotacoes.stream()
+				.filter(c -> "APROVADA".equals(c.getStatusAprovacao()))
 				.count();
 			
-			var primeiroProdutoJpa = cotacoesJpa.get(0).produto;
-			final int primeiroProdutoId = primeiroProdutoJpa != null ? primeiroProdutoJpa.id : 0;
-			final String nomeProdutoFinal = primeiroProdutoJpa != null ? primeiroProdutoJpa.nome : nomeProduto;
+			var primeira = cotacoes.get(0);
+			final int primeiroProdutoId = primeira.getProdutoId();
+			final String nomeProdutoFinal = primeira.getProdutoNome();
 			
 			resultados.add(new CotacaoPorProdutoResumo() {
 				@Override
@@ -153,7 +182,7 @@ class CotacaoRepositorioImpl implements CotacaoRepositorio, CotacaoRepositorioAp
 
 				@Override
 				public int getTotalCotacoes() {
-					return cotacoesJpa.size();
+					return cotacoes.size();
 				}
 
 				@Override
@@ -166,141 +195,115 @@ class CotacaoRepositorioImpl implements CotacaoRepositorio, CotacaoRepositorioAp
 		return resultados;
 	}
 
-	@Transactional
+	@Transactional(readOnly = true)
 	@Override
 	public List<CotacaoResumo> pesquisarPorProduto(int produtoId) {
-		var cotacoesJpa = repositorio.findByProdutoId(produtoId);
-		
-		// Obter a cotação mais vantajosa usando a mesma lógica do serviço
-		var maisVantajosaJpa = obterMaisVantajosaJpa(cotacoesJpa);
-		int idMaisVantajosa = maisVantajosaJpa != null ? maisVantajosaJpa.id : -1;
-		
-		return cotacoesJpa.stream()
-			.map(c -> criarResumo(c, c.id == idMaisVantajosa))
-			.toList();
+		return criarResumos(repositorio.pesquisarLinhasPorProduto(produtoId));
 	}
 
+	/**
+	 * Lê numa só consulta as cotações do produto da cotação, necessárias para saber se ela é a mais vantajosa.
+	 */
+	@Transactional(readOnly = true)
 	@Override
 	public CotacaoResumo obterResumo(int id) {
-		var cotacaoJpa = repositorio.findById(id).orElse(null);
-		if (cotacaoJpa == null) {
-			return null;
+		for (var resumo : criarResumos(repositorio.pesquisarLinhasDoMesmoProduto(id))) {
+			if (resumo.getId() == id) {
+				return resumo;
+			}
 		}
+		return null;
+	}
+
+	private static List<CotacaoResumo> criarResumos(List<CotacaoLinha> cotacoes) {
+		var maisVantajosa = obterMaisVantajosa(cotacoes);
+		int idMaisVantajosa = maisVantajosa != null ? maisVantajosa.getId() : -1;
 		
-		// Verificar se é a mais vantajosa - buscar todas as cotações do produto
-		var cotacoesJpa = repositorio.findByProdutoId(cotacaoJpa.produto.id);
-		var maisVantajosaJpa = obterMaisVantajosaJpa(cotacoesJpa);
-		boolean isMaisVantajosa = maisVantajosaJpa != null && maisVantajosaJpa.id == id;
-		
-		return criarResumo(cotacaoJpa, isMaisVantajosa);
+		var resumos = new ArrayList<CotacaoResumo>(cotacoes.size());
+		for (var cotacao : cotacoes) {
+			resumos.add(criarResumo(cotacao, cotacao.getId() == idMaisVantajosa));
+		}
+		return resumos;
 	}
 
 	/**
-	 * Implementa a mesma lógica do CotacaoServico.obterMaisVantajosa() mas trabalhando diretamente com JPA.
+	 * Implementa a mesma lógica do CotacaoServico.obterMaisVantajosa() sobre as linhas da consulta.
 	 * Ordena por: preço (menor), lead time (menor), validade (ATIVA primeiro), ordem original (ID).
 	 */
-	private CotacaoJpa obterMaisVantajosaJpa(List<CotacaoJpa> cotacoesJpa) {
-		if (cotacoesJpa == null || cotacoesJpa.isEmpty()) {
+	private static CotacaoLinha obterMaisVantajosa(List<CotacaoLinha> cotacoes) {
+		if (cotacoes == null || cotacoes.isEmpty()) {
 			return null;
 		}
 
-		return cotacoesJpa.stream()
-			.sorted(Comparator
-				.comparing((CotacaoJpa c) -> c.preco)
-				.thenComparing(c -> c.leadTime)
-				.thenComparing(c -> c.validade.equals("EXPIRADA") ? 1 : 0)
-				.thenComparing(c -> c.id))
-			.findFirst()
+		return cotacoes.stream()
+			.min(Comparator
+				.comparing(CotacaoLinha::getPreco)
+				.thenComparingInt(CotacaoLinha::getLeadTime)
+				.thenComparingInt(c -> "EXPIRADA".equals(c.getValidade()) ? 1 : 0)
+				.thenComparingInt(CotacaoLinha::getId))
 			.orElse(null);
 	}
 
-	@Transactional
 	@Override
-	public int sincronizarCotacoes() {
-		int cotacoesCriadas = 0;
-		
-		// Buscar todos os produtos com seus fornecedores
-		var todosProdutos = produtoRepositorio.findAll();
-		
-		for (var produto : todosProdutos) {
-			if (produto.fornecedores == null || produto.fornecedores.isEmpty()) {
-				continue;
-			}
-			
-			for (var fornecedor : produto.fornecedores) {
-				// Verificar se já existe cotação para este par produto-fornecedor
-				var cotacaoExistente = repositorio.findByProdutoIdAndFornecedorId(produto.id, fornecedor.id);
-				
-				if (cotacaoExistente.isEmpty()) {
-					// Criar nova cotação usando o custo e leadTime do fornecedor
-					var novaCotacao = new CotacaoJpa();
-					novaCotacao.produto = produto;
-					novaCotacao.fornecedor = fornecedor;
-					novaCotacao.preco = fornecedor.custo;
-					novaCotacao.leadTime = fornecedor.leadTime;
-					novaCotacao.validade = "ATIVA";
-					novaCotacao.statusAprovacao = "PENDENTE";
-					
-					repositorio.save(novaCotacao);
-					cotacoesCriadas++;
-				} else {
-					// Atualizar cotação existente com valores atuais do fornecedor
-					var cotacao = cotacaoExistente.get();
-					cotacao.preco = fornecedor.custo;
-					cotacao.leadTime = fornecedor.leadTime;
-					repositorio.save(cotacao);
-				}
-			}
-		}
-		
-		return cotacoesCriadas;
+	public CotacaoSincronizacao sincronizarCotacoes(Consumer<CotacaoSincronizacao> progresso) {
+		return sincronizador.sincronizar(progresso);
 	}
 
-	private CotacaoResumo criarResumo(CotacaoJpa cotacaoJpa, boolean isMaisVantajosa) {
+	private static CotacaoResumo criarResumo(CotacaoLinha linha, boolean isMaisVantajosa) {
+		var id = linha.getId();
+		var produtoId = linha.getProdutoId();
+		var produtoNome = linha.getProdutoNome();
+		var fornecedorId = linha.getFornecedorId();
+		var fornecedorNome = linha.getFornecedorNome();
+		var preco = linha.getPreco();
+		var leadTime = linha.getLeadTime();
+		var validade = linha.getValidade();
+		var statusAprovacao = linha.getStatusAprovacao();
+
 		return new CotacaoResumo() {
 			@Override
 			public int getId() {
-				return cotacaoJpa.id;
+				return id;
 			}
 
 			@Override
 			public int getProdutoId() {
-				return cotacaoJpa.produto != null ? cotacaoJpa.produto.id : 0;
+				return produtoId != null ? produtoId : 0;
 			}
 
 			@Override
 			public String getProdutoNome() {
-				return cotacaoJpa.produto != null ? cotacaoJpa.produto.nome : "";
+				return produtoNome != null ? produtoNome : "";
 			}
 
 			@Override
 			public int getFornecedorId() {
-				return cotacaoJpa.fornecedor != null ? cotacaoJpa.fornecedor.id : 0;
+				return fornecedorId != null ? fornecedorId : 0;
 			}
 
 			@Override
 			public String getFornecedorNome() {
-				return cotacaoJpa.fornecedor != null ? cotacaoJpa.fornecedor.nome : "";
+				return fornecedorNome != null ? fornecedorNome : "";
 			}
 
 			@Override
 			public java.math.BigDecimal getPreco() {
-				return cotacaoJpa.preco;
+				return preco;
 			}
 
 			@Override
 			public int getLeadTime() {
-				return cotacaoJpa.leadTime;
+				return leadTime;
 			}
 
 			@Override
 			public String getValidade() {
-				return cotacaoJpa.validade;
+				return validade;
 			}
 
 			@Override
 			public String getStatusAprovacao() {
-				return cotacaoJpa.statusAprovacao;
+				return statusAprovacao;
 			}
 
 			@Override
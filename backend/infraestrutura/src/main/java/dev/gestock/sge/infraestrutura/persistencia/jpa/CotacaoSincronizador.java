@@ -0,0 +1,127 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import dev.gestock.sge.aplicacao.cotacao.CotacaoSincronizacao;
+
+/**
+ * Sincroniza as cotações com o custo e o lead time dos fornecedores de cada produto.
+ *
+ * A diferença é calculada no banco, com uma junção de PRODUTO_FORNECEDOR, FORNECEDOR e COTACAO
+ * que devolve só os pares sem cotação ou com valores desatualizados. Os pares são percorridos
+ * por chave (PRODUTO_ID, FORNECEDOR_ID) em lotes, e cada lote é gravado com um único batch de
+ * {@code INSERT ... ON CONFLICT} na sua própria transação: nenhuma transação dura a
+ * sincronização inteira e uma falha preserva os lotes já gravados.
+ */
+@Component
+class CotacaoSincronizador {
+	private static final Logger LOG = LoggerFactory.getLogger(CotacaoSincronizador.class);
+
+	private static final String PARES_DIVERGENTES = """
+			  FROM PRODUTO_FORNECEDOR pf
+			  JOIN FORNECEDOR f ON f.ID = pf.FORNECEDOR_ID
+			  LEFT JOIN COTACAO c ON c.PRODUTO_ID = pf.PRODUTO_ID AND c.FORNECEDOR_ID = pf.FORNECEDOR_ID
+			 WHERE (c.ID IS NULL OR c.PRECO <> f.CUSTO OR c.LEAD_TIME <> f.LEAD_TIME)
+			""";
+
+	private static final String CONTAR_DIVERGENTES = "SELECT COUNT(*)" + PARES_DIVERGENTES;
+
+	private static final String PESQUISAR_DIVERGENTES = """
+			SELECT pf.PRODUTO_ID, pf.FORNECEDOR_ID, f.CUSTO, f.LEAD_TIME, c.ID IS NULL AS NOVA
+			""" + PARES_DIVERGENTES + """
+			   AND (pf.PRODUTO_ID, pf.FORNECEDOR_ID) > (?, ?)
+			 ORDER BY pf.PRODUTO_ID, pf.FORNECEDOR_ID
+			 LIMIT ?
+			""";
+
+	private static final String APLICAR = """
+			INSERT INTO COTACAO (PRODUTO_ID, FORNECEDOR_ID, PRECO, LEAD_TIME, VALIDADE, STATUS_APROVACAO)
+			VALUES (?, ?, ?, ?, 'ATIVA', 'PENDENTE')
+			ON CONFLICT (PRODUTO_ID, FORNECEDOR_ID)
+			DO UPDATE SET PRECO = EXCLUDED.PRECO, LEAD_TIME = EXCLUDED.LEAD_TIME
+			""";
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Value("${sge.cotacao.sincronizacao.lote:1000}")
+	int tamanhoLote;
+
+	/**
+	 * @param progresso chamado após cada lote gravado e ao final, com os contadores acumulados
+	 */
+	CotacaoSincronizacao sincronizar(Consumer<CotacaoSincronizacao> progresso) {
+		var inicio = System.nanoTime();
+		var divergentes = jdbcTemplate.queryForObject(CONTAR_DIVERGENTES, Integer.class);
+		int criadas = 0;
+		int atualizadas = 0;
+		int ultimoProdutoId = 0;
+		int ultimoFornecedorId = 0;
+
+		while (true) {
+			var lote = aplicarLote(ultimoProdutoId, ultimoFornecedorId);
+			if (lote.pares == 0) {
+				break;
+			}
+			criadas += lote.criadas;
+			atualizadas += lote.pares - lote.criadas;
+			ultimoProdutoId = lote.ultimoProdutoId;
+			ultimoFornecedorId = lote.ultimoFornecedorId;
+			if (lote.pares < tamanhoLote) {
+				break;
+			}
+			progresso.accept(new CotacaoSincronizacao(divergentes, criadas, atualizadas, decorrido(inicio), false));
+		}
+
+		var resultado = new CotacaoSincronizacao(divergentes, criadas, atualizadas, decorrido(inicio), true);
+		progresso.accept(resultado);
+		LOG.info("Sincronização de cotações: {} criadas, {} atualizadas em {} ms", criadas, atualizadas,
+			resultado.getDuracaoMilissegundos());
+		return resultado;
+	}
+
+	private Lote aplicarLote(int aposProdutoId, int aposFornecedorId) {
+		var transacao = new TransactionTemplate(transactionManager);
+		transacao.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+		return transacao.execute(status -> {
+			var lote = new Lote();
+			var argumentos = new ArrayList<Object[]>(tamanhoLote);
+			jdbcTemplate.query(PESQUISAR_DIVERGENTES, linha -> {
+				lote.ultimoProdutoId = linha.getInt("PRODUTO_ID");
+				lote.ultimoFornecedorId = linha.getInt("FORNECEDOR_ID");
+				if (linha.getBoolean("NOVA")) {
+					lote.criadas++;
+				}
+				argumentos.add(new Object[] { lote.ultimoProdutoId, lote.ultimoFornecedorId,
+					linha.getBigDecimal("CUSTO"), linha.getInt("LEAD_TIME") });
+			}, aposProdutoId, aposFornecedorId, tamanhoLote);
+			lote.pares = argumentos.size();
+			if (!argumentos.isEmpty()) {
+				jdbcTemplate.batchUpdate(APLICAR, argumentos);
+			}
+			return lote;
+		});
+	}
+
+	private static long decorrido(long inicio) {
+		return (System.nanoTime() - inicio) / 1_000_000;
+	}
+
+	private static class Lote {
+		int pares;
+		int criadas;
+		int ultimoProdutoId;
+		int ultimoFornecedorId;
+	}
+}
@@ -10,10 +10,24 @@ interface EstoqueJpaRepository extends JpaRepository<EstoqueJpa, Integer> {
 	@Query("SELECT e FROM EstoqueJpa e WHERE LOWER(e.nome) LIKE LOWER(CONCAT('%', :termo, '%')) OR LOWER(e.endereco) LIKE LOWER(CONCAT('%', :termo, '%'))")
 	List<EstoqueJpa> findByNomeContainingIgnoreCaseOrEnderecoContaining(@Param("termo") String termo);
 
-	List<EstoqueJpa> findByStatus(String status);
+	/**
+	 * Busca ordenada por relevância, como em {@link ProdutoJpaRepository#buscar}, por nome ou endereço.
+	 */
+	@Query(value = """
+		SELECT e.* FROM ESTOQUE e
+		WHERE LOWER(e.NOME) LIKE CONCAT('%', :termo, '%')
+			OR LOWER(e.ENDERECO) LIKE CONCAT('%', :termo, '%')
+			OR :termo <% LOWER(e.NOME)
+			OR :termo <% LOWER(e.ENDERECO)
+		ORDER BY LOWER(e.NOME) LIKE CONCAT(:termo, '%') DESC,
+			GREATEST(word_similarity(:termo, LOWER(e.NOME)), word_similarity(:termo, LOWER(e.ENDERECO))) DESC,
+			e.ID
+		LIMIT :limite OFFSET :deslocamento
+	""", nativeQuery = true)
+	List<EstoqueJpa> buscar(@Param("termo") String termo, @Param("limite") int limite,
+		@Param("deslocamento") int deslocamento);
 
-	@Query("SELECT COALESCE(SUM(ep.quantidade), 0) FROM EstoqueProdutoJpa ep WHERE ep.estoque.id = :estoqueId")
-	Integer calcularOcupacao(@Param("estoqueId") int estoqueId);
+	List<EstoqueJpa> findByStatus(String status);
 
 	// R2H1: Verificar se existe estoque com mesmo endereço
 	@Query("SELECT COUNT(e) > 0 FROM EstoqueJpa e WHERE LOWER(e.endereco) = LOWER(:endereco) AND e.id != :excludeId")
@@ -0,0 +1,101 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantém ESTOQUE_OCUPACAO, a soma das quantidades de ESTOQUE_PRODUTO por estoque.
+ *
+ * O repositório de movimentações acumula cada crédito e débito de saldo na mesma transação, de modo
+ * que a ocupação de um estoque é lida somando no máximo {@link #FAIXAS} linhas, sem percorrer os
+ * produtos. A faixa vem do produto, e movimentações concorrentes de produtos diferentes no mesmo
+ * estoque raramente disputam a mesma linha. Divergências são corrigidas por
+ * {@link EstoqueOcupacaoReconciliacao}.
+ */
+@Component
+class EstoqueOcupacao {
+	static final int FAIXAS = 16;
+
+	private static final String ACUMULAR = """
+			INSERT INTO ESTOQUE_OCUPACAO (ESTOQUE_ID, FAIXA, QUANTIDADE)
+			VALUES (?, ?, ?)
+			ON CONFLICT (ESTOQUE_ID, FAIXA) DO UPDATE
+			SET QUANTIDADE = ESTOQUE_OCUPACAO.QUANTIDADE + EXCLUDED.QUANTIDADE
+			""";
+
+	private static final String OBTER_POR_ESTOQUES = """
+			SELECT ESTOQUE_ID, SUM(QUANTIDADE) AS QUANTIDADE
+			  FROM ESTOQUE_OCUPACAO
+			 WHERE ESTOQUE_ID = ANY(?::int[])
+			 GROUP BY ESTOQUE_ID
+			""";
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Mesma fórmula usada na migração e na reconciliação.
+	 */
+	static int faixa(int produtoId) {
+		return Math.floorMod(produtoId, FAIXAS);
+	}
+
+	/**
+	 * Soma a quantidade à ocupação do estoque, na transação atual; negativa em débitos.
+	 */
+	void acumular(int estoqueId, int produtoId, int quantidade) {
+		if (quantidade != 0) {
+			jdbcTemplate.update(ACUMULAR, estoqueId, faixa(produtoId), quantidade);
+		}
+	}
+
+	/**
+	 * Acumula os ajustes de vários pares em um único batch, em ordem de (estoque, faixa) para que
+	 * lotes concorrentes bloqueiem as linhas na mesma ordem.
+	 * @param ajustes por chave {@link PontoRessuprimentoCalculadoraLote#chave(int, int)} do par
+	 */
+	void acumular(Map<Long, Integer> ajustes) {
+		var porFaixa = new TreeMap<Long, Long>();
+		for (var ajuste : ajustes.entrySet()) {
+			var estoqueId = (int) (ajuste.getKey() >> 32);
+			var produtoId = (int) (long) ajuste.getKey();
+			porFaixa.merge(PontoRessuprimentoCalculadoraLote.chave(estoqueId, faixa(produtoId)), (long) ajuste.getValue(),
+				Long::sum);
+		}
+		var argumentos = new ArrayList<Object[]>(porFaixa.size());
+		for (var ajuste : porFaixa.entrySet()) {
+			if (ajuste.getValue() != 0) {
+				argumentos.add(new Object[] { (int) (ajuste.getKey() >> 32), (int) (long) ajuste.getKey(), ajuste.getValue() });
+			}
+		}
+		if (!argumentos.isEmpty()) {
+			jdbcTemplate.batchUpdate(ACUMULAR, argumentos);
+		}
+	}
+
+	int obter(int estoqueId) {
+		var quantidade = jdbcTemplate.queryForObject(
+			"SELECT COALESCE(SUM(QUANTIDADE), 0) FROM ESTOQUE_OCUPACAO WHERE ESTOQUE_ID = ?", Long.class, estoqueId);
+		return quantidade.intValue();
+	}
+
+	/**
+	 * Ocupação de vários estoques em uma consulta; estoques sem linhas ficam fora do mapa.
+	 */
+	Map<Integer, Integer> obter(Collection<Integer> estoqueIds) {
+		var ocupacoes = new HashMap<Integer, Integer>();
+		if (estoqueIds.isEmpty()) {
+			return ocupacoes;
+		}
+		jdbcTemplate.query(OBTER_POR_ESTOQUES, linha -> {
+			ocupacoes.put(linha.getInt("ESTOQUE_ID"), (int) linha.getLong("QUANTIDADE"));
+		}, (Object) estoqueIds.toArray(new Integer[0]));
+		return ocupacoes;
+	}
+}
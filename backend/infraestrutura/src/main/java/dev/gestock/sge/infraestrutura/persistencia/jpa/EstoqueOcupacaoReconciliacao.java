@@ -0,0 +1,142 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.util.HashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Confere ESTOQUE_OCUPACAO contra ESTOQUE_PRODUTO e corrige as faixas divergentes.
+ *
+ * Cada estoque é conferido em sua própria transação: as {@link EstoqueOcupacao#FAIXAS} faixas do
+ * estoque são criadas se faltarem e bloqueadas antes de somar os saldos, e a correção é aplicada
+ * como diferença sobre o valor lido, preservando o que movimentações concorrentes acumularem depois.
+ * Criar as faixas antes garante que todas fiquem bloqueadas: uma faixa inserida por outra
+ * transação depois do bloqueio seria somada no saldo sem ter sido lida, e contada duas vezes. Roda a cada
+ * {@code sge.estoque.ocupacao.reconciliacao.intervalo} segundos (0 desliga) e sob demanda.
+ */
+@Component
+class EstoqueOcupacaoReconciliacao {
+	private static final Logger LOG = LoggerFactory.getLogger(EstoqueOcupacaoReconciliacao.class);
+
+	private static final String CRIAR_FAIXAS = """
+			INSERT INTO ESTOQUE_OCUPACAO (ESTOQUE_ID, FAIXA, QUANTIDADE)
+			SELECT ?, FAIXA, 0
+			  FROM generate_series(0, ?) AS FAIXA
+			ON CONFLICT (ESTOQUE_ID, FAIXA) DO NOTHING
+			""";
+
+	private static final String BLOQUEAR_FAIXAS = """
+			SELECT FAIXA, QUANTIDADE
+			  FROM ESTOQUE_OCUPACAO
+			 WHERE ESTOQUE_ID = ?
+			 ORDER BY FAIXA
+			   FOR UPDATE
+			""";
+
+	private static final String SOMAR_SALDOS = """
+			SELECT PRODUTO_ID % 16 AS FAIXA, SUM(QUANTIDADE) AS QUANTIDADE
+			  FROM ESTOQUE_PRODUTO
+			 WHERE ESTOQUE_ID = ?
+			 GROUP BY 1
+			""";
+
+	private static final String CORRIGIR = """
+			INSERT INTO ESTOQUE_OCUPACAO (ESTOQUE_ID, FAIXA, QUANTIDADE)
+			VALUES (?, ?, ?)
+			ON CONFLICT (ESTOQUE_ID, FAIXA) DO UPDATE
+			SET QUANTIDADE = ESTOQUE_OCUPACAO.QUANTIDADE + EXCLUDED.QUANTIDADE
+			""";
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Value("${sge.estoque.ocupacao.reconciliacao.intervalo:3600}")
+	long intervaloSegundos;
+
+	private ScheduledExecutorService agendador;
+
+	@PostConstruct
+	void iniciar() {
+		if (intervaloSegundos <= 0) {
+			return;
+		}
+		agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+			var thread = new Thread(tarefa, "estoque-ocupacao");
+			thread.setDaemon(true);
+			return thread;
+		});
+		agendador.scheduleWithFixedDelay(() -> {
+			try {
+				reconciliar();
+			} catch (RuntimeException e) {
+				LOG.error("Falha ao reconciliar a ocupação dos estoques", e);
+			}
+		}, intervaloSegundos, intervaloSegundos, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	void encerrar() {
+		if (agendador != null) {
+			agendador.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return quantidade de estoques que estavam divergentes e foram corrigidos
+	 */
+	synchronized int reconciliar() {
+		var estoqueIds = jdbcTemplate.queryForList("SELECT ID FROM ESTOQUE ORDER BY ID", Integer.class);
+		int corrigidos = 0;
+		for (var estoqueId : estoqueIds) {
+			if (reconciliar(estoqueId)) {
+				corrigidos++;
+			}
+		}
+		if (corrigidos > 0) {
+			LOG.warn("Ocupação divergente corrigida em {} de {} estoques", corrigidos, estoqueIds.size());
+		}
+		return corrigidos;
+	}
+
+	private boolean reconciliar(int estoqueId) {
+		var transacao = new TransactionTemplate(transactionManager);
+		transacao.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+		return transacao.execute(status -> {
+			// Espera inserções concorrentes das mesmas faixas terminarem
+			jdbcTemplate.update(CRIAR_FAIXAS, estoqueId, EstoqueOcupacao.FAIXAS - 1);
+			var lidas = new HashMap<Integer, Long>();
+			jdbcTemplate.query(BLOQUEAR_FAIXAS, linha -> {
+				lidas.put(linha.getInt("FAIXA"), linha.getLong("QUANTIDADE"));
+			}, estoqueId);
+			var reais = new HashMap<Integer, Long>();
+			jdbcTemplate.query(SOMAR_SALDOS, linha -> {
+				reais.put(linha.getInt("FAIXA"), linha.getLong("QUANTIDADE"));
+			}, estoqueId);
+
+			boolean divergente = false;
+			for (int faixa = 0; faixa < EstoqueOcupacao.FAIXAS; faixa++) {
+				var diferenca = reais.getOrDefault(faixa, 0L) - lidas.getOrDefault(faixa, 0L);
+				if (diferenca != 0) {
+					LOG.warn("Ocupação do estoque {} divergente na faixa {}: diferença de {}", estoqueId, faixa, diferenca);
+					jdbcTemplate.update(CORRIGIR, estoqueId, faixa, diferenca);
+					divergente = true;
+				}
+			}
+			return divergente;
+		});
+	}
+}
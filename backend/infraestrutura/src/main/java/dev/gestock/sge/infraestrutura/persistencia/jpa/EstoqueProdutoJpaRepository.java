@@ -1,8 +1,10 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,5 +14,63 @@ interface EstoqueProdutoJpaRepository extends JpaRepository<EstoqueProdutoJpa, E
 
 	@Query("SELECT ep FROM EstoqueProdutoJpa ep WHERE ep.estoque.id = :estoqueId AND ep.quantidade > 0")
 	List<EstoqueProdutoJpa> findByEstoqueId(@Param("estoqueId") int estoqueId);
+
+	/**
+	 * Soma a quantidade ao saldo do par estoque-produto em um único comando, criando a linha
+	 * se não existir. Entradas concorrentes no mesmo par não perdem atualizações.
+	 * No registro em lote recebe o saldo líquido do par, que pode ser negativo.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO ESTOQUE_PRODUTO (ESTOQUE_ID, PRODUTO_ID, QUANTIDADE)
+		VALUES (:estoqueId, :produtoId, :quantidade)
+		ON CONFLICT (ESTOQUE_ID, PRODUTO_ID) DO UPDATE
+		SET QUANTIDADE = ESTOQUE_PRODUTO.QUANTIDADE + EXCLUDED.QUANTIDADE
+	""", nativeQuery = true)
+	void creditar(@Param("estoqueId") int estoqueId, @Param("produtoId") int produtoId, @Param("quantidade") int quantidade);
+
+	/**
+	 * Subtrai a quantidade do saldo somente se houver saldo suficiente, em um único comando.
+	 * @return 1 se o saldo foi debitado, 0 se o par não existe ou o saldo é insuficiente
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		UPDATE ESTOQUE_PRODUTO SET QUANTIDADE = QUANTIDADE - :quantidade
+		WHERE ESTOQUE_ID = :estoqueId AND PRODUTO_ID = :produtoId AND QUANTIDADE >= :quantidade
+	""", nativeQuery = true)
+	int debitar(@Param("estoqueId") int estoqueId, @Param("produtoId") int produtoId, @Param("quantidade") int quantidade);
+
+	interface SaldoLinha {
+		int getEstoqueId();
+
+		int getProdutoId();
+
+		int getQuantidade();
+	}
+
+	/**
+	 * Saldos dos pares formados pelos estoques e produtos informados, sem bloqueio.
+	 */
+	@Query(value = """
+		SELECT ESTOQUE_ID AS "estoqueId", PRODUTO_ID AS "produtoId", QUANTIDADE AS "quantidade"
+		FROM ESTOQUE_PRODUTO
+		WHERE ESTOQUE_ID IN (:estoqueIds) AND PRODUTO_ID IN (:produtoIds)
+	""", nativeQuery = true)
+	List<SaldoLinha> pesquisarSaldos(@Param("estoqueIds") Collection<Integer> estoqueIds,
+		@Param("produtoIds") Collection<Integer> produtoIds);
+
+	/**
+	 * Saldos dos pares formados pelos estoques e produtos informados, bloqueados até o fim da
+	 * transação. A ordem fixa de bloqueio evita deadlock entre lotes concorrentes.
+	 */
+	@Query(value = """
+		SELECT ESTOQUE_ID AS "estoqueId", PRODUTO_ID AS "produtoId", QUANTIDADE AS "quantidade"
+		FROM ESTOQUE_PRODUTO
+		WHERE ESTOQUE_ID IN (:estoqueIds) AND PRODUTO_ID IN (:produtoIds)
+		ORDER BY ESTOQUE_ID, PRODUTO_ID
+		FOR UPDATE
+	""", nativeQuery = true)
+	List<SaldoLinha> bloquearSaldos(@Param("estoqueIds") Collection<Integer> estoqueIds,
+		@Param("produtoIds") Collection<Integer> produtoIds);
 }
 
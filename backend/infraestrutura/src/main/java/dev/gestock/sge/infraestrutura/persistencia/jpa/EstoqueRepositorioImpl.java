@@ -1,5 +1,6 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
@@ -22,23 +23,40 @@ class EstoqueRepositorioImpl implements EstoqueRepositorio, EstoqueRepositorioAp
 	@Autowired
 	JpaMapeador mapeador;
 
+	@Autowired
+	AlertaSnapshot alertaSnapshot;
+
+	@Autowired
+	ReferenciaCache referenciaCache;
+
+	@Autowired
+	EstoqueOcupacao ocupacao;
+
+	@Autowired
+	EstoqueOcupacaoReconciliacao ocupacaoReconciliacao;
+
 	@Override
 	public Estoque salvar(Estoque estoque) {
-		var estoqueJpa = mapeador.map(estoque, EstoqueJpa.class);
+		var estoqueJpa = mapeador.mapear(estoque);
 		estoqueJpa = repositorio.save(estoqueJpa);
-		return mapeador.map(estoqueJpa, Estoque.class);
+		referenciaCache.invalidarEstoque(estoqueJpa.id);
+		// O nome do estoque aparece nos alertas; alterações de estoque são raras
+		alertaSnapshot.invalidar();
+		return mapeador.mapear(estoqueJpa);
 	}
 
 	@Transactional
 	@Override
 	public Estoque obter(EstoqueId id) {
-		var estoqueJpa = repositorio.findById(id.getId()).orElse(null);
-		return mapeador.map(estoqueJpa, Estoque.class);
+		var estoqueJpa = referenciaCache.obterEstoque(id.getId());
+		return mapeador.mapear(estoqueJpa);
 	}
 
 	@Override
 	public void remover(EstoqueId id) {
 		repositorio.deleteById(id.getId());
+		referenciaCache.invalidarEstoque(id.getId());
+		alertaSnapshot.invalidar();
 	}
 
 	@Override
@@ -63,7 +81,12 @@ class EstoqueRepositorioImpl implements EstoqueRepositorio, EstoqueRepositorioAp
 
 	@Override
 	public int obterOcupacaoAtual(int estoqueId) {
-		return repositorio.calcularOcupacao(estoqueId);
+		return ocupacao.obter(estoqueId);
+	}
+
+	@Override
+	public int reconciliarOcupacao() {
+		return ocupacaoReconciliacao.reconciliar();
 	}
 
 	@Override
@@ -78,6 +101,12 @@ class EstoqueRepositorioImpl implements EstoqueRepositorio, EstoqueRepositorioAp
 		return criarResumos(estoquesJpa);
 	}
 
+	@Override
+	public List<EstoqueResumo> buscar(String termo, int pagina, int tamanho) {
+		var estoquesJpa = repositorio.buscar(termo.trim().toLowerCase(), tamanho, pagina * tamanho);
+		return criarResumos(estoquesJpa);
+	}
+
 	@Override
 	public List<EstoqueResumo> pesquisarPorStatus(String status) {
 		var estoquesJpa = repositorio.findByStatus(status);
@@ -90,17 +119,24 @@ class EstoqueRepositorioImpl implements EstoqueRepositorio, EstoqueRepositorioAp
 		if (estoqueJpa == null) {
 			return null;
 		}
-		return criarResumo(estoqueJpa);
+		return criarResumo(estoqueJpa, ocupacao.obter(estoqueJpa.id));
 	}
 
+	/**
+	 * Ocupação de todos os estoques da lista em uma única consulta.
+	 */
 	private List<EstoqueResumo> criarResumos(List<EstoqueJpa> estoquesJpa) {
+		var estoqueIds = new ArrayList<Integer>(estoquesJpa.size());
+		for (var estoqueJpa : estoquesJpa) {
+			estoqueIds.add(estoqueJpa.id);
+		}
+		var ocupacoes = ocupacao.obter(estoqueIds);
 		return estoquesJpa.stream()
-			.map(this::criarResumo)
+			.map(estoqueJpa -> criarResumo(estoqueJpa, ocupacoes.getOrDefault(estoqueJpa.id, 0)))
 			.toList();
 	}
 
-	private EstoqueResumo criarResumo(EstoqueJpa estoqueJpa) {
-		var quantidadeAtual = repositorio.calcularOcupacao(estoqueJpa.id);
+	private EstoqueResumo criarResumo(EstoqueJpa estoqueJpa, int quantidadeAtual) {
 		var capacidadeDisponivel = Math.max(0, estoqueJpa.capacidade - quantidadeAtual);
 		var ocupacaoPercentual = estoqueJpa.capacidade > 0 
 			? (int) Math.round((quantidadeAtual * 100.0) / estoqueJpa.capacidade)
@@ -0,0 +1,37 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "EVENTO_SAIDA")
+class EventoSaidaJpa {
+	@Id
+	long id;
+
+	String tipo;
+
+	@Column(name = "AGREGADO_ID")
+	int agregadoId;
+
+	String chave;
+
+	String payload;
+
+	@Column(name = "CRIADO_EM")
+	LocalDateTime criadoEm;
+
+	@Column(name = "PROXIMA_TENTATIVA")
+	LocalDateTime proximaTentativa;
+
+	int tentativas;
+
+	@Column(name = "ULTIMO_ERRO")
+	String ultimoErro;
+
+	@Column(name = "PROCESSADO_EM")
+	LocalDateTime processadoEm;
+}
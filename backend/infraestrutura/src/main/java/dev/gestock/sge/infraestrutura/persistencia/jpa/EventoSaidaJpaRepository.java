@@ -0,0 +1,40 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface EventoSaidaJpaRepository extends JpaRepository<EventoSaidaJpa, Long> {
+	@Query(value = """
+		SELECT * FROM EVENTO_SAIDA
+		WHERE PROCESSADO_EM IS NULL AND PROXIMA_TENTATIVA <= :agora AND TENTATIVAS < :tentativasMaximas
+		ORDER BY ID
+		LIMIT :limite
+		FOR UPDATE SKIP LOCKED
+	""", nativeQuery = true)
+	List<EventoSaidaJpa> bloquearPendentes(@Param("agora") LocalDateTime agora, @Param("limite") int limite,
+		@Param("tentativasMaximas") int tentativasMaximas);
+
+	@Modifying
+	@Query(value = "UPDATE EVENTO_SAIDA SET PROCESSADO_EM = :agora WHERE ID IN (:ids)", nativeQuery = true)
+	void marcarProcessados(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+
+	@Modifying
+	@Query(value = """
+		UPDATE EVENTO_SAIDA SET TENTATIVAS = TENTATIVAS + 1, ULTIMO_ERRO = :erro, PROXIMA_TENTATIVA = :proximaTentativa
+		WHERE ID = :id
+	""", nativeQuery = true)
+	void registrarFalha(@Param("id") long id, @Param("erro") String erro,
+		@Param("proximaTentativa") LocalDateTime proximaTentativa);
+
+	@Query(value = "SELECT COUNT(*) FROM EVENTO_SAIDA WHERE PROCESSADO_EM IS NULL", nativeQuery = true)
+	long contarPendentes();
+
+	@Modifying
+	@Query(value = "DELETE FROM EVENTO_SAIDA WHERE PROCESSADO_EM < :antesDe", nativeQuery = true)
+	int limparProcessados(@Param("antesDe") LocalDateTime antesDe);
+}
@@ -0,0 +1,81 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import dev.gestock.sge.infraestrutura.evento.EventoSaida;
+import dev.gestock.sge.infraestrutura.evento.EventoSaidaRepositorio;
+
+@Repository
+class EventoSaidaRepositorioImpl implements EventoSaidaRepositorio {
+	private static final int TAMANHO_MAXIMO_ERRO = 1000;
+
+	private static final String REGISTRAR = """
+			INSERT INTO EVENTO_SAIDA (TIPO, AGREGADO_ID, CHAVE, PAYLOAD, CRIADO_EM, PROXIMA_TENTATIVA)
+			VALUES (?, ?, ?, ?, ?, ?)
+			ON CONFLICT (CHAVE) DO NOTHING
+			""";
+
+	@Autowired
+	EventoSaidaJpaRepository repositorio;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Override
+	public void registrar(List<EventoSaida> eventos) {
+		if (eventos.isEmpty()) {
+			return;
+		}
+		var agora = Timestamp.valueOf(LocalDateTime.now());
+		var argumentos = new ArrayList<Object[]>(eventos.size());
+		for (var evento : eventos) {
+			argumentos.add(new Object[] { evento.getTipo(), evento.getAgregadoId(), evento.getChave(), evento.getPayload(), agora,
+				agora });
+		}
+		jdbcTemplate.batchUpdate(REGISTRAR, argumentos);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Override
+	public List<EventoSaida> bloquearPendentes(int limite, int tentativasMaximas) {
+		return repositorio.bloquearPendentes(LocalDateTime.now(), limite, tentativasMaximas).stream()
+			.map(evento -> new EventoSaida(evento.id, evento.tipo, evento.agregadoId, evento.chave, evento.payload,
+				evento.tentativas))
+			.toList();
+	}
+
+	@Transactional
+	@Override
+	public void marcarProcessados(Collection<Long> ids) {
+		if (!ids.isEmpty()) {
+			repositorio.marcarProcessados(ids, LocalDateTime.now());
+		}
+	}
+
+	@Transactional
+	@Override
+	public void registrarFalha(long id, String erro, LocalDateTime proximaTentativa) {
+		var mensagem = erro != null && erro.length() > TAMANHO_MAXIMO_ERRO ? erro.substring(0, TAMANHO_MAXIMO_ERRO) : erro;
+		repositorio.registrarFalha(id, mensagem, proximaTentativa);
+	}
+
+	@Override
+	public long contarPendentes() {
+		return repositorio.contarPendentes();
+	}
+
+	@Transactional
+	@Override
+	public int limparProcessados(LocalDateTime antesDe) {
+		return repositorio.limparProcessados(antesDe);
+	}
+}
@@ -1,5 +1,6 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,6 +14,23 @@ interface FornecedorJpaRepository extends JpaRepository<FornecedorJpa, Integer>
 	@Query("SELECT f FROM FornecedorJpa f WHERE LOWER(f.nome) LIKE LOWER(CONCAT('%', :termo, '%')) OR f.cnpj LIKE CONCAT('%', :termo, '%')")
 	List<FornecedorJpa> findByNomeContainingIgnoreCaseOrCnpjContaining(@Param("termo") String termo);
 
+	/**
+	 * Busca ordenada por relevância, como em {@link ProdutoJpaRepository#buscar}, por nome ou CNPJ.
+	 */
+	@Query(value = """
+		SELECT f.* FROM FORNECEDOR f
+		WHERE LOWER(f.NOME) LIKE CONCAT('%', :termo, '%')
+			OR f.CNPJ LIKE CONCAT('%', :termo, '%')
+			OR :termo <% LOWER(f.NOME)
+		ORDER BY f.CNPJ = :termo DESC,
+			LOWER(f.NOME) LIKE CONCAT(:termo, '%') DESC,
+			word_similarity(:termo, LOWER(f.NOME)) DESC,
+			f.ID
+		LIMIT :limite OFFSET :deslocamento
+	""", nativeQuery = true)
+	List<FornecedorJpa> buscar(@Param("termo") String termo, @Param("limite") int limite,
+		@Param("deslocamento") int deslocamento);
+
 	List<FornecedorJpa> findByStatus(String status);
 
 	List<FornecedorResumo> findFornecedorResumoBy();
@@ -35,6 +53,41 @@ interface FornecedorJpaRepository extends JpaRepository<FornecedorJpa, Integer>
 	""", nativeQuery = true)
 	int calcularLeadTimeMaximo(@Param("produtoId") int produtoId);
 
+	/**
+	 * Lead time médio e máximo dos fornecedores ativos, agregado por produto.
+	 */
+	interface LeadTimeAgregado {
+		int getProdutoId();
+
+		double getLeadTimeMedio();
+
+		int getLeadTimeMaximo();
+	}
+
+	@Query(value = """
+		SELECT pf.PRODUTO_ID AS "produtoId",
+			AVG(f.LEAD_TIME) AS "leadTimeMedio", MAX(f.LEAD_TIME) AS "leadTimeMaximo"
+		FROM FORNECEDOR f
+		INNER JOIN PRODUTO_FORNECEDOR pf ON f.ID = pf.FORNECEDOR_ID
+		WHERE f.STATUS = 'ATIVO'
+		GROUP BY pf.PRODUTO_ID
+	""", nativeQuery = true)
+	List<LeadTimeAgregado> calcularLeadTimesPorProduto();
+
+	@Query(value = """
+		SELECT pf.PRODUTO_ID AS "produtoId",
+			AVG(f.LEAD_TIME) AS "leadTimeMedio", MAX(f.LEAD_TIME) AS "leadTimeMaximo"
+		FROM FORNECEDOR f
+		INNER JOIN PRODUTO_FORNECEDOR pf ON f.ID = pf.FORNECEDOR_ID
+		WHERE f.STATUS = 'ATIVO'
+		AND pf.PRODUTO_ID IN (:produtoIds)
+		GROUP BY pf.PRODUTO_ID
+	""", nativeQuery = true)
+	List<LeadTimeAgregado> calcularLeadTimesPorProdutos(@Param("produtoIds") Collection<Integer> produtoIds);
+
+	@Query(value = "SELECT PRODUTO_ID FROM PRODUTO_FORNECEDOR WHERE FORNECEDOR_ID = :fornecedorId", nativeQuery = true)
+	List<Integer> pesquisarProdutoIds(@Param("fornecedorId") int fornecedorId);
+
 	// R1H7: Verificar se fornecedor possui pedidos pendentes
 	@Query("SELECT COUNT(p) > 0 FROM PedidoJpa p WHERE p.fornecedor.id = :fornecedorId AND p.status IN ('CRIADO', 'ENVIADO', 'EM_TRANSPORTE')")
 	boolean existsPedidosPendentesByFornecedorId(@Param("fornecedorId") int fornecedorId);
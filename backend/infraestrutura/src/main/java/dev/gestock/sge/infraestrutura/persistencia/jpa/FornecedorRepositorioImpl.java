@@ -22,25 +22,34 @@ class FornecedorRepositorioImpl implements FornecedorRepositorio, FornecedorRepo
 	@Autowired
 	JpaMapeador mapeador;
 
+	@Autowired
+	AlertaSnapshot alertaSnapshot;
+
+	@Autowired
+	ReferenciaCache referenciaCache;
+
 	@Override
 	public Fornecedor salvar(Fornecedor fornecedor) {
-		var fornecedorJpa = mapeador.map(fornecedor, FornecedorJpa.class);
+		var fornecedorJpa = mapeador.mapear(fornecedor);
 		fornecedorJpa = repositorio.save(fornecedorJpa);
-		return mapeador.map(fornecedorJpa, Fornecedor.class);
+		referenciaCache.invalidarFornecedor(fornecedorJpa.id);
+		// Lead time e status do fornecedor entram no ROP dos produtos que ele atende
+		alertaSnapshot.marcarProdutos(repositorio.pesquisarProdutoIds(fornecedorJpa.id));
+		return mapeador.mapear(fornecedorJpa);
 	}
 
 	@Transactional
 	@Override
 	public Fornecedor obter(FornecedorId id) {
-		var fornecedorJpa = repositorio.findById(id.getId()).orElse(null);
-		return mapeador.map(fornecedorJpa, Fornecedor.class);
+		var fornecedorJpa = referenciaCache.obterFornecedor(id.getId());
+		return mapeador.mapear(fornecedorJpa);
 	}
 
 	@Transactional
 	@Override
 	public Fornecedor obterPorCnpj(Cnpj cnpj) {
 		var fornecedorJpa = repositorio.findByCnpj(cnpj.getNumero()).orElse(null);
-		return mapeador.map(fornecedorJpa, Fornecedor.class);
+		return mapeador.mapear(fornecedorJpa);
 	}
 
 	@Transactional
@@ -48,8 +57,13 @@ class FornecedorRepositorioImpl implements FornecedorRepositorio, FornecedorRepo
 	public void remover(FornecedorId id) {
 		// Primeiro remove cotações associadas ao fornecedor
 		cotacaoRepositorio.deleteByFornecedorId(id.getId());
+		var produtoIds = repositorio.pesquisarProdutoIds(id.getId());
+		alertaSnapshot.marcarProdutos(produtoIds);
 		// Depois remove o fornecedor
 		repositorio.deleteById(id.getId());
+		referenciaCache.invalidarFornecedor(id.getId());
+		// Os produtos guardados no cache trazem a lista de fornecedores
+		referenciaCache.invalidarProdutos(produtoIds);
 	}
 
 	@Override
@@ -69,6 +83,12 @@ class FornecedorRepositorioImpl implements FornecedorRepositorio, FornecedorRepo
 		return criarResumos(fornecedoresJpa);
 	}
 
+	@Override
+	public List<FornecedorResumo> buscar(String termo, int pagina, int tamanho) {
+		var fornecedoresJpa = repositorio.buscar(termo.trim().toLowerCase(), tamanho, pagina * tamanho);
+		return criarResumos(fornecedoresJpa);
+	}
+
 	@Override
 	public List<FornecedorResumo> pesquisarPorStatus(String status) {
 		var fornecedoresJpa = repositorio.findByStatus(status);
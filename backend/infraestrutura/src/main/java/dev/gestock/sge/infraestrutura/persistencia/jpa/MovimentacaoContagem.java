@@ -0,0 +1,125 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoTotais;
+
+/**
+ * Mantém MOVIMENTACAO_CONTAGEM, a contagem diária de entradas e saídas usada pelos totais de
+ * movimentação.
+ *
+ * Cada dia tem até {@link #FAIXAS} linhas; a faixa vem do par estoque-produto, de modo que
+ * movimentações concorrentes de pares diferentes raramente disputam a mesma linha. Os totais
+ * somam as linhas dos dias pedidos, sem ler MOVIMENTACAO, e o custo não cresce com o histórico.
+ */
+@Component
+class MovimentacaoContagem {
+	static final int FAIXAS = 16;
+
+	private static final String ACUMULAR = """
+			INSERT INTO MOVIMENTACAO_CONTAGEM (DIA, FAIXA, ENTRADAS, SAIDAS)
+			VALUES (?, ?, ?, ?)
+			ON CONFLICT (DIA, FAIXA) DO UPDATE
+			SET ENTRADAS = MOVIMENTACAO_CONTAGEM.ENTRADAS + EXCLUDED.ENTRADAS,
+			    SAIDAS = MOVIMENTACAO_CONTAGEM.SAIDAS + EXCLUDED.SAIDAS
+			""";
+
+	private static final String SOMAR = """
+			SELECT COALESCE(SUM(ENTRADAS), 0) AS ENTRADAS, COALESCE(SUM(SAIDAS), 0) AS SAIDAS
+			  FROM MOVIMENTACAO_CONTAGEM
+			""";
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Mesma fórmula usada na migração e na reconstrução ({@link ConsumoDiarioReconstrucao}).
+	 */
+	static int faixa(int estoqueId, int produtoId) {
+		return (int) (((long) estoqueId * 31 + produtoId) % FAIXAS);
+	}
+
+	/**
+	 * Soma às contagens do dia, na transação atual. Valores negativos desfazem uma movimentação removida.
+	 */
+	void acumular(int estoqueId, int produtoId, LocalDate dia, int entradas, int saidas) {
+		jdbcTemplate.update(ACUMULAR, dia, faixa(estoqueId, produtoId), entradas, saidas);
+	}
+
+	/**
+	 * Acumula várias linhas em um único batch, em ordem de (dia, faixa) para que lotes concorrentes
+	 * bloqueiem as linhas na mesma ordem.
+	 * @param contagens por (dia, faixa): entradas na posição 0 e saídas na posição 1
+	 */
+	void acumular(Map<Chave, long[]> contagens) {
+		if (contagens.isEmpty()) {
+			return;
+		}
+		var argumentos = new ArrayList<Object[]>(contagens.size());
+		for (var contagem : new TreeMap<>(contagens).entrySet()) {
+			var chave = contagem.getKey();
+			argumentos.add(new Object[] { chave.dia, chave.faixa, contagem.getValue()[0], contagem.getValue()[1] });
+		}
+		jdbcTemplate.batchUpdate(ACUMULAR, argumentos);
+	}
+
+	MovimentacaoTotais somar() {
+		return jdbcTemplate.queryForObject(SOMAR, (linha, numero) -> criarTotais(linha.getLong("ENTRADAS"),
+			linha.getLong("SAIDAS")));
+	}
+
+	MovimentacaoTotais somar(LocalDate inicio, LocalDate fim) {
+		return jdbcTemplate.queryForObject(SOMAR + " WHERE DIA BETWEEN ? AND ?", (linha, numero) ->
+			criarTotais(linha.getLong("ENTRADAS"), linha.getLong("SAIDAS")), inicio, fim);
+	}
+
+	static MovimentacaoTotais criarTotais(long entradas, long saidas) {
+		return new MovimentacaoTotais() {
+			@Override
+			public int getTotalMovimentacoes() {
+				return (int) (entradas + saidas);
+			}
+
+			@Override
+			public int getTotalEntradas() {
+				return (int) entradas;
+			}
+
+			@Override
+			public int getTotalSaidas() {
+				return (int) saidas;
+			}
+		};
+	}
+
+	static class Chave implements Comparable<Chave> {
+		final LocalDate dia;
+		final int faixa;
+
+		Chave(LocalDate dia, int faixa) {
+			this.dia = dia;
+			this.faixa = faixa;
+		}
+
+		@Override
+		public int compareTo(Chave outra) {
+			var comparacao = dia.compareTo(outra.dia);
+			return comparacao != 0 ? comparacao : Integer.compare(faixa, outra.faixa);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Chave outra && dia.equals(outra.dia) && faixa == outra.faixa;
+		}
+
+		@Override
+		public int hashCode() {
+			return dia.hashCode() * 31 + faixa;
+		}
+	}
+}
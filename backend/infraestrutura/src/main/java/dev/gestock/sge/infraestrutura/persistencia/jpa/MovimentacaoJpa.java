@@ -8,13 +8,15 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "MOVIMENTACAO")
 class MovimentacaoJpa {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "MOVIMENTACAO_ID")
+	@SequenceGenerator(name = "MOVIMENTACAO_ID", sequenceName = "MOVIMENTACAO_ID_SEQ", allocationSize = 50)
 	int id;
 
 	@Column(name = "DATA_HORA")
@@ -32,5 +34,6 @@ class MovimentacaoJpa {
 	String tipo;
 	String motivo;
 	String responsavel;
+	String correlacao;
 }
 
@@ -2,7 +2,9 @@ package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,31 +14,35 @@ interface MovimentacaoJpaRepository extends JpaRepository<MovimentacaoJpa, Integ
 
 	List<MovimentacaoJpa> findByTipo(String tipo);
 
-	long countByTipo(String tipo);
+	MovimentacaoJpa findFirstByCorrelacaoAndTipo(String correlacao, String tipo);
 
-	@Query("""
-		SELECT COALESCE(SUM(m.quantidade) / CAST(:dias AS double), 0.0)
-		FROM MovimentacaoJpa m
-		WHERE m.estoque.id = :estoqueId
-		AND m.produto.id = :produtoId
-		AND m.tipo = 'SAIDA'
-		AND m.dataHora >= :dataInicio
-	""")
-	double calcularConsumoMedioDiario(@Param("estoqueId") int estoqueId, @Param("produtoId") int produtoId, 
-		@Param("dataInicio") LocalDateTime dataInicio, @Param("dias") int dias);
+	boolean existsByCorrelacaoAndTipo(String correlacao, String tipo);
+
+	/**
+	 * @return "tipo:correlação" de cada movimentação que já usa uma das correlações
+	 */
+	@Query("SELECT CONCAT(m.tipo, ':', m.correlacao) FROM MovimentacaoJpa m WHERE m.correlacao IN :correlacoes")
+	List<String> pesquisarCorrelacoesUsadas(@Param("correlacoes") Collection<String> correlacoes);
 
+	/**
+	 * Saídas que podem formar uma transferência com a entrada descrita pelos parâmetros,
+	 * da mais recente para a mais antiga. Usa o índice IDX_MOVIMENTACAO_TRANSFERENCIA.
+	 */
 	@Query("""
-		SELECT COALESCE(MAX(consumoDia), 0.0) FROM (
-			SELECT SUM(m.quantidade) as consumoDia
-			FROM MovimentacaoJpa m
-			WHERE m.estoque.id = :estoqueId
-			AND m.produto.id = :produtoId
-			AND m.tipo = 'SAIDA'
-			AND m.dataHora >= :dataInicio
-			GROUP BY CAST(m.dataHora AS date)
-		)
-	""")
-	Double calcularConsumoMaximoDiario(@Param("estoqueId") int estoqueId, @Param("produtoId") int produtoId, 
-		@Param("dataInicio") LocalDateTime dataInicio);
+			SELECT m FROM MovimentacaoJpa m
+			 WHERE m.produto.id = :produtoId
+			   AND m.quantidade = :quantidade
+			   AND m.responsavel = :responsavel
+			   AND m.tipo = 'SAIDA'
+			   AND m.dataHora BETWEEN :inicio AND :fim
+			   AND m.motivo = :motivo
+			   AND m.estoque.id <> :estoqueId
+			   AND NOT EXISTS (SELECT 1 FROM TransferenciaJpa t WHERE t.movimentacaoSaida = m)
+			 ORDER BY m.dataHora DESC, m.id DESC
+			""")
+	List<MovimentacaoJpa> pesquisarSaidasCorrespondentes(@Param("produtoId") int produtoId,
+			@Param("quantidade") int quantidade, @Param("responsavel") String responsavel,
+			@Param("motivo") String motivo, @Param("estoqueId") int estoqueId,
+			@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim, Limit limite);
 }
 
@@ -1,22 +1,52 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoCursor;
+import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoFiltro;
 import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoRepositorioAplicacao;
 import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoResumo;
 import dev.gestock.sge.aplicacao.movimentacao.MovimentacaoTotais;
 import dev.gestock.sge.dominio.movimentacao.Movimentacao;
 import dev.gestock.sge.dominio.movimentacao.MovimentacaoId;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoLoteResultado;
 import dev.gestock.sge.dominio.movimentacao.MovimentacaoRepositorio;
 import dev.gestock.sge.dominio.movimentacao.TipoMovimentacao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 
 @Repository
 class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, MovimentacaoRepositorioAplicacao {
+	private static final int TAMANHO_LOTE_LEITURA = 500;
+
+	// Mesma ordem da chave primária de CONSUMO_DIARIO
+	private static final Comparator<ConsumoDiarioId> ORDEM_CONSUMO = Comparator.<ConsumoDiarioId>comparingInt(id -> id.estoqueId)
+		.thenComparingInt(id -> id.produtoId).thenComparing(id -> id.dia);
+
+	private static final String CONSULTA_RESUMO = """
+		SELECT m.ID, m.DATA_HORA, m.TIPO, m.PRODUTO_ID, p.NOME, m.QUANTIDADE, m.MOTIVO, m.ESTOQUE_ID, e.NOME, m.RESPONSAVEL
+		FROM MOVIMENTACAO m
+		JOIN PRODUTO p ON p.ID = m.PRODUTO_ID
+		JOIN ESTOQUE e ON e.ID = m.ESTOQUE_ID
+		WHERE 1 = 1""";
+
+	@PersistenceContext
+	EntityManager entityManager;
+
 	@Autowired
 	MovimentacaoJpaRepository repositorio;
 
@@ -27,10 +57,22 @@ class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, Movimentac
 	EstoqueProdutoJpaRepository estoqueProdutoRepositorio;
 
 	@Autowired
-	ProdutoJpaRepository produtoRepositorio;
+	ConsumoDiarioJpaRepository consumoDiarioRepositorio;
+
+	@Autowired
+	MovimentacaoContagem contagem;
+
+	@Autowired
+	EstoqueOcupacao ocupacao;
 
 	@Autowired
-	EstoqueJpaRepository estoqueRepositorio;
+	AlertaSnapshot alertaSnapshot;
+
+	@Autowired
+	AlertaMonitor alertaMonitor;
+
+	@Autowired
+	ReferenciaCache referenciaCache;
 
 	@Transactional
 	@Override
@@ -42,53 +84,192 @@ class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, Movimentac
 		movimentacaoJpa.tipo = movimentacao.getTipo().name();
 		movimentacaoJpa.motivo = movimentacao.getMotivo().getValor();
 		movimentacaoJpa.responsavel = movimentacao.getResponsavel().getValor();
+		movimentacaoJpa.correlacao = movimentacao.getCorrelacao();
 
-		// Carregar produto e estoque do banco
-		movimentacaoJpa.produto = produtoRepositorio.findById(movimentacao.getProdutoId().getId())
-			.orElseThrow(() -> new IllegalArgumentException("Produto não encontrado"));
-		movimentacaoJpa.estoque = estoqueRepositorio.findById(movimentacao.getEstoqueId().getId())
-			.orElseThrow(() -> new IllegalArgumentException("Estoque não encontrado"));
+		// Produto e estoque vêm do cache de referência
+		movimentacaoJpa.produto = referenciaCache.referenciarProduto(movimentacao.getProdutoId().getId());
+		movimentacaoJpa.estoque = referenciaCache.referenciarEstoque(movimentacao.getEstoqueId().getId());
+
+		// A correlação é única por tipo (IDX_MOVIMENTACAO_CORRELACAO_TIPO)
+		if (movimentacaoJpa.correlacao != null
+				&& repositorio.existsByCorrelacaoAndTipo(movimentacaoJpa.correlacao, movimentacaoJpa.tipo)) {
+			throw new IllegalArgumentException(mensagemCorrelacaoUsada(movimentacao));
+		}
 
 		// Atualizar estoque antes de salvar a movimentação
 		atualizarEstoqueProduto(movimentacao);
 
 		// Salvar movimentação
 		movimentacaoJpa = repositorio.save(movimentacaoJpa);
-		return mapeador.map(movimentacaoJpa, Movimentacao.class);
+		acumularConsumoDiario(movimentacao, 1);
+		alertaSnapshot.marcarPar(movimentacao.getEstoqueId().getId(), movimentacao.getProdutoId().getId());
+		alertaMonitor.marcarPar(movimentacao.getEstoqueId().getId(), movimentacao.getProdutoId().getId());
+		return mapeador.mapear(movimentacaoJpa);
+	}
+
+	/**
+	 * Valida todos os saldos em uma única passada sobre as linhas de ESTOQUE_PRODUTO bloqueadas,
+	 * insere as movimentações aceitas com JDBC batching e aplica um único ajuste de saldo por par
+	 * e um único acúmulo de consumo por par e dia.
+	 * Saldos, ocupação, consumo e contagem são atualizados em ordem de chave, não na ordem do lote,
+	 * para que lotes concorrentes com os mesmos pares (como as duas pernas de transferências em
+	 * sentidos opostos) bloqueiem as linhas na mesma ordem e não entrem em deadlock.
+	 */
+	@Transactional
+	@Override
+	public List<MovimentacaoLoteResultado> salvarLote(List<Movimentacao> movimentacoes) {
+		if (movimentacoes.isEmpty()) {
+			return List.of();
+		}
+		var produtoIds = new HashSet<Integer>();
+		var estoqueIds = new HashSet<Integer>();
+		for (var movimentacao : movimentacoes) {
+			produtoIds.add(movimentacao.getProdutoId().getId());
+			estoqueIds.add(movimentacao.getEstoqueId().getId());
+		}
+
+		// O serviço já consultou cada produto e estoque pelo cache de referência; as cópias em
+		// cache servem de chave estrangeira sem nova leitura
+		var produtos = new HashMap<Integer, ProdutoJpa>();
+		for (var produtoId : produtoIds) {
+			produtos.put(produtoId, referenciaCache.obterProduto(produtoId));
+		}
+		var estoques = new HashMap<Integer, EstoqueJpa>();
+		for (var estoqueId : estoqueIds) {
+			estoques.put(estoqueId, referenciaCache.obterEstoque(estoqueId));
+		}
+
+		var correlacoes = new HashSet<String>();
+		for (var movimentacao : movimentacoes) {
+			if (movimentacao.getCorrelacao() != null) {
+				correlacoes.add(movimentacao.getCorrelacao());
+			}
+		}
+		var correlacoesUsadas = new HashSet<String>(correlacoes.isEmpty() ? List.of()
+			: repositorio.pesquisarCorrelacoesUsadas(correlacoes));
+
+		var saldos = new HashMap<Long, Integer>();
+		for (var saldo : estoqueProdutoRepositorio.bloquearSaldos(estoqueIds, produtoIds)) {
+			saldos.put(PontoRessuprimentoCalculadoraLote.chave(saldo.getEstoqueId(), saldo.getProdutoId()), saldo.getQuantidade());
+		}
+
+		var resultados = new ArrayList<MovimentacaoLoteResultado>(movimentacoes.size());
+		var aceitas = new ArrayList<MovimentacaoJpa>();
+		var posicoesAceitas = new ArrayList<Integer>();
+		var ajustes = new TreeMap<Long, Integer>();
+		for (var movimentacao : movimentacoes) {
+			var estoqueId = movimentacao.getEstoqueId().getId();
+			var produtoId = movimentacao.getProdutoId().getId();
+			var produto = produtos.get(produtoId);
+			var estoque = estoques.get(estoqueId);
+			if (produto == null || estoque == null) {
+				resultados.add(MovimentacaoLoteResultado.falha(produto == null ? "Produto não encontrado" : "Estoque não encontrado"));
+				continue;
+			}
+
+			// Também rejeita a correlação repetida dentro do próprio lote
+			if (movimentacao.getCorrelacao() != null
+					&& correlacoesUsadas.contains(movimentacao.getTipo().name() + ":" + movimentacao.getCorrelacao())) {
+				resultados.add(MovimentacaoLoteResultado.falha(mensagemCorrelacaoUsada(movimentacao)));
+				continue;
+			}
+
+			var chave = PontoRessuprimentoCalculadoraLote.chave(estoqueId, produtoId);
+			var saldo = saldos.get(chave);
+			var quantidade = movimentacao.getQuantidade().getValor();
+			if (movimentacao.getTipo() == TipoMovimentacao.SAIDA) {
+				if (saldo == null) {
+					resultados.add(MovimentacaoLoteResultado.falha("Produto não está disponível no estoque"));
+					continue;
+				}
+				if (saldo < quantidade) {
+					resultados.add(MovimentacaoLoteResultado.falha("Quantidade insuficiente no estoque. Disponível: " + saldo));
+					continue;
+				}
+				quantidade = -quantidade;
+			}
+			saldos.put(chave, (saldo != null ? saldo : 0) + quantidade);
+			ajustes.merge(chave, quantidade, Integer::sum);
+
+			if (movimentacao.getCorrelacao() != null) {
+				correlacoesUsadas.add(movimentacao.getTipo().name() + ":" + movimentacao.getCorrelacao());
+			}
+
+			var movimentacaoJpa = mapeador.mapear(movimentacao);
+			movimentacaoJpa.id = 0;
+			movimentacaoJpa.produto = produto;
+			movimentacaoJpa.estoque = estoque;
+			aceitas.add(movimentacaoJpa);
+			resultados.add(null);
+			posicoesAceitas.add(resultados.size() - 1);
+		}
+
+		repositorio.saveAll(aceitas);
+		repositorio.flush();
+
+		for (var ajuste : ajustes.entrySet()) {
+			var estoqueId = (int) (ajuste.getKey() >> 32);
+			var produtoId = (int) (long) ajuste.getKey();
+			if (ajuste.getValue() != 0) {
+				estoqueProdutoRepositorio.creditar(estoqueId, produtoId, ajuste.getValue());
+			}
+			alertaSnapshot.marcarPar(estoqueId, produtoId);
+			alertaMonitor.marcarPar(estoqueId, produtoId);
+		}
+		ocupacao.acumular(ajustes);
+		acumularConsumoDiario(aceitas);
+
+		for (int i = 0; i < aceitas.size(); i++) {
+			resultados.set(posicoesAceitas.get(i), MovimentacaoLoteResultado.sucesso(mapeador.mapear(aceitas.get(i))));
+		}
+		return resultados;
+	}
+
+	private static String mensagemCorrelacaoUsada(Movimentacao movimentacao) {
+		return "Já existe uma movimentação de " + movimentacao.getTipo() + " com a correlação " + movimentacao.getCorrelacao();
 	}
 
+	/**
+	 * Agrupa as movimentações por par estoque-produto e dia antes de acumular em CONSUMO_DIARIO,
+	 * e por dia e faixa antes de acumular em MOVIMENTACAO_CONTAGEM.
+	 */
+	private void acumularConsumoDiario(List<MovimentacaoJpa> movimentacoes) {
+		var consumos = new TreeMap<ConsumoDiarioId, int[]>(ORDEM_CONSUMO);
+		var contagens = new TreeMap<MovimentacaoContagem.Chave, long[]>();
+		for (var movimentacao : movimentacoes) {
+			var dia = movimentacao.dataHora.toLocalDate();
+			var id = new ConsumoDiarioId(movimentacao.estoque.id, movimentacao.produto.id, dia);
+			var consumo = consumos.computeIfAbsent(id, chave -> new int[2]);
+			consumo["SAIDA".equals(movimentacao.tipo) ? 0 : 1] += movimentacao.quantidade;
+
+			var faixa = MovimentacaoContagem.faixa(movimentacao.estoque.id, movimentacao.produto.id);
+			var contagemDia = contagens.computeIfAbsent(new MovimentacaoContagem.Chave(dia, faixa), chave -> new long[2]);
+			contagemDia["SAIDA".equals(movimentacao.tipo) ? 1 : 0]++;
+		}
+		consumos.forEach((id, consumo) -> consumoDiarioRepositorio.acumular(id.estoqueId, id.produtoId, id.dia,
+			consumo[0], consumo[1]));
+		contagem.acumular(contagens);
+	}
+
+	/**
+	 * Atualiza o saldo com comandos atômicos no banco em vez de ler, alterar e salvar a entidade,
+	 * evitando perda de atualizações e saldo negativo sob movimentações concorrentes no mesmo par.
+	 * A ocupação do estoque acompanha o saldo na mesma transação.
+	 */
 	private void atualizarEstoqueProduto(Movimentacao movimentacao) {
 		var estoqueId = movimentacao.getEstoqueId().getId();
 		var produtoId = movimentacao.getProdutoId().getId();
 		var quantidade = movimentacao.getQuantidade().getValor();
 
-		var estoqueProdutoOpt = estoqueProdutoRepositorio.findByEstoqueIdAndProdutoId(estoqueId, produtoId);
-		EstoqueProdutoJpa estoqueProduto;
-
 		if (movimentacao.getTipo() == TipoMovimentacao.ENTRADA) {
-			// ENTRADA: incrementar quantidade
-			if (estoqueProdutoOpt.isPresent()) {
-				estoqueProduto = estoqueProdutoOpt.get();
-				estoqueProduto.quantidade += quantidade;
-			} else {
-				// Criar novo registro
-				estoqueProduto = new EstoqueProdutoJpa();
-				estoqueProduto.estoque = estoqueRepositorio.findById(estoqueId).orElseThrow();
-				estoqueProduto.produto = produtoRepositorio.findById(produtoId).orElseThrow();
-				estoqueProduto.quantidade = quantidade;
-			}
-			estoqueProdutoRepositorio.save(estoqueProduto);
+			estoqueProdutoRepositorio.creditar(estoqueId, produtoId, quantidade);
+			ocupacao.acumular(estoqueId, produtoId, quantidade);
+		} else if (estoqueProdutoRepositorio.debitar(estoqueId, produtoId, quantidade) == 0) {
+			var estoqueProduto = estoqueProdutoRepositorio.findByEstoqueIdAndProdutoId(estoqueId, produtoId)
+				.orElseThrow(() -> new IllegalArgumentException("Produto não está disponível no estoque"));
+			throw new IllegalArgumentException("Quantidade insuficiente no estoque. Disponível: " + estoqueProduto.quantidade);
 		} else {
-			// SAIDA: decrementar quantidade
-			if (!estoqueProdutoOpt.isPresent()) {
-				throw new IllegalArgumentException("Produto não está disponível no estoque");
-			}
-			estoqueProduto = estoqueProdutoOpt.get();
-			if (estoqueProduto.quantidade < quantidade) {
-				throw new IllegalArgumentException("Quantidade insuficiente no estoque. Disponível: " + estoqueProduto.quantidade);
-			}
-			estoqueProduto.quantidade -= quantidade;
-			estoqueProdutoRepositorio.save(estoqueProduto);
+			ocupacao.acumular(estoqueId, produtoId, -quantidade);
 		}
 	}
 
@@ -99,7 +280,7 @@ class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, Movimentac
 		if (movimentacaoJpa == null) {
 			return null;
 		}
-		return mapeador.map(movimentacaoJpa, Movimentacao.class);
+		return mapeador.mapear(movimentacaoJpa);
 	}
 
 	@Transactional
@@ -113,7 +294,7 @@ class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, Movimentac
 		}
 		var resultado = new ArrayList<Movimentacao>();
 		for (var movimentacaoJpa : movimentacoesJpa) {
-			resultado.add(mapeador.map(movimentacaoJpa, Movimentacao.class));
+			resultado.add(mapeador.mapear(movimentacaoJpa));
 		}
 		return resultado;
 	}
@@ -127,11 +308,27 @@ class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, Movimentac
 		}
 		var resultado = new ArrayList<Movimentacao>();
 		for (var movimentacaoJpa : movimentacoesJpa) {
-			resultado.add(mapeador.map(movimentacaoJpa, Movimentacao.class));
+			resultado.add(mapeador.mapear(movimentacaoJpa));
 		}
 		return resultado;
 	}
 
+	@Transactional
+	@Override
+	public Movimentacao obterPorCorrelacao(String correlacao, TipoMovimentacao tipo) {
+		var movimentacaoJpa = repositorio.findFirstByCorrelacaoAndTipo(correlacao, tipo.name());
+		return mapeador.mapear(movimentacaoJpa);
+	}
+
+	@Transactional
+	@Override
+	public Movimentacao obterSaidaCorrespondente(Movimentacao entrada, LocalDateTime desde) {
+		var movimentacoesJpa = repositorio.pesquisarSaidasCorrespondentes(entrada.getProdutoId().getId(),
+			entrada.getQuantidade().getValor(), entrada.getResponsavel().getValor(), entrada.getMotivo().getValor(),
+			entrada.getEstoqueId().getId(), desde, entrada.getDataHora(), Limit.of(1));
+		return movimentacoesJpa.isEmpty() ? null : mapeador.mapear(movimentacoesJpa.get(0));
+	}
+
 	@Transactional
 	@Override
 	public void remover(MovimentacaoId id) {
@@ -139,6 +336,9 @@ class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, Movimentac
 		var movimentacao = obter(id);
 		if (movimentacao != null) {
 			reverterEstoqueProduto(movimentacao);
+			acumularConsumoDiario(movimentacao, -1);
+			alertaSnapshot.marcarPar(movimentacao.getEstoqueId().getId(), movimentacao.getProdutoId().getId());
+			alertaMonitor.marcarPar(movimentacao.getEstoqueId().getId(), movimentacao.getProdutoId().getId());
 		}
 		repositorio.deleteById(id.getId());
 	}
@@ -148,148 +348,197 @@ class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, Movimentac
 		var produtoId = movimentacao.getProdutoId().getId();
 		var quantidade = movimentacao.getQuantidade().getValor();
 
-		var estoqueProdutoOpt = estoqueProdutoRepositorio.findByEstoqueIdAndProdutoId(estoqueId, produtoId);
-		if (!estoqueProdutoOpt.isPresent()) {
-			return; // Não há estoque para reverter
-		}
-
-		var estoqueProduto = estoqueProdutoOpt.get();
 		if (movimentacao.getTipo() == TipoMovimentacao.ENTRADA) {
-			// Era ENTRADA: decrementar (reverter)
-			estoqueProduto.quantidade -= quantidade;
+			// Era ENTRADA: debitar, desde que as unidades ainda estejam no estoque
+			if (estoqueProdutoRepositorio.debitar(estoqueId, produtoId, quantidade) == 0) {
+				throw new IllegalArgumentException("Quantidade insuficiente no estoque para remover a entrada");
+			}
+			ocupacao.acumular(estoqueId, produtoId, -quantidade);
 		} else {
-			// Era SAIDA: incrementar (reverter)
-			estoqueProduto.quantidade += quantidade;
+			// Era SAIDA: devolver as unidades
+			estoqueProdutoRepositorio.creditar(estoqueId, produtoId, quantidade);
+			ocupacao.acumular(estoqueId, produtoId, quantidade);
 		}
-		estoqueProdutoRepositorio.save(estoqueProduto);
 	}
 
-	@Transactional
+	/**
+	 * Mantém CONSUMO_DIARIO e MOVIMENTACAO_CONTAGEM em dia dentro da mesma transação da movimentação.
+	 * @param sinal 1 ao registrar, -1 ao remover
+	 */
+	private void acumularConsumoDiario(Movimentacao movimentacao, int sinal) {
+		var quantidade = sinal * movimentacao.getQuantidade().getValor();
+		var saida = movimentacao.getTipo() == TipoMovimentacao.SAIDA ? quantidade : 0;
+		var entrada = movimentacao.getTipo() == TipoMovimentacao.ENTRADA ? quantidade : 0;
+		var estoqueId = movimentacao.getEstoqueId().getId();
+		var produtoId = movimentacao.getProdutoId().getId();
+		var dia = movimentacao.getDataHora().toLocalDate();
+		consumoDiarioRepositorio.acumular(estoqueId, produtoId, dia, saida, entrada);
+		contagem.acumular(estoqueId, produtoId, dia, movimentacao.getTipo() == TipoMovimentacao.ENTRADA ? sinal : 0,
+			movimentacao.getTipo() == TipoMovimentacao.SAIDA ? sinal : 0);
+	}
+
+	@Transactional(readOnly = true)
 	@Override
 	public List<MovimentacaoResumo> pesquisarResumos() {
-		var movimentacoesJpa = repositorio.findAll();
-		return criarResumos(movimentacoesJpa);
+		return pesquisar(new MovimentacaoFiltro(null, null, null, null, null));
 	}
 
-	@Transactional
+	@Transactional(readOnly = true)
 	@Override
 	public List<MovimentacaoResumo> pesquisarPorPeriodo(LocalDate inicio, LocalDate fim) {
-		var inicioDateTime = inicio.atStartOfDay();
-		var fimDateTime = fim.atTime(23, 59, 59);
-		var movimentacoesJpa = repositorio.findByDataHoraBetween(inicioDateTime, fimDateTime);
-		return criarResumos(movimentacoesJpa);
+		return pesquisar(new MovimentacaoFiltro(null, null, null, inicio, fim));
 	}
 
-	@Transactional
+	@Transactional(readOnly = true)
 	@Override
 	public List<MovimentacaoResumo> pesquisarPorTipo(String tipo) {
-		var movimentacoesJpa = repositorio.findByTipo(tipo);
-		return criarResumos(movimentacoesJpa);
+		return pesquisar(new MovimentacaoFiltro(tipo, null, null, null, null));
 	}
 
+	@Transactional(readOnly = true)
 	@Override
 	public MovimentacaoResumo obterResumo(int id) {
-		var movimentacaoJpa = repositorio.findById(id).orElse(null);
-		if (movimentacaoJpa == null) {
-			return null;
-		}
-		return criarResumo(movimentacaoJpa);
+		var consulta = entityManager.createNativeQuery(CONSULTA_RESUMO + " AND m.ID = :id").setParameter("id", id);
+		var linhas = consulta.getResultList();
+		return linhas.isEmpty() ? null : criarResumo((Object[]) linhas.get(0));
 	}
 
+	@Transactional(readOnly = true)
 	@Override
 	public MovimentacaoTotais obterTotais() {
-		var total = repositorio.count();
-		var totalEntradas = repositorio.countByTipo("ENTRADA");
-		var totalSaidas = repositorio.countByTipo("SAIDA");
-
-		return new MovimentacaoTotais() {
-			@Override
-			public int getTotalMovimentacoes() {
-				return (int) total;
-			}
-
-			@Override
-			public int getTotalEntradas() {
-				return (int) totalEntradas;
-			}
-
-			@Override
-			public int getTotalSaidas() {
-				return (int) totalSaidas;
-			}
-		};
+		return contagem.somar();
 	}
 
+	/**
+	 * Os dias do período são inteiros, como na contagem diária.
+	 */
+	@Transactional(readOnly = true)
 	@Override
 	public MovimentacaoTotais obterTotaisPorPeriodo(LocalDate inicio, LocalDate fim) {
-		var inicioDateTime = inicio.atStartOfDay();
-		var fimDateTime = fim.atTime(23, 59, 59);
-		var movimentacoesJpa = repositorio.findByDataHoraBetween(inicioDateTime, fimDateTime);
+		return contagem.somar(inicio, fim);
+	}
 
-		long totalEntradas = movimentacoesJpa.stream()
-			.filter(m -> "ENTRADA".equals(m.tipo))
-			.count();
-		long totalSaidas = movimentacoesJpa.stream()
-			.filter(m -> "SAIDA".equals(m.tipo))
-			.count();
+	@Transactional(readOnly = true)
+	@Override
+	public List<MovimentacaoResumo> pesquisarPagina(MovimentacaoFiltro filtro, MovimentacaoCursor cursor, int limite) {
+		var parametros = new HashMap<String, Object>();
+		var sql = new StringBuilder(CONSULTA_RESUMO);
+		adicionarFiltros(sql, parametros, filtro);
+		if (cursor != null) {
+			sql.append(" AND (m.DATA_HORA, m.ID) < (:cursorDataHora, :cursorId)");
+			parametros.put("cursorDataHora", cursor.getDataHora());
+			parametros.put("cursorId", cursor.getId());
+		}
+		sql.append(" ORDER BY m.DATA_HORA DESC, m.ID DESC");
 
-		final long total = movimentacoesJpa.size();
-		final long entradas = totalEntradas;
-		final long saidas = totalSaidas;
+		var consulta = criarConsulta(sql, parametros).setMaxResults(limite);
+		var resumos = new ArrayList<MovimentacaoResumo>(limite);
+		for (var linha : consulta.getResultList()) {
+			resumos.add(criarResumo((Object[]) linha));
+		}
+		return resumos;
+	}
 
-		return new MovimentacaoTotais() {
-			@Override
-			public int getTotalMovimentacoes() {
-				return (int) total;
-			}
+	/**
+	 * Lê as movimentações com cursor do JDBC em lotes de {@value #TAMANHO_LOTE_LEITURA} linhas,
+	 * mantendo a memória constante independentemente do tamanho do histórico.
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public void percorrer(MovimentacaoFiltro filtro, Consumer<MovimentacaoResumo> consumidor) {
+		var parametros = new HashMap<String, Object>();
+		var sql = new StringBuilder(CONSULTA_RESUMO);
+		adicionarFiltros(sql, parametros, filtro);
+		sql.append(" ORDER BY m.DATA_HORA DESC, m.ID DESC");
+
+		var consulta = criarConsulta(sql, parametros).setHint("org.hibernate.fetchSize", TAMANHO_LOTE_LEITURA);
+		try (var linhas = consulta.getResultStream()) {
+			linhas.forEach(linha -> consumidor.accept(criarResumo((Object[]) linha)));
+		}
+	}
 
-			@Override
-			public int getTotalEntradas() {
-				return (int) entradas;
-			}
+	/**
+	 * Lista completa com a mesma consulta da paginação: uma única instrução, com produto e
+	 * estoque em junções, sem carregar entidades.
+	 */
+	private List<MovimentacaoResumo> pesquisar(MovimentacaoFiltro filtro) {
+		var parametros = new HashMap<String, Object>();
+		var sql = new StringBuilder(CONSULTA_RESUMO);
+		adicionarFiltros(sql, parametros, filtro);
+		sql.append(" ORDER BY m.DATA_HORA DESC, m.ID DESC");
+
+		var linhas = criarConsulta(sql, parametros).getResultList();
+		var resumos = new ArrayList<MovimentacaoResumo>(linhas.size());
+		for (var linha : linhas) {
+			resumos.add(criarResumo((Object[]) linha));
+		}
+		return resumos;
+	}
 
-			@Override
-			public int getTotalSaidas() {
-				return (int) saidas;
-			}
-		};
+	private static void adicionarFiltros(StringBuilder sql, Map<String, Object> parametros, MovimentacaoFiltro filtro) {
+		if (filtro.getTipo() != null) {
+			sql.append(" AND m.TIPO = :tipo");
+			parametros.put("tipo", filtro.getTipo());
+		}
+		if (filtro.getEstoqueId() != null) {
+			sql.append(" AND m.ESTOQUE_ID = :estoqueId");
+			parametros.put("estoqueId", filtro.getEstoqueId());
+		}
+		if (filtro.getProdutoId() != null) {
+			sql.append(" AND m.PRODUTO_ID = :produtoId");
+			parametros.put("produtoId", filtro.getProdutoId());
+		}
+		if (filtro.getDataInicio() != null) {
+			sql.append(" AND m.DATA_HORA >= :dataInicio");
+			parametros.put("dataInicio", filtro.getDataInicio().atStartOfDay());
+		}
+		if (filtro.getDataFim() != null) {
+			sql.append(" AND m.DATA_HORA < :dataFim");
+			parametros.put("dataFim", filtro.getDataFim().plusDays(1).atStartOfDay());
+		}
+	}
+
+	private Query criarConsulta(StringBuilder sql, Map<String, Object> parametros) {
+		var consulta = entityManager.createNativeQuery(sql.toString());
+		parametros.forEach(consulta::setParameter);
+		return consulta;
 	}
 
-	private List<MovimentacaoResumo> criarResumos(List<MovimentacaoJpa> movimentacoesJpa) {
-		return movimentacoesJpa.stream()
-			.map(this::criarResumo)
-			.toList();
+	private static MovimentacaoResumo criarResumo(Object[] linha) {
+		var dataHora = linha[1] instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) linha[1];
+		return criarResumo(((Number) linha[0]).intValue(), dataHora, (String) linha[2], ((Number) linha[3]).intValue(),
+			(String) linha[4], ((Number) linha[5]).intValue(), (String) linha[6], ((Number) linha[7]).intValue(),
+			(String) linha[8], (String) linha[9]);
 	}
 
-	private MovimentacaoResumo criarResumo(MovimentacaoJpa movimentacaoJpa) {
-		var quantidadeComSinal = "ENTRADA".equals(movimentacaoJpa.tipo)
-			? movimentacaoJpa.quantidade
-			: -movimentacaoJpa.quantidade;
+	private static MovimentacaoResumo criarResumo(int id, LocalDateTime dataHora, String tipo, int produtoId,
+			String produtoNome, int quantidade, String motivo, int estoqueId, String estoqueNome, String responsavel) {
+		var quantidadeComSinal = "ENTRADA".equals(tipo) ? quantidade : -quantidade;
 
 		return new MovimentacaoResumo() {
 			@Override
 			public int getId() {
-				return movimentacaoJpa.id;
+				return id;
 			}
 
 			@Override
-			public java.time.LocalDateTime getDataHora() {
-				return movimentacaoJpa.dataHora;
+			public LocalDateTime getDataHora() {
+				return dataHora;
 			}
 
 			@Override
 			public String getTipo() {
-				return movimentacaoJpa.tipo;
+				return tipo;
 			}
 
 			@Override
 			public int getProdutoId() {
-				return movimentacaoJpa.produto != null ? movimentacaoJpa.produto.id : 0;
+				return produtoId;
 			}
 
 			@Override
 			public String getProdutoNome() {
-				return movimentacaoJpa.produto != null ? movimentacaoJpa.produto.nome : "";
+				return produtoNome;
 			}
 
 			@Override
@@ -299,22 +548,22 @@ class MovimentacaoRepositorioImpl implements MovimentacaoRepositorio, Movimentac
 
 			@Override
 			public String getMotivo() {
-				return movimentacaoJpa.motivo;
+				return motivo;
 			}
 
 			@Override
 			public int getEstoqueId() {
-				return movimentacaoJpa.estoque != null ? movimentacaoJpa.estoque.id : 0;
+				return estoqueId;
 			}
 
 			@Override
 			public String getEstoqueNome() {
-				return movimentacaoJpa.estoque != null ? movimentacaoJpa.estoque.nome : "";
+				return estoqueNome;
 			}
 
 			@Override
 			public String getResponsavel() {
-				return movimentacaoJpa.responsavel;
+				return responsavel;
 			}
 		};
 	}
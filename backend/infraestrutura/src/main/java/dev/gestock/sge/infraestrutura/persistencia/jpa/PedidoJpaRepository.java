@@ -1,7 +1,89 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 interface PedidoJpaRepository extends JpaRepository<PedidoJpa, Integer> {
-}
+	/**
+	 * Cabeçalhos dos pedidos com fornecedor e estoque em junções, sem carregar os itens.
+	 */
+	@Query("""
+			SELECT p.id AS id, f.id AS fornecedorId, f.nome AS fornecedorNome,
+			       e.id AS estoqueId, e.nome AS estoqueNome, p.valorTotal AS valorTotal,
+			       p.dataPedido AS dataPedido, p.dataPrevista AS dataPrevista, p.status AS status
+			  FROM PedidoJpa p
+			  LEFT JOIN p.fornecedor f
+			  LEFT JOIN p.estoque e
+			 ORDER BY p.id
+			""")
+	List<PedidoLinha> pesquisarLinhas();
+
+	@Query("""
+			SELECT p.id AS id, f.id AS fornecedorId, f.nome AS fornecedorNome,
+			       e.id AS estoqueId, e.nome AS estoqueNome, p.valorTotal AS valorTotal,
+			       p.dataPedido AS dataPedido, p.dataPrevista AS dataPrevista, p.status AS status
+			  FROM PedidoJpa p
+			  LEFT JOIN p.fornecedor f
+			  LEFT JOIN p.estoque e
+			 WHERE p.id = :id
+			""")
+	Optional<PedidoLinha> obterLinha(@Param("id") int id);
+
+	/**
+	 * Itens de todos os pedidos com o nome do produto, agrupados depois por pedido.
+	 */
+	@Query(value = """
+			SELECT i.PEDIDO_ID AS "pedidoId", i.PRODUTO_ID AS "produtoId", pr.NOME AS "produtoNome",
+			       i.QUANTIDADE AS "quantidade", i.PRECO_UNITARIO AS "precoUnitario"
+			  FROM PEDIDO_ITEM i
+			  LEFT JOIN PRODUTO pr ON pr.ID = i.PRODUTO_ID
+			 ORDER BY i.PEDIDO_ID
+			""", nativeQuery = true)
+	List<ItemPedidoLinha> pesquisarItens();
+
+	@Query(value = """
+			SELECT i.PEDIDO_ID AS "pedidoId", i.PRODUTO_ID AS "produtoId", pr.NOME AS "produtoNome",
+			       i.QUANTIDADE AS "quantidade", i.PRECO_UNITARIO AS "precoUnitario"
+			  FROM PEDIDO_ITEM i
+			  LEFT JOIN PRODUTO pr ON pr.ID = i.PRODUTO_ID
+			 WHERE i.PEDIDO_ID = :pedidoId
+			""", nativeQuery = true)
+	List<ItemPedidoLinha> pesquisarItens(@Param("pedidoId") int pedidoId);
+
+	interface PedidoLinha {
+		int getId();
+
+		Integer getFornecedorId();
+
+		String getFornecedorNome();
+
+		Integer getEstoqueId();
+
+		String getEstoqueNome();
 
+		BigDecimal getValorTotal();
+
+		LocalDate getDataPedido();
+
+		LocalDate getDataPrevista();
+
+		String getStatus();
+	}
+
+	interface ItemPedidoLinha {
+		int getPedidoId();
+
+		int getProdutoId();
+
+		String getProdutoNome();
+
+		int getQuantidade();
+
+		BigDecimal getPrecoUnitario();
+	}
+}
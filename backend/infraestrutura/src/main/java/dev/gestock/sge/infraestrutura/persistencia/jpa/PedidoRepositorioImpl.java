@@ -3,6 +3,7 @@ package dev.gestock.sge.infraestrutura.persistencia.jpa;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
@@ -13,6 +14,8 @@ import dev.gestock.sge.aplicacao.pedido.PedidoResumo;
 import dev.gestock.sge.dominio.pedido.Pedido;
 import dev.gestock.sge.dominio.pedido.PedidoId;
 import dev.gestock.sge.dominio.pedido.PedidoRepositorio;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.PedidoJpaRepository.ItemPedidoLinha;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.PedidoJpaRepository.PedidoLinha;
 
 @Repository
 class PedidoRepositorioImpl implements PedidoRepositorio, PedidoRepositorioAplicacao {
@@ -23,41 +26,32 @@ class PedidoRepositorioImpl implements PedidoRepositorio, PedidoRepositorioAplic
 	JpaMapeador mapeador;
 
 	@Autowired
-	FornecedorJpaRepository fornecedorRepositorio;
-
-	@Autowired
-	EstoqueJpaRepository estoqueRepositorio;
-
-	@Autowired
-	ProdutoJpaRepository produtoRepositorio;
+	ReferenciaCache referenciaCache;
 
 	@Override
 	public Pedido salvar(Pedido pedido) {
-		var pedidoJpa = mapeador.map(pedido, PedidoJpa.class);
-		// Carregar fornecedor do banco
-		pedidoJpa.fornecedor = fornecedorRepositorio.findById(pedido.getFornecedorId().getId())
-			.orElseThrow(() -> new IllegalArgumentException("Fornecedor não encontrado"));
-		// Carregar estoque do banco
+		var pedidoJpa = mapeador.mapear(pedido);
+		// Fornecedor e estoque vêm do cache de referência
+		pedidoJpa.fornecedor = referenciaCache.referenciarFornecedor(pedido.getFornecedorId().getId());
 		if (pedido.getEstoqueId() != null && pedido.getEstoqueId().getId() > 0) {
-			pedidoJpa.estoque = estoqueRepositorio.findById(pedido.getEstoqueId().getId())
-				.orElseThrow(() -> new IllegalArgumentException("Estoque não encontrado"));
+			pedidoJpa.estoque = referenciaCache.referenciarEstoque(pedido.getEstoqueId().getId());
 		}
 		pedidoJpa = repositorio.save(pedidoJpa);
-		return mapeador.map(pedidoJpa, Pedido.class);
+		return mapeador.mapear(pedidoJpa);
 	}
 
 	@Transactional
 	@Override
 	public Pedido obter(PedidoId id) {
 		var pedidoJpa = repositorio.findById(id.getId()).orElse(null);
-		return mapeador.map(pedidoJpa, Pedido.class);
+		return mapeador.mapear(pedidoJpa);
 	}
 
 	@Override
 	public List<Pedido> obterTodos() {
 		var pedidosJpa = repositorio.findAll();
 		return pedidosJpa.stream()
-			.map(p -> mapeador.map(p, Pedido.class))
+			.map(p -> mapeador.mapear(p))
 			.toList();
 	}
 
@@ -66,87 +60,110 @@ class PedidoRepositorioImpl implements PedidoRepositorio, PedidoRepositorioAplic
 		repositorio.deleteById(id.getId());
 	}
 
-	@Transactional
+	/**
+	 * Monta os resumos com duas consultas (cabeçalhos e itens), qualquer que seja
+	 * a quantidade de pedidos.
+	 */
+	@Transactional(readOnly = true)
 	@Override
 	public List<PedidoResumo> pesquisarResumos() {
-		var pedidosJpa = repositorio.findAll();
-		return criarResumos(pedidosJpa);
+		var linhas = repositorio.pesquisarLinhas();
+		if (linhas.isEmpty()) {
+			return List.of();
+		}
+		var itensPorPedido = new HashMap<Integer, List<ItemPedidoResumo>>();
+		for (var item : repositorio.pesquisarItens()) {
+			itensPorPedido.computeIfAbsent(item.getPedidoId(), id -> new ArrayList<>()).add(criarResumo(item));
+		}
+		var resumos = new ArrayList<PedidoResumo>(linhas.size());
+		for (var linha : linhas) {
+			resumos.add(criarResumo(linha, itensPorPedido.getOrDefault(linha.getId(), List.of())));
+		}
+		return resumos;
 	}
 
-	@Transactional
+	@Transactional(readOnly = true)
 	@Override
 	public PedidoResumo obterResumo(int id) {
-		var pedidoJpa = repositorio.findById(id).orElse(null);
-		if (pedidoJpa == null) {
+		var linha = repositorio.obterLinha(id).orElse(null);
+		if (linha == null) {
 			return null;
 		}
-		return criarResumo(pedidoJpa);
+		var itens = new ArrayList<ItemPedidoResumo>();
+		for (var item : repositorio.pesquisarItens(id)) {
+			itens.add(criarResumo(item));
+		}
+		return criarResumo(linha, itens);
 	}
 
-	private List<PedidoResumo> criarResumos(List<PedidoJpa> pedidosJpa) {
-		return pedidosJpa.stream()
-			.map(this::criarResumo)
-			.toList();
-	}
+	private static ItemPedidoResumo criarResumo(ItemPedidoLinha item) {
+		var produtoId = item.getProdutoId();
+		var produtoNome = item.getProdutoNome();
+		var quantidade = item.getQuantidade();
+		var precoUnitario = item.getPrecoUnitario();
+		return new ItemPedidoResumo() {
+			@Override
+			public int getProdutoId() {
+				return produtoId;
+			}
 
-	private PedidoResumo criarResumo(PedidoJpa pedidoJpa) {
-		var itensResumo = new ArrayList<ItemPedidoResumo>();
-		if (pedidoJpa.itens != null) {
-			for (var itemJpa : pedidoJpa.itens) {
-				itensResumo.add(new ItemPedidoResumo() {
-					@Override
-					public int getProdutoId() {
-						return itemJpa.produtoId;
-					}
-
-					@Override
-					public String getProdutoNome() {
-						var produtoJpa = produtoRepositorio.findById(itemJpa.produtoId).orElse(null);
-						return produtoJpa != null ? produtoJpa.nome : "";
-					}
-
-					@Override
-					public int getQuantidade() {
-						return itemJpa.quantidade;
-					}
-
-					@Override
-					public BigDecimal getPrecoUnitario() {
-						return itemJpa.precoUnitario;
-					}
-
-					@Override
-					public BigDecimal getSubtotal() {
-						return itemJpa.precoUnitario.multiply(BigDecimal.valueOf(itemJpa.quantidade));
-					}
-				});
+			@Override
+			public String getProdutoNome() {
+				return produtoNome != null ? produtoNome : "";
 			}
-		}
+
+			@Override
+			public int getQuantidade() {
+				return quantidade;
+			}
+
+			@Override
+			public BigDecimal getPrecoUnitario() {
+				return precoUnitario;
+			}
+
+			@Override
+			public BigDecimal getSubtotal() {
+				return precoUnitario.multiply(BigDecimal.valueOf(quantidade));
+			}
+		};
+	}
+
+	private static PedidoResumo criarResumo(PedidoLinha linha, List<ItemPedidoResumo> itensResumo) {
+		var id = linha.getId();
+		var fornecedorId = linha.getFornecedorId();
+		var fornecedorNome = linha.getFornecedorNome();
+		var estoqueId = linha.getEstoqueId();
+		var estoqueNome = linha.getEstoqueNome();
+		var valorTotal = linha.getValorTotal();
+		var dataPedido = linha.getDataPedido();
+		var dataPrevista = linha.getDataPrevista();
+		var status = linha.getStatus();
 
 		return new PedidoResumo() {
 			@Override
 			public int getId() {
-				return pedidoJpa.id;
+				return id;
 			}
 
 			@Override
 			public int getFornecedorId() {
-				return pedidoJpa.fornecedor != null ? pedidoJpa.fornecedor.id : 0;
+				return fornecedorId != null ? fornecedorId : 0;
 			}
 
 			@Override
 			public String getFornecedorNome() {
-				return pedidoJpa.fornecedor != null ? pedidoJpa.fornecedor.nome : "";
+				return fornecedorNome != null ? fornecedorNome : "";
 			}
 
 			@Override
 			public int getEstoqueId() {
-				return pedidoJpa.estoque != null ? pedidoJpa.estoque.id : 0;
+				return estoqueId != null ? estoqueId : 0;
 			}
 
 			@Override
 			public String getEstoqueNome() {
-				return pedidoJpa.estoque != null ? pedidoJpa.estoque.nome : "";
+				return estoqueNome != null ? estoqueNome : "";
 			}
 
 			@Override
@@ -156,22 +173,22 @@ class PedidoRepositorioImpl implements PedidoRepositorio, PedidoRepositorioAplic
 
 			@Override
 			public BigDecimal getValorTotal() {
-				return pedidoJpa.valorTotal;
+				return valorTotal;
 			}
 
 			@Override
 			public LocalDate getDataPedido() {
-				return pedidoJpa.dataPedido;
+				return dataPedido;
 			}
 
 			@Override
 			public LocalDate getDataPrevista() {
-				return pedidoJpa.dataPrevista;
+				return dataPrevista;
 			}
 
 			@Override
 			public String getStatus() {
-				return pedidoJpa.status;
+				return status;
 			}
 		};
 	}
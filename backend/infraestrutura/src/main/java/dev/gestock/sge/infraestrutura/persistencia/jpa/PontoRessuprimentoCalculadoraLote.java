@@ -0,0 +1,191 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import dev.gestock.sge.aplicacao.pontoresuprimento.PontoRessuprimentoResumo;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.ConsumoDiarioJpaRepository.ConsumoAgregado;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.FornecedorJpaRepository.LeadTimeAgregado;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.PontoRessuprimentoJpaRepository.PontoRessuprimentoLinha;
+
+/**
+ * Calcula os resumos de ponto de ressuprimento em lote.
+ *
+ * Em vez de consultar consumo, lead time e saldo para cada ponto, executa um número fixo
+ * de consultas agregadas (pontos com saldo, consumo por par estoque-produto a partir de
+ * CONSUMO_DIARIO e lead time por produto) e combina os resultados em memória. O número de
+ * consultas não depende da quantidade de pontos monitorados.
+ */
+@Component
+class PontoRessuprimentoCalculadoraLote {
+	static final int DIAS_CONSUMO = 90;
+
+	@Autowired
+	PontoRessuprimentoJpaRepository repositorio;
+
+	@Autowired
+	ConsumoDiarioJpaRepository consumoDiarioRepositorio;
+
+	@Autowired
+	FornecedorJpaRepository fornecedorRepositorio;
+
+	List<PontoRessuprimentoResumo> calcularTodos() {
+		return calcular(repositorio.pesquisarLinhas());
+	}
+
+	List<PontoRessuprimentoResumo> calcular(List<PontoRessuprimentoLinha> linhas) {
+		if (linhas.isEmpty()) {
+			return List.of();
+		}
+		var dataInicio = LocalDate.now().minusDays(DIAS_CONSUMO);
+		return combinar(linhas, consumoDiarioRepositorio.calcularConsumoAgregado(dataInicio),
+			fornecedorRepositorio.calcularLeadTimesPorProduto());
+	}
+
+	/**
+	 * Recalcula apenas os pontos dos produtos informados, com as agregações restritas a eles.
+	 */
+	List<PontoRessuprimentoResumo> calcularPorProdutos(Collection<Integer> produtoIds) {
+		if (produtoIds.isEmpty()) {
+			return List.of();
+		}
+		return calcularRestrito(repositorio.pesquisarLinhasPorProdutos(produtoIds));
+	}
+
+	/**
+	 * Calcula os pontos informados com as agregações restritas aos produtos deles.
+	 */
+	List<PontoRessuprimentoResumo> calcularRestrito(List<PontoRessuprimentoLinha> linhas) {
+		if (linhas.isEmpty()) {
+			return List.of();
+		}
+		var produtoIds = new HashSet<Integer>();
+		for (var linha : linhas) {
+			produtoIds.add(linha.getProdutoId());
+		}
+		var dataInicio = LocalDate.now().minusDays(DIAS_CONSUMO);
+		return combinar(linhas, consumoDiarioRepositorio.calcularConsumoAgregadoPorProdutos(dataInicio, produtoIds),
+			fornecedorRepositorio.calcularLeadTimesPorProdutos(produtoIds));
+	}
+
+	private List<PontoRessuprimentoResumo> combinar(List<PontoRessuprimentoLinha> linhas,
+			List<ConsumoAgregado> consumosAgregados, List<LeadTimeAgregado> leadTimesAgregados) {
+		var consumos = new HashMap<Long, ConsumoAgregado>();
+		for (var consumo : consumosAgregados) {
+			consumos.put(chave(consumo.getEstoqueId(), consumo.getProdutoId()), consumo);
+		}
+
+		var leadTimes = new HashMap<Integer, LeadTimeAgregado>();
+		for (var leadTime : leadTimesAgregados) {
+			leadTimes.put(leadTime.getProdutoId(), leadTime);
+		}
+
+		var resumos = new ArrayList<PontoRessuprimentoResumo>(linhas.size());
+		for (var linha : linhas) {
+			var consumo = consumos.get(chave(linha.getEstoqueId(), linha.getProdutoId()));
+			var leadTime = leadTimes.get(linha.getProdutoId());
+
+			var consumoMedio = consumo != null ? consumo.getConsumoTotal() / DIAS_CONSUMO : 0.0;
+			var consumoMaximo = consumo != null ? consumo.getConsumoMaximoDiario() : 0.0;
+			// AVG é truncado para inteiro, como na consulta individual de lead time médio
+			var leadTimeMedio = leadTime != null ? (int) leadTime.getLeadTimeMedio() : 0;
+			var leadTimeMaximo = leadTime != null ? leadTime.getLeadTimeMaximo() : 0;
+
+			resumos.add(criarResumo(linha.getId(), linha.getEstoqueId(), linha.getEstoqueNome(),
+				linha.getProdutoId(), linha.getProdutoNome(), consumoMedio, consumoMaximo,
+				leadTimeMedio, leadTimeMaximo, linha.getEstoqueSeguranca(), linha.getSaldoAtual()));
+		}
+		return resumos;
+	}
+
+	static long chave(int estoqueId, int produtoId) {
+		return ((long) estoqueId << 32) | (produtoId & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * ROP = (Consumo Médio × Lead Time Médio) + Estoque de Segurança, nunca negativo.
+	 */
+	static int calcularRop(double consumoMedioDiario, int leadTimeMedio, int estoqueSeguranca) {
+		var rop = (int) Math.round((consumoMedioDiario * leadTimeMedio) + estoqueSeguranca);
+		return Math.max(0, rop);
+	}
+
+	static PontoRessuprimentoResumo criarResumo(int id, int estoqueId, String estoqueNome, int produtoId,
+			String produtoNome, double consumoMedioDiario, double consumoMaximoDiario, int leadTimeMedio,
+			int leadTimeMaximo, int estoqueSeguranca, int saldoAtual) {
+		var ropCalculado = calcularRop(consumoMedioDiario, leadTimeMedio, estoqueSeguranca);
+		var status = saldoAtual >= ropCalculado ? "ADEQUADO" : "INADEQUADO";
+
+		return new PontoRessuprimentoResumo() {
+			@Override
+			public int getId() {
+				return id;
+			}
+
+			@Override
+			public int getEstoqueId() {
+				return estoqueId;
+			}
+
+			@Override
+			public String getEstoqueNome() {
+				return estoqueNome != null ? estoqueNome : "";
+			}
+
+			@Override
+			public int getProdutoId() {
+				return produtoId;
+			}
+
+			@Override
+			public String getProdutoNome() {
+				return produtoNome != null ? produtoNome : "";
+			}
+
+			@Override
+			public double getConsumoMedioDiario() {
+				return consumoMedioDiario;
+			}
+
+			@Override
+			public double getConsumoMaximoDiario() {
+				return consumoMaximoDiario;
+			}
+
+			@Override
+			public int getLeadTimeMedio() {
+				return leadTimeMedio;
+			}
+
+			@Override
+			public int getLeadTimeMaximo() {
+				return leadTimeMaximo;
+			}
+
+			@Override
+			public int getEstoqueSeguranca() {
+				return estoqueSeguranca;
+			}
+
+			@Override
+			public int getRopCalculado() {
+				return ropCalculado;
+			}
+
+			@Override
+			public int getSaldoAtual() {
+				return saldoAtual;
+			}
+
+			@Override
+			public String getStatus() {
+				return status;
+			}
+		};
+	}
+}
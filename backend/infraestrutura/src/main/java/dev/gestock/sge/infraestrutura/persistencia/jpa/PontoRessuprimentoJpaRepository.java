@@ -1,9 +1,122 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import dev.gestock.sge.aplicacao.pontoresuprimento.PontoRessuprimentoTotais;
 
 interface PontoRessuprimentoJpaRepository extends JpaRepository<PontoRessuprimentoJpa, Integer> {
 	Optional<PontoRessuprimentoJpa> findByEstoqueIdAndProdutoId(int estoqueId, int produtoId);
-}
 
+	/**
+	 * Projeção de um ponto de ressuprimento com os nomes de estoque/produto e o saldo atual,
+	 * obtida em uma única consulta para alimentar o cálculo em lote do ROP.
+	 */
+	interface PontoRessuprimentoLinha {
+		int getId();
+
+		int getEstoqueId();
+
+		String getEstoqueNome();
+
+		String getEstoqueEndereco();
+
+		int getProdutoId();
+
+		String getProdutoNome();
+
+		String getProdutoCodigo();
+
+		int getEstoqueSeguranca();
+
+		int getSaldoAtual();
+	}
+
+	@Query(value = """
+		SELECT pr.ID AS "id",
+			e.ID AS "estoqueId", e.NOME AS "estoqueNome", e.ENDERECO AS "estoqueEndereco",
+			p.ID AS "produtoId", p.NOME AS "produtoNome", p.CODIGO AS "produtoCodigo",
+			pr.ESTOQUE_SEGURANCA AS "estoqueSeguranca",
+			COALESCE(ep.QUANTIDADE, 0) AS "saldoAtual"
+		FROM PONTO_RESSUPRIMENTO pr
+		INNER JOIN ESTOQUE e ON e.ID = pr.ESTOQUE_ID
+		INNER JOIN PRODUTO p ON p.ID = pr.PRODUTO_ID
+		LEFT JOIN ESTOQUE_PRODUTO ep ON ep.ESTOQUE_ID = pr.ESTOQUE_ID AND ep.PRODUTO_ID = pr.PRODUTO_ID
+		ORDER BY pr.ID
+	""", nativeQuery = true)
+	List<PontoRessuprimentoLinha> pesquisarLinhas();
+
+	@Query(value = """
+		SELECT pr.ID AS "id",
+			e.ID AS "estoqueId", e.NOME AS "estoqueNome", e.ENDERECO AS "estoqueEndereco",
+			p.ID AS "produtoId", p.NOME AS "produtoNome", p.CODIGO AS "produtoCodigo",
+			pr.ESTOQUE_SEGURANCA AS "estoqueSeguranca",
+			COALESCE(ep.QUANTIDADE, 0) AS "saldoAtual"
+		FROM PONTO_RESSUPRIMENTO pr
+		INNER JOIN ESTOQUE e ON e.ID = pr.ESTOQUE_ID
+		INNER JOIN PRODUTO p ON p.ID = pr.PRODUTO_ID
+		LEFT JOIN ESTOQUE_PRODUTO ep ON ep.ESTOQUE_ID = pr.ESTOQUE_ID AND ep.PRODUTO_ID = pr.PRODUTO_ID
+		WHERE pr.PRODUTO_ID IN (:produtoIds)
+		ORDER BY pr.ID
+	""", nativeQuery = true)
+	List<PontoRessuprimentoLinha> pesquisarLinhasPorProdutos(@Param("produtoIds") Collection<Integer> produtoIds);
+
+	/**
+	 * Pontos cujo produto (nome ou código) ou estoque (nome ou endereço) contém o termo, em minúsculas.
+	 */
+	@Query(value = """
+		SELECT pr.ID AS "id",
+			e.ID AS "estoqueId", e.NOME AS "estoqueNome", e.ENDERECO AS "estoqueEndereco",
+			p.ID AS "produtoId", p.NOME AS "produtoNome", p.CODIGO AS "produtoCodigo",
+			pr.ESTOQUE_SEGURANCA AS "estoqueSeguranca",
+			COALESCE(ep.QUANTIDADE, 0) AS "saldoAtual"
+		FROM PONTO_RESSUPRIMENTO pr
+		INNER JOIN ESTOQUE e ON e.ID = pr.ESTOQUE_ID
+		INNER JOIN PRODUTO p ON p.ID = pr.PRODUTO_ID
+		LEFT JOIN ESTOQUE_PRODUTO ep ON ep.ESTOQUE_ID = pr.ESTOQUE_ID AND ep.PRODUTO_ID = pr.PRODUTO_ID
+		WHERE pr.PRODUTO_ID IN (SELECT ID FROM PRODUTO
+				WHERE LOWER(NOME) LIKE CONCAT('%', :termo, '%') OR CODIGO ILIKE CONCAT('%', :termo, '%'))
+			OR pr.ESTOQUE_ID IN (SELECT ID FROM ESTOQUE
+				WHERE LOWER(NOME) LIKE CONCAT('%', :termo, '%') OR LOWER(ENDERECO) LIKE CONCAT('%', :termo, '%'))
+		ORDER BY pr.ID
+	""", nativeQuery = true)
+	List<PontoRessuprimentoLinha> pesquisarLinhasPorTermo(@Param("termo") String termo);
+
+	/**
+	 * Conta os pontos por situação em uma única consulta agregada, sem trazer os pontos para a aplicação.
+	 * O ROP segue {@link PontoRessuprimentoCalculadoraLote}: consumo médio em double, lead time médio
+	 * truncado e arredondamento de {@code Math.round}, para que as contagens batam com a listagem.
+	 */
+	@Query(value = """
+		SELECT COUNT(*) AS "totalMonitorado",
+			COUNT(*) FILTER (WHERE r.SALDO >= r.ROP) AS "estoqueAdequado",
+			COUNT(*) FILTER (WHERE r.SALDO < r.ROP) AS "abaixoDoRop"
+		FROM (
+			SELECT COALESCE(ep.QUANTIDADE, 0) AS SALDO,
+				GREATEST(0, FLOOR(COALESCE(c.CONSUMO_TOTAL, 0) / :dias * COALESCE(l.LEAD_TIME_MEDIO, 0)
+					+ pr.ESTOQUE_SEGURANCA + 0.5)) AS ROP
+			FROM PONTO_RESSUPRIMENTO pr
+			INNER JOIN ESTOQUE e ON e.ID = pr.ESTOQUE_ID
+			INNER JOIN PRODUTO p ON p.ID = pr.PRODUTO_ID
+			LEFT JOIN ESTOQUE_PRODUTO ep ON ep.ESTOQUE_ID = pr.ESTOQUE_ID AND ep.PRODUTO_ID = pr.PRODUTO_ID
+			LEFT JOIN (
+				SELECT ESTOQUE_ID, PRODUTO_ID, CAST(SUM(SAIDA) AS double precision) AS CONSUMO_TOTAL
+				FROM CONSUMO_DIARIO
+				WHERE DIA >= :dataInicio AND SAIDA > 0
+				GROUP BY ESTOQUE_ID, PRODUTO_ID
+			) c ON c.ESTOQUE_ID = pr.ESTOQUE_ID AND c.PRODUTO_ID = pr.PRODUTO_ID
+			LEFT JOIN (
+				SELECT pf.PRODUTO_ID, CAST(TRUNC(AVG(f.LEAD_TIME)) AS int) AS LEAD_TIME_MEDIO
+				FROM FORNECEDOR f
+				INNER JOIN PRODUTO_FORNECEDOR pf ON f.ID = pf.FORNECEDOR_ID
+				WHERE f.STATUS = 'ATIVO'
+				GROUP BY pf.PRODUTO_ID
+			) l ON l.PRODUTO_ID = pr.PRODUTO_ID
+		) r
+	""", nativeQuery = true)
+	PontoRessuprimentoTotais contarPorSituacao(@Param("dataInicio") LocalDate dataInicio, @Param("dias") double dias);
+}
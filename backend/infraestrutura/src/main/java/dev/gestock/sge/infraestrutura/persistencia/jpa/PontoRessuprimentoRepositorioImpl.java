@@ -1,6 +1,6 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,7 +23,7 @@ import dev.gestock.sge.dominio.produto.ProdutoId;
 
 @Repository
 class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio, PontoRessuprimentoRepositorioAplicacao {
-	private static final int DIAS_CONSUMO = 90;
+	private static final int DIAS_CONSUMO = PontoRessuprimentoCalculadoraLote.DIAS_CONSUMO;
 
 	@Autowired
 	PontoRessuprimentoJpaRepository repositorio;
@@ -32,7 +32,10 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 	JpaMapeador mapeador;
 
 	@Autowired
-	MovimentacaoJpaRepository movimentacaoRepositorio;
+	ConsumoDiarioJpaRepository consumoDiarioRepositorio;
+
+	@Autowired
+	ConsumoDiarioReconstrucao consumoDiarioReconstrucao;
 
 	@Autowired
 	FornecedorJpaRepository fornecedorRepositorio;
@@ -41,10 +44,16 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 	EstoqueProdutoJpaRepository estoqueProdutoRepositorio;
 
 	@Autowired
-	ProdutoJpaRepository produtoRepositorio;
+	ReferenciaCache referenciaCache;
 
 	@Autowired
-	EstoqueJpaRepository estoqueRepositorio;
+	PontoRessuprimentoCalculadoraLote calculadora;
+
+	@Autowired
+	AlertaSnapshot alertaSnapshot;
+
+	@Autowired
+	PontoRessuprimentoSincronizador sincronizador;
 
 	@Transactional
 	@Override
@@ -53,14 +62,13 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 		pontoJpa.id = ponto.getId().getId();
 		pontoJpa.estoqueSeguranca = ponto.getEstoqueSeguranca().getValor();
 
-		// Carregar estoque e produto do banco
-		pontoJpa.estoque = estoqueRepositorio.findById(ponto.getEstoqueId().getId())
-			.orElseThrow(() -> new IllegalArgumentException("Estoque não encontrado"));
-		pontoJpa.produto = produtoRepositorio.findById(ponto.getProdutoId().getId())
-			.orElseThrow(() -> new IllegalArgumentException("Produto não encontrado"));
+		// Estoque e produto vêm do cache de referência
+		pontoJpa.estoque = referenciaCache.referenciarEstoque(ponto.getEstoqueId().getId());
+		pontoJpa.produto = referenciaCache.referenciarProduto(ponto.getProdutoId().getId());
 
 		pontoJpa = repositorio.save(pontoJpa);
-		return mapeador.map(pontoJpa, PontoRessuprimento.class);
+		alertaSnapshot.marcarPar(pontoJpa.estoque.id, pontoJpa.produto.id);
+		return mapeador.mapear(pontoJpa);
 	}
 
 	@Transactional
@@ -70,7 +78,7 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 		if (pontoJpa == null) {
 			return null;
 		}
-		return mapeador.map(pontoJpa, PontoRessuprimento.class);
+		return mapeador.mapear(pontoJpa);
 	}
 
 	@Transactional
@@ -80,7 +88,7 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 		if (pontoJpa == null) {
 			return null;
 		}
-		return mapeador.map(pontoJpa, PontoRessuprimento.class);
+		return mapeador.mapear(pontoJpa);
 	}
 
 	@Transactional
@@ -92,40 +100,36 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 		}
 		var resultado = new ArrayList<PontoRessuprimento>();
 		for (var pontoJpa : pontosJpa) {
-			resultado.add(mapeador.map(pontoJpa, PontoRessuprimento.class));
+			resultado.add(mapeador.mapear(pontoJpa));
 		}
 		return resultado;
 	}
 
+	@Transactional
 	@Override
 	public void remover(PontoRessuprimentoId id) {
+		repositorio.findById(id.getId())
+			.ifPresent(p -> alertaSnapshot.marcarPar(p.estoque.id, p.produto.id));
 		repositorio.deleteById(id.getId());
 	}
 
 	@Transactional
 	@Override
 	public List<PontoRessuprimentoResumo> pesquisarResumos() {
-		var pontosJpa = repositorio.findAll();
-		return criarResumos(pontosJpa);
+		return calculadora.calcularTodos();
 	}
 
 	@Transactional
 	@Override
 	public List<PontoRessuprimentoResumo> pesquisarPorProdutoOuEstoque(String termo) {
-		var pontosJpa = repositorio.findAll().stream()
-			.filter(p -> (p.produto != null && (p.produto.nome.toLowerCase().contains(termo.toLowerCase()) || 
-				p.produto.codigo.toLowerCase().contains(termo.toLowerCase()))) ||
-				(p.estoque != null && (p.estoque.nome.toLowerCase().contains(termo.toLowerCase()) ||
-				p.estoque.endereco.toLowerCase().contains(termo.toLowerCase()))))
-			.toList();
-		return criarResumos(pontosJpa);
+		var linhas = repositorio.pesquisarLinhasPorTermo(termo.toLowerCase());
+		return calculadora.calcularRestrito(linhas);
 	}
 
 	@Transactional
 	@Override
 	public List<PontoRessuprimentoResumo> pesquisarPorStatus(String status) {
-		var pontosJpa = repositorio.findAll();
-		return criarResumos(pontosJpa).stream()
+		return calculadora.calcularTodos().stream()
 			.filter(r -> status.equalsIgnoreCase(r.getStatus()))
 			.toList();
 	}
@@ -139,51 +143,22 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 		return criarResumo(pontoJpa);
 	}
 
+	@Transactional(readOnly = true)
 	@Override
 	public PontoRessuprimentoTotais obterTotais() {
-		var pontosJpa = repositorio.findAll();
-		var resumos = criarResumos(pontosJpa);
-		
-		long adequado = resumos.stream()
-			.filter(r -> "ADEQUADO".equals(r.getStatus()))
-			.count();
-		long inadequado = resumos.stream()
-			.filter(r -> "INADEQUADO".equals(r.getStatus()))
-			.count();
-
-		final long total = resumos.size();
-		final long estoqueAdequado = adequado;
-		final long abaixoDoRop = inadequado;
-
-		return new PontoRessuprimentoTotais() {
-			@Override
-			public int getTotalMonitorado() {
-				return (int) total;
-			}
-
-			@Override
-			public int getEstoqueAdequado() {
-				return (int) estoqueAdequado;
-			}
-
-			@Override
-			public int getAbaixoDoRop() {
-				return (int) abaixoDoRop;
-			}
-		};
+		return repositorio.contarPorSituacao(LocalDate.now().minusDays(DIAS_CONSUMO), DIAS_CONSUMO);
 	}
 
 	@Override
 	public double calcularConsumoMedioDiario(int estoqueId, int produtoId, int dias) {
-		var dataInicio = LocalDateTime.now().minusDays(dias);
-		return movimentacaoRepositorio.calcularConsumoMedioDiario(estoqueId, produtoId, dataInicio, dias);
+		var dataInicio = LocalDate.now().minusDays(dias);
+		return consumoDiarioRepositorio.calcularConsumoMedioDiario(estoqueId, produtoId, dataInicio, dias);
 	}
 
 	@Override
 	public double calcularConsumoMaximoDiario(int estoqueId, int produtoId, int dias) {
-		var dataInicio = LocalDateTime.now().minusDays(dias);
-		Double resultado = movimentacaoRepositorio.calcularConsumoMaximoDiario(estoqueId, produtoId, dataInicio);
-		return resultado != null ? resultado : 0.0;
+		var dataInicio = LocalDate.now().minusDays(dias);
+		return consumoDiarioRepositorio.calcularConsumoMaximoDiario(estoqueId, produtoId, dataInicio);
 	}
 
 	@Override
@@ -202,53 +177,14 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 		return fornecedorRepositorio.calcularLeadTimeMaximo(produtoId);
 	}
 
-	private List<PontoRessuprimentoResumo> criarResumos(List<PontoRessuprimentoJpa> pontosJpa) {
-		return pontosJpa.stream()
-			.map(this::criarResumo)
-			.toList();
+	@Override
+	public int reconstruirConsumoDiario() {
+		return consumoDiarioReconstrucao.reconstruir();
 	}
 
-	@Transactional
 	@Override
 	public int sincronizarPontosRessuprimento() {
-		int registrosCriados = 0;
-		
-		// Buscar todas as combinações de estoque-produto que possuem quantidade > 0
-		var estoqueProdutos = estoqueProdutoRepositorio.findAll().stream()
-			.filter(ep -> ep.quantidade > 0)
-			.toList();
-		
-		for (var ep : estoqueProdutos) {
-			// Verificar se já existe ponto de ressuprimento para esta combinação
-			var existente = repositorio.findByEstoqueIdAndProdutoId(ep.estoque.id, ep.produto.id);
-			
-			if (existente.isEmpty()) {
-				// Calcular Estoque de Segurança usando a fórmula:
-				// ES = (Consumo Máximo Diário × Lead Time Máximo) - (Consumo Médio Diário × Lead Time Médio)
-				var consumoMedio = calcularConsumoMedioDiario(ep.estoque.id, ep.produto.id, DIAS_CONSUMO);
-				var consumoMaximo = calcularConsumoMaximoDiario(ep.estoque.id, ep.produto.id, DIAS_CONSUMO);
-				var leadTimeMedio = obterLeadTimeMedio(ep.produto.id);
-				var leadTimeMaximo = obterLeadTimeMaximo(ep.produto.id);
-				
-				int estoqueSegurancaCalculado = (int) Math.round(
-					(consumoMaximo * leadTimeMaximo) - (consumoMedio * leadTimeMedio)
-				);
-				
-				// Garantir valor mínimo de 5
-				int estoqueSegurancaFinal = Math.max(5, estoqueSegurancaCalculado);
-				
-				// Criar novo ponto de ressuprimento
-				var novoPonto = new PontoRessuprimentoJpa();
-				novoPonto.estoque = ep.estoque;
-				novoPonto.produto = ep.produto;
-				novoPonto.estoqueSeguranca = estoqueSegurancaFinal;
-				
-				repositorio.save(novoPonto);
-				registrosCriados++;
-			}
-		}
-		
-		return registrosCriados;
+		return sincronizador.sincronizar();
 	}
 
 	private PontoRessuprimentoResumo criarResumo(PontoRessuprimentoJpa pontoJpa) {
@@ -261,90 +197,10 @@ class PontoRessuprimentoRepositorioImpl implements PontoRessuprimentoRepositorio
 		var leadTimeMedio = obterLeadTimeMedio(produtoId);
 		var leadTimeMaximo = obterLeadTimeMaximo(produtoId);
 		var saldoAtual = obterSaldoAtual(estoqueId, produtoId);
-		var estoqueSeguranca = pontoJpa.estoqueSeguranca;
-
-		// Calcular ROP = (Consumo Médio × Lead Time Médio) + Estoque de Segurança
-		var ropCalculado = (int) Math.round((consumoMedioDiario * leadTimeMedio) + estoqueSeguranca);
-		ropCalculado = Math.max(0, ropCalculado);
-
-		// Determinar status
-		var status = saldoAtual >= ropCalculado ? "ADEQUADO" : "INADEQUADO";
-
-		final double consumoMedio = consumoMedioDiario;
-		final double consumoMax = consumoMaximoDiario;
-		final int ltMedio = leadTimeMedio;
-		final int ltMaximo = leadTimeMaximo;
-		final int estoqueSeg = estoqueSeguranca;
-		final int rop = ropCalculado;
-		final int saldo = saldoAtual;
-		final String statusFinal = status;
-
-		return new PontoRessuprimentoResumo() {
-			@Override
-			public int getId() {
-				return pontoJpa.id;
-			}
-
-			@Override
-			public int getEstoqueId() {
-				return estoqueId;
-			}
-
-			@Override
-			public String getEstoqueNome() {
-				return pontoJpa.estoque != null ? pontoJpa.estoque.nome : "";
-			}
-
-			@Override
-			public int getProdutoId() {
-				return produtoId;
-			}
-
-			@Override
-			public String getProdutoNome() {
-				return pontoJpa.produto != null ? pontoJpa.produto.nome : "";
-			}
-
-			@Override
-			public double getConsumoMedioDiario() {
-				return consumoMedio;
-			}
-
-			@Override
-			public double getConsumoMaximoDiario() {
-				return consumoMax;
-			}
-
-			@Override
-			public int getLeadTimeMedio() {
-				return ltMedio;
-			}
-
-			@Override
-			public int getLeadTimeMaximo() {
-				return ltMaximo;
-			}
-
-			@Override
-			public int getEstoqueSeguranca() {
-				return estoqueSeg;
-			}
-
-			@Override
-			public int getRopCalculado() {
-				return rop;
-			}
-
-			@Override
-			public int getSaldoAtual() {
-				return saldo;
-			}
-
-			@Override
-			public String getStatus() {
-				return statusFinal;
-			}
-		};
+
+		return PontoRessuprimentoCalculadoraLote.criarResumo(pontoJpa.id, estoqueId,
+			pontoJpa.estoque != null ? pontoJpa.estoque.nome : "", produtoId,
+			pontoJpa.produto != null ? pontoJpa.produto.nome : "", consumoMedioDiario, consumoMaximoDiario,
+			leadTimeMedio, leadTimeMaximo, pontoJpa.estoqueSeguranca, saldoAtual);
 	}
 }
-
@@ -0,0 +1,252 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.ConsumoDiarioJpaRepository.ConsumoAgregado;
+import dev.gestock.sge.infraestrutura.persistencia.jpa.FornecedorJpaRepository.LeadTimeAgregado;
+
+/**
+ * Cria os pontos de ressuprimento que faltam para os pares estoque-produto com saldo.
+ *
+ * Os pares sem ponto são lidos por uma anti-junção, em lotes ordenados por (ESTOQUE_ID, PRODUTO_ID).
+ * Cada lote é processado por um pool limitado de trabalhadores, em sua própria transação: consumo e
+ * lead time vêm de duas consultas agregadas restritas aos produtos do lote e os pontos são inseridos
+ * com um único {@code INSERT ... ON CONFLICT DO NOTHING}. Uma falha desfaz apenas o lote em que
+ * ocorreu.
+ *
+ * O último par de uma sequência contínua de lotes concluídos é gravado em SINCRONIZACAO_CHECKPOINT;
+ * uma sincronização interrompida recomeça desse ponto. Ao terminar, o checkpoint é removido.
+ */
+@Component
+class PontoRessuprimentoSincronizador {
+	private static final Logger LOG = LoggerFactory.getLogger(PontoRessuprimentoSincronizador.class);
+	private static final String CHECKPOINT = "PONTO_RESSUPRIMENTO";
+	private static final int ESTOQUE_SEGURANCA_MINIMO = 5;
+
+	private static final String PESQUISAR_PARES_SEM_PONTO = """
+			SELECT ep.ESTOQUE_ID, ep.PRODUTO_ID
+			  FROM ESTOQUE_PRODUTO ep
+			 WHERE ep.QUANTIDADE > 0
+			   AND (ep.ESTOQUE_ID, ep.PRODUTO_ID) > (?, ?)
+			   AND NOT EXISTS (SELECT 1 FROM PONTO_RESSUPRIMENTO pr
+			                    WHERE pr.ESTOQUE_ID = ep.ESTOQUE_ID AND pr.PRODUTO_ID = ep.PRODUTO_ID)
+			 ORDER BY ep.ESTOQUE_ID, ep.PRODUTO_ID
+			 LIMIT ?
+			""";
+
+	private static final String INSERIR_PONTOS = """
+			INSERT INTO PONTO_RESSUPRIMENTO (ESTOQUE_ID, PRODUTO_ID, ESTOQUE_SEGURANCA)
+			SELECT * FROM UNNEST(?::int[], ?::int[], ?::int[])
+			ON CONFLICT (ESTOQUE_ID, PRODUTO_ID) DO NOTHING
+			RETURNING ESTOQUE_ID, PRODUTO_ID
+			""";
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	ConsumoDiarioJpaRepository consumoDiarioRepositorio;
+
+	@Autowired
+	FornecedorJpaRepository fornecedorRepositorio;
+
+	@Autowired
+	AlertaSnapshot alertaSnapshot;
+
+	@Value("${sge.ressuprimento.sincronizacao.lote:500}")
+	int tamanhoLote;
+
+	@Value("${sge.ressuprimento.sincronizacao.trabalhadores:4}")
+	int quantidadeTrabalhadores;
+
+	private final AtomicBoolean executando = new AtomicBoolean();
+
+	/**
+	 * @return quantos pontos de ressuprimento foram criados
+	 */
+	int sincronizar() {
+		if (!executando.compareAndSet(false, true)) {
+			throw new IllegalArgumentException("Já existe uma sincronização de pontos de ressuprimento em andamento");
+		}
+		var trabalhadores = new ThreadPoolExecutor(quantidadeTrabalhadores, quantidadeTrabalhadores, 0,
+			TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(quantidadeTrabalhadores), tarefa -> {
+				var thread = new Thread(tarefa, "ressuprimento-sincronizacao");
+				thread.setDaemon(true);
+				return thread;
+			}, new ThreadPoolExecutor.CallerRunsPolicy());
+		try {
+			return executar(trabalhadores);
+		} finally {
+			trabalhadores.shutdownNow();
+			executando.set(false);
+		}
+	}
+
+	private int executar(ThreadPoolExecutor trabalhadores) {
+		var inicio = System.nanoTime();
+		var checkpoint = new Checkpoint(obterCheckpoint());
+		var criados = new AtomicInteger();
+		var tarefas = new ArrayList<Future<?>>();
+
+		var ultimo = checkpoint.par;
+		while (true) {
+			var pares = jdbcTemplate.query(PESQUISAR_PARES_SEM_PONTO,
+				(linha, indice) -> new int[] { linha.getInt("ESTOQUE_ID"), linha.getInt("PRODUTO_ID") },
+				ultimo[0], ultimo[1], tamanhoLote);
+			if (pares.isEmpty()) {
+				break;
+			}
+			var numero = checkpoint.registrarLote(pares.get(pares.size() - 1));
+			tarefas.add(trabalhadores.submit(() -> {
+				criados.addAndGet(processarLote(pares));
+				checkpoint.concluirLote(numero);
+			}));
+			if (pares.size() < tamanhoLote) {
+				break;
+			}
+			ultimo = pares.get(pares.size() - 1);
+		}
+
+		for (var tarefa : tarefas) {
+			try {
+				tarefa.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Sincronização de pontos de ressuprimento interrompida", e);
+			} catch (ExecutionException e) {
+				throw e.getCause() instanceof RuntimeException falha ? falha
+					: new IllegalStateException("Falha na sincronização de pontos de ressuprimento", e.getCause());
+			}
+		}
+		jdbcTemplate.update("DELETE FROM SINCRONIZACAO_CHECKPOINT WHERE NOME = ?", CHECKPOINT);
+		LOG.info("Sincronização de pontos de ressuprimento: {} criados em {} lotes, {} ms", criados.get(), tarefas.size(),
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+		return criados.get();
+	}
+
+	private int processarLote(List<int[]> pares) {
+		var transacao = new TransactionTemplate(transactionManager);
+		transacao.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+		return transacao.execute(status -> {
+			var produtoIds = new HashSet<Integer>();
+			for (var par : pares) {
+				produtoIds.add(par[1]);
+			}
+			var dataInicio = LocalDate.now().minusDays(PontoRessuprimentoCalculadoraLote.DIAS_CONSUMO);
+			var consumos = new HashMap<Long, ConsumoAgregado>();
+			for (var consumo : consumoDiarioRepositorio.calcularConsumoAgregadoPorProdutos(dataInicio, produtoIds)) {
+				consumos.put(PontoRessuprimentoCalculadoraLote.chave(consumo.getEstoqueId(), consumo.getProdutoId()), consumo);
+			}
+			var leadTimes = new HashMap<Integer, LeadTimeAgregado>();
+			for (var leadTime : fornecedorRepositorio.calcularLeadTimesPorProdutos(produtoIds)) {
+				leadTimes.put(leadTime.getProdutoId(), leadTime);
+			}
+
+			var estoqueIds = new Integer[pares.size()];
+			var produtos = new Integer[pares.size()];
+			var estoquesSeguranca = new Integer[pares.size()];
+			for (int i = 0; i < pares.size(); i++) {
+				var par = pares.get(i);
+				estoqueIds[i] = par[0];
+				produtos[i] = par[1];
+				estoquesSeguranca[i] = calcularEstoqueSeguranca(
+					consumos.get(PontoRessuprimentoCalculadoraLote.chave(par[0], par[1])), leadTimes.get(par[1]));
+			}
+
+			var criados = jdbcTemplate.query(INSERIR_PONTOS,
+				(linha, indice) -> new int[] { linha.getInt("ESTOQUE_ID"), linha.getInt("PRODUTO_ID") },
+				estoqueIds, produtos, estoquesSeguranca);
+			for (var par : criados) {
+				alertaSnapshot.marcarPar(par[0], par[1]);
+			}
+			return criados.size();
+		});
+	}
+
+	/**
+	 * ES = (Consumo Máximo Diário × Lead Time Máximo) - (Consumo Médio Diário × Lead Time Médio),
+	 * com mínimo de 5 unidades.
+	 */
+	static int calcularEstoqueSeguranca(ConsumoAgregado consumo, LeadTimeAgregado leadTime) {
+		var consumoMedio = consumo != null ? consumo.getConsumoTotal() / PontoRessuprimentoCalculadoraLote.DIAS_CONSUMO : 0.0;
+		var consumoMaximo = consumo != null ? consumo.getConsumoMaximoDiario() : 0.0;
+		// AVG é truncado para inteiro, como na consulta individual de lead time médio
+		var leadTimeMedio = leadTime != null ? (int) leadTime.getLeadTimeMedio() : 0;
+		var leadTimeMaximo = leadTime != null ? leadTime.getLeadTimeMaximo() : 0;
+
+		var estoqueSeguranca = (int) Math.round((consumoMaximo * leadTimeMaximo) - (consumoMedio * leadTimeMedio));
+		return Math.max(ESTOQUE_SEGURANCA_MINIMO, estoqueSeguranca);
+	}
+
+	private int[] obterCheckpoint() {
+		var checkpoints = jdbcTemplate.query("SELECT ESTOQUE_ID, PRODUTO_ID FROM SINCRONIZACAO_CHECKPOINT WHERE NOME = ?",
+			(linha, indice) -> new int[] { linha.getInt("ESTOQUE_ID"), linha.getInt("PRODUTO_ID") }, CHECKPOINT);
+		if (checkpoints.isEmpty()) {
+			return new int[] { 0, 0 };
+		}
+		LOG.info("Retomando a sincronização de pontos de ressuprimento após o par {}-{}", checkpoints.get(0)[0],
+			checkpoints.get(0)[1]);
+		return checkpoints.get(0);
+	}
+
+	/**
+	 * Lotes terminam fora de ordem; o checkpoint avança só até o último lote de uma sequência
+	 * contínua de lotes concluídos, para que nenhum par anterior a ele fique sem processar.
+	 */
+	private class Checkpoint {
+		private final HashMap<Integer, int[]> ultimosPares = new HashMap<>();
+		private final HashSet<Integer> concluidos = new HashSet<>();
+		private int proximoNumero;
+		private int proximoPendente;
+		int[] par;
+
+		Checkpoint(int[] par) {
+			this.par = par;
+		}
+
+		synchronized int registrarLote(int[] ultimoPar) {
+			ultimosPares.put(proximoNumero, ultimoPar);
+			return proximoNumero++;
+		}
+
+		synchronized void concluirLote(int numero) {
+			concluidos.add(numero);
+			int[] avancado = null;
+			while (concluidos.remove(proximoPendente)) {
+				avancado = ultimosPares.remove(proximoPendente);
+				proximoPendente++;
+			}
+			if (avancado != null) {
+				par = avancado;
+				jdbcTemplate.update("""
+						INSERT INTO SINCRONIZACAO_CHECKPOINT (NOME, ESTOQUE_ID, PRODUTO_ID, ATUALIZADO_EM)
+						VALUES (?, ?, ?, ?)
+						ON CONFLICT (NOME) DO UPDATE
+						SET ESTOQUE_ID = EXCLUDED.ESTOQUE_ID, PRODUTO_ID = EXCLUDED.PRODUTO_ID, ATUALIZADO_EM = EXCLUDED.ATUALIZADO_EM
+						""", CHECKPOINT, avancado[0], avancado[1], LocalDateTime.now());
+			}
+		}
+	}
+}
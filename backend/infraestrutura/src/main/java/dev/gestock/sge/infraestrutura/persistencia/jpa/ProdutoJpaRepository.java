@@ -1,7 +1,9 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,11 +12,43 @@ import dev.gestock.sge.aplicacao.produto.ProdutoResumo;
 interface ProdutoJpaRepository extends JpaRepository<ProdutoJpa, Integer> {
 	Optional<ProdutoJpa> findByCodigo(String codigo);
 
+	@EntityGraph(attributePaths = "fornecedores")
+	Optional<ProdutoJpa> findComFornecedoresById(int id);
+
+	@EntityGraph(attributePaths = "fornecedores")
+	List<ProdutoJpa> findComFornecedoresByIdIn(Collection<Integer> ids);
+
 	@Query("SELECT p FROM ProdutoJpa p WHERE LOWER(p.nome) LIKE LOWER(CONCAT('%', :termo, '%')) OR p.codigo LIKE CONCAT('%', :termo, '%')")
 	List<ProdutoJpa> findByNomeContainingIgnoreCaseOrCodigoContaining(@Param("termo") String termo);
 
+	/**
+	 * Busca ordenada por relevância: código igual ao termo, nome começando pelo termo e, por fim,
+	 * semelhança de trigramas, o que também encontra nomes digitados com erro.
+	 * O termo deve vir em minúsculas.
+	 */
+	@Query(value = """
+		SELECT p.* FROM PRODUTO p
+		WHERE LOWER(p.NOME) LIKE CONCAT('%', :termo, '%')
+			OR p.CODIGO ILIKE CONCAT('%', :termo, '%')
+			OR :termo <% LOWER(p.NOME)
+		ORDER BY LOWER(p.CODIGO) = :termo DESC,
+			LOWER(p.NOME) LIKE CONCAT(:termo, '%') DESC,
+			word_similarity(:termo, LOWER(p.NOME)) DESC,
+			p.ID
+		LIMIT :limite OFFSET :deslocamento
+	""", nativeQuery = true)
+	List<ProdutoJpa> buscar(@Param("termo") String termo, @Param("limite") int limite,
+		@Param("deslocamento") int deslocamento);
+
 	List<ProdutoJpa> findByStatus(String status);
 
+	/**
+	 * Todos os produtos com os fornecedores carregados na mesma consulta.
+	 */
+	@EntityGraph(attributePaths = "fornecedores")
+	@Query("SELECT DISTINCT p FROM ProdutoJpa p ORDER BY p.id")
+	List<ProdutoJpa> pesquisarComFornecedores();
+
 	List<ProdutoResumo> findProdutoResumoBy();
 
 	// R1H8: Verificar se existe produto com mesmo código
@@ -1,5 +1,7 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
@@ -25,15 +27,21 @@ class ProdutoRepositorioImpl implements ProdutoRepositorio, ProdutoRepositorioAp
 	@Autowired
 	JpaMapeador mapeador;
 
+	@Autowired
+	AlertaSnapshot alertaSnapshot;
+
+	@Autowired
+	ReferenciaCache referenciaCache;
+
 	@Override
 	public Produto salvar(Produto produto) {
-		var produtoJpa = mapeador.map(produto, ProdutoJpa.class);
+		var produtoJpa = mapeador.mapear(produto);
 		
 		// Buscar FornecedorJpa do banco para a relação N:M
 		if (produto.getFornecedores() != null && !produto.getFornecedores().isEmpty()) {
 			var fornecedoresJpa = new java.util.ArrayList<FornecedorJpa>();
 			for (var fornecedorId : produto.getFornecedores()) {
-				var fornecedorJpa = fornecedorRepositorio.findById(fornecedorId.getId()).orElse(null);
+				var fornecedorJpa = referenciaCache.obterFornecedor(fornecedorId.getId());
 				if (fornecedorJpa != null) {
 					fornecedoresJpa.add(fornecedorJpa);
 				}
@@ -42,21 +50,38 @@ class ProdutoRepositorioImpl implements ProdutoRepositorio, ProdutoRepositorioAp
 		}
 		
 		produtoJpa = repositorio.save(produtoJpa);
-		return mapeador.map(produtoJpa, Produto.class);
+		referenciaCache.invalidarProduto(produtoJpa.id);
+		alertaSnapshot.marcarProdutos(List.of(produtoJpa.id));
+		return mapeador.mapear(produtoJpa);
 	}
 
 	@Transactional
 	@Override
 	public Produto obter(ProdutoId id) {
-		var produtoJpa = repositorio.findById(id.getId()).orElse(null);
-		return mapeador.map(produtoJpa, Produto.class);
+		var produtoJpa = referenciaCache.obterProduto(id.getId());
+		return mapeador.mapear(produtoJpa);
+	}
+
+	@Transactional
+	@Override
+	public List<Produto> obterTodos(Collection<ProdutoId> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		var chaves = new ArrayList<Integer>(ids.size());
+		for (var id : ids) {
+			chaves.add(id.getId());
+		}
+		return repositorio.findComFornecedoresByIdIn(chaves).stream()
+			.map(p -> mapeador.mapear(p))
+			.toList();
 	}
 
 	@Transactional
 	@Override
 	public Produto obterPorCodigo(Codigo codigo) {
 		var produtoJpa = repositorio.findByCodigo(codigo.getValor()).orElse(null);
-		return mapeador.map(produtoJpa, Produto.class);
+		return mapeador.mapear(produtoJpa);
 	}
 
 	@Transactional
@@ -66,6 +91,8 @@ class ProdutoRepositorioImpl implements ProdutoRepositorio, ProdutoRepositorioAp
 		cotacaoRepositorio.deleteByProdutoId(id.getId());
 		// Depois remove o produto
 		repositorio.deleteById(id.getId());
+		referenciaCache.invalidarProduto(id.getId());
+		alertaSnapshot.marcarProdutos(List.of(id.getId()));
 	}
 
 	@Override
@@ -91,7 +118,7 @@ class ProdutoRepositorioImpl implements ProdutoRepositorio, ProdutoRepositorioAp
 	@Transactional
 	@Override
 	public List<ProdutoResumo> pesquisarResumos() {
-		var produtosJpa = repositorio.findAll();
+		var produtosJpa = repositorio.pesquisarComFornecedores();
 		return criarResumos(produtosJpa);
 	}
 
@@ -101,6 +128,13 @@ class ProdutoRepositorioImpl implements ProdutoRepositorio, ProdutoRepositorioAp
 		return criarResumos(produtosJpa);
 	}
 
+	@Transactional
+	@Override
+	public List<ProdutoResumo> buscar(String termo, int pagina, int tamanho) {
+		var produtosJpa = repositorio.buscar(termo.trim().toLowerCase(), tamanho, pagina * tamanho);
+		return criarResumos(produtosJpa);
+	}
+
 	@Override
 	public List<ProdutoResumo> pesquisarPorStatus(String status) {
 		var produtosJpa = repositorio.findByStatus(status);
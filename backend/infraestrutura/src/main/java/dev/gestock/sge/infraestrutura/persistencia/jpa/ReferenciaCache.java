@@ -0,0 +1,286 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Cache local de leitura dos agregados de referência (produto, fornecedor e estoque), que mudam
+ * pouco e são lidos a cada pedido, cotação e movimentação.
+ *
+ * Cada região guarda cópias desligadas das entidades, descarta a menos usada quando passa de
+ * {@code sge.cache.referencia.tamanho} entradas e expira cada entrada após
+ * {@code sge.cache.referencia.expiracao} segundos, o que limita a defasagem entre instâncias.
+ * As cópias servem tanto para montar o agregado quanto como referência de chave estrangeira,
+ * sem nova leitura do banco.
+ *
+ * Os repositórios invalidam a entrada ao salvar ou remover, na hora e de novo ao fim da
+ * transação. Até lá a transação que alterou a entrada não a recoloca no cache, e leituras
+ * iniciadas antes da invalidação não gravam o valor antigo.
+ */
+@Component
+public class ReferenciaCache {
+	@Value("${sge.cache.referencia.tamanho:10000}")
+	int tamanho;
+
+	@Value("${sge.cache.referencia.expiracao:300}")
+	long expiracaoSegundos;
+
+	@Autowired
+	ProdutoJpaRepository produtoRepositorio;
+
+	@Autowired
+	FornecedorJpaRepository fornecedorRepositorio;
+
+	@Autowired
+	EstoqueJpaRepository estoqueRepositorio;
+
+	private Regiao<ProdutoJpa> produtos;
+	private Regiao<FornecedorJpa> fornecedores;
+	private Regiao<EstoqueJpa> estoques;
+
+	@PostConstruct
+	void iniciar() {
+		var expiracao = TimeUnit.SECONDS.toNanos(expiracaoSegundos);
+		produtos = new Regiao<>("produto", tamanho, expiracao,
+			id -> produtoRepositorio.findComFornecedoresById(id).map(ReferenciaCache::copiar).orElse(null));
+		fornecedores = new Regiao<>("fornecedor", tamanho, expiracao,
+			id -> fornecedorRepositorio.findById(id).map(ReferenciaCache::copiar).orElse(null));
+		estoques = new Regiao<>("estoque", tamanho, expiracao,
+			id -> estoqueRepositorio.findById(id).map(ReferenciaCache::copiar).orElse(null));
+	}
+
+	/**
+	 * @return cópia desligada do produto, com os fornecedores, ou null se não existe
+	 */
+	ProdutoJpa obterProduto(int id) {
+		return produtos.obter(id);
+	}
+
+	FornecedorJpa obterFornecedor(int id) {
+		return fornecedores.obter(id);
+	}
+
+	EstoqueJpa obterEstoque(int id) {
+		return estoques.obter(id);
+	}
+
+	/**
+	 * Produto para preencher uma chave estrangeira; a entidade não é gerenciada e não deve ser alterada.
+	 */
+	ProdutoJpa referenciarProduto(int id) {
+		var produto = produtos.obter(id);
+		if (produto == null) {
+			throw new IllegalArgumentException("Produto não encontrado");
+		}
+		return produto;
+	}
+
+	FornecedorJpa referenciarFornecedor(int id) {
+		var fornecedor = fornecedores.obter(id);
+		if (fornecedor == null) {
+			throw new IllegalArgumentException("Fornecedor não encontrado");
+		}
+		return fornecedor;
+	}
+
+	EstoqueJpa referenciarEstoque(int id) {
+		return referenciarEstoque(id, "Estoque não encontrado");
+	}
+
+	EstoqueJpa referenciarEstoque(int id, String mensagem) {
+		var estoque = estoques.obter(id);
+		if (estoque == null) {
+			throw new IllegalArgumentException(mensagem);
+		}
+		return estoque;
+	}
+
+	void invalidarProduto(int id) {
+		produtos.invalidar(id);
+	}
+
+	void invalidarProdutos(List<Integer> ids) {
+		for (var id : ids) {
+			produtos.invalidar(id);
+		}
+	}
+
+	void invalidarFornecedor(int id) {
+		fornecedores.invalidar(id);
+	}
+
+	void invalidarEstoque(int id) {
+		estoques.invalidar(id);
+	}
+
+	public List<ReferenciaCacheMetricas> obterMetricas() {
+		return List.of(produtos.obterMetricas(), fornecedores.obterMetricas(), estoques.obterMetricas());
+	}
+
+	private static ProdutoJpa copiar(ProdutoJpa origem) {
+		var copia = new ProdutoJpa();
+		copia.id = origem.id;
+		copia.codigo = origem.codigo;
+		copia.nome = origem.nome;
+		copia.peso = origem.peso;
+		copia.perecivel = origem.perecivel;
+		copia.status = origem.status;
+		copia.fornecedores = new ArrayList<>();
+		if (origem.fornecedores != null) {
+			for (var fornecedor : origem.fornecedores) {
+				copia.fornecedores.add(copiar(fornecedor));
+			}
+		}
+		return copia;
+	}
+
+	private static FornecedorJpa copiar(FornecedorJpa origem) {
+		var copia = new FornecedorJpa();
+		copia.id = origem.id;
+		copia.nome = origem.nome;
+		copia.cnpj = origem.cnpj;
+		copia.contato = origem.contato;
+		copia.leadTime = origem.leadTime;
+		copia.custo = origem.custo;
+		copia.status = origem.status;
+		return copia;
+	}
+
+	private static EstoqueJpa copiar(EstoqueJpa origem) {
+		var copia = new EstoqueJpa();
+		copia.id = origem.id;
+		copia.nome = origem.nome;
+		copia.endereco = origem.endereco;
+		copia.capacidade = origem.capacidade;
+		copia.status = origem.status;
+		return copia;
+	}
+
+	private static class Regiao<T> {
+		private final String nome;
+		private final int capacidade;
+		private final long expiracaoNanos;
+		private final IntFunction<T> carregador;
+		private final Map<Integer, Entrada<T>> entradas;
+		private final AtomicLong geracao = new AtomicLong();
+		private final LongAdder acertos = new LongAdder();
+		private final LongAdder faltas = new LongAdder();
+		private final LongAdder remocoes = new LongAdder();
+
+		Regiao(String nome, int capacidade, long expiracaoNanos, IntFunction<T> carregador) {
+			this.nome = nome;
+			this.capacidade = capacidade;
+			this.expiracaoNanos = expiracaoNanos;
+			this.carregador = carregador;
+			this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, Entrada<T>> maisAntiga) {
+					if (size() > capacidade) {
+						remocoes.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		T obter(int id) {
+			var agora = System.nanoTime();
+			synchronized (entradas) {
+				var entrada = entradas.get(id);
+				if (entrada != null) {
+					if (entrada.expiraEm - agora > 0) {
+						acertos.increment();
+						return entrada.valor;
+					}
+					entradas.remove(id);
+				}
+			}
+			faltas.increment();
+
+			var geracaoLeitura = geracao.get();
+			var valor = carregador.apply(id);
+			if (valor != null && !alteradoNaTransacao(id)) {
+				synchronized (entradas) {
+					// Uma invalidação durante a leitura pode ter deixado o valor lido desatualizado
+					if (geracao.get() == geracaoLeitura) {
+						entradas.put(id, new Entrada<>(valor, agora + expiracaoNanos));
+					}
+				}
+			}
+			return valor;
+		}
+
+		void invalidar(int id) {
+			remover(id);
+			if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+				return;
+			}
+			var alterados = alteradosNaTransacao();
+			if (alterados == null) {
+				alterados = new HashSet<>();
+				TransactionSynchronizationManager.bindResource(this, alterados);
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					@SuppressWarnings("unchecked")
+					public void afterCompletion(int status) {
+						var ids = (Set<Integer>) TransactionSynchronizationManager.unbindResourceIfPossible(Regiao.this);
+						if (ids != null) {
+							ids.forEach(Regiao.this::remover);
+						}
+					}
+				});
+			}
+			alterados.add(id);
+		}
+
+		private void remover(int id) {
+			synchronized (entradas) {
+				geracao.incrementAndGet();
+				entradas.remove(id);
+			}
+		}
+
+		private boolean alteradoNaTransacao(int id) {
+			var alterados = alteradosNaTransacao();
+			return alterados != null && alterados.contains(id);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Set<Integer> alteradosNaTransacao() {
+			return (Set<Integer>) TransactionSynchronizationManager.getResource(this);
+		}
+
+		ReferenciaCacheMetricas obterMetricas() {
+			int tamanhoAtual;
+			synchronized (entradas) {
+				tamanhoAtual = entradas.size();
+			}
+			return new ReferenciaCacheMetricas(nome, tamanhoAtual, capacidade, acertos.sum(), faltas.sum(), remocoes.sum());
+		}
+	}
+
+	private static class Entrada<T> {
+		final T valor;
+		final long expiraEm;
+
+		Entrada(T valor, long expiraEm) {
+			this.valor = valor;
+			this.expiraEm = expiraEm;
+		}
+	}
+}
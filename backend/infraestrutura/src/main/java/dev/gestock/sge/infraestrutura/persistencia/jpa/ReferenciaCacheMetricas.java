@@ -0,0 +1,54 @@
+package dev.gestock.sge.infraestrutura.persistencia.jpa;
+
+/**
+ * Contadores de uma região do {@link ReferenciaCache} desde o início da aplicação.
+ */
+public class ReferenciaCacheMetricas {
+	private final String regiao;
+	private final int entradas;
+	private final int capacidade;
+	private final long acertos;
+	private final long faltas;
+	private final long remocoes;
+
+	ReferenciaCacheMetricas(String regiao, int entradas, int capacidade, long acertos, long faltas, long remocoes) {
+		this.regiao = regiao;
+		this.entradas = entradas;
+		this.capacidade = capacidade;
+		this.acertos = acertos;
+		this.faltas = faltas;
+		this.remocoes = remocoes;
+	}
+
+	public String getRegiao() {
+		return regiao;
+	}
+
+	public int getEntradas() {
+		return entradas;
+	}
+
+	public int getCapacidade() {
+		return capacidade;
+	}
+
+	public long getAcertos() {
+		return acertos;
+	}
+
+	public long getFaltas() {
+		return faltas;
+	}
+
+	/**
+	 * Entradas descartadas por falta de espaço; expirações e invalidações não contam.
+	 */
+	public long getRemocoes() {
+		return remocoes;
+	}
+
+	public double getTaxaAcerto() {
+		var leituras = acertos + faltas;
+		return leituras > 0 ? (double) acertos / leituras : 0.0;
+	}
+}
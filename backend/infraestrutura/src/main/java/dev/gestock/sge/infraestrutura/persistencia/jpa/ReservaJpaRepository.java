@@ -1,42 +1,80 @@
 package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import dev.gestock.sge.aplicacao.reserva.ReservaResumo;
 import dev.gestock.sge.aplicacao.reserva.ReservaTotais;
 
 interface ReservaJpaRepository extends JpaRepository<ReservaJpa, Integer> {
 	List<ReservaJpa> findByPedidoId(int pedidoId);
 
+	/**
+	 * Libera as reservas ativas do pedido em um único UPDATE; as já liberadas ficam como estão.
+	 * Alterações pendentes são gravadas antes e o contexto de persistência é limpo depois, para que
+	 * reservas já carregadas na transação não fiquem com o status anterior.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		UPDATE RESERVA
+		SET STATUS = 'LIBERADA', TIPO_LIBERACAO = :tipoLiberacao, DATA_HORA_LIBERACAO = :dataHoraLiberacao
+		WHERE PEDIDO_ID = :pedidoId AND STATUS = 'ATIVA'
+		""", nativeQuery = true)
+	int liberarPorPedido(@Param("pedidoId") int pedidoId, @Param("tipoLiberacao") String tipoLiberacao,
+			@Param("dataHoraLiberacao") LocalDateTime dataHoraLiberacao);
+
+	/**
+	 * Linhas de resumo com pedido e produto em junções, sem carregar as reservas nem os pedidos.
+	 */
 	@Query("""
-			SELECT r FROM ReservaJpa r
+			SELECT r.id AS id, pe.id AS pedidoId, p.id AS produtoId, p.nome AS produtoNome,
+			       r.quantidade AS quantidade, r.dataHoraReserva AS dataHoraReserva, r.status AS status,
+			       r.tipoLiberacao AS tipoLiberacao, r.dataHoraLiberacao AS dataHoraLiberacao
+			  FROM ReservaJpa r
+			  LEFT JOIN r.pedido pe
+			  LEFT JOIN r.produto p
 			 WHERE (:busca IS NULL OR :busca = '' OR 
-			        LOWER(r.produto.nome) LIKE LOWER(CONCAT('%', :busca, '%')) OR
-			        CAST(r.pedido.id AS string) LIKE CONCAT('%', :busca, '%'))
+			        LOWER(p.nome) LIKE LOWER(CONCAT('%', :busca, '%')) OR
+			        CAST(pe.id AS string) LIKE CONCAT('%', :busca, '%'))
 			 ORDER BY r.dataHoraReserva DESC
 			""")
-	List<ReservaJpa> pesquisarResumosJpa(@Param("busca") String busca);
+	List<ReservaLinha> pesquisarLinhas(@Param("busca") String busca);
 
+	/**
+	 * Totais em uma única passada sobre RESERVA, com contagens condicionais por status.
+	 */
 	@Query("""
-			SELECT COUNT(r) FROM ReservaJpa r
+			SELECT COUNT(r) AS totalReservas,
+			       COALESCE(SUM(CASE WHEN r.status = 'ATIVA' THEN 1 ELSE 0 END), 0) AS reservasAtivas,
+			       COALESCE(SUM(CASE WHEN r.status = 'LIBERADA' THEN 1 ELSE 0 END), 0) AS reservasLiberadas,
+			       COALESCE(SUM(CASE WHEN r.status = 'ATIVA' THEN r.quantidade ELSE 0 END), 0) AS quantidadeReservadaAtiva
+			  FROM ReservaJpa r
 			""")
-	long contarTotal();
+	ReservaTotais obterTotais();
 
-	@Query("""
-			SELECT COUNT(r) FROM ReservaJpa r WHERE r.status = 'ATIVA'
-			""")
-	long contarAtivas();
+	interface ReservaLinha {
+		int getId();
 
-	@Query("""
-			SELECT COUNT(r) FROM ReservaJpa r WHERE r.status = 'LIBERADA'
-			""")
-	long contarLiberadas();
+		Integer getPedidoId();
 
-	@Query("""
-			SELECT COALESCE(SUM(r.quantidade), 0) FROM ReservaJpa r WHERE r.status = 'ATIVA'
-			""")
-	long somarQuantidadeAtiva();
+		Integer getProdutoId();
+
+		String getProdutoNome();
+
+		int getQuantidade();
+
+		LocalDateTime getDataHoraReserva();
+
+		String getStatus();
+
+		String getTipoLiberacao();
+
+		LocalDateTime getDataHoraLiberacao();
+	}
 }
 
@@ -2,21 +2,31 @@ package dev.gestock.sge.infraestrutura.persistencia.jpa;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import dev.gestock.sge.aplicacao.reserva.ReservaRepositorioAplicacao;
 import dev.gestock.sge.aplicacao.reserva.ReservaResumo;
 import dev.gestock.sge.aplicacao.reserva.ReservaTotais;
 import dev.gestock.sge.dominio.pedido.PedidoId;
+import dev.gestock.sge.dominio.reserva.DataHoraLiberacao;
 import dev.gestock.sge.dominio.reserva.Reserva;
 import dev.gestock.sge.dominio.reserva.ReservaId;
 import dev.gestock.sge.dominio.reserva.ReservaRepositorio;
+import dev.gestock.sge.dominio.reserva.TipoLiberacao;
 import dev.gestock.sge.infraestrutura.persistencia.jpa.JpaMapeador;
 
 @Repository
 class ReservaRepositorioImpl implements ReservaRepositorio, ReservaRepositorioAplicacao {
+	private static final String INSERIR = """
+			INSERT INTO RESERVA (PEDIDO_ID, PRODUTO_ID, QUANTIDADE, DATA_HORA_RESERVA, STATUS, TIPO_LIBERACAO, DATA_HORA_LIBERACAO)
+			VALUES (?, ?, ?, ?, ?, ?, ?)
+			""";
+
 	@Autowired
 	ReservaJpaRepository repositorio;
 
@@ -27,119 +37,134 @@ class ReservaRepositorioImpl implements ReservaRepositorio, ReservaRepositorioAp
 	PedidoJpaRepository pedidoRepositorio;
 
 	@Autowired
-	ProdutoJpaRepository produtoRepositorio;
+	ReferenciaCache referenciaCache;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
 
 	@Override
 	public void salvar(Reserva reserva) {
-		var reservaJpa = mapeador.map(reserva, ReservaJpa.class);
+		var reservaJpa = mapeador.mapear(reserva);
 		// Carregar pedido e produto do banco
 		reservaJpa.pedido = pedidoRepositorio.findById(reserva.getPedidoId().getId())
 			.orElseThrow(() -> new IllegalArgumentException("Pedido não encontrado"));
-		reservaJpa.produto = produtoRepositorio.findById(reserva.getProdutoId().getId())
-			.orElseThrow(() -> new IllegalArgumentException("Produto não encontrado"));
+		reservaJpa.produto = referenciaCache.referenciarProduto(reserva.getProdutoId().getId());
 		repositorio.save(reservaJpa);
 	}
 
+	/**
+	 * Grava as reservas com um único batch de INSERT, sem passar pelo contexto de persistência.
+	 * Pedidos e produtos são conferidos antes, com as mesmas mensagens de {@link #salvar(Reserva)}.
+	 */
+	@Override
+	@Transactional
+	public void salvarTodos(List<Reserva> reservas) {
+		if (reservas.isEmpty()) {
+			return;
+		}
+		var pedidosConferidos = new HashSet<Integer>();
+		var argumentos = new ArrayList<Object[]>(reservas.size());
+		for (var reserva : reservas) {
+			var pedidoId = reserva.getPedidoId().getId();
+			if (pedidosConferidos.add(pedidoId) && !pedidoRepositorio.existsById(pedidoId)) {
+				throw new IllegalArgumentException("Pedido não encontrado");
+			}
+			var produtoId = referenciaCache.referenciarProduto(reserva.getProdutoId().getId()).id;
+			argumentos.add(new Object[] { pedidoId, produtoId, reserva.getQuantidade().getValor(),
+				reserva.getDataHoraReserva().getValor(), reserva.getStatus().name(),
+				reserva.getTipoLiberacao() != null ? reserva.getTipoLiberacao().name() : null,
+				reserva.getDataHoraLiberacao() != null ? reserva.getDataHoraLiberacao().getValor() : null });
+		}
+		jdbcTemplate.batchUpdate(INSERIR, argumentos);
+	}
+
+	@Override
+	public int liberarPorPedido(PedidoId pedidoId, TipoLiberacao tipoLiberacao, DataHoraLiberacao dataHoraLiberacao) {
+		return repositorio.liberarPorPedido(pedidoId.getId(), tipoLiberacao.name(), dataHoraLiberacao.getValor());
+	}
+
 	@Override
 	public Reserva obter(ReservaId id) {
 		var reservaJpa = repositorio.findById(id.getId()).orElse(null);
-		return mapeador.map(reservaJpa, Reserva.class);
+		return mapeador.mapear(reservaJpa);
 	}
 
 	@Override
 	public List<Reserva> obterPorPedido(PedidoId pedidoId) {
 		var reservasJpa = repositorio.findByPedidoId(pedidoId.getId());
-		return reservasJpa.stream().map(r -> mapeador.map(r, Reserva.class)).collect(Collectors.toList());
+		return reservasJpa.stream().map(r -> mapeador.mapear(r)).collect(Collectors.toList());
 	}
 
 	@Override
 	public List<ReservaResumo> pesquisarResumos(String busca) {
-		var reservasJpa = repositorio.pesquisarResumosJpa(busca);
-		var resumos = new ArrayList<ReservaResumo>();
-		for (var reservaJpa : reservasJpa) {
-			resumos.add(new ReservaResumo() {
-				@Override
-				public int getId() {
-					return reservaJpa.id;
-				}
-
-				@Override
-				public int getPedidoId() {
-					return reservaJpa.pedido != null ? reservaJpa.pedido.id : 0;
-				}
-
-				@Override
-				public String getPedidoCodigo() {
-					return reservaJpa.pedido != null ? "PED" + String.format("%03d", reservaJpa.pedido.id) : "";
-				}
-
-				@Override
-				public int getProdutoId() {
-					return reservaJpa.produto != null ? reservaJpa.produto.id : 0;
-				}
-
-				@Override
-				public String getProdutoNome() {
-					return reservaJpa.produto != null ? reservaJpa.produto.nome : "";
-				}
-
-				@Override
-				public int getQuantidade() {
-					return reservaJpa.quantidade;
-				}
-
-				@Override
-				public LocalDateTime getDataHoraReserva() {
-					return reservaJpa.dataHoraReserva;
-				}
-
-				@Override
-				public String getStatus() {
-					return reservaJpa.status;
-				}
-
-				@Override
-				public String getTipoLiberacao() {
-					return reservaJpa.tipoLiberacao;
-				}
-
-				@Override
-				public LocalDateTime getDataHoraLiberacao() {
-					return reservaJpa.dataHoraLiberacao;
-				}
-			});
+		var linhas = repositorio.pesquisarLinhas(busca);
+		var resumos = new ArrayList<ReservaResumo>(linhas.size());
+		for (var linha : linhas) {
+			resumos.add(criarResumo(linha.getId(), linha.getPedidoId(), linha.getProdutoId(), linha.getProdutoNome(),
+				linha.getQuantidade(), linha.getDataHoraReserva(), linha.getStatus(), linha.getTipoLiberacao(),
+				linha.getDataHoraLiberacao()));
 		}
 		return resumos;
 	}
 
-	@Override
-	public ReservaTotais obterTotais() {
-		var totalReservas = repositorio.contarTotal();
-		var reservasAtivas = repositorio.contarAtivas();
-		var reservasLiberadas = repositorio.contarLiberadas();
-		var quantidadeReservadaAtiva = repositorio.somarQuantidadeAtiva();
+	static ReservaResumo criarResumo(int id, Integer pedidoId, Integer produtoId, String produtoNome, int quantidade,
+			LocalDateTime dataHoraReserva, String status, String tipoLiberacao, LocalDateTime dataHoraLiberacao) {
+		return new ReservaResumo() {
+			@Override
+			public int getId() {
+				return id;
+			}
 
-		return new ReservaTotais() {
 			@Override
-			public int getTotalReservas() {
-				return (int) totalReservas;
+			public int getPedidoId() {
+				return pedidoId != null ? pedidoId : 0;
 			}
 
 			@Override
-			public int getReservasAtivas() {
-				return (int) reservasAtivas;
+			public String getPedidoCodigo() {
+				return pedidoId != null ? "PED" + String.format("%03d", pedidoId) : "";
 			}
 
 			@Override
-			public int getReservasLiberadas() {
-				return (int) reservasLiberadas;
+			public int getProdutoId() {
+				return produtoId != null ? produtoId : 0;
 			}
 
 			@Override
-			public int getQuantidadeReservadaAtiva() {
-				return (int) quantidadeReservadaAtiva;
+			public String getProdutoNome() {
+				return produtoNome != null ? produtoNome : "";
+			}
+
+			@Override
+			public int getQuantidade() {
+				return quantidade;
+			}
+
+			@Override
+			public LocalDateTime getDataHoraReserva() {
+				return dataHoraReserva;
+			}
+
+			@Override
+			public String getStatus() {
+				return status;
+			}
+
+			@Override
+			public String getTipoLiberacao() {
+				return tipoLiberacao;
+			}
+
+			@Override
+			public LocalDateTime getDataHoraLiberacao() {
+				return dataHoraLiberacao;
 			}
 		};
 	}
+
+	@Override
+	public ReservaTotais obterTotais() {
+		return repositorio.obterTotais();
+	}
 }
 
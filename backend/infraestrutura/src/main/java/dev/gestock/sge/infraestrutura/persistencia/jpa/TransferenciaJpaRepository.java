@@ -8,30 +8,59 @@ import dev.gestock.sge.aplicacao.transferencia.TransferenciaResumo;
 import dev.gestock.sge.aplicacao.transferencia.TransferenciaTotais;
 
 interface TransferenciaJpaRepository extends JpaRepository<TransferenciaJpa, Integer> {
+	/**
+	 * Projeta os resumos direto da consulta, com produto e estoques em junções,
+	 * sem carregar as transferências nem as movimentações associadas.
+	 */
 	@Query("""
-			SELECT t FROM TransferenciaJpa t
+			SELECT t.id AS id, t.dataHoraTransferencia AS dataHoraTransferencia,
+			       COALESCE(p.id, 0) AS produtoId, COALESCE(p.nome, '') AS produtoNome,
+			       t.quantidade AS quantidade,
+			       COALESCE(eo.id, 0) AS estoqueOrigemId, COALESCE(eo.nome, '') AS estoqueOrigemNome,
+			       COALESCE(ed.id, 0) AS estoqueDestinoId, COALESCE(ed.nome, '') AS estoqueDestinoNome,
+			       t.responsavel AS responsavel, t.motivo AS motivo
+			  FROM TransferenciaJpa t
+			  LEFT JOIN t.produto p
+			  LEFT JOIN t.estoqueOrigem eo
+			  LEFT JOIN t.estoqueDestino ed
 			 WHERE (:busca IS NULL OR :busca = '' OR 
-			        LOWER(t.produto.nome) LIKE LOWER(CONCAT('%', :busca, '%')) OR
-			        LOWER(t.estoqueOrigem.nome) LIKE LOWER(CONCAT('%', :busca, '%')) OR
-			        LOWER(t.estoqueDestino.nome) LIKE LOWER(CONCAT('%', :busca, '%')) OR
+			        LOWER(p.nome) LIKE LOWER(CONCAT('%', :busca, '%')) OR
+			        LOWER(eo.nome) LIKE LOWER(CONCAT('%', :busca, '%')) OR
+			        LOWER(ed.nome) LIKE LOWER(CONCAT('%', :busca, '%')) OR
 			        LOWER(t.responsavel) LIKE LOWER(CONCAT('%', :busca, '%')))
 			 ORDER BY t.dataHoraTransferencia DESC
 			""")
-	List<TransferenciaJpa> pesquisarResumosJpa(@Param("busca") String busca);
+	List<TransferenciaResumo> pesquisarResumos(@Param("busca") String busca);
 
+	/**
+	 * Resumo da transferência da movimentação de saída, na mesma projeção da pesquisa.
+	 */
 	@Query("""
-			SELECT COUNT(t) FROM TransferenciaJpa t
+			SELECT t.id AS id, t.dataHoraTransferencia AS dataHoraTransferencia,
+			       COALESCE(p.id, 0) AS produtoId, COALESCE(p.nome, '') AS produtoNome,
+			       t.quantidade AS quantidade,
+			       COALESCE(eo.id, 0) AS estoqueOrigemId, COALESCE(eo.nome, '') AS estoqueOrigemNome,
+			       COALESCE(ed.id, 0) AS estoqueDestinoId, COALESCE(ed.nome, '') AS estoqueDestinoNome,
+			       t.responsavel AS responsavel, t.motivo AS motivo
+			  FROM TransferenciaJpa t
+			  LEFT JOIN t.produto p
+			  LEFT JOIN t.estoqueOrigem eo
+			  LEFT JOIN t.estoqueDestino ed
+			 WHERE t.movimentacaoSaida.id = :movimentacaoSaidaId
 			""")
-	long contarTotal();
+	TransferenciaResumo obterResumoPorMovimentacaoSaida(@Param("movimentacaoSaidaId") int movimentacaoSaidaId);
 
-	@Query("""
-			SELECT COALESCE(SUM(t.quantidade), 0) FROM TransferenciaJpa t
-			""")
-	long somarUnidadesMovidas();
+	boolean existsByMovimentacaoSaidaId(int movimentacaoSaidaId);
 
+	/**
+	 * Totais em uma única consulta agregada sobre TRANSFERENCIA.
+	 */
 	@Query("""
-			SELECT COUNT(DISTINCT t.produto.id) FROM TransferenciaJpa t
+			SELECT COUNT(t) AS totalTransferencias,
+			       COALESCE(SUM(t.quantidade), 0) AS unidadesMovidas,
+			       COUNT(DISTINCT t.produto.id) AS produtosDistintos
+			  FROM TransferenciaJpa t
 			""")
-	long contarProdutosDistintos();
+	TransferenciaTotais obterTotais();
 }
 
@@ -0,0 +1,24 @@
+-- Consolidação diária das movimentações por estoque e produto
+-- Mantida junto com cada movimentação registrada/removida e usada no cálculo do ROP,
+-- evitando reler 90 dias de MOVIMENTACAO a cada consulta
+CREATE TABLE CONSUMO_DIARIO (
+    ESTOQUE_ID int not null,
+    PRODUTO_ID int not null,
+    DIA date not null,
+    SAIDA int not null default 0,
+    ENTRADA int not null default 0,
+    PRIMARY KEY (ESTOQUE_ID, PRODUTO_ID, DIA),
+    FOREIGN KEY (ESTOQUE_ID) REFERENCES ESTOQUE(ID),
+    FOREIGN KEY (PRODUTO_ID) REFERENCES PRODUTO(ID)
+);
+
+CREATE INDEX IDX_CONSUMO_DIARIO_DIA ON CONSUMO_DIARIO (DIA);
+
+-- Carga inicial a partir do histórico existente
+-- Para reconstruir depois em lotes: POST backend/ponto-ressuprimento/consumo/reconstruir
+INSERT INTO CONSUMO_DIARIO (ESTOQUE_ID, PRODUTO_ID, DIA, SAIDA, ENTRADA)
+SELECT ESTOQUE_ID, PRODUTO_ID, CAST(DATA_HORA AS date),
+    COALESCE(SUM(CASE WHEN TIPO = 'SAIDA' THEN QUANTIDADE END), 0),
+    COALESCE(SUM(CASE WHEN TIPO = 'ENTRADA' THEN QUANTIDADE END), 0)
+FROM MOVIMENTACAO
+GROUP BY ESTOQUE_ID, PRODUTO_ID, CAST(DATA_HORA AS date);
@@ -0,0 +1,4 @@
+-- Índices para a listagem paginada por cursor, ordenada por (DATA_HORA, ID) decrescente
+CREATE INDEX IDX_MOVIMENTACAO_DATA_HORA_ID ON MOVIMENTACAO (DATA_HORA DESC, ID DESC);
+
+CREATE INDEX IDX_MOVIMENTACAO_ESTOQUE_PRODUTO_DATA_HORA_ID ON MOVIMENTACAO (ESTOQUE_ID, PRODUTO_ID, DATA_HORA DESC, ID DESC);
@@ -0,0 +1,5 @@
+-- Permite que a aplicação reserve IDs de MOVIMENTACAO em blocos de 50 pela sequência da
+-- coluna identity, para que inserções em lote usem JDBC batching (IDENTITY o impede).
+-- Inserções sem ID continuam recebendo o próximo valor da sequência.
+ALTER TABLE MOVIMENTACAO ALTER COLUMN ID SET GENERATED BY DEFAULT;
+ALTER TABLE MOVIMENTACAO ALTER COLUMN ID SET INCREMENT BY 50;
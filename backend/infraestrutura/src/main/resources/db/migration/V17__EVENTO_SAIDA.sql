@@ -0,0 +1,17 @@
+-- Fila de saída (outbox) dos eventos de domínio
+-- Gravada na mesma transação do agregado e drenada pelo relay para os observadores
+CREATE TABLE EVENTO_SAIDA (
+    ID bigint generated always as identity not null,
+    TIPO varchar not null,
+    AGREGADO_ID int not null,
+    CHAVE varchar not null,
+    CRIADO_EM timestamp not null,
+    PROXIMA_TENTATIVA timestamp not null,
+    TENTATIVAS int not null default 0,
+    ULTIMO_ERRO varchar,
+    PROCESSADO_EM timestamp,
+    PRIMARY KEY (ID),
+    UNIQUE (CHAVE)
+);
+
+CREATE INDEX IDX_EVENTO_SAIDA_PENDENTE ON EVENTO_SAIDA (ID) WHERE PROCESSADO_EM IS NULL;
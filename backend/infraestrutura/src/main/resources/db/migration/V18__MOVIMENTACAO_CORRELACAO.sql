@@ -0,0 +1,9 @@
+-- Identificador compartilhado pela saída e pela entrada de uma transferência
+ALTER TABLE MOVIMENTACAO ADD COLUMN CORRELACAO varchar;
+
+CREATE UNIQUE INDEX IDX_MOVIMENTACAO_CORRELACAO_TIPO ON MOVIMENTACAO (CORRELACAO, TIPO) WHERE CORRELACAO IS NOT NULL;
+
+-- Busca da saída correspondente para movimentações sem correlação
+CREATE INDEX IDX_MOVIMENTACAO_TRANSFERENCIA ON MOVIMENTACAO (PRODUTO_ID, QUANTIDADE, RESPONSAVEL, TIPO, DATA_HORA DESC);
+
+CREATE INDEX IDX_TRANSFERENCIA_MOVIMENTACAO_SAIDA ON TRANSFERENCIA (MOVIMENTACAO_SAIDA_ID);
@@ -0,0 +1,8 @@
+-- Último par concluído por uma sincronização em lotes; a linha só existe enquanto a sincronização não termina
+CREATE TABLE SINCRONIZACAO_CHECKPOINT (
+    NOME varchar not null,
+    ESTOQUE_ID int not null,
+    PRODUTO_ID int not null,
+    ATUALIZADO_EM timestamp not null,
+    PRIMARY KEY (NOME)
+);
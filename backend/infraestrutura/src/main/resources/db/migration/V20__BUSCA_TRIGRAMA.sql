@@ -0,0 +1,11 @@
+-- Índices de trigramas: atendem LIKE '%termo%' e a busca aproximada (operador <%) sem varrer as tabelas
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IDX_PRODUTO_NOME_TRGM ON PRODUTO USING gin (LOWER(NOME) gin_trgm_ops);
+CREATE INDEX IDX_PRODUTO_CODIGO_TRGM ON PRODUTO USING gin (CODIGO gin_trgm_ops);
+
+CREATE INDEX IDX_FORNECEDOR_NOME_TRGM ON FORNECEDOR USING gin (LOWER(NOME) gin_trgm_ops);
+CREATE INDEX IDX_FORNECEDOR_CNPJ_TRGM ON FORNECEDOR USING gin (CNPJ gin_trgm_ops);
+
+CREATE INDEX IDX_ESTOQUE_NOME_TRGM ON ESTOQUE USING gin (LOWER(NOME) gin_trgm_ops);
+CREATE INDEX IDX_ESTOQUE_ENDERECO_TRGM ON ESTOQUE USING gin (LOWER(ENDERECO) gin_trgm_ops);
@@ -0,0 +1,20 @@
+-- Contagem diária de movimentações por tipo, mantida junto com cada movimentação registrada/removida
+-- Os totais do painel somam no máximo FAIXAS linhas por dia em vez de contar MOVIMENTACAO.
+-- Cada dia é dividido em faixas (derivadas do par estoque-produto) para que movimentações
+-- concorrentes de pares diferentes não disputem a mesma linha.
+CREATE TABLE MOVIMENTACAO_CONTAGEM (
+    DIA date not null,
+    FAIXA smallint not null,
+    ENTRADAS bigint not null default 0,
+    SAIDAS bigint not null default 0,
+    PRIMARY KEY (DIA, FAIXA)
+);
+
+-- Carga inicial a partir do histórico existente
+-- Para reconstruir depois: POST backend/ponto-ressuprimento/consumo/reconstruir
+INSERT INTO MOVIMENTACAO_CONTAGEM (DIA, FAIXA, ENTRADAS, SAIDAS)
+SELECT CAST(DATA_HORA AS date), (ESTOQUE_ID::bigint * 31 + PRODUTO_ID) % 16,
+    COUNT(*) FILTER (WHERE TIPO = 'ENTRADA'),
+    COUNT(*) FILTER (WHERE TIPO = 'SAIDA')
+FROM MOVIMENTACAO
+GROUP BY 1, 2;
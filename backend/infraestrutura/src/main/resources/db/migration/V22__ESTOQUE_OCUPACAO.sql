@@ -0,0 +1,17 @@
+-- Ocupação de cada estoque (soma de ESTOQUE_PRODUTO.QUANTIDADE), mantida junto com cada movimentação
+-- O estoque é dividido em faixas de produto para que movimentações concorrentes no mesmo estoque
+-- raramente disputem a mesma linha; a ocupação é a soma das faixas.
+CREATE TABLE ESTOQUE_OCUPACAO (
+    ESTOQUE_ID int not null,
+    FAIXA smallint not null,
+    QUANTIDADE bigint not null default 0,
+    PRIMARY KEY (ESTOQUE_ID, FAIXA),
+    FOREIGN KEY (ESTOQUE_ID) REFERENCES ESTOQUE(ID) ON DELETE CASCADE
+);
+
+-- Carga inicial a partir dos saldos existentes
+-- Para conferir e corrigir depois: POST backend/estoque/ocupacao/reconciliar
+INSERT INTO ESTOQUE_OCUPACAO (ESTOQUE_ID, FAIXA, QUANTIDADE)
+SELECT ESTOQUE_ID, PRODUTO_ID % 16, SUM(QUANTIDADE)
+FROM ESTOQUE_PRODUTO
+GROUP BY 1, 2;
@@ -0,0 +1,3 @@
+-- Conteúdo do evento no momento em que foi postado, em JSON
+-- Registros anteriores, sem conteúdo, continuam sendo entregues a partir do agregado atual
+ALTER TABLE EVENTO_SAIDA ADD COLUMN PAYLOAD text;
@@ -0,0 +1,17 @@
+-- Área de trabalho da reconstrução de CONSUMO_DIARIO e MOVIMENTACAO_CONTAGEM
+-- Recebe, em lotes, a diferença entre o histórico e a consolidação mantida; só a diferença
+-- final é aplicada às tabelas em uso. Sem chave nem log: o conteúdo é descartável.
+CREATE UNLOGGED TABLE CONSUMO_DIARIO_RECONSTRUCAO (
+    ESTOQUE_ID int not null,
+    PRODUTO_ID int not null,
+    DIA date not null,
+    SAIDA bigint not null,
+    ENTRADA bigint not null
+);
+
+CREATE UNLOGGED TABLE MOVIMENTACAO_CONTAGEM_RECONSTRUCAO (
+    DIA date not null,
+    FAIXA smallint not null,
+    ENTRADAS bigint not null,
+    SAIDAS bigint not null
+);
@@ -0,0 +1,232 @@
+package dev.gestock.sge.infraestrutura.evento;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.gestock.sge.dominio.estoque.EstoqueId;
+import dev.gestock.sge.dominio.evento.EventoObservador;
+import dev.gestock.sge.dominio.movimentacao.Motivo;
+import dev.gestock.sge.dominio.movimentacao.Movimentacao;
+import dev.gestock.sge.dominio.movimentacao.Movimentacao.MovimentacaoCriadaEvento;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoId;
+import dev.gestock.sge.dominio.movimentacao.MovimentacaoRepositorio;
+import dev.gestock.sge.dominio.movimentacao.Responsavel;
+import dev.gestock.sge.dominio.movimentacao.TipoMovimentacao;
+import dev.gestock.sge.dominio.pedido.PedidoRepositorio;
+import dev.gestock.sge.dominio.produto.ProdutoId;
+import dev.gestock.sge.dominio.produto.Quantidade;
+
+/**
+ * Fila de saída e relay contra o PostgreSQL do docker-compose, no banco sge_teste (criado se não
+ * existir). Ignorado quando o servidor não responde.
+ */
+@EnabledIf("servidorDisponivel")
+@SpringBootTest(classes = EventoSaidaRelayTest.Configuracao.class, properties = "sge.eventos.saida.intervalo=60000")
+class EventoSaidaRelayTest {
+	private static final String SERVIDOR = "jdbc:postgresql://localhost:5434/";
+	private static final String BANCO = "sge_teste";
+	private static final String USUARIO = "sge";
+	private static final String SENHA = "sge";
+
+	@Autowired
+	EventoBarramentoImpl barramento;
+
+	@Autowired
+	EventoSaidaRelay relay;
+
+	@Autowired
+	EventoSaidaRepositorio repositorio;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	Observador observador;
+
+	@MockitoBean
+	PedidoRepositorio pedidoRepositorio;
+
+	@MockitoBean
+	MovimentacaoRepositorio movimentacaoRepositorio;
+
+	static boolean servidorDisponivel() {
+		try (var conexao = DriverManager.getConnection(SERVIDOR + "postgres", USUARIO, SENHA)) {
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	@DynamicPropertySource
+	static void configurarBanco(DynamicPropertyRegistry propriedades) throws SQLException {
+		try (var conexao = DriverManager.getConnection(SERVIDOR + "postgres", USUARIO, SENHA);
+				var consulta = conexao.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+			consulta.setString(1, BANCO);
+			try (var resultado = consulta.executeQuery()) {
+				if (!resultado.next()) {
+					try (var comando = conexao.createStatement()) {
+						comando.execute("CREATE DATABASE " + BANCO);
+					}
+				}
+			}
+		}
+		propriedades.add("spring.datasource.url", () -> SERVIDOR + BANCO);
+		propriedades.add("spring.datasource.username", () -> USUARIO);
+		propriedades.add("spring.datasource.password", () -> SENHA);
+	}
+
+	@BeforeEach
+	void preparar() {
+		// Os lotes são drenados pelo teste, não pela thread do relay
+		relay.stop();
+		jdbcTemplate.update("DELETE FROM EVENTO_SAIDA");
+		observador.recebidos.clear();
+		observador.falhar.clear();
+	}
+
+	@Test
+	void entregaOsEventosEmOrdemDeRegistroComOConteudoGravado() {
+		postar(3, 1, 2);
+
+		assertThat(relay.drenar()).isEqualTo(3);
+
+		assertThat(observador.recebidos).containsExactly(3, 1, 2);
+		assertThat(repositorio.contarPendentes()).isZero();
+		// O conteúdo gravado basta: o agregado não é recarregado
+		assertThat(jdbcTemplate.queryForList("SELECT PAYLOAD FROM EVENTO_SAIDA ORDER BY ID", String.class))
+			.allSatisfy(conteudo -> assertThat(conteudo).contains("\"responsavel\":\"Relay\""));
+	}
+
+	@Test
+	void adiaOEventoQueFalhaEEntregaOsDemais() {
+		postar(1, 2, 3);
+		observador.falhar.add(2);
+
+		assertThat(relay.drenar()).isEqualTo(2);
+
+		assertThat(processados()).containsExactly(1, 3);
+		var falha = jdbcTemplate.queryForMap("SELECT TENTATIVAS, ULTIMO_ERRO, PROXIMA_TENTATIVA FROM EVENTO_SAIDA WHERE AGREGADO_ID = 2");
+		assertThat(falha.get("TENTATIVAS")).isEqualTo(1);
+		assertThat((String) falha.get("ULTIMO_ERRO")).contains("falha simulada");
+		assertThat(((Timestamp) falha.get("PROXIMA_TENTATIVA")).toLocalDateTime()).isAfter(LocalDateTime.now());
+
+		// Antes do prazo o evento não é retomado; depois dele, é entregue
+		observador.falhar.clear();
+		assertThat(relay.drenar()).isZero();
+		jdbcTemplate.update("UPDATE EVENTO_SAIDA SET PROXIMA_TENTATIVA = PROXIMA_TENTATIVA - INTERVAL '1 hour' WHERE AGREGADO_ID = 2");
+		assertThat(relay.drenar()).isEqualTo(1);
+		assertThat(processados()).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void ignoraEventosBloqueadosPorOutroRelay() throws SQLException {
+		postar(1, 2, 3);
+
+		try (var outroRelay = dataSource.getConnection()) {
+			outroRelay.setAutoCommit(false);
+			try (var bloqueio = outroRelay.prepareStatement("SELECT ID FROM EVENTO_SAIDA WHERE AGREGADO_ID = 1 FOR UPDATE")) {
+				bloqueio.executeQuery().close();
+			}
+
+			assertThat(relay.drenar()).isEqualTo(2);
+			assertThat(observador.recebidos).containsExactly(2, 3);
+			outroRelay.rollback();
+		}
+
+		assertThat(relay.drenar()).isEqualTo(1);
+		assertThat(observador.recebidos).containsExactly(2, 3, 1);
+	}
+
+	@Test
+	void registraCadaChaveUmaUnicaVez() {
+		postar(1);
+		postar(1);
+
+		assertThat(repositorio.contarPendentes()).isEqualTo(1);
+	}
+
+	private void postar(int... movimentacaoIds) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			var pendentes = repositorio.contarPendentes();
+			for (var id : movimentacaoIds) {
+				var movimentacao = new Movimentacao(new MovimentacaoId(id), LocalDateTime.now(), new ProdutoId(1),
+					new EstoqueId(1), new Quantidade(5), TipoMovimentacao.ENTRADA, new Motivo("Teste"), new Responsavel("Relay"));
+				barramento.postar(movimentacao.criarEvento());
+			}
+			// Os eventos só são gravados no commit
+			assertThat(repositorio.contarPendentes()).isEqualTo(pendentes);
+		});
+	}
+
+	private List<Integer> processados() {
+		return jdbcTemplate.queryForList("SELECT AGREGADO_ID FROM EVENTO_SAIDA WHERE PROCESSADO_EM IS NOT NULL ORDER BY AGREGADO_ID",
+			Integer.class);
+	}
+
+	static class Observador implements EventoObservador<MovimentacaoCriadaEvento> {
+		final List<Integer> recebidos = new CopyOnWriteArrayList<>();
+		final Set<Integer> falhar = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public void observarEvento(MovimentacaoCriadaEvento evento) {
+			var id = evento.getMovimentacao().getId().getId();
+			if (falhar.contains(id)) {
+				throw new IllegalStateException("falha simulada " + id);
+			}
+			recebidos.add(id);
+		}
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	@EntityScan(basePackages = "dev.gestock.sge.infraestrutura.persistencia.jpa")
+	@EnableJpaRepositories(basePackages = "dev.gestock.sge.infraestrutura.persistencia.jpa",
+		includeFilters = @Filter(type = FilterType.REGEX, pattern = ".*\\.EventoSaidaJpaRepository"))
+	@ComponentScan(basePackages = "dev.gestock.sge.infraestrutura.persistencia.jpa", useDefaultFilters = false,
+		includeFilters = @Filter(type = FilterType.REGEX, pattern = ".*\\.EventoSaidaRepositorioImpl"))
+	@Import({ EventoBarramentoImpl.class, EventoSaidaRelay.class, EventoSaidaConversor.class })
+	static class Configuracao {
+		@Bean
+		Observador observador(EventoBarramentoImpl barramento) {
+			var observador = new Observador();
+			barramento.adicionar(observador);
+			return observador;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package dev.gestock.sge.infraestrutura.medicao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Contagem de comandos pelo DataSource envolvido por {@link MedicaoJdbc}, sobre objetos JDBC falsos
+ * que não vão ao banco.
+ */
+class OrcamentoConsultasTest {
+	private final DataSource dataSource = (DataSource) new MedicaoJdbc()
+		.postProcessAfterInitialization(falso(DataSource.class), "dataSource");
+
+	@AfterEach
+	void verificarEncerramento() {
+		assertThat(Medicao.atual()).isNull();
+	}
+
+	@Test
+	void contaCadaExecucaoEApontaOComandoMaisRepetido() throws Exception {
+		var medicao = OrcamentoConsultas.noMaximo(4, () -> {
+			try (var conexao = dataSource.getConnection()) {
+				executarPorItem(conexao, 3);
+				conexao.createStatement().execute("SELECT COUNT(*) FROM ESTOQUE");
+			}
+		});
+
+		assertThat(medicao.getComandos()).isEqualTo(4);
+		assertThat(medicao.getMaiorRepeticao()).isEqualTo(3);
+		assertThat(medicao.getComandoMaisRepetido()).isEqualTo("SELECT * FROM PRODUTO WHERE ID = ?");
+	}
+
+	@Test
+	void contaUmBatchComoUmComando() throws Exception {
+		var medicao = OrcamentoConsultas.medir(() -> {
+			try (var conexao = dataSource.getConnection();
+					var comando = conexao.prepareStatement("INSERT INTO RESERVA (PEDIDO_ID) VALUES (?)")) {
+				for (int i = 0; i < 3; i++) {
+					comando.setInt(1, i);
+					comando.addBatch();
+				}
+				comando.executeBatch();
+			}
+		});
+
+		assertThat(medicao.getComandos()).isEqualTo(1);
+	}
+
+	@Test
+	void falhaQuandoPassaDoOrcamento() {
+		assertThatThrownBy(() -> OrcamentoConsultas.noMaximo(2, () -> {
+			try (var conexao = dataSource.getConnection()) {
+				executarPorItem(conexao, 3);
+			}
+		}))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("3 comandos SQL, máximo 2")
+			.hasMessageContaining("executado 3 vezes: SELECT * FROM PRODUTO WHERE ID = ?");
+	}
+
+	@Test
+	void naoContaForaDaMedicao() throws Exception {
+		try (var conexao = dataSource.getConnection()) {
+			executarPorItem(conexao, 2);
+		}
+
+		var medicao = OrcamentoConsultas.medir(() -> {
+		});
+
+		assertThat(medicao.getComandos()).isZero();
+	}
+
+	private static void executarPorItem(Connection conexao, int itens) throws SQLException {
+		for (int i = 0; i < itens; i++) {
+			try (var comando = conexao.prepareStatement("SELECT * FROM PRODUTO WHERE ID = ?")) {
+				comando.setInt(1, i);
+				comando.executeQuery();
+			}
+		}
+	}
+
+	/**
+	 * Objeto JDBC que não faz nada: conexões e comandos criados também são falsos.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T falso(Class<T> tipo) {
+		return (T) Proxy.newProxyInstance(OrcamentoConsultasTest.class.getClassLoader(), new Class<?>[] { tipo },
+			(proxy, metodo, argumentos) -> {
+				var retorno = metodo.getReturnType();
+				if (retorno == Connection.class || retorno == Statement.class || retorno == PreparedStatement.class) {
+					return falso(retorno);
+				} else if (retorno == boolean.class) {
+					return false;
+				} else if (retorno == int.class) {
+					return 0;
+				} else if (retorno == long.class) {
+					return 0L;
+				} else if (retorno == int[].class) {
+					return new int[0];
+				}
+				return null;
+			});
+	}
+}
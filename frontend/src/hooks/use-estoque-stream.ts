@@ -0,0 +1,63 @@
+import * as React from "react";
+import { streamService } from "@/services/stream";
+import type { EstoqueMudanca } from "@/types/entities";
+
+const ESPERA_RECONEXAO = 5000;
+
+interface EstoqueStreamHandlers {
+  // Chamado a cada (re)conexão: mudanças perdidas enquanto desconectado exigem recarregar a lista
+  onConectado?: () => void;
+  onMudancas: (mudancas: EstoqueMudanca[]) => void;
+}
+
+/**
+ * Mantém uma conexão com o stream de mudanças de estoque enquanto o componente está montado.
+ * @returns se o stream está conectado; enquanto não estiver, a página pode consultar o servidor
+ */
+export function useEstoqueStream(handlers: EstoqueStreamHandlers) {
+  const [conectado, setConectado] = React.useState(false);
+  const handlersRef = React.useRef(handlers);
+  handlersRef.current = handlers;
+
+  React.useEffect(() => {
+    let ativo = true;
+    let fonte: EventSource | null = null;
+    let reconexao: ReturnType<typeof setTimeout> | undefined;
+
+    const agendar = () => {
+      setConectado(false);
+      if (ativo) {
+        reconexao = setTimeout(abrir, ESPERA_RECONEXAO);
+      }
+    };
+
+    const abrir = async () => {
+      try {
+        const aberta = await streamService.conectar({
+          onConectado: () => {
+            setConectado(true);
+            handlersRef.current.onConectado?.();
+          },
+          onMudancas: (mudancas) => handlersRef.current.onMudancas(mudancas),
+          onErro: agendar,
+        });
+        if (ativo) {
+          fonte = aberta;
+        } else {
+          aberta.close();
+        }
+      } catch {
+        agendar();
+      }
+    };
+
+    abrir();
+    return () => {
+      ativo = false;
+      clearTimeout(reconexao);
+      fonte?.close();
+    };
+  }, []);
+
+  return conectado;
+}
@@ -1,10 +1,11 @@
-import { useState, useEffect } from "react";
+import { useState, useEffect, useRef } from "react";
 import { PageHeader } from "@/components/layout/PageHeader";
 import { DataTable } from "@/components/shared/DataTable";
 import { Badge } from "@/components/ui/badge";
 import { Bell, AlertTriangle, AlertCircle, Info, Loader2 } from "lucide-react";
 import { StatCard } from "@/components/shared/StatCard";
 import { toast } from "@/hooks/use-toast";
+import { useEstoqueStream } from "@/hooks/use-estoque-stream";
 import { alertasService } from "@/services/alertas";
 import type { Alerta, AlertaTotais, NivelAlerta } from "@/types/entities";
 
@@ -19,14 +20,19 @@ export default function Alertas() {
   const [totais, setTotais] = useState<AlertaTotais | null>(null);
   const [loading, setLoading] = useState(true);
   const [filter, setFilter] = useState("all");
+  const versaoRef = useRef<string | null>(null);
+  const verificacaoRef = useRef<Promise<void> | null>(null);
+  const pendenteRef = useRef(false);
 
-  const carregarDados = async () => {
+  const carregarDados = async (mostrarCarregando = true) => {
     try {
-      setLoading(true);
-      const [alertas, totaisData] = await Promise.all([
+      if (mostrarCarregando) setLoading(true);
+      const [alertas, totaisData, versaoData] = await Promise.all([
         alertasService.pesquisar(),
         alertasService.obterTotais(),
+        alertasService.obterVersao(),
       ]);
+      versaoRef.current = versaoData?.versao ?? null;
       setData(alertas || []);
       setTotais(totaisData);
     } catch (error: any) {
@@ -36,10 +42,48 @@ export default function Alertas() {
     }
   };
 
+  // Consulta apenas a versão e recarrega a lista quando ela muda; uma verificação por vez
+  const verificarVersao = () => {
+    if (versaoRef.current === null) return;
+    if (verificacaoRef.current) {
+      pendenteRef.current = true;
+      return;
+    }
+    verificacaoRef.current = (async () => {
+      try {
+        const { versao } = await alertasService.obterVersao();
+        if (versao !== versaoRef.current) {
+          await carregarDados(false);
+        }
+      } catch {
+        // Mantém os dados atuais; a próxima verificação tenta novamente
+      } finally {
+        verificacaoRef.current = null;
+        if (pendenteRef.current) {
+          pendenteRef.current = false;
+          verificarVersao();
+        }
+      }
+    })();
+  };
+
+  // Cada lote de mudanças pode ter alterado o nível de algum par
+  const conectado = useEstoqueStream({
+    onConectado: verificarVersao,
+    onMudancas: verificarVersao,
+  });
+
   useEffect(() => {
     carregarDados();
   }, []);
 
+  // Sem o stream, volta a consultar a versão periodicamente
+  useEffect(() => {
+    if (conectado) return;
+    const intervalo = setInterval(verificarVersao, 30000);
+    return () => clearInterval(intervalo);
+  }, [conectado]);
+
   const filteredData = data.filter((alert) => {
     return filter === "all" || 
       (filter === "critical" && alert.nivel === "CRITICO") ||
@@ -91,8 +91,8 @@ export default function Cotacoes() {
       toast({
         title: result.mensagem,
         description:
-          result.cotacoesCriadas > 0
-            ? `${result.cotacoesCriadas} cotação(ões) criada(s)`
+          result.cotacoesCriadas + result.cotacoesAtualizadas > 0
+            ? `${result.cotacoesCriadas} cotação(ões) criada(s), ${result.cotacoesAtualizadas} atualizada(s)`
             : undefined,
       });
       carregarDados();
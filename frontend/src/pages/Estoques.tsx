@@ -1,4 +1,4 @@
-import { useState, useEffect } from "react";
+import { useState, useEffect, useRef } from "react";
 import { PageHeader } from "@/components/layout/PageHeader";
 import { DataTable } from "@/components/shared/DataTable";
 import { Badge } from "@/components/ui/badge";
@@ -22,10 +22,11 @@ import {
   SelectValue,
 } from "@/components/ui/select";
 import { toast } from "@/hooks/use-toast";
+import { useEstoqueStream } from "@/hooks/use-estoque-stream";
 import { Progress } from "@/components/ui/progress";
 import { Link } from "react-router-dom";
 import { estoquesService } from "@/services/estoques";
-import type { Estoque, Status } from "@/types/entities";
+import type { Estoque, EstoqueMudanca, Status } from "@/types/entities";
 
 export default function Estoques() {
   const [data, setData] = useState<Estoque[]>([]);
@@ -42,9 +43,11 @@ export default function Estoques() {
     status: "ATIVO" as Status,
   });
 
-  const carregarDados = async () => {
+  const recargaRef = useRef<ReturnType<typeof setTimeout>>();
+
+  const carregarDados = async (mostrarCarregando = true) => {
     try {
-      setLoading(true);
+      if (mostrarCarregando) setLoading(true);
       const estoques = await estoquesService.pesquisar();
       setData(estoques || []);
     } catch (error: any) {
@@ -54,8 +57,22 @@ export default function Estoques() {
     }
   };
 
+  // As mudanças trazem o saldo do par, não o do estoque: a ocupação é recarregada, uma vez por
+  // rajada de lotes
+  const recarregarEstoques = (mudancas: EstoqueMudanca[]) => {
+    if (!mudancas.some((mudanca) => data.some((stock) => stock.id === mudanca.estoqueId))) return;
+    clearTimeout(recargaRef.current);
+    recargaRef.current = setTimeout(() => carregarDados(false), 1000);
+  };
+
+  useEstoqueStream({
+    onConectado: () => carregarDados(false),
+    onMudancas: recarregarEstoques,
+  });
+
   useEffect(() => {
     carregarDados();
+    return () => clearTimeout(recargaRef.current);
   }, []);
 
   const filteredData = data.filter((stock) => {
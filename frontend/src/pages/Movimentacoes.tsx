@@ -40,11 +40,15 @@ import {
 } from "@/components/ui/select";
 import { Textarea } from "@/components/ui/textarea";
 
+const TAMANHO_PAGINA = 50;
+
 export default function Movimentacoes() {
   const [data, setData] = useState<Movimentacao[]>([]);
   const [totais, setTotais] = useState<MovimentacaoTotais | null>(null);
   const [loading, setLoading] = useState(true);
   const [filter, setFilter] = useState("all");
+  const [proximoCursor, setProximoCursor] = useState<string | null>(null);
+  const [carregandoMais, setCarregandoMais] = useState(false);
 
   // Modal state
   const [isDialogOpen, setIsDialogOpen] = useState(false);
@@ -60,14 +64,18 @@ export default function Movimentacoes() {
     responsavel: "",
   });
 
+  const tipoFiltro = (): TipoMovimentacao | undefined =>
+    filter === "entrada" ? "ENTRADA" : filter === "saida" ? "SAIDA" : undefined;
+
   const carregarDados = async () => {
     try {
       setLoading(true);
-      const [movimentacoes, totaisData] = await Promise.all([
-        movimentacoesService.pesquisar(),
+      const [pagina, totaisData] = await Promise.all([
+        movimentacoesService.pesquisarPagina({ tipo: tipoFiltro(), limite: TAMANHO_PAGINA }),
         movimentacoesService.obterTotais(),
       ]);
-      setData(movimentacoes || []);
+      setData(pagina?.itens || []);
+      setProximoCursor(pagina?.proximoCursor ?? null);
       setTotais(totaisData);
     } catch (error: any) {
       toast({
@@ -80,6 +88,28 @@ export default function Movimentacoes() {
     }
   };
 
+  const carregarMais = async () => {
+    if (!proximoCursor) return;
+    try {
+      setCarregandoMais(true);
+      const pagina = await movimentacoesService.pesquisarPagina({
+        tipo: tipoFiltro(),
+        cursor: proximoCursor,
+        limite: TAMANHO_PAGINA,
+      });
+      setData((atual) => [...atual, ...(pagina?.itens || [])]);
+      setProximoCursor(pagina?.proximoCursor ?? null);
+    } catch (error: any) {
+      toast({
+        title: "Erro ao carregar dados",
+        description: error.message,
+        variant: "destructive",
+      });
+    } finally {
+      setCarregandoMais(false);
+    }
+  };
+
   const carregarDadosModal = async () => {
     try {
       const [produtosData, estoquesData] = await Promise.all([
@@ -99,7 +129,7 @@ export default function Movimentacoes() {
 
   useEffect(() => {
     carregarDados();
-  }, []);
+  }, [filter]);
 
   const handleOpenDialog = () => {
     setFormData({
@@ -159,14 +189,6 @@ export default function Movimentacoes() {
     }
   };
 
-  const filteredData = data.filter((movement) => {
-    return (
-      filter === "all" ||
-      (filter === "entrada" && movement.tipo === "ENTRADA") ||
-      (filter === "saida" && movement.tipo === "SAIDA")
-    );
-  });
-
   const columns = [
     {
       key: "dataHora",
@@ -261,7 +283,7 @@ export default function Movimentacoes() {
       </div>
 
       <DataTable
-        data={filteredData}
+        data={data}
         columns={columns}
         filterOptions={[
           { value: "all", label: "Histórico" },
@@ -273,6 +295,15 @@ export default function Movimentacoes() {
         filterLabel="Tipo"
       />
 
+      {proximoCursor && (
+        <div className="flex justify-center">
+          <Button variant="outline" onClick={carregarMais} disabled={carregandoMais}>
+            {carregandoMais && <Loader2 className="mr-2 h-4 w-4 animate-spin" />}
+            Carregar mais
+          </Button>
+        </div>
+      )}
+
       {/* Modal de Nova Movimentação */}
       <Dialog open={isDialogOpen} onOpenChange={setIsDialogOpen}>
         <DialogContent className="sm:max-w-[500px]">
@@ -7,8 +7,9 @@ import { StatCard } from "@/components/shared/StatCard";
 import { TrendingUp, CheckCircle, AlertTriangle, Calculator, Loader2, RefreshCw, PackageX } from "lucide-react";
 import { Progress } from "@/components/ui/progress";
 import { toast } from "@/hooks/use-toast";
+import { useEstoqueStream } from "@/hooks/use-estoque-stream";
 import { ropService } from "@/services/rop";
-import type { PontoRessuprimento, PontoRessuprimentoTotais } from "@/types/entities";
+import type { EstoqueMudanca, PontoRessuprimento, PontoRessuprimentoTotais } from "@/types/entities";
 
 export default function Ressuprimento() {
   const [data, setData] = useState<PontoRessuprimento[]>([]);
@@ -18,9 +19,9 @@ export default function Ressuprimento() {
   const [filter, setFilter] = useState("all");
   const [search, setSearch] = useState("");
 
-  const carregarDados = async () => {
+  const carregarDados = async (mostrarCarregando = true) => {
     try {
-      setLoading(true);
+      if (mostrarCarregando) setLoading(true);
       const [pontosData, totaisData] = await Promise.all([
         ropService.pesquisar(),
         ropService.obterTotais(),
@@ -52,6 +53,45 @@ export default function Ressuprimento() {
     }
   };
 
+  // Aplica saldo, ROP e situação recebidos pelo stream nas linhas já carregadas
+  const aplicarMudancas = (mudancas: EstoqueMudanca[]) => {
+    const chave = (par: { estoqueId: number; produtoId: number }) => `${par.estoqueId}:${par.produtoId}`;
+    const porPar = new Map<string, EstoqueMudanca>();
+    for (const mudanca of mudancas) {
+      // Pares sem ponto de ressuprimento não aparecem nesta lista
+      if (mudanca.ropCalculado !== null && mudanca.status !== null) {
+        porPar.set(chave(mudanca), mudanca);
+      }
+    }
+    if (porPar.size === 0) return;
+
+    setData((atuais) => atuais.map((ponto) => {
+      const mudanca = porPar.get(chave(ponto));
+      return mudanca ? {
+        ...ponto,
+        saldoAtual: mudanca.saldoAtual,
+        ropCalculado: mudanca.ropCalculado as number,
+        status: mudanca.status as PontoRessuprimento["status"],
+      } : ponto;
+    }));
+
+    // Os totais só mudam quando algum par muda de situação
+    if (data.some((ponto) => {
+      const mudanca = porPar.get(chave(ponto));
+      return mudanca !== undefined && mudanca.status !== ponto.status;
+    })) {
+      ropService.obterTotais().then(setTotais).catch(() => {
+        // Mantém os totais atuais; a próxima mudança ou recarga os corrige
+      });
+    }
+  };
+
+  useEstoqueStream({
+    // Ao reconectar, mudanças perdidas só chegam recarregando a lista
+    onConectado: () => carregarDados(false),
+    onMudancas: aplicarMudancas,
+  });
+
   useEffect(() => {
     carregarDados();
   }, []);
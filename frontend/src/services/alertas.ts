@@ -11,6 +11,10 @@ export const alertasService = {
 
   obterTotais: () =>
     api.get<AlertaTotais>('/alerta/totais'),
+
+  // Versão dos alertas no servidor; muda apenas quando algum alerta muda
+  obterVersao: () =>
+    api.get<{ versao: string }>('/alerta/versao'),
 };
 
 export default alertasService;
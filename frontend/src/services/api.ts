@@ -1,4 +1,4 @@
-const API_BASE_URL = 'http://localhost:8080/backend';
+export const API_BASE_URL = 'http://localhost:8080/backend';
 
 interface RequestOptions extends RequestInit {
   params?: Record<string, string | number | undefined>;
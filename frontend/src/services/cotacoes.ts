@@ -24,7 +24,7 @@ export const cotacoesService = {
     api.post<void>(`/cotacao/${id}/desaprovar`),
 
   sincronizar: () =>
-    api.post<{ cotacoesCriadas: number; mensagem: string }>('/cotacao/sincronizar'),
+    api.post<{ cotacoesCriadas: number; cotacoesAtualizadas: number; duracaoMilissegundos: number; mensagem: string }>('/cotacao/sincronizar'),
 };
 
 export default cotacoesService;
@@ -10,4 +10,4 @@ export { alertasService } from './alertas';
 export { pedidosService } from './pedidos';
 export { reservasService } from './reservas';
 export { transferenciasService } from './transferencias';
-
+export { streamService } from './stream';
@@ -7,10 +7,28 @@ export interface MovimentacaoPesquisaParams {
   dataFim?: string;
 }
 
+export interface MovimentacaoPaginaParams {
+  tipo?: TipoMovimentacao;
+  estoqueId?: number;
+  produtoId?: number;
+  dataInicio?: string;
+  dataFim?: string;
+  cursor?: string;
+  limite?: number;
+}
+
+export interface MovimentacaoPagina {
+  itens: Movimentacao[];
+  proximoCursor: string | null;
+}
+
 export const movimentacoesService = {
   pesquisar: (params?: MovimentacaoPesquisaParams) =>
     api.get<Movimentacao[]>('/movimentacao/pesquisa', params),
 
+  pesquisarPagina: (params?: MovimentacaoPaginaParams) =>
+    api.get<MovimentacaoPagina>('/movimentacao/pagina', params),
+
   obterTotais: (params?: { dataInicio?: string; dataFim?: string }) =>
     api.get<MovimentacaoTotais>('/movimentacao/totais', params),
 
@@ -0,0 +1,31 @@
+import { api, API_BASE_URL } from './api';
+import type { EstoqueMudanca } from '@/types/entities';
+
+export interface StreamHandlers {
+  onConectado: () => void;
+  onMudancas: (mudancas: EstoqueMudanca[]) => void;
+  onErro: () => void;
+}
+
+export const streamService = {
+  // O EventSource não envia o cabeçalho Authorization: a conexão usa um ingresso de uso único
+  obterIngresso: () =>
+    api.post<{ ingresso: string }>('/stream/ingresso'),
+
+  async conectar(handlers: StreamHandlers): Promise<EventSource> {
+    const { ingresso } = await streamService.obterIngresso();
+    const fonte = new EventSource(`${API_BASE_URL}/stream?ingresso=${encodeURIComponent(ingresso)}`);
+    fonte.addEventListener('conectado', () => handlers.onConectado());
+    fonte.addEventListener('mudancas', (evento) => {
+      handlers.onMudancas(JSON.parse((evento as MessageEvent<string>).data));
+    });
+    // A reconexão automática reusaria o ingresso já consumido; quem chamou abre outra conexão
+    fonte.onerror = () => {
+      fonte.close();
+      handlers.onErro();
+    };
+    return fonte;
+  },
+};
+
+export default streamService;
@@ -176,6 +176,16 @@ export interface PontoRessuprimento {
   status: StatusROP;
 }
 
+// Estado de um par (estoque, produto) enviado pelo stream após uma movimentação
+export interface EstoqueMudanca {
+  estoqueId: number;
+  produtoId: number;
+  saldoAtual: number;
+  ropCalculado: number | null;
+  status: StatusROP | null;
+  nivel: NivelAlerta | null;
+}
+
 export interface PontoRessuprimentoTotais {
   totalMonitorado: number;
   estoqueAdequado: number;